@@ -17,6 +17,7 @@ package io.aeron.archive;
 
 import io.aeron.Aeron;
 import io.aeron.CommonContext;
+import io.aeron.Counter;
 import io.aeron.Image;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.archive.client.ArchiveException;
@@ -39,6 +40,7 @@ import java.util.function.Supplier;
 import static io.aeron.driver.status.SystemCounterDescriptor.SYSTEM_COUNTER_TYPE_ID;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MAX_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.agrona.SystemUtil.getDurationInNanos;
 import static org.agrona.SystemUtil.getSizeAsInt;
 import static org.agrona.SystemUtil.loadPropertiesFiles;
 
@@ -50,6 +52,7 @@ public class Archive implements AutoCloseable
     private final Context ctx;
     private final AgentRunner conductorRunner;
     private final AgentInvoker conductorInvoker;
+    private final AgentRunner recordingFileRunner;
 
     Archive(final Context ctx)
     {
@@ -62,15 +65,24 @@ public class Archive implements AutoCloseable
             new DedicatedModeArchiveConductor(aeron, ctx) :
             new SharedModeArchiveConductor(aeron, ctx);
 
+        final Agent recordingFileAgent = recordingFileAgent(ctx);
+
         if (ArchiveThreadingMode.INVOKER == ctx.threadingMode())
         {
-            conductorInvoker = new AgentInvoker(ctx.errorHandler(), ctx.errorCounter(), conductor);
+            final Agent agent = null == recordingFileAgent ?
+                conductor : new CompositeAgent(conductor, recordingFileAgent);
+            conductorInvoker = new AgentInvoker(ctx.errorHandler(), ctx.errorCounter(), agent);
             conductorRunner = null;
+            recordingFileRunner = null;
         }
         else
         {
             conductorInvoker = null;
             conductorRunner = new AgentRunner(ctx.idleStrategy(), ctx.errorHandler(), ctx.errorCounter(), conductor);
+            recordingFileRunner = null == recordingFileAgent ?
+                null :
+                new AgentRunner(
+                    new SleepingMillisIdleStrategy(1), ctx.errorHandler(), ctx.errorCounter(), recordingFileAgent);
         }
     }
 
@@ -106,6 +118,7 @@ public class Archive implements AutoCloseable
     {
         CloseHelper.close(conductorInvoker);
         CloseHelper.close(conductorRunner);
+        CloseHelper.close(recordingFileRunner);
         CloseHelper.close(ctx);
     }
 
@@ -118,11 +131,29 @@ public class Archive implements AutoCloseable
         else
         {
             AgentRunner.startOnThread(conductorRunner, ctx.threadFactory());
+
+            if (null != recordingFileRunner)
+            {
+                AgentRunner.startOnThread(recordingFileRunner, ctx.threadFactory());
+            }
         }
 
         return this;
     }
 
+    private static Agent recordingFileAgent(final Context ctx)
+    {
+        final RecordingFlusher flusher = ctx.recordingFlusher();
+        final RecordingSegmentAllocator segmentAllocator = ctx.recordingSegmentAllocator();
+
+        if (null != flusher && null != segmentAllocator)
+        {
+            return new CompositeAgent(flusher, segmentAllocator);
+        }
+
+        return null != flusher ? flusher : segmentAllocator;
+    }
+
     /**
      * Get the {@link AgentInvoker} for the archive if it is running in {@link ArchiveThreadingMode#INVOKER}.
      *
@@ -168,9 +199,40 @@ public class Archive implements AutoCloseable
         public static final String SEGMENT_FILE_LENGTH_PROP_NAME = "aeron.archive.segment.file.length";
         public static final int SEGMENT_FILE_LENGTH_DEFAULT = 128 * 1024 * 1024;
 
+        /**
+         * Number of segment files to create ahead of each active recording so a roll over does not need to create a
+         * file on the recorder. The default of 0 creates each segment file on roll over.
+         */
+        public static final String SEGMENT_FILE_LOOK_AHEAD_PROP_NAME = "aeron.archive.segment.file.look.ahead";
+        public static final int SEGMENT_FILE_LOOK_AHEAD_DEFAULT = 0;
+
+        /**
+         * Should segment files created ahead of recordings be pre-faulted by writing zeros so file system blocks are
+         * allocated before they are recorded to.
+         */
+        public static final String SEGMENT_FILE_PRE_FAULT_PROP_NAME = "aeron.archive.segment.file.pre.fault";
+        public static final boolean SEGMENT_FILE_PRE_FAULT_DEFAULT = false;
+
         public static final String FILE_SYNC_LEVEL_PROP_NAME = "aeron.archive.file.sync.level";
         public static final int FILE_SYNC_LEVEL_DEFAULT = 0;
 
+        /**
+         * Interval in nanoseconds within which written recording data is synced to disk by a flusher behind the
+         * recorder when the file sync level is greater than 0. The default of 0 syncs after every block written.
+         * <p>
+         * With the flusher the recording position counter is only advanced to what has been synced, so it continues to
+         * mean the recording is durable up to that position but lags the data written by up to the sync interval.
+         */
+        public static final String FILE_SYNC_INTERVAL_PROP_NAME = "aeron.archive.file.sync.interval";
+        public static final long FILE_SYNC_INTERVAL_DEFAULT_NS = 0;
+
+        /**
+         * Length of written recording data after which a recording is synced to disk by the flusher before the sync
+         * interval has elapsed.
+         */
+        public static final String FILE_SYNC_LENGTH_PROP_NAME = "aeron.archive.file.sync.length";
+        public static final int FILE_SYNC_LENGTH_DEFAULT = 16 * 1024 * 1024;
+
         public static final String CATALOG_FILE_SYNC_LEVEL_PROP_NAME = "aeron.archive.catalog.file.sync.level";
         public static final int CATALOG_FILE_SYNC_LEVEL_DEFAULT = FILE_SYNC_LEVEL_DEFAULT;
 
@@ -187,6 +249,13 @@ public class Archive implements AutoCloseable
         public static final String REPLAY_FRAGMENT_LIMIT_PROP_NAME = "aeron.archive.replay.fragment.limit";
         public static final int REPLAY_FRAGMENT_LIMIT_DEFAULT = 64;
 
+        /**
+         * Max length in bytes of a block of recorded frames to be replayed in a single append, or 0 to replay
+         * fragment by fragment.
+         */
+        public static final String REPLAY_BLOCK_LENGTH_PROP_NAME = "aeron.archive.replay.block.length";
+        public static final int REPLAY_BLOCK_LENGTH_DEFAULT = 0;
+
         public static final String MAX_CATALOG_ENTRIES_PROP_NAME = "aeron.archive.max.catalog.entries";
         public static final long MAX_CATALOG_ENTRIES_DEFAULT = Catalog.DEFAULT_MAX_ENTRIES;
 
@@ -215,6 +284,29 @@ public class Archive implements AutoCloseable
             return getSizeAsInt(SEGMENT_FILE_LENGTH_PROP_NAME, SEGMENT_FILE_LENGTH_DEFAULT);
         }
 
+        /**
+         * Number of segment files to create ahead of each active recording.
+         *
+         * @return number of segment files to create ahead of each active recording.
+         * @see #SEGMENT_FILE_LOOK_AHEAD_PROP_NAME
+         */
+        public static int segmentFileLookAhead()
+        {
+            return Integer.getInteger(SEGMENT_FILE_LOOK_AHEAD_PROP_NAME, SEGMENT_FILE_LOOK_AHEAD_DEFAULT);
+        }
+
+        /**
+         * Should segment files created ahead of recordings be pre-faulted.
+         *
+         * @return true if segment files created ahead of recordings should be pre-faulted.
+         * @see #SEGMENT_FILE_PRE_FAULT_PROP_NAME
+         */
+        public static boolean segmentFilePreFault()
+        {
+            final String propValue = System.getProperty(SEGMENT_FILE_PRE_FAULT_PROP_NAME);
+            return null != propValue ? "true".equals(propValue) : SEGMENT_FILE_PRE_FAULT_DEFAULT;
+        }
+
         /**
          * The level at which files should be sync'ed to disk.
          * <ul>
@@ -230,6 +322,29 @@ public class Archive implements AutoCloseable
             return Integer.getInteger(FILE_SYNC_LEVEL_PROP_NAME, FILE_SYNC_LEVEL_DEFAULT);
         }
 
+        /**
+         * Interval in nanoseconds within which written recording data is synced to disk by a flusher behind the
+         * recorder. A value of 0 syncs after every block written.
+         *
+         * @return interval in nanoseconds within which written recording data is synced to disk.
+         * @see #FILE_SYNC_INTERVAL_PROP_NAME
+         */
+        public static long fileSyncIntervalNs()
+        {
+            return getDurationInNanos(FILE_SYNC_INTERVAL_PROP_NAME, FILE_SYNC_INTERVAL_DEFAULT_NS);
+        }
+
+        /**
+         * Length of written recording data after which a recording is synced to disk by the flusher.
+         *
+         * @return length of written recording data after which a recording is synced to disk by the flusher.
+         * @see #FILE_SYNC_LENGTH_PROP_NAME
+         */
+        public static int fileSyncLength()
+        {
+            return getSizeAsInt(FILE_SYNC_LENGTH_PROP_NAME, FILE_SYNC_LENGTH_DEFAULT);
+        }
+
         /**
          * The level at which the catalog file should be sync'ed to disk.
          * <ul>
@@ -302,9 +417,21 @@ public class Archive implements AutoCloseable
         }
 
         /**
-         * Maximum number of catalog entries to allocate for the catalog file.
+         * Max length in bytes of a block of recorded frames to be replayed in a single append per duty cycle on a
+         * replay. A length of 0 replays fragment by fragment.
+         *
+         * @return the max length in bytes of a block of recorded frames to be replayed in a single append.
+         * @see #REPLAY_BLOCK_LENGTH_PROP_NAME
+         */
+        public static int replayBlockLength()
+        {
+            return Integer.getInteger(REPLAY_BLOCK_LENGTH_PROP_NAME, REPLAY_BLOCK_LENGTH_DEFAULT);
+        }
+
+        /**
+         * Number of catalog entries to allocate for the catalog file when created. The catalog grows as required.
          *
-         * @return the maximum number of catalog entries to support for the catalog file.
+         * @return the number of catalog entries to allocate for the catalog file when created.
          */
         public static long maxCatalogEntries()
         {
@@ -339,7 +466,11 @@ public class Archive implements AutoCloseable
 
         private long maxCatalogEntries = Configuration.maxCatalogEntries();
         private int segmentFileLength = Configuration.segmentFileLength();
+        private int segmentFileLookAhead = Configuration.segmentFileLookAhead();
+        private boolean segmentFilePreFault = Configuration.segmentFilePreFault();
         private int fileSyncLevel = Configuration.fileSyncLevel();
+        private long fileSyncIntervalNs = Configuration.fileSyncIntervalNs();
+        private int fileSyncLength = Configuration.fileSyncLength();
         private int catalogFileSyncLevel = Configuration.catalogFileSyncLevel();
 
         private ArchiveThreadingMode threadingMode = Configuration.threadingMode();
@@ -350,11 +481,16 @@ public class Archive implements AutoCloseable
 
         private ErrorHandler errorHandler;
         private AtomicCounter errorCounter;
+        private Counter bytesPendingSyncCounter;
+        private Counter maxSyncTimeCounter;
+        private RecordingFlusher recordingFlusher;
+        private RecordingSegmentAllocator recordingSegmentAllocator;
         private CountedErrorHandler countedErrorHandler;
 
         private AgentInvoker mediaDriverAgentInvoker;
         private int maxConcurrentRecordings = Configuration.maxConcurrentRecordings();
         private int maxConcurrentReplays = Configuration.maxConcurrentReplays();
+        private int replayBlockLength = Configuration.replayBlockLength();
 
         /**
          * Perform a shallow copy of the object.
@@ -446,6 +582,7 @@ public class Archive implements AutoCloseable
                     "failed to create archive dir: " + archiveDir.getAbsolutePath());
             }
 
+            deleteUnusedPreparedSegments(archiveDir);
             archiveDirChannel = channelForDirectorySync(archiveDir, catalogFileSyncLevel);
 
             if (!BitUtil.isPowerOfTwo(segmentFileLength))
@@ -467,6 +604,35 @@ public class Archive implements AutoCloseable
                 catalog = new Catalog(
                     archiveDir, archiveDirChannel, catalogFileSyncLevel, maxCatalogEntries, epochClock);
             }
+
+            concludeRecordingFileAgents();
+        }
+
+        private void concludeRecordingFileAgents()
+        {
+            if (fileSyncLevel > 0 && fileSyncIntervalNs > 0)
+            {
+                bytesPendingSyncCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Archive bytes pending sync");
+                maxSyncTimeCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Archive max sync time in ns");
+                recordingFlusher = new RecordingFlusher(
+                    fileSyncIntervalNs,
+                    fileSyncLength,
+                    maxConcurrentRecordings,
+                    new SystemNanoClock(),
+                    countedErrorHandler,
+                    bytesPendingSyncCounter,
+                    maxSyncTimeCounter);
+            }
+
+            if (segmentFileLookAhead > 0)
+            {
+                recordingSegmentAllocator = new RecordingSegmentAllocator(
+                    segmentFileLookAhead,
+                    segmentFilePreFault,
+                    maxConcurrentRecordings,
+                    archiveDir,
+                    countedErrorHandler);
+            }
         }
 
         /**
@@ -867,6 +1033,132 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the interval in nanoseconds within which written recording data is synced to disk by a flusher behind
+         * the recorder when the {@link #fileSyncLevel()} is greater than 0.
+         *
+         * @return the interval in nanoseconds within which written recording data is synced to disk.
+         * @see Configuration#FILE_SYNC_INTERVAL_PROP_NAME
+         */
+        public long fileSyncIntervalNs()
+        {
+            return fileSyncIntervalNs;
+        }
+
+        /**
+         * Set the interval in nanoseconds within which written recording data is synced to disk by a flusher behind
+         * the recorder when the {@link #fileSyncLevel()} is greater than 0. Grouping syncs keeps the recorder from
+         * blocking on a sync for every block written. A value of 0 syncs after every block written.
+         * <p>
+         * With the flusher the recording position counter is only advanced to what has been synced, so it continues to
+         * mean the recording is durable up to that position but lags the data written by up to the sync interval.
+         *
+         * @param fileSyncIntervalNs within which written recording data is synced to disk.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_INTERVAL_PROP_NAME
+         */
+        public Context fileSyncIntervalNs(final long fileSyncIntervalNs)
+        {
+            this.fileSyncIntervalNs = fileSyncIntervalNs;
+            return this;
+        }
+
+        /**
+         * Get the length of written recording data after which a recording is synced to disk by the flusher.
+         *
+         * @return the length of written recording data after which a recording is synced to disk by the flusher.
+         * @see Configuration#FILE_SYNC_LENGTH_PROP_NAME
+         */
+        public int fileSyncLength()
+        {
+            return fileSyncLength;
+        }
+
+        /**
+         * Set the length of written recording data after which a recording is synced to disk by the flusher before
+         * the sync interval has elapsed.
+         *
+         * @param fileSyncLength of written recording data after which a recording is synced to disk.
+         * @return this for a fluent API.
+         * @see Configuration#FILE_SYNC_LENGTH_PROP_NAME
+         */
+        public Context fileSyncLength(final int fileSyncLength)
+        {
+            this.fileSyncLength = fileSyncLength;
+            return this;
+        }
+
+        /**
+         * Get the number of segment files to create ahead of each active recording.
+         *
+         * @return the number of segment files to create ahead of each active recording.
+         * @see Configuration#SEGMENT_FILE_LOOK_AHEAD_PROP_NAME
+         */
+        public int segmentFileLookAhead()
+        {
+            return segmentFileLookAhead;
+        }
+
+        /**
+         * Set the number of segment files to create ahead of each active recording. A roll over to a segment which
+         * has been created ahead does not need to create and size a file on the recorder. A value of 0 creates each
+         * segment file on roll over.
+         *
+         * @param segmentFileLookAhead number of segment files to create ahead of each active recording.
+         * @return this for a fluent API.
+         * @see Configuration#SEGMENT_FILE_LOOK_AHEAD_PROP_NAME
+         */
+        public Context segmentFileLookAhead(final int segmentFileLookAhead)
+        {
+            this.segmentFileLookAhead = segmentFileLookAhead;
+            return this;
+        }
+
+        /**
+         * Should segment files created ahead of recordings be pre-faulted.
+         *
+         * @return true if segment files created ahead of recordings should be pre-faulted.
+         * @see Configuration#SEGMENT_FILE_PRE_FAULT_PROP_NAME
+         */
+        public boolean segmentFilePreFault()
+        {
+            return segmentFilePreFault;
+        }
+
+        /**
+         * Should segment files created ahead of recordings be pre-faulted by writing zeros so file system blocks are
+         * allocated before they are recorded to.
+         *
+         * @param segmentFilePreFault true if segment files created ahead of recordings should be pre-faulted.
+         * @return this for a fluent API.
+         * @see Configuration#SEGMENT_FILE_PRE_FAULT_PROP_NAME
+         */
+        public Context segmentFilePreFault(final boolean segmentFilePreFault)
+        {
+            this.segmentFilePreFault = segmentFilePreFault;
+            return this;
+        }
+
+        /**
+         * Get the allocator which creates segment files ahead of recordings, if configured.
+         *
+         * @return the allocator which creates segment files ahead of recordings or null if created on roll over.
+         */
+        RecordingSegmentAllocator recordingSegmentAllocator()
+        {
+            return recordingSegmentAllocator;
+        }
+
+        /**
+         * Get the flusher which syncs recordings behind the recorder, if configured.
+         *
+         * @return the flusher which syncs recordings behind the recorder or null if syncs are done per block.
+         */
+        RecordingFlusher recordingFlusher()
+        {
+            return recordingFlusher;
+        }
+
         /**
          * Get level at which the catalog file should be sync'ed to disk.
          * <ul>
@@ -1077,6 +1369,32 @@ public class Archive implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the max length in bytes of a block of recorded frames to be replayed in a single append.
+         *
+         * @return the max length in bytes of a block of recorded frames to be replayed in a single append.
+         * @see Configuration#REPLAY_BLOCK_LENGTH_PROP_NAME
+         */
+        public int replayBlockLength()
+        {
+            return replayBlockLength;
+        }
+
+        /**
+         * Set the max length in bytes of a block of recorded frames to be replayed in a single append. Whole terms
+         * can be replayed with few appends as the block is copied and appended without a claim per fragment.
+         * A length of 0 replays fragment by fragment.
+         *
+         * @param replayBlockLength the max length in bytes of a block of recorded frames, or 0 for per fragment.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_BLOCK_LENGTH_PROP_NAME
+         */
+        public Context replayBlockLength(final int replayBlockLength)
+        {
+            this.replayBlockLength = replayBlockLength;
+            return this;
+        }
+
         /**
          * Delete the archive directory if the {@link #archiveDir()} value is not null.
          */
@@ -1206,9 +1524,9 @@ public class Archive implements AutoCloseable
         }
 
         /**
-         * Maximum number of catalog entries for the Archive.
+         * Number of catalog entries to allocate for the catalog file when created. The catalog grows as required.
          *
-         * @param maxCatalogEntries for the archive.
+         * @param maxCatalogEntries for the archive when the catalog is created.
          * @return this for a fluent API.
          */
         public Context maxCatalogEntries(final long maxCatalogEntries)
@@ -1218,9 +1536,9 @@ public class Archive implements AutoCloseable
         }
 
         /**
-         * Maximum number of catalog entries for the Archive.
+         * Number of catalog entries to allocate for the catalog file when created. The catalog grows as required.
          *
-         * @return maximum number of catalog entries for the Archive.
+         * @return number of catalog entries to allocate for the catalog file when created.
          */
         public long maxCatalogEntries()
         {
@@ -1238,6 +1556,11 @@ public class Archive implements AutoCloseable
             {
                 CloseHelper.close(aeron);
             }
+            else
+            {
+                CloseHelper.close(bytesPendingSyncCounter);
+                CloseHelper.close(maxSyncTimeCounter);
+            }
 
             CloseHelper.close(catalog);
             CloseHelper.close(markFile);
@@ -1270,4 +1593,17 @@ public class Archive implements AutoCloseable
 
         return null;
     }
+
+    static void deleteUnusedPreparedSegments(final File archiveDir)
+    {
+        final String suffix = Configuration.RECORDING_SEGMENT_POSTFIX + RecordingSegmentAllocator.TMP_FILE_SUFFIX;
+        final File[] files = archiveDir.listFiles((dir, name) -> name.endsWith(suffix));
+        if (null != files)
+        {
+            for (final File file : files)
+            {
+                IoUtil.delete(file, true);
+            }
+        }
+    }
 }
@@ -17,7 +17,6 @@ package io.aeron.archive;
 
 import io.aeron.*;
 import io.aeron.archive.client.ArchiveException;
-import io.aeron.archive.codecs.RecordingDescriptorDecoder;
 import io.aeron.archive.codecs.SourceLocation;
 import io.aeron.archive.status.RecordingPos;
 import io.aeron.logbuffer.LogBufferDescriptor;
@@ -66,7 +65,6 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
     private final Long2ObjectHashMap<RecordingSession> recordingSessionByIdMap = new Long2ObjectHashMap<>();
     private final Object2ObjectHashMap<String, Subscription> recordingSubscriptionMap = new Object2ObjectHashMap<>();
     private final UnsafeBuffer descriptorBuffer = new UnsafeBuffer();
-    private final RecordingDescriptorDecoder recordingDescriptorDecoder = new RecordingDescriptorDecoder();
     private final RecordingSummary recordingSummary = new RecordingSummary();
     private final UnsafeBuffer tempBuffer = new UnsafeBuffer(new byte[METADATA_LENGTH]);
     private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(DataHeaderFlyweight.HEADER_LENGTH);
@@ -334,8 +332,7 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
                 catalog,
                 controlResponseProxy,
                 controlSession,
-                descriptorBuffer,
-                recordingDescriptorDecoder);
+                descriptorBuffer);
 
             addSession(session);
             controlSession.activeListRecordingsSession(session);
@@ -422,7 +419,8 @@ abstract class ArchiveConductor extends SessionWorker<Session> implements Availa
             cachedEpochClock,
             replayPublication,
             recordingSummary,
-            null == recordingSession ? null : recordingSession.recordingPosition());
+            null == recordingSession ? null : recordingSession.recordingPosition(),
+            ctx.replayBlockLength());
 
         replaySessionByIdMap.put(replaySessionId, replaySession);
         replayer.addSession(replaySession);
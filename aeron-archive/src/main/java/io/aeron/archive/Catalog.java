@@ -24,6 +24,9 @@ import org.agrona.CloseHelper;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.collections.IntArrayList;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -31,6 +34,8 @@ import java.io.File;
 import java.nio.ByteBuffer;
 import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Map;
 
 import static io.aeron.archive.Archive.Configuration.RECORDING_SEGMENT_POSTFIX;
 import static io.aeron.archive.Archive.segmentFileName;
@@ -48,6 +53,9 @@ import static org.agrona.BitUtil.align;
  * The format is simple, allocating a fixed 1KB record for each record descriptor. This allows offset
  * based look up of a descriptor in the file.
  * <p>
+ * The catalog file grows by being remapped at double its length when full. Recordings are indexed in memory by
+ * stream id, by stripped channel within a stream, and by session id so listings only visit matching recordings.
+ * <p>
  * @see RecordingDescriptorHeaderDecoder
  * @see RecordingDescriptorDecoder
  * Catalog file format:
@@ -111,13 +119,19 @@ class Catalog implements AutoCloseable
 
     private final CatalogHeaderDecoder catalogHeaderDecoder = new CatalogHeaderDecoder();
 
-    private final MappedByteBuffer catalogByteBuffer;
+    private final Int2ObjectHashMap<IntArrayList> recordingIdsByStreamIdMap = new Int2ObjectHashMap<>();
+    private final Int2ObjectHashMap<IntArrayList> recordingIdsBySessionIdMap = new Int2ObjectHashMap<>();
+    private final Int2ObjectHashMap<Object2ObjectHashMap<String, IntArrayList>> recordingIdsByChannelByStreamIdMap =
+        new Int2ObjectHashMap<>();
+    private final ArrayList<MappedByteBuffer> outgrownByteBuffers = new ArrayList<>();
+
+    private MappedByteBuffer catalogByteBuffer;
     private final UnsafeBuffer catalogBuffer;
-    private final UnsafeBuffer fieldAccessBuffer;
+    private volatile UnsafeBuffer fieldAccessBuffer;
 
     private final int recordLength;
     private final int maxDescriptorStringsCombinedLength;
-    private final int maxRecordingId;
+    private int maxRecordingId;
     private final boolean forceWrites;
     private final boolean forceMetadata;
     private final File archiveDir;
@@ -270,6 +284,13 @@ class Catalog implements AutoCloseable
     {
         CloseHelper.close(catalogChannel);
         IoUtil.unmap(catalogByteBuffer);
+
+        for (final MappedByteBuffer byteBuffer : outgrownByteBuffers)
+        {
+            IoUtil.unmap(byteBuffer);
+        }
+
+        outgrownByteBuffers.clear();
     }
 
     public int maxEntries()
@@ -297,7 +318,7 @@ class Catalog implements AutoCloseable
     {
         if (nextRecordingId > maxRecordingId)
         {
-            throw new ArchiveException("catalog is full, max recordings reached: " + maxEntries());
+            growCatalog();
         }
 
         final int combinedStringsLen = strippedChannel.length() + sourceIdentity.length() + originalChannel.length();
@@ -335,10 +356,71 @@ class Catalog implements AutoCloseable
             .valid(VALID);
 
         forceWrites(catalogChannel, forceWrites, forceMetadata);
+        indexRecording(recordingId, sessionId, streamId, strippedChannel);
 
         return recordingId;
     }
 
+    /**
+     * Find the first recording for a stream with a recording id greater than or equal to a given recording id.
+     *
+     * @param streamId        of the recording.
+     * @param fromRecordingId at which to begin the search.
+     * @return the recording id found or {@link #NULL_RECORD_ID} if there are no more recordings for the stream.
+     */
+    long nextRecordingIdForStream(final int streamId, final long fromRecordingId)
+    {
+        return nextRecordingId(recordingIdsByStreamIdMap.get(streamId), fromRecordingId);
+    }
+
+    /**
+     * Find the first recording for a stream, with a stripped channel containing a channel fragment, which has a
+     * recording id greater than or equal to a given recording id. Recordings are keyed by stripped channel so the
+     * fragment is matched once per distinct channel of the stream rather than once per recording.
+     *
+     * @param streamId        of the recording.
+     * @param channelFragment to be contained in the stripped channel of the recording.
+     * @param fromRecordingId at which to begin the search.
+     * @return the recording id found or {@link #NULL_RECORD_ID} if there are no more matching recordings.
+     */
+    long nextRecordingIdForChannel(final int streamId, final String channelFragment, final long fromRecordingId)
+    {
+        final Object2ObjectHashMap<String, IntArrayList> recordingIdsByChannelMap =
+            recordingIdsByChannelByStreamIdMap.get(streamId);
+        if (null == recordingIdsByChannelMap)
+        {
+            return NULL_RECORD_ID;
+        }
+
+        long nextRecordingId = NULL_RECORD_ID;
+        for (final Map.Entry<String, IntArrayList> entry : recordingIdsByChannelMap.entrySet())
+        {
+            if (entry.getKey().contains(channelFragment))
+            {
+                final long recordingId = nextRecordingId(entry.getValue(), fromRecordingId);
+                if (NULL_RECORD_ID != recordingId &&
+                    (NULL_RECORD_ID == nextRecordingId || recordingId < nextRecordingId))
+                {
+                    nextRecordingId = recordingId;
+                }
+            }
+        }
+
+        return nextRecordingId;
+    }
+
+    /**
+     * Find the first recording for a session with a recording id greater than or equal to a given recording id.
+     *
+     * @param sessionId       of the recording.
+     * @param fromRecordingId at which to begin the search.
+     * @return the recording id found or {@link #NULL_RECORD_ID} if there are no more recordings for the session.
+     */
+    long nextRecordingIdForSession(final int sessionId, final long fromRecordingId)
+    {
+        return nextRecordingId(recordingIdsBySessionIdMap.get(sessionId), fromRecordingId);
+    }
+
     boolean wrapDescriptor(final long recordingId, final UnsafeBuffer buffer)
     {
         if (recordingId < 0 || recordingId > maxRecordingId)
@@ -575,14 +657,123 @@ class Catalog implements AutoCloseable
      */
     private void refreshCatalog(final boolean fixOnRefresh)
     {
+        recordingIdsByStreamIdMap.clear();
+        recordingIdsBySessionIdMap.clear();
+        recordingIdsByChannelByStreamIdMap.clear();
+
         if (fixOnRefresh)
         {
             forEach(this::refreshAndFixDescriptor);
         }
         else
         {
-            forEach(((headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) -> nextRecordingId++));
+            forEach(
+                (headerEncoder, headerDecoder, descriptorEncoder, descriptorDecoder) ->
+                indexRecording(
+                    nextRecordingId++,
+                    descriptorDecoder.sessionId(),
+                    descriptorDecoder.streamId(),
+                    descriptorDecoder.strippedChannel()));
+        }
+    }
+
+    private void indexRecording(
+        final long recordingId, final int sessionId, final int streamId, final String strippedChannel)
+    {
+        addRecordingId(recordingIdsByStreamIdMap, streamId, recordingId);
+        addRecordingId(recordingIdsBySessionIdMap, sessionId, recordingId);
+
+        Object2ObjectHashMap<String, IntArrayList> recordingIdsByChannelMap =
+            recordingIdsByChannelByStreamIdMap.get(streamId);
+        if (null == recordingIdsByChannelMap)
+        {
+            recordingIdsByChannelMap = new Object2ObjectHashMap<>();
+            recordingIdsByChannelByStreamIdMap.put(streamId, recordingIdsByChannelMap);
+        }
+
+        IntArrayList recordingIds = recordingIdsByChannelMap.get(strippedChannel);
+        if (null == recordingIds)
+        {
+            recordingIds = new IntArrayList();
+            recordingIdsByChannelMap.put(strippedChannel, recordingIds);
+        }
+
+        recordingIds.addInt((int)recordingId);
+    }
+
+    private static void addRecordingId(
+        final Int2ObjectHashMap<IntArrayList> recordingIdsByKeyMap, final int key, final long recordingId)
+    {
+        IntArrayList recordingIds = recordingIdsByKeyMap.get(key);
+        if (null == recordingIds)
+        {
+            recordingIds = new IntArrayList();
+            recordingIdsByKeyMap.put(key, recordingIds);
+        }
+
+        recordingIds.addInt((int)recordingId);
+    }
+
+    private static long nextRecordingId(final IntArrayList recordingIds, final long fromRecordingId)
+    {
+        if (null != recordingIds)
+        {
+            int low = 0;
+            int high = recordingIds.size();
+
+            while (low < high)
+            {
+                final int mid = (low + high) >>> 1;
+                if (recordingIds.getInt(mid) < fromRecordingId)
+                {
+                    low = mid + 1;
+                }
+                else
+                {
+                    high = mid;
+                }
+            }
+
+            if (low < recordingIds.size())
+            {
+                return recordingIds.getInt(low);
+            }
+        }
+
+        return NULL_RECORD_ID;
+    }
+
+    /**
+     * Remap the catalog at double its length. The outgrown mapping is kept until close as the field access methods
+     * may be in use from other threads.
+     */
+    private void growCatalog()
+    {
+        final long catalogLength = catalogByteBuffer.capacity();
+        final long newCatalogLength = Math.min(catalogLength * 2, Integer.MAX_VALUE);
+
+        if (null == catalogChannel || newCatalogLength == catalogLength)
+        {
+            throw new ArchiveException("catalog is full, max recordings reached: " + maxEntries());
+        }
+
+        final MappedByteBuffer newCatalogByteBuffer;
+        try
+        {
+            newCatalogByteBuffer = catalogChannel.map(FileChannel.MapMode.READ_WRITE, 0, newCatalogLength);
         }
+        catch (final Exception ex)
+        {
+            throw new ArchiveException(
+                "failed to grow catalog to length " + newCatalogLength, ex, ArchiveException.GENERIC);
+        }
+
+        outgrownByteBuffers.add(catalogByteBuffer);
+        catalogByteBuffer = newCatalogByteBuffer;
+        fieldAccessBuffer = new UnsafeBuffer(newCatalogByteBuffer);
+        maxRecordingId = (int)calculateMaxEntries(newCatalogLength, recordLength) - 1;
+
+        forceWrites(catalogChannel, forceWrites, forceMetadata);
     }
 
     private void refreshAndFixDescriptor(
@@ -630,9 +821,24 @@ class Catalog implements AutoCloseable
             }
             else
             {
-                final File maxSegmentFile = new File(archiveDir, segmentFileName(recordingId, maxSegmentIndex));
                 final int segmentFileLength = decoder.segmentFileLength();
-                final long stopOffset = recoverStopOffset(maxSegmentFile, segmentFileLength);
+                long stopOffset = recoverStopOffset(
+                    new File(archiveDir, segmentFileName(recordingId, maxSegmentIndex)), segmentFileLength);
+
+                // segments created ahead of the recording are empty so recover from the last one written
+                while (0 == stopOffset && maxSegmentIndex > 0)
+                {
+                    final File previousSegmentFile = new File(
+                        archiveDir, segmentFileName(recordingId, maxSegmentIndex - 1));
+                    if (!previousSegmentFile.exists())
+                    {
+                        break;
+                    }
+
+                    maxSegmentIndex--;
+                    stopOffset = recoverStopOffset(previousSegmentFile, segmentFileLength);
+                }
+
                 final int termBufferLength = decoder.termBufferLength();
                 final long startPosition = decoder.startPosition();
                 final long recordingLength =
@@ -644,6 +850,7 @@ class Catalog implements AutoCloseable
         }
 
         nextRecordingId = recordingId + 1;
+        indexRecording(recordingId, decoder.sessionId(), decoder.streamId(), decoder.strippedChannel());
     }
 
     private void forceWrites(final FileChannel channel, final boolean forceWrites, final boolean forceMetadata)
@@ -15,15 +15,12 @@
  */
 package io.aeron.archive;
 
-import io.aeron.archive.codecs.RecordingDescriptorDecoder;
-import io.aeron.archive.codecs.RecordingDescriptorHeaderDecoder;
 import org.agrona.concurrent.UnsafeBuffer;
 
 class ListRecordingsForUriSession extends AbstractListRecordingsSession
 {
     private static final int MAX_SCANS_PER_WORK_CYCLE = 16;
 
-    private final RecordingDescriptorDecoder decoder;
     private final int count;
     private final String channel;
     private final int streamId;
@@ -39,8 +36,7 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
         final Catalog catalog,
         final ControlResponseProxy proxy,
         final ControlSession controlSession,
-        final UnsafeBuffer descriptorBuffer,
-        final RecordingDescriptorDecoder recordingDescriptorDecoder)
+        final UnsafeBuffer descriptorBuffer)
     {
         super(correlationId, catalog, proxy, controlSession, descriptorBuffer);
 
@@ -48,7 +44,6 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
         this.count = count;
         this.channel = channel;
         this.streamId = streamId;
-        this.decoder = recordingDescriptorDecoder;
     }
 
     protected int sendDescriptors()
@@ -60,23 +55,19 @@ class ListRecordingsForUriSession extends AbstractListRecordingsSession
             totalBytesSent < controlSession.maxPayloadLength() &&
             recordsScanned < MAX_SCANS_PER_WORK_CYCLE)
         {
-            if (!catalog.wrapDescriptor(recordingId, descriptorBuffer))
+            final long nextRecordingId = catalog.nextRecordingIdForChannel(streamId, channel, recordingId);
+            if (Catalog.NULL_RECORD_ID == nextRecordingId ||
+                !catalog.wrapDescriptor(nextRecordingId, descriptorBuffer))
             {
-                controlSession.sendRecordingUnknown(correlationId, recordingId, proxy);
+                controlSession.sendRecordingUnknown(
+                    correlationId, Math.max(recordingId, catalog.countEntries()), proxy);
 
                 isDone = true;
                 break;
             }
 
-            decoder.wrap(
-                descriptorBuffer,
-                RecordingDescriptorHeaderDecoder.BLOCK_LENGTH,
-                RecordingDescriptorDecoder.BLOCK_LENGTH,
-                RecordingDescriptorDecoder.SCHEMA_VERSION);
-
-            if (Catalog.isValidDescriptor(descriptorBuffer) &&
-                decoder.streamId() == streamId &&
-                decoder.strippedChannel().contains(channel))
+            recordingId = nextRecordingId;
+            if (Catalog.isValidDescriptor(descriptorBuffer))
             {
                 final int bytesSent = controlSession.sendDescriptor(correlationId, descriptorBuffer, proxy);
                 if (bytesSent == 0)
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import org.agrona.concurrent.NanoClock;
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.ArrayList;
+
+import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
+
+/**
+ * Syncs recording segment files to disk behind the {@link RecordingWriter}s so the recorder does not block on a sync
+ * for every block written.
+ * <p>
+ * A writer is synced when the bytes written since its last sync reach the sync length or when the sync interval has
+ * elapsed with bytes pending. Writers sync their current segment themselves on roll over and close.
+ * <p>
+ * A failed sync is reported to the error handler and retried after the sync interval. Bytes not yet synced remain in
+ * the bytes pending sync counter so a recording whose position has stalled is visible.
+ */
+class RecordingFlusher implements Agent
+{
+    private final long syncIntervalNs;
+    private final long syncLength;
+    private final NanoClock nanoClock;
+    private final ErrorHandler errorHandler;
+    private final AtomicCounter bytesPendingSync;
+    private final AtomicCounter maxSyncTimeNs;
+    private final ManyToOneConcurrentArrayQueue<RecordingWriter> newWriterQueue;
+    private final ArrayList<PendingSync> pendingSyncs = new ArrayList<>();
+
+    RecordingFlusher(
+        final long syncIntervalNs,
+        final long syncLength,
+        final int maxWriters,
+        final NanoClock nanoClock,
+        final ErrorHandler errorHandler,
+        final AtomicCounter bytesPendingSync,
+        final AtomicCounter maxSyncTimeNs)
+    {
+        this.syncIntervalNs = syncIntervalNs;
+        this.syncLength = syncLength;
+        this.nanoClock = nanoClock;
+        this.errorHandler = errorHandler;
+        this.bytesPendingSync = bytesPendingSync;
+        this.maxSyncTimeNs = maxSyncTimeNs;
+
+        newWriterQueue = new ManyToOneConcurrentArrayQueue<>(maxWriters);
+    }
+
+    public int doWork()
+    {
+        int workCount = 0;
+        final long nowNs = nanoClock.nanoTime();
+
+        RecordingWriter newWriter;
+        while (null != (newWriter = newWriterQueue.poll()))
+        {
+            pendingSyncs.add(new PendingSync(newWriter, nowNs));
+            workCount++;
+        }
+
+        long totalBytesPending = 0;
+        final ArrayList<PendingSync> pendingSyncs = this.pendingSyncs;
+        for (int lastIndex = pendingSyncs.size() - 1, i = lastIndex; i >= 0; i--)
+        {
+            final PendingSync pendingSync = pendingSyncs.get(i);
+            final RecordingWriter writer = pendingSync.writer;
+
+            if (writer.isClosed())
+            {
+                fastUnorderedRemove(pendingSyncs, i, lastIndex--);
+                continue;
+            }
+
+            final long writtenLength = writer.writtenLength();
+            final long bytesPending = writtenLength - pendingSync.syncedLength;
+
+            if (bytesPending > 0 &&
+                (bytesPending >= syncLength || nowNs - pendingSync.syncTimeNs >= syncIntervalNs) &&
+                (!pendingSync.hasSyncFailed || nowNs - pendingSync.syncTimeNs >= syncIntervalNs))
+            {
+                try
+                {
+                    final long syncStartNs = nanoClock.nanoTime();
+                    writer.sync();
+
+                    final long syncTimeNs = nanoClock.nanoTime();
+                    maxSyncTimeNs.proposeMaxOrdered(syncTimeNs - syncStartNs);
+                    pendingSync.syncTimeNs = syncTimeNs;
+                    pendingSync.syncedLength = writtenLength;
+                    pendingSync.hasSyncFailed = false;
+                    workCount++;
+                    continue;
+                }
+                catch (final Exception ex)
+                {
+                    pendingSync.syncTimeNs = nowNs;
+                    pendingSync.hasSyncFailed = true;
+                    errorHandler.onError(ex);
+                }
+            }
+
+            totalBytesPending += bytesPending;
+        }
+
+        bytesPendingSync.setOrdered(totalBytesPending);
+
+        return workCount;
+    }
+
+    public String roleName()
+    {
+        return "archive-recording-flusher";
+    }
+
+    /**
+     * Add a writer to be synced. Called by the recorder when the writer is initialised.
+     *
+     * @param writer to be synced.
+     * @return true if the writer will be synced by the flusher otherwise false and it must sync its own writes.
+     */
+    boolean add(final RecordingWriter writer)
+    {
+        return newWriterQueue.offer(writer);
+    }
+
+    static final class PendingSync
+    {
+        final RecordingWriter writer;
+        long syncedLength;
+        long syncTimeNs;
+        boolean hasSyncFailed;
+
+        PendingSync(final RecordingWriter writer, final long nowNs)
+        {
+            this.writer = writer;
+            this.syncTimeNs = nowNs;
+        }
+    }
+}
@@ -188,6 +188,59 @@ class RecordingFragmentReader implements AutoCloseable
         return fragments;
     }
 
+    int controlledPollBlock(final SimpleBlockHandler blockHandler, final int blockLengthLimit)
+    {
+        int fragments = 0;
+
+        if (noAvailableLiveData() || replayPosition >= stopPosition)
+        {
+            return fragments;
+        }
+
+        if (termOffset == termLength)
+        {
+            termOffset = 0;
+            nextTerm();
+            return fragments;
+        }
+
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        int blockLength = 0;
+        int frameOffset = termOffset;
+        long framePosition = replayPosition;
+
+        while (frameOffset < termLength && framePosition < stopPosition && framePosition < replayLimit)
+        {
+            final int frameLength = FrameDescriptor.frameLength(termBuffer, frameOffset);
+            final int alignedLength = BitUtil.align(frameLength, FRAME_ALIGNMENT);
+            if (frameLength <= 0 || (blockLength > 0 && blockLength + alignedLength > blockLengthLimit))
+            {
+                break;
+            }
+
+            blockLength += alignedLength;
+            frameOffset += alignedLength;
+            framePosition += alignedLength;
+            fragments++;
+        }
+
+        if (0 == blockLength || !blockHandler.onBlock(termBuffer, termOffset, blockLength))
+        {
+            return 0;
+        }
+
+        replayPosition += blockLength;
+        termOffset += blockLength;
+
+        if (replayPosition >= replayLimit)
+        {
+            isDone = true;
+            closeRecordingSegment();
+        }
+
+        return fragments;
+    }
+
     static boolean hasInitialSegmentFile(
         final RecordingSummary recordingSummary, final File archiveDir, final long position)
     {
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.CloseHelper;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+import static io.aeron.archive.Archive.segmentFileName;
+import static org.agrona.collections.ArrayListUtil.fastUnorderedRemove;
+
+/**
+ * Creates the next segment files for active recordings ahead of the {@link RecordingWriter}s so a roll over to a new
+ * segment does not need to create and size a file on the recorder.
+ * <p>
+ * Segments are created under a temporary name, and optionally pre-faulted by writing zeros so the file system blocks
+ * are allocated, before being handed to the writer which renames them into place when it has not already moved
+ * beyond the segment.
+ */
+class RecordingSegmentAllocator implements Agent
+{
+    static final String TMP_FILE_SUFFIX = ".tmp";
+    private static final int PRE_FAULT_BUFFER_LENGTH = 64 * 1024;
+
+    private final int lookAhead;
+    private final File archiveDir;
+    private final ErrorHandler errorHandler;
+    private final ByteBuffer zeroBuffer;
+    private final ManyToOneConcurrentArrayQueue<RecordingWriter> newWriterQueue;
+    private final ArrayList<ActiveWriter> activeWriters = new ArrayList<>();
+
+    RecordingSegmentAllocator(
+        final int lookAhead,
+        final boolean preFault,
+        final int maxWriters,
+        final File archiveDir,
+        final ErrorHandler errorHandler)
+    {
+        this.lookAhead = lookAhead;
+        this.archiveDir = archiveDir;
+        this.errorHandler = errorHandler;
+
+        zeroBuffer = preFault ? ByteBuffer.allocateDirect(PRE_FAULT_BUFFER_LENGTH) : null;
+        newWriterQueue = new ManyToOneConcurrentArrayQueue<>(maxWriters);
+    }
+
+    public int doWork()
+    {
+        int workCount = 0;
+
+        RecordingWriter newWriter;
+        while (null != (newWriter = newWriterQueue.poll()))
+        {
+            activeWriters.add(new ActiveWriter(newWriter));
+            workCount++;
+        }
+
+        final ArrayList<ActiveWriter> activeWriters = this.activeWriters;
+        for (int lastIndex = activeWriters.size() - 1, i = lastIndex; i >= 0; i--)
+        {
+            final ActiveWriter activeWriter = activeWriters.get(i);
+            final RecordingWriter writer = activeWriter.writer;
+
+            if (writer.isClosed())
+            {
+                fastUnorderedRemove(activeWriters, i, lastIndex--);
+            }
+            else if (writer.preparedSegmentCount() < lookAhead)
+            {
+                try
+                {
+                    prepareNextSegment(activeWriter);
+                    workCount++;
+                }
+                catch (final Exception ex)
+                {
+                    fastUnorderedRemove(activeWriters, i, lastIndex--);
+                    errorHandler.onError(ex);
+                }
+            }
+        }
+
+        return workCount;
+    }
+
+    public String roleName()
+    {
+        return "archive-recording-segment-allocator";
+    }
+
+    /**
+     * Add a writer for which segments should be created ahead. Called by the recorder when the writer is initialised.
+     *
+     * @param writer for which segments should be created ahead.
+     * @return true if segments will be created ahead for the writer otherwise false.
+     */
+    boolean add(final RecordingWriter writer)
+    {
+        return newWriterQueue.offer(writer);
+    }
+
+    private void prepareNextSegment(final ActiveWriter activeWriter) throws IOException
+    {
+        final RecordingWriter writer = activeWriter.writer;
+        final int segmentIndex = Math.max(activeWriter.nextSegmentIndex, writer.segmentIndex() + 1);
+        final File tmpFile = new File(
+            archiveDir, segmentFileName(writer.recordingId(), segmentIndex) + TMP_FILE_SUFFIX);
+
+        FileChannel channel = null;
+        try
+        {
+            final RandomAccessFile segmentFile = new RandomAccessFile(tmpFile, "rw");
+            channel = segmentFile.getChannel();
+            segmentFile.setLength(writer.segmentFileLength());
+
+            if (null != zeroBuffer)
+            {
+                preFault(channel, writer.segmentFileLength());
+            }
+
+            if (writer.offerPreparedSegment(segmentIndex, tmpFile, channel))
+            {
+                channel = null;
+            }
+        }
+        finally
+        {
+            if (null != channel)
+            {
+                CloseHelper.close(channel);
+                IoUtil.delete(tmpFile, true);
+            }
+        }
+
+        activeWriter.nextSegmentIndex = segmentIndex + 1;
+    }
+
+    private void preFault(final FileChannel channel, final int length) throws IOException
+    {
+        final ByteBuffer zeroBuffer = this.zeroBuffer;
+        long position = 0;
+
+        while (position < length)
+        {
+            zeroBuffer.clear().limit((int)Math.min(zeroBuffer.capacity(), length - position));
+            position += channel.write(zeroBuffer, position);
+        }
+    }
+
+    static final class ActiveWriter
+    {
+        final RecordingWriter writer;
+        int nextSegmentIndex;
+
+        ActiveWriter(final RecordingWriter writer)
+        {
+            this.writer = writer;
+        }
+    }
+}
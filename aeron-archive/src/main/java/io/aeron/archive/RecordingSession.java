@@ -110,9 +110,9 @@ class RecordingSession implements Session
         if (State.INACTIVE == state)
         {
             state = State.STOPPED;
+            recordingWriter.close();
             final long stopPosition = position.getWeak();
             recordingEventsProxy.stopped(recordingId, image.joinPosition(), stopPosition);
-            recordingWriter.close();
             workDone += 1;
         }
 
@@ -20,13 +20,16 @@ import io.aeron.archive.client.ArchiveException;
 import io.aeron.logbuffer.BlockHandler;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
+import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
 import java.nio.channels.FileChannel;
 
 import static io.aeron.archive.Archive.segmentFileIndex;
@@ -36,6 +39,13 @@ import static io.aeron.archive.Archive.segmentFileName;
  * Responsible for writing out a recording into the file system. A recording has descriptor file and a set of data files
  * written into the archive folder.
  * <p>
+ * When a {@link RecordingFlusher} is configured, writes are synced behind the writer by the flusher, rather than after
+ * every block, and the writer only syncs its current segment on roll over and close. The recorded position is then
+ * only advanced to what has been synced so it still means the recording is durable up to it.
+ * <p>
+ * When a {@link RecordingSegmentAllocator} is configured, the next segment files are created ahead by the allocator
+ * so a roll over takes a prepared segment rather than creating one. Prepared segments not used are deleted on close.
+ * <p>
  * <b>Design note:</b> While this class is notionally closely related to the {@link RecordingSession} it is separated
  * from it for the following reasons:
  * <ul>
@@ -45,6 +55,8 @@ import static io.aeron.archive.Archive.segmentFileName;
  */
 class RecordingWriter implements BlockHandler
 {
+    private static final int NULL_SEGMENT_INDEX = -1;
+
     private final long recordingId;
     private final long startPosition;
     private final int segmentFileLength;
@@ -53,12 +65,18 @@ class RecordingWriter implements BlockHandler
     private final Counter recordedPosition;
     private final FileChannel archiveDirChannel;
     private final File archiveDir;
+    private RecordingFlusher flusher;
+    private RecordingSegmentAllocator segmentAllocator;
+    private final OneToOneConcurrentArrayQueue<PreparedSegment> preparedSegments;
 
     private int segmentOffset;
     private int segmentIndex;
+    private int renamingSegmentIndex = NULL_SEGMENT_INDEX;
     private FileChannel recordingFileChannel;
+    private long initialPosition;
+    private volatile long writtenLength;
 
-    private boolean isClosed = false;
+    private volatile boolean isClosed = false;
 
     RecordingWriter(
         final long recordingId,
@@ -78,6 +96,10 @@ class RecordingWriter implements BlockHandler
         segmentFileLength = Math.max(context.segmentFileLength(), termBufferLength);
         forceWrites = context.fileSyncLevel() > 0;
         forceMetadata = context.fileSyncLevel() > 1;
+        flusher = forceWrites ? context.recordingFlusher() : null;
+        segmentAllocator = context.recordingSegmentAllocator();
+        preparedSegments = null == segmentAllocator ?
+            null : new OneToOneConcurrentArrayQueue<>(context.segmentFileLookAhead());
 
         segmentIndex = segmentFileIndex(startPosition, joinPosition, segmentFileLength);
     }
@@ -105,13 +127,18 @@ class RecordingWriter implements BlockHandler
             }
             while (byteBuffer.remaining() > 0);
 
-            if (forceWrites)
+            if (forceWrites && null == flusher)
             {
                 recordingFileChannel.force(forceMetadata);
             }
 
             segmentOffset += length;
-            recordedPosition.getAndAddOrdered(length);
+            writtenLength += length;
+
+            if (null == flusher)
+            {
+                recordedPosition.getAndAddOrdered(length);
+            }
         }
         catch (final ClosedByInterruptException ex)
         {
@@ -141,20 +168,56 @@ class RecordingWriter implements BlockHandler
     {
         if (!isClosed)
         {
-            CloseHelper.close(recordingFileChannel);
-            isClosed = true;
+            synchronized (this)
+            {
+                try
+                {
+                    if (null != flusher && null != recordingFileChannel && recordingFileChannel.isOpen())
+                    {
+                        final long length = writtenLength;
+                        recordingFileChannel.force(forceMetadata);
+                        recordedPosition.setOrdered(initialPosition + length);
+                    }
+                }
+                catch (final IOException ex)
+                {
+                    LangUtil.rethrowUnchecked(ex);
+                }
+                finally
+                {
+                    CloseHelper.close(recordingFileChannel);
+                    isClosed = true;
+                    deletePreparedSegments();
+                }
+            }
         }
     }
 
     void init(final int segmentOffset) throws IOException
     {
         this.segmentOffset = segmentOffset;
+        initialPosition = recordedPosition.get();
         openRecordingSegmentFile();
 
         if (segmentOffset != 0)
         {
             recordingFileChannel.position(segmentOffset);
         }
+
+        if (null != flusher && !flusher.add(this))
+        {
+            flusher = null;
+        }
+
+        if (null != segmentAllocator && !segmentAllocator.add(this))
+        {
+            segmentAllocator = null;
+        }
+    }
+
+    long recordingId()
+    {
+        return recordingId;
     }
 
     boolean isClosed()
@@ -162,6 +225,173 @@ class RecordingWriter implements BlockHandler
         return isClosed;
     }
 
+    /**
+     * Total number of bytes written since the writer was initialised. Read by the {@link RecordingFlusher}.
+     *
+     * @return total number of bytes written since the writer was initialised.
+     */
+    long writtenLength()
+    {
+        return writtenLength;
+    }
+
+    /**
+     * Sync the current segment to disk and advance the recorded position to what has been synced. Called by the
+     * {@link RecordingFlusher}.
+     * <p>
+     * The sync is done without holding the lock taken on roll over and close so the recorder is not held up by it.
+     * The recorded position is not advanced if the segment has been rolled over or the writer closed in the meantime
+     * as that will already have synced the segment and advanced the position.
+     *
+     * @throws IOException if the sync fails.
+     */
+    void sync() throws IOException
+    {
+        final FileChannel channel;
+        final int syncSegmentIndex;
+        final long length;
+
+        synchronized (this)
+        {
+            if (isClosed)
+            {
+                return;
+            }
+
+            channel = recordingFileChannel;
+            syncSegmentIndex = segmentIndex;
+            length = writtenLength;
+        }
+
+        try
+        {
+            channel.force(forceMetadata);
+        }
+        catch (final ClosedChannelException ex)
+        {
+            if (ex instanceof ClosedByInterruptException)
+            {
+                throw ex;
+            }
+
+            return;
+        }
+
+        synchronized (this)
+        {
+            if (!isClosed && syncSegmentIndex == segmentIndex)
+            {
+                recordedPosition.setOrdered(initialPosition + length);
+            }
+        }
+    }
+
+    /**
+     * Index of the segment currently being written. Read by the {@link RecordingSegmentAllocator}.
+     *
+     * @return index of the segment currently being written.
+     */
+    synchronized int segmentIndex()
+    {
+        return segmentIndex;
+    }
+
+    /**
+     * Number of segments prepared ahead and not yet used. Read by the {@link RecordingSegmentAllocator}.
+     *
+     * @return number of segments prepared ahead and not yet used.
+     */
+    int preparedSegmentCount()
+    {
+        return preparedSegments.size();
+    }
+
+    /**
+     * Offer a segment created ahead under a temporary name. Called by the {@link RecordingSegmentAllocator}.
+     * <p>
+     * The segment is renamed into place unless the writer is closed or has already moved to or beyond the segment.
+     * The rename and directory sync are done without holding the lock taken on roll over so the recorder is only held
+     * up if it rolls over to the segment while it is being renamed.
+     *
+     * @param segmentIndex of the prepared segment.
+     * @param tmpFile      under which the segment was created.
+     * @param channel      for the segment file.
+     * @return true if the writer has taken the segment otherwise false and it should be discarded.
+     * @throws IOException if the archive directory cannot be synced.
+     */
+    boolean offerPreparedSegment(final int segmentIndex, final File tmpFile, final FileChannel channel)
+        throws IOException
+    {
+        synchronized (this)
+        {
+            if (isClosed || segmentIndex <= this.segmentIndex)
+            {
+                return false;
+            }
+
+            renamingSegmentIndex = segmentIndex;
+        }
+
+        final File file = new File(archiveDir, segmentFileName(recordingId, segmentIndex));
+        try
+        {
+            if (tmpFile.renameTo(file))
+            {
+                if (forceWrites && null != archiveDirChannel)
+                {
+                    archiveDirChannel.force(forceMetadata);
+                }
+
+                synchronized (this)
+                {
+                    if (!isClosed && preparedSegments.offer(new PreparedSegment(segmentIndex, file, channel)))
+                    {
+                        return true;
+                    }
+                }
+
+                IoUtil.delete(file, true);
+            }
+        }
+        finally
+        {
+            synchronized (this)
+            {
+                renamingSegmentIndex = NULL_SEGMENT_INDEX;
+                notifyAll();
+            }
+        }
+
+        return false;
+    }
+
+    private FileChannel pollPreparedSegment(final int segmentIndex)
+    {
+        if (null != preparedSegments)
+        {
+            PreparedSegment preparedSegment;
+            while (null != (preparedSegment = preparedSegments.poll()))
+            {
+                if (preparedSegment.segmentIndex == segmentIndex)
+                {
+                    return preparedSegment.channel;
+                }
+
+                preparedSegment.delete();
+            }
+        }
+
+        return null;
+    }
+
+    private void deletePreparedSegments()
+    {
+        if (null != preparedSegments)
+        {
+            preparedSegments.drain(PreparedSegment::delete);
+        }
+    }
+
     private void openRecordingSegmentFile()
     {
         final File file = new File(archiveDir, segmentFileName(recordingId, segmentIndex));
@@ -185,12 +415,68 @@ class RecordingWriter implements BlockHandler
         }
     }
 
-    private void onFileRollOver()
+    private void onFileRollOver() throws IOException
     {
-        CloseHelper.close(recordingFileChannel);
-        segmentOffset = 0;
-        segmentIndex++;
+        synchronized (this)
+        {
+            if (null != flusher)
+            {
+                final long length = writtenLength;
+                recordingFileChannel.force(forceMetadata);
+                recordedPosition.setOrdered(initialPosition + length);
+            }
 
-        openRecordingSegmentFile();
+            CloseHelper.close(recordingFileChannel);
+            segmentOffset = 0;
+            segmentIndex++;
+
+            while (segmentIndex == renamingSegmentIndex)
+            {
+                awaitRenamingSegment();
+            }
+
+            final FileChannel preparedChannel = pollPreparedSegment(segmentIndex);
+            if (null != preparedChannel)
+            {
+                recordingFileChannel = preparedChannel;
+            }
+            else
+            {
+                openRecordingSegmentFile();
+            }
+        }
+    }
+
+    private void awaitRenamingSegment()
+    {
+        try
+        {
+            wait();
+        }
+        catch (final InterruptedException ex)
+        {
+            Thread.currentThread().interrupt();
+            LangUtil.rethrowUnchecked(ex);
+        }
+    }
+
+    static final class PreparedSegment
+    {
+        final int segmentIndex;
+        final File file;
+        final FileChannel channel;
+
+        PreparedSegment(final int segmentIndex, final File file, final FileChannel channel)
+        {
+            this.segmentIndex = segmentIndex;
+            this.file = file;
+            this.channel = channel;
+        }
+
+        void delete()
+        {
+            CloseHelper.close(channel);
+            IoUtil.delete(file, true);
+        }
     }
 }
@@ -19,7 +19,10 @@ import io.aeron.Counter;
 import io.aeron.ExclusivePublication;
 import io.aeron.Publication;
 import io.aeron.logbuffer.ExclusiveBufferClaim;
+import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.protocol.HeaderFlyweight;
+import org.agrona.BitUtil;
+import org.agrona.BufferUtil;
 import org.agrona.CloseHelper;
 import org.agrona.LangUtil;
 import org.agrona.concurrent.EpochClock;
@@ -27,6 +30,11 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 import java.io.File;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.STREAM_ID_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
+
 /**
  * A replay session with a client which works through the required request response flow and streaming of recorded data.
  * The {@link ArchiveConductor} will initiate a session on receiving a ReplayRequest
@@ -38,11 +46,12 @@ import java.io.File;
  * <li>Wait for replay subscription to connect to the requested replay publication. If no subscription appears within
  * {@link #CONNECT_TIMEOUT_MS} the session will terminate and respond will error.</li>
  * <li>Once the replay publication is connected send an OK response to control client.</li>
- * <li>Stream recorded data into the replayPublication {@link ExclusivePublication}.</li>
+ * <li>Stream recorded data into the replayPublication {@link ExclusivePublication}, fragment by fragment or, when a
+ * replay block length is configured, in blocks of whole frames with the session and stream ids rewritten.</li>
  * <li>If the replay is aborted part way through, send a ReplayAborted message and terminate.</li>
  * </ul>
  */
-class ReplaySession implements Session, SimpleFragmentHandler, AutoCloseable
+class ReplaySession implements Session, SimpleFragmentHandler, SimpleBlockHandler, AutoCloseable
 {
     enum State
     {
@@ -64,6 +73,7 @@ class ReplaySession implements Session, SimpleFragmentHandler, AutoCloseable
     private final RecordingFragmentReader cursor;
     private final ControlSession controlSession;
     private final EpochClock epochClock;
+    private final UnsafeBuffer replayBuffer;
     private State state = State.INIT;
     private String errorMessage = null;
     private volatile boolean isAborted;
@@ -81,7 +91,8 @@ class ReplaySession implements Session, SimpleFragmentHandler, AutoCloseable
         final EpochClock epochClock,
         final ExclusivePublication replayPublication,
         final RecordingSummary recordingSummary,
-        final Counter recordingPosition)
+        final Counter recordingPosition,
+        final int replayBlockLength)
     {
         this.controlSession = controlSession;
         this.sessionId = replaySessionId;
@@ -89,6 +100,18 @@ class ReplaySession implements Session, SimpleFragmentHandler, AutoCloseable
         this.epochClock = epochClock;
         this.replayPublication = replayPublication;
 
+        if (replayBlockLength > 0)
+        {
+            final int blockLength = Math.min(
+                BitUtil.align(Math.max(replayBlockLength, recordingSummary.mtuLength), FRAME_ALIGNMENT),
+                recordingSummary.termBufferLength);
+            replayBuffer = new UnsafeBuffer(BufferUtil.allocateDirectAligned(blockLength, FRAME_ALIGNMENT));
+        }
+        else
+        {
+            replayBuffer = null;
+        }
+
         RecordingFragmentReader cursor = null;
         try
         {
@@ -202,6 +225,36 @@ class ReplaySession implements Session, SimpleFragmentHandler, AutoCloseable
         return false;
     }
 
+    public boolean onBlock(final UnsafeBuffer termBuffer, final int termOffset, final int length)
+    {
+        final UnsafeBuffer replayBuffer = this.replayBuffer;
+        final int sessionId = replayPublication.sessionId();
+        final int streamId = replayPublication.streamId();
+
+        replayBuffer.putBytes(0, termBuffer, termOffset, length);
+
+        int frameOffset = 0;
+        while (frameOffset < length)
+        {
+            replayBuffer.putInt(frameOffset + SESSION_ID_FIELD_OFFSET, sessionId, LITTLE_ENDIAN);
+            replayBuffer.putInt(frameOffset + STREAM_ID_FIELD_OFFSET, streamId, LITTLE_ENDIAN);
+            frameOffset += BitUtil.align(FrameDescriptor.frameLength(replayBuffer, frameOffset), FRAME_ALIGNMENT);
+        }
+
+        final long result = replayPublication.offerBlock(replayBuffer, 0, length);
+        if (result > 0)
+        {
+            return true;
+        }
+
+        if (result == Publication.CLOSED || result == Publication.NOT_CONNECTED)
+        {
+            onError("stream closed before replay is complete");
+        }
+
+        return false;
+    }
+
     long recordingId()
     {
         return cursor.recordingId();
@@ -242,7 +295,14 @@ class ReplaySession implements Session, SimpleFragmentHandler, AutoCloseable
         int workDone = 0;
         try
         {
-            workDone = cursor.controlledPoll(this, REPLAY_FRAGMENT_LIMIT);
+            if (null == replayBuffer)
+            {
+                workDone = cursor.controlledPoll(this, REPLAY_FRAGMENT_LIMIT);
+            }
+            else
+            {
+                workDone = cursor.controlledPollBlock(this, replayBuffer.capacity());
+            }
             if (cursor.isDone())
             {
                 state = State.INACTIVE;
@@ -0,0 +1,33 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.concurrent.UnsafeBuffer;
+
+@FunctionalInterface
+interface SimpleBlockHandler
+{
+    /**
+     * Called by the {@link RecordingFragmentReader} with a block of whole frames, including their headers, which
+     * begins and ends on frame boundaries within a single term.
+     *
+     * @param termBuffer containing the block.
+     * @param termOffset at which the block begins.
+     * @param length     of the block in bytes.
+     * @return true if the block was processed, false to abort.
+     */
+    boolean onBlock(UnsafeBuffer termBuffer, int termOffset, int length);
+}
@@ -27,6 +27,7 @@ import org.junit.Test;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.file.Files;
@@ -335,6 +336,47 @@ public class CatalogTest
         }
     }
 
+    @Test
+    public void shouldFixPositionAfterFailureIgnoringEmptySegmentsCreatedAhead() throws Exception
+    {
+        final long newRecordingId = newRecording();
+        final long expectedLastFrame = SEGMENT_LENGTH - 128;
+
+        final File segmentFile = new File(archiveDir, segmentFileName(newRecordingId, 0));
+        try (FileChannel log = FileChannel.open(segmentFile.toPath(), READ, WRITE, CREATE))
+        {
+            final ByteBuffer bb = ByteBuffer.allocateDirect(HEADER_LENGTH);
+            final DataHeaderFlyweight flyweight = new DataHeaderFlyweight(bb);
+            flyweight.frameLength((int)expectedLastFrame);
+            log.write(bb);
+            bb.clear();
+            flyweight.frameLength(128);
+            log.write(bb, expectedLastFrame);
+            log.truncate(SEGMENT_LENGTH);
+        }
+
+        for (int segmentIndex = 1; segmentIndex <= 2; segmentIndex++)
+        {
+            try (RandomAccessFile file = new RandomAccessFile(
+                new File(archiveDir, segmentFileName(newRecordingId, segmentIndex)), "rw"))
+            {
+                file.setLength(SEGMENT_LENGTH);
+            }
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, clock))
+        {
+            catalog.forEntry((he, hd, e, decoder) -> e.stopPosition(NULL_POSITION), newRecordingId);
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, MAX_ENTRIES, clock))
+        {
+            catalog.forEntry(
+                (he, hd, e, decoder) -> assertThat(decoder.stopPosition(), is(expectedLastFrame)),
+                newRecordingId);
+        }
+    }
+
     @Test
     public void shouldBeAbleToCreateMaxEntries()
     {
@@ -367,6 +409,92 @@ public class CatalogTest
         }
     }
 
+    @Test
+    public void shouldGrowCatalogWhenFull()
+    {
+        after();
+        final File archiveDir = TestUtil.makeTestDirectory();
+        final long maxEntries = 2;
+        final int recordingCount = 5;
+
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, maxEntries, clock))
+        {
+            for (int i = 0; i < recordingCount; i++)
+            {
+                catalog.addNewRecording(
+                    0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, i, 1, "channelG", "channelG?tag=f", "sourceA");
+            }
+
+            assertThat(catalog.countEntries(), is(recordingCount));
+            assertTrue(catalog.maxEntries() >= recordingCount);
+        }
+
+        try (Catalog catalog = new Catalog(archiveDir, clock))
+        {
+            assertThat(catalog.countEntries(), is(recordingCount));
+
+            for (int i = 0; i < recordingCount; i++)
+            {
+                final int expectedSessionId = i;
+                assertTrue(catalog.forEntry(
+                    (he, hd, e, decoder) -> assertThat(decoder.sessionId(), is(expectedSessionId)), i));
+            }
+        }
+    }
+
+    @Test
+    public void shouldFindNextRecordingForStreamFromIndexRebuiltOnLoad()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, MAX_ENTRIES, clock))
+        {
+            final long recordingFourId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 1, "channelG", "channelG?tag=f", "sourceA");
+
+            assertThat(catalog.nextRecordingIdForStream(1, 0), is(recordingOneId));
+            assertThat(catalog.nextRecordingIdForStream(1, recordingOneId + 1), is(recordingFourId));
+            assertThat(catalog.nextRecordingIdForStream(2, 0), is(recordingTwoId));
+            assertThat(catalog.nextRecordingIdForStream(3, recordingThreeId), is(recordingThreeId));
+            assertThat(catalog.nextRecordingIdForStream(1, recordingFourId + 1), is((long)Catalog.NULL_RECORD_ID));
+            assertThat(catalog.nextRecordingIdForStream(4, 0), is((long)Catalog.NULL_RECORD_ID));
+        }
+    }
+
+    @Test
+    public void shouldFindNextRecordingForChannelFromIndexRebuiltOnLoad()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, MAX_ENTRIES, clock))
+        {
+            final long recordingFourId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 1, "channelK", "channelK?tag=f", "sourceA");
+            final long recordingFiveId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 9, 1, "channelG", "channelG?tag=f", "sourceA");
+
+            assertThat(catalog.nextRecordingIdForChannel(1, "channelG", 0), is(recordingOneId));
+            assertThat(catalog.nextRecordingIdForChannel(1, "channelG", recordingOneId + 1), is(recordingFiveId));
+            assertThat(catalog.nextRecordingIdForChannel(1, "channelK", 0), is(recordingFourId));
+            assertThat(catalog.nextRecordingIdForChannel(1, "channel", recordingOneId + 1), is(recordingFourId));
+            assertThat(catalog.nextRecordingIdForChannel(3, "nelK", 0), is(recordingThreeId));
+            assertThat(catalog.nextRecordingIdForChannel(2, "channelG", 0), is((long)Catalog.NULL_RECORD_ID));
+            assertThat(catalog.nextRecordingIdForChannel(4, "channelG", 0), is((long)Catalog.NULL_RECORD_ID));
+        }
+    }
+
+    @Test
+    public void shouldFindNextRecordingForSessionFromIndexRebuiltOnLoad()
+    {
+        try (Catalog catalog = new Catalog(archiveDir, null, 0, MAX_ENTRIES, clock))
+        {
+            final long recordingFourId = catalog.addNewRecording(
+                0L, 0L, 0, SEGMENT_LENGTH, TERM_LENGTH, MTU_LENGTH, 7, 1, "channelG", "channelG?tag=f", "sourceA");
+
+            assertThat(catalog.nextRecordingIdForSession(6, 0), is(recordingOneId));
+            assertThat(catalog.nextRecordingIdForSession(7, 0), is(recordingTwoId));
+            assertThat(catalog.nextRecordingIdForSession(7, recordingTwoId + 1), is(recordingFourId));
+            assertThat(catalog.nextRecordingIdForSession(8, recordingThreeId + 1), is((long)Catalog.NULL_RECORD_ID));
+            assertThat(catalog.nextRecordingIdForSession(9, 0), is((long)Catalog.NULL_RECORD_ID));
+        }
+    }
+
     @Test
     public void shouldNotThrowWhenOldRecordingLogsAreDeleted() throws IOException
     {
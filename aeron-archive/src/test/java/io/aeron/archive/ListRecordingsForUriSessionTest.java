@@ -69,8 +69,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         session.doWork();
         assertThat(session.isDone(), is(false));
@@ -95,8 +94,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         session.doWork();
         assertThat(session.isDone(), is(false));
@@ -121,8 +119,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         session.doWork();
         assertThat(session.isDone(), is(false));
@@ -152,8 +149,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         final MutableLong counter = new MutableLong(0);
         when(controlSession.sendDescriptor(eq(correlationId), any(), eq(controlResponseProxy)))
@@ -178,8 +174,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         session.doWork();
         assertThat(session.isDone(), is(false));
@@ -204,8 +199,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         session.doWork();
         assertThat(session.isDone(), is(false));
@@ -229,8 +223,7 @@ public class ListRecordingsForUriSessionTest
             catalog,
             controlResponseProxy,
             controlSession,
-            descriptorBuffer,
-            recordingDescriptorDecoder);
+            descriptorBuffer);
 
         session.doWork();
 
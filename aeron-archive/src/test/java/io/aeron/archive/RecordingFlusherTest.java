@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import org.agrona.ErrorHandler;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.*;
+
+public class RecordingFlusherTest
+{
+    private static final long SYNC_INTERVAL_NS = 1_000_000;
+    private static final long SYNC_LENGTH = 64 * 1024;
+
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final AtomicCounter bytesPendingSync = mock(AtomicCounter.class);
+    private final AtomicCounter maxSyncTimeNs = mock(AtomicCounter.class);
+    private final RecordingWriter writer = mock(RecordingWriter.class);
+    private long nowNs = 0;
+    private RecordingFlusher flusher;
+
+    @Before
+    public void before()
+    {
+        flusher = new RecordingFlusher(
+            SYNC_INTERVAL_NS, SYNC_LENGTH, 2, () -> nowNs, errorHandler, bytesPendingSync, maxSyncTimeNs);
+
+        assertTrue(flusher.add(writer));
+        assertThat(flusher.doWork(), is(1));
+    }
+
+    @Test
+    public void shouldSyncWhenSyncLengthIsReached() throws IOException
+    {
+        when(writer.writtenLength()).thenReturn(SYNC_LENGTH - 1);
+        assertThat(flusher.doWork(), is(0));
+        verify(writer, never()).sync();
+        verify(bytesPendingSync).setOrdered(SYNC_LENGTH - 1);
+
+        when(writer.writtenLength()).thenReturn(SYNC_LENGTH);
+        assertThat(flusher.doWork(), is(1));
+        verify(writer).sync();
+        verify(bytesPendingSync, times(2)).setOrdered(0);
+    }
+
+    @Test
+    public void shouldSyncPendingBytesWhenSyncIntervalHasElapsed() throws IOException
+    {
+        when(writer.writtenLength()).thenReturn(1L);
+        assertThat(flusher.doWork(), is(0));
+
+        nowNs += SYNC_INTERVAL_NS;
+        assertThat(flusher.doWork(), is(1));
+        verify(writer).sync();
+
+        nowNs += SYNC_INTERVAL_NS;
+        assertThat(flusher.doWork(), is(0));
+        verify(writer, times(1)).sync();
+    }
+
+    @Test
+    public void shouldStopSyncingWriterOnceClosed() throws IOException
+    {
+        when(writer.writtenLength()).thenReturn(SYNC_LENGTH);
+        when(writer.isClosed()).thenReturn(true);
+
+        assertThat(flusher.doWork(), is(0));
+        verify(writer, never()).sync();
+    }
+
+    @Test
+    public void shouldReportErrorAndRetrySyncAfterIntervalWhenSyncFails() throws IOException
+    {
+        final IOException ex = new IOException("sync failed");
+        when(writer.writtenLength()).thenReturn(SYNC_LENGTH);
+        doThrow(ex).doNothing().when(writer).sync();
+
+        assertThat(flusher.doWork(), is(0));
+        verify(errorHandler).onError(ex);
+        verify(bytesPendingSync).setOrdered(SYNC_LENGTH);
+
+        assertThat(flusher.doWork(), is(0));
+        verify(writer, times(1)).sync();
+
+        nowNs += SYNC_INTERVAL_NS;
+        assertThat(flusher.doWork(), is(1));
+        verify(writer, times(2)).sync();
+        verify(bytesPendingSync, times(2)).setOrdered(0);
+    }
+}
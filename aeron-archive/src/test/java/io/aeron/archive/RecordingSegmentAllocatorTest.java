@@ -0,0 +1,129 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.archive;
+
+import io.aeron.Counter;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+
+import static io.aeron.archive.Archive.segmentFileName;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.agrona.BufferUtil.allocateDirectAligned;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RecordingSegmentAllocatorTest
+{
+    private static final long RECORDING_ID = 7;
+    private static final int SEGMENT_LENGTH = TERM_MIN_LENGTH;
+    private static final int LOOK_AHEAD = 2;
+
+    private final File archiveDir = TestUtil.makeTestDirectory();
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final Counter recordedPosition = mock(Counter.class);
+    private final Archive.Context ctx = mock(Archive.Context.class);
+    private RecordingSegmentAllocator segmentAllocator;
+    private RecordingWriter writer;
+
+    @Before
+    public void before() throws IOException
+    {
+        segmentAllocator = new RecordingSegmentAllocator(LOOK_AHEAD, true, 1, archiveDir, errorHandler);
+
+        when(ctx.archiveDir()).thenReturn(archiveDir);
+        when(ctx.segmentFileLength()).thenReturn(SEGMENT_LENGTH);
+        when(ctx.segmentFileLookAhead()).thenReturn(LOOK_AHEAD);
+        when(ctx.recordingSegmentAllocator()).thenReturn(segmentAllocator);
+
+        writer = new RecordingWriter(RECORDING_ID, 0, 0, SEGMENT_LENGTH, ctx, null, recordedPosition);
+        writer.init(0);
+    }
+
+    @After
+    public void after()
+    {
+        writer.close();
+        IoUtil.delete(archiveDir, false);
+    }
+
+    @Test
+    public void shouldCreateSegmentsAheadUpToLookAhead()
+    {
+        assertThat(segmentAllocator.doWork(), is(2));
+        assertThat(segmentAllocator.doWork(), is(1));
+        assertThat(segmentAllocator.doWork(), is(0));
+
+        assertThat(writer.preparedSegmentCount(), is(LOOK_AHEAD));
+        assertSegmentFileExists(1);
+        assertSegmentFileExists(2);
+        assertFalse(segmentFile(3).exists());
+    }
+
+    @Test
+    public void shouldRollOverToSegmentCreatedAhead()
+    {
+        segmentAllocator.doWork();
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(allocateDirectAligned(SEGMENT_LENGTH, 64));
+        buffer.setMemory(0, SEGMENT_LENGTH, (byte)1);
+
+        writer.onBlock(buffer, 0, SEGMENT_LENGTH, 0, 0);
+        writer.onBlock(buffer, 0, 1024, 0, 0);
+
+        assertThat(writer.segmentIndex(), is(1));
+        assertThat(writer.preparedSegmentCount(), is(0));
+        assertThat(segmentFile(1).length(), is((long)SEGMENT_LENGTH));
+
+        assertThat(segmentAllocator.doWork(), is(1));
+        assertThat(segmentAllocator.doWork(), is(1));
+        assertSegmentFileExists(2);
+        assertSegmentFileExists(3);
+    }
+
+    @Test
+    public void shouldDeleteUnusedSegmentsOnClose()
+    {
+        segmentAllocator.doWork();
+        segmentAllocator.doWork();
+
+        writer.close();
+
+        assertSegmentFileExists(0);
+        assertFalse(segmentFile(1).exists());
+        assertFalse(segmentFile(2).exists());
+        assertThat(segmentAllocator.doWork(), is(0));
+    }
+
+    private File segmentFile(final int segmentIndex)
+    {
+        return new File(archiveDir, segmentFileName(RECORDING_ID, segmentIndex));
+    }
+
+    private void assertSegmentFileExists(final int segmentIndex)
+    {
+        final File file = segmentFile(segmentIndex);
+        assertTrue(file.exists());
+        assertThat(file.length(), is((long)SEGMENT_LENGTH));
+    }
+}
@@ -255,6 +255,65 @@ public class ReplaySessionTest
         }
     }
 
+    @Test
+    public void shouldReplayFullDataFromFileAsBlockWithRewrittenIds()
+    {
+        final long length = 4 * FRAME_LENGTH;
+        final long correlationId = 1L;
+        final int replaySessionId = 7;
+        final int replayStreamId = 9;
+
+        try (ReplaySession replaySession = replaySession(
+            RECORDING_POSITION,
+            length,
+            correlationId,
+            mockReplayPub,
+            mockControlSession,
+            null,
+            MTU_LENGTH))
+        {
+            when(mockReplayPub.isConnected()).thenReturn(true);
+            when(mockReplayPub.sessionId()).thenReturn(replaySessionId);
+            when(mockReplayPub.streamId()).thenReturn(replayStreamId);
+
+            replaySession.doWork();
+            assertEquals(replaySession.state(), ReplaySession.State.REPLAY);
+
+            final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirectAligned(4096, 64));
+            when(mockReplayPub.offerBlock(any(UnsafeBuffer.class), anyInt(), anyInt())).then(
+                (invocation) ->
+                {
+                    final UnsafeBuffer buffer = invocation.getArgument(0);
+                    final int offset = invocation.getArgument(1);
+                    final int blockLength = invocation.getArgument(2);
+                    termBuffer.putBytes(0, buffer, offset, blockLength);
+                    messageCounter++;
+
+                    return (long)blockLength;
+                });
+
+            assertThat(replaySession.doWork(), is(4));
+            assertThat(messageCounter, is(1));
+
+            validateFrame(termBuffer, 0, FrameDescriptor.UNFRAGMENTED);
+            validateFrame(termBuffer, 1, FrameDescriptor.BEGIN_FRAG_FLAG);
+            validateFrame(termBuffer, 2, FrameDescriptor.END_FRAG_FLAG);
+
+            for (int i = 0; i < 4; i++)
+            {
+                final int offset = i * FRAME_LENGTH;
+                assertEquals(replaySessionId, termBuffer.getInt(offset + DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET));
+                assertEquals(replayStreamId, termBuffer.getInt(offset + DataHeaderFlyweight.STREAM_ID_FIELD_OFFSET));
+                assertEquals(INITIAL_TERM_OFFSET + offset,
+                    termBuffer.getInt(offset + DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET));
+            }
+
+            assertEquals(HDR_TYPE_PAD, FrameDescriptor.frameType(termBuffer, 3 * FRAME_LENGTH));
+            verify(mockReplayPub, never()).tryClaim(anyInt(), any(ExclusiveBufferClaim.class));
+            assertTrue(replaySession.isDone());
+        }
+    }
+
     @Test(expected = IllegalArgumentException.class)
     public void shouldNotReplayPartialUnalignedDataFromFile()
     {
@@ -271,7 +330,8 @@ public class ReplaySessionTest
             epochClock,
             mockReplayPub,
             recordingSummary,
-            recordingPositionCounter);
+            recordingPositionCounter,
+            0);
     }
 
     @Test
@@ -480,7 +540,6 @@ public class ReplaySessionTest
             });
     }
 
-    @SuppressWarnings("SameParameterValue")
     private ReplaySession replaySession(
         final long recordingPosition,
         final long length,
@@ -488,6 +547,19 @@ public class ReplaySessionTest
         final ExclusivePublication replay,
         final ControlSession control,
         final Counter recordingPositionCounter)
+    {
+        return replaySession(recordingPosition, length, correlationId, replay, control, recordingPositionCounter, 0);
+    }
+
+    @SuppressWarnings("SameParameterValue")
+    private ReplaySession replaySession(
+        final long recordingPosition,
+        final long length,
+        final long correlationId,
+        final ExclusivePublication replay,
+        final ControlSession control,
+        final Counter recordingPositionCounter,
+        final int replayBlockLength)
     {
         return new ReplaySession(
             recordingPosition,
@@ -501,7 +573,8 @@ public class ReplaySessionTest
             epochClock,
             replay,
             recordingSummary,
-            recordingPositionCounter);
+            recordingPositionCounter,
+            replayBlockLength);
     }
 
     private static void validateFrame(final UnsafeBuffer buffer, final int message, final byte flags)
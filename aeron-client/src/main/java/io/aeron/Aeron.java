@@ -294,6 +294,135 @@ public class Aeron implements AutoCloseable
         return conductor.addSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
     }
 
+    /**
+     * Asynchronously add a {@link Publication} for publishing messages to subscribers without waiting for the media
+     * driver to respond. The {@link ConcurrentPublication} can then be polled for with
+     * {@link #getPublication(long)} once the client conductor has received the response.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used with {@link #getPublication(long)}.
+     */
+    public long asyncAddPublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddPublication(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add an {@link ExclusivePublication} for publishing messages to subscribers from a single thread
+     * without waiting for the media driver to respond.
+     *
+     * @param channel  for sending the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the publication which can be used with {@link #getExclusivePublication(long)}.
+     */
+    public long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        return conductor.asyncAddExclusivePublication(channel, streamId);
+    }
+
+    /**
+     * Asynchronously add a {@link Subscription} for subscribing to messages from publishers without waiting for the
+     * media driver to respond. The default handlers from the {@link Aeron.Context} will be used.
+     *
+     * @param channel  for receiving the messages known to the media layer.
+     * @param streamId within the channel scope.
+     * @return the registration id of the subscription which can be used with {@link #getSubscription(long)}.
+     */
+    public long asyncAddSubscription(final String channel, final int streamId)
+    {
+        return conductor.asyncAddSubscription(
+            channel, streamId, ctx.availableImageHandler(), ctx.unavailableImageHandler());
+    }
+
+    /**
+     * Asynchronously add a {@link Subscription} for subscribing to messages from publishers without waiting for the
+     * media driver to respond.
+     *
+     * @param channel                 for receiving the messages known to the media layer.
+     * @param streamId                within the channel scope.
+     * @param availableImageHandler   called when {@link Image}s become available for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @param unavailableImageHandler called when {@link Image}s go unavailable for consumption. Null is valid if no
+     *                                action is to be taken.
+     * @return the registration id of the subscription which can be used with {@link #getSubscription(long)}.
+     */
+    public long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        return conductor.asyncAddSubscription(channel, streamId, availableImageHandler, unavailableImageHandler);
+    }
+
+    /**
+     * Asynchronously allocate a counter on the media driver without waiting for the media driver to respond.
+     *
+     * @param typeId for the counter.
+     * @param label  for the counter. It should be US-ASCII.
+     * @return the registration id of the counter which can be used with {@link #getCounter(long)}.
+     */
+    public long asyncAddCounter(final int typeId, final String label)
+    {
+        return conductor.asyncAddCounter(typeId, label);
+    }
+
+    /**
+     * Get a {@link ConcurrentPublication} added with {@link #asyncAddPublication(String, int)} if the media driver
+     * has responded.
+     *
+     * @param registrationId returned from {@link #asyncAddPublication(String, int)}.
+     * @return the {@link ConcurrentPublication} or null if the media driver has not yet responded.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver responded with an error.
+     * @throws io.aeron.exceptions.AeronException if the registration id is for a different type of resource.
+     */
+    public ConcurrentPublication getPublication(final long registrationId)
+    {
+        return conductor.getPublication(registrationId);
+    }
+
+    /**
+     * Get an {@link ExclusivePublication} added with {@link #asyncAddExclusivePublication(String, int)} if the
+     * media driver has responded.
+     *
+     * @param registrationId returned from {@link #asyncAddExclusivePublication(String, int)}.
+     * @return the {@link ExclusivePublication} or null if the media driver has not yet responded.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver responded with an error.
+     * @throws io.aeron.exceptions.AeronException if the registration id is for a different type of resource.
+     */
+    public ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return conductor.getExclusivePublication(registrationId);
+    }
+
+    /**
+     * Get a {@link Subscription} added with {@link #asyncAddSubscription(String, int)} if the media driver has
+     * responded.
+     *
+     * @param registrationId returned from {@link #asyncAddSubscription(String, int)}.
+     * @return the {@link Subscription} or null if the media driver has not yet responded.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver responded with an error.
+     * @throws io.aeron.exceptions.AeronException if the registration id is for a different type of resource.
+     */
+    public Subscription getSubscription(final long registrationId)
+    {
+        return conductor.getSubscription(registrationId);
+    }
+
+    /**
+     * Get a {@link Counter} added with {@link #asyncAddCounter(int, String)} if the media driver has responded.
+     *
+     * @param registrationId returned from {@link #asyncAddCounter(int, String)}.
+     * @return the {@link Counter} or null if the media driver has not yet responded.
+     * @throws io.aeron.exceptions.RegistrationException if the media driver responded with an error.
+     * @throws io.aeron.exceptions.AeronException if the registration id is for a different type of resource.
+     */
+    public Counter getCounter(final long registrationId)
+    {
+        return conductor.getCounter(registrationId);
+    }
+
     /**
      * Generate the next correlation id that is unique for the connected Media Driver.
      * <p>
@@ -402,6 +531,17 @@ public class Aeron implements AutoCloseable
          */
         public static final long RESOURCE_LINGER_DURATION_DEFAULT = TimeUnit.SECONDS.toNanos(3);
 
+        /**
+         * Should mapped log buffers be pre-touched by the client so their pages are faulted in when mapped rather
+         * than on first use when publishing or polling.
+         */
+        public static final String PRE_TOUCH_MAPPED_MEMORY_PROP_NAME = "aeron.pre.touch.mapped.memory";
+
+        /**
+         * Default for if mapped log buffers should be pre-touched.
+         */
+        public static final boolean PRE_TOUCH_MAPPED_MEMORY_DEFAULT = false;
+
         /**
          * The Default handler for Aeron runtime exceptions.
          * When a {@link DriverTimeoutException} is encountered, this handler will
@@ -434,6 +574,23 @@ public class Aeron implements AutoCloseable
         {
             return getDurationInNanos(RESOURCE_LINGER_DURATION_PROP_NAME, RESOURCE_LINGER_DURATION_DEFAULT);
         }
+
+        /**
+         * Should mapped log buffers be pre-touched by the client so their pages are faulted in when mapped.
+         *
+         * @return true if mapped log buffers should be pre-touched.
+         * @see #PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+         */
+        public static boolean preTouchMappedMemory()
+        {
+            final String value = System.getProperty(PRE_TOUCH_MAPPED_MEMORY_PROP_NAME);
+            if (null != value)
+            {
+                return Boolean.parseBoolean(value);
+            }
+
+            return PRE_TOUCH_MAPPED_MEMORY_DEFAULT;
+        }
     }
 
     /**
@@ -469,6 +626,7 @@ public class Aeron implements AutoCloseable
         private long keepAliveInterval = Configuration.KEEPALIVE_INTERVAL_NS;
         private long interServiceTimeout = 0;
         private long resourceLingerDurationNs = Configuration.resourceLingerDurationNs();
+        private boolean preTouchMappedMemory = Configuration.preTouchMappedMemory();
 
         private ThreadFactory threadFactory = Thread::new;
 
@@ -1008,6 +1166,32 @@ public class Aeron implements AutoCloseable
             return resourceLingerDurationNs;
         }
 
+        /**
+         * Should mapped log buffers be pre-touched so their pages are faulted in when mapped rather than on the
+         * first pass through each term when publishing or polling.
+         *
+         * @param preTouchMappedMemory true if mapped log buffers should be pre-touched.
+         * @return this for a fluent API.
+         * @see Configuration#PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+         */
+        public Context preTouchMappedMemory(final boolean preTouchMappedMemory)
+        {
+            this.preTouchMappedMemory = preTouchMappedMemory;
+            return this;
+        }
+
+        /**
+         * Should mapped log buffers be pre-touched so their pages are faulted in when mapped rather than on the
+         * first pass through each term when publishing or polling.
+         *
+         * @return true if mapped log buffers should be pre-touched.
+         * @see Configuration#PRE_TOUCH_MAPPED_MEMORY_PROP_NAME
+         */
+        public boolean preTouchMappedMemory()
+        {
+            return preTouchMappedMemory;
+        }
+
         /**
          * @see CommonContext#aeronDirectoryName(String)
          */
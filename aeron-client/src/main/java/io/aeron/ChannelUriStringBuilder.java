@@ -52,6 +52,9 @@ public class ChannelUriStringBuilder
     private Integer termOffset;
     private Integer sessionId;
     private Integer linger;
+    private Integer sendBatchSize;
+    private Integer flowControlQuorum;
+    private Long flowControlGroupTag;
     private boolean isSessionIdTagged;
 
     /**
@@ -76,6 +79,9 @@ public class ChannelUriStringBuilder
         termId = null;
         termOffset = null;
         sessionId = null;
+        sendBatchSize = null;
+        flowControlQuorum = null;
+        flowControlGroupTag = null;
         isSessionIdTagged = false;
 
         return this;
@@ -572,6 +578,90 @@ public class ChannelUriStringBuilder
         return linger;
     }
 
+    /**
+     * Set the max number of MTU sized datagrams a network publication will send in a single pass of the sender.
+     *
+     * @param sendBatchSize max number of datagrams to send in a single pass of the sender, in the range 1-64.
+     * @return this for a fluent API.
+     * @see CommonContext#SEND_BATCH_SIZE_PARAM_NAME
+     */
+    public ChannelUriStringBuilder sendBatchSize(final Integer sendBatchSize)
+    {
+        if (null != sendBatchSize && (sendBatchSize < 1 || sendBatchSize > 64))
+        {
+            throw new IllegalArgumentException("send batch size not in range 1-64: " + sendBatchSize);
+        }
+
+        this.sendBatchSize = sendBatchSize;
+        return this;
+    }
+
+    /**
+     * Get the max number of MTU sized datagrams a network publication will send in a single pass of the sender.
+     *
+     * @return the max number of datagrams to send in a single pass of the sender.
+     * @see CommonContext#SEND_BATCH_SIZE_PARAM_NAME
+     */
+    public Integer sendBatchSize()
+    {
+        return sendBatchSize;
+    }
+
+    /**
+     * Set the number of receivers which must reach a position before a multicast or multi-destination-cast
+     * publication can advance beyond it.
+     *
+     * @param quorum number of receivers which must reach a position.
+     * @return this for a fluent API.
+     * @see CommonContext#FLOW_CONTROL_QUORUM_PARAM_NAME
+     */
+    public ChannelUriStringBuilder flowControlQuorum(final Integer quorum)
+    {
+        if (null != quorum && quorum < 1)
+        {
+            throw new IllegalArgumentException("flow control quorum must be greater than zero: " + quorum);
+        }
+
+        this.flowControlQuorum = quorum;
+        return this;
+    }
+
+    /**
+     * Get the number of receivers which must reach a position before a multicast or multi-destination-cast
+     * publication can advance beyond it.
+     *
+     * @return the number of receivers which must reach a position.
+     * @see CommonContext#FLOW_CONTROL_QUORUM_PARAM_NAME
+     */
+    public Integer flowControlQuorum()
+    {
+        return flowControlQuorum;
+    }
+
+    /**
+     * Set the group tag of the receivers to be counted for flow control.
+     *
+     * @param groupTag of the receivers to be counted for flow control.
+     * @return this for a fluent API.
+     * @see CommonContext#FLOW_CONTROL_GROUP_TAG_PARAM_NAME
+     */
+    public ChannelUriStringBuilder flowControlGroupTag(final Long groupTag)
+    {
+        this.flowControlGroupTag = groupTag;
+        return this;
+    }
+
+    /**
+     * Get the group tag of the receivers to be counted for flow control.
+     *
+     * @return the group tag of the receivers to be counted for flow control.
+     * @see CommonContext#FLOW_CONTROL_GROUP_TAG_PARAM_NAME
+     */
+    public Long flowControlGroupTag()
+    {
+        return flowControlGroupTag;
+    }
+
     /**
      * Set the tags for a channel, and/or publication or subscription.
      *
@@ -729,6 +819,13 @@ public class ChannelUriStringBuilder
             sb.append(LINGER_PARAM_NAME).append('=').append(linger.intValue()).append('|');
         }
 
+        if (null != sendBatchSize)
+        {
+            sb.append(SEND_BATCH_SIZE_PARAM_NAME).append('=').append(sendBatchSize.intValue()).append('|');
+        }
+
+        appendFlowControlParams();
+
         final char lastChar = sb.charAt(sb.length() - 1);
         if (lastChar == '|' || lastChar == '?')
         {
@@ -738,6 +835,20 @@ public class ChannelUriStringBuilder
         return sb.toString();
     }
 
+    private void appendFlowControlParams()
+    {
+        if (null != flowControlQuorum)
+        {
+            sb.append(FLOW_CONTROL_QUORUM_PARAM_NAME).append('=').append(flowControlQuorum.intValue()).append('|');
+        }
+
+        if (null != flowControlGroupTag)
+        {
+            sb.append(FLOW_CONTROL_GROUP_TAG_PARAM_NAME).append('=').append(flowControlGroupTag.longValue())
+                .append('|');
+        }
+    }
+
     /**
      * Call {@link Integer#valueOf(String)} only if the value param is not null. Else pass null on.
      *
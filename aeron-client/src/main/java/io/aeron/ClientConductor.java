@@ -22,6 +22,7 @@ import org.agrona.LangUtil;
 import org.agrona.ManagedResource;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.status.CountersManager;
 import org.agrona.concurrent.status.CountersReader;
@@ -60,8 +61,12 @@ class ClientConductor implements Agent, DriverEventsListener
     private final NanoClock nanoClock;
     private final DriverEventsAdapter driverEventsAdapter;
     private final LogBuffersFactory logBuffersFactory;
+    private final boolean preTouchMappedMemory;
     private final Long2ObjectHashMap<LogBuffers> logBuffersByIdMap = new Long2ObjectHashMap<>();
     private final Long2ObjectHashMap<Object> resourceByRegIdMap = new Long2ObjectHashMap<>();
+    private final LongHashSet asyncCommandIdSet = new LongHashSet();
+    private final Long2ObjectHashMap<String> asyncChannelByRegIdMap = new Long2ObjectHashMap<>();
+    private final Long2ObjectHashMap<RegistrationException> asyncExceptionByRegIdMap = new Long2ObjectHashMap<>();
     private final ArrayList<ManagedResource> lingeringResources = new ArrayList<>();
     private final AvailableImageHandler defaultAvailableImageHandler;
     private final UnavailableImageHandler defaultUnavailableImageHandler;
@@ -81,6 +86,7 @@ class ClientConductor implements Agent, DriverEventsListener
         nanoClock = ctx.nanoClock();
         driverProxy = ctx.driverProxy();
         logBuffersFactory = ctx.logBuffersFactory();
+        preTouchMappedMemory = ctx.preTouchMappedMemory();
         keepAliveIntervalNs = ctx.keepAliveInterval();
         driverTimeoutMs = ctx.driverTimeoutMs();
         driverTimeoutNs = MILLISECONDS.toNanos(driverTimeoutMs);
@@ -89,7 +95,7 @@ class ClientConductor implements Agent, DriverEventsListener
         defaultUnavailableImageHandler = ctx.unavailableImageHandler();
         availableCounterHandler = ctx.availableCounterHandler();
         unavailableCounterHandler = ctx.unavailableCounterHandler();
-        driverEventsAdapter = new DriverEventsAdapter(ctx.toClientBuffer(), this);
+        driverEventsAdapter = new DriverEventsAdapter(ctx.toClientBuffer(), this, asyncCommandIdSet);
         driverAgentInvoker = ctx.driverAgentInvoker();
         counterValuesBuffer = ctx.countersValuesBuffer();
         countersReader = new CountersReader(ctx.countersMetaDataBuffer(), ctx.countersValuesBuffer(), US_ASCII);
@@ -169,6 +175,20 @@ class ClientConductor implements Agent, DriverEventsListener
         driverException = new RegistrationException(codeValue, errorCode, message);
     }
 
+    public void onAsyncError(
+        final long correlationId, final int codeValue, final ErrorCode errorCode, final String message)
+    {
+        asyncChannelByRegIdMap.remove(correlationId);
+
+        final Object resource = resourceByRegIdMap.remove(correlationId);
+        if (resource instanceof Subscription)
+        {
+            ((Subscription)resource).internalClose();
+        }
+
+        asyncExceptionByRegIdMap.put(correlationId, new RegistrationException(codeValue, errorCode, message));
+    }
+
     public void onChannelEndpointError(final int statusIndicatorId, final String message)
     {
         for (final Object resource : resourceByRegIdMap.values())
@@ -203,9 +223,10 @@ class ClientConductor implements Agent, DriverEventsListener
         final int statusIndicatorId,
         final String logFileName)
     {
+        final String asyncChannel = asyncChannelByRegIdMap.remove(correlationId);
         final ConcurrentPublication publication = new ConcurrentPublication(
             this,
-            stashedChannel,
+            null != asyncChannel ? asyncChannel : stashedChannel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
@@ -226,9 +247,10 @@ class ClientConductor implements Agent, DriverEventsListener
         final int statusIndicatorId,
         final String logFileName)
     {
+        final String asyncChannel = asyncChannelByRegIdMap.remove(correlationId);
         final ExclusivePublication publication = new ExclusivePublication(
             this,
-            stashedChannel,
+            null != asyncChannel ? asyncChannel : stashedChannel,
             streamId,
             sessionId,
             new UnsafeBufferPosition(counterValuesBuffer, publicationLimitId),
@@ -414,6 +436,56 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    long asyncAddPublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            final long registrationId = driverProxy.addPublication(channel, streamId);
+            asyncChannelByRegIdMap.put(registrationId, channel);
+            asyncCommandIdSet.add(registrationId);
+
+            return registrationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    long asyncAddExclusivePublication(final String channel, final int streamId)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            final long registrationId = driverProxy.addExclusivePublication(channel, streamId);
+            asyncChannelByRegIdMap.put(registrationId, channel);
+            asyncCommandIdSet.add(registrationId);
+
+            return registrationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    ConcurrentPublication getPublication(final long registrationId)
+    {
+        return getAsyncResource(registrationId, ConcurrentPublication.class);
+    }
+
+    ExclusivePublication getExclusivePublication(final long registrationId)
+    {
+        return getAsyncResource(registrationId, ExclusivePublication.class);
+    }
+
     void releasePublication(final Publication publication)
     {
         clientLock.lock();
@@ -476,6 +548,43 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    long asyncAddSubscription(
+        final String channel,
+        final int streamId,
+        final AvailableImageHandler availableImageHandler,
+        final UnavailableImageHandler unavailableImageHandler)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            final long correlationId = driverProxy.addSubscription(channel, streamId);
+            final Subscription subscription = new Subscription(
+                this,
+                channel,
+                streamId,
+                correlationId,
+                availableImageHandler,
+                unavailableImageHandler);
+
+            resourceByRegIdMap.put(correlationId, subscription);
+            asyncCommandIdSet.add(correlationId);
+
+            return correlationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    Subscription getSubscription(final long registrationId)
+    {
+        return getAsyncResource(registrationId, Subscription.class);
+    }
+
     void releaseSubscription(final Subscription subscription)
     {
         clientLock.lock();
@@ -624,6 +733,35 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    long asyncAddCounter(final int typeId, final String label)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            if (label.length() > CountersManager.MAX_LABEL_LENGTH)
+            {
+                throw new IllegalArgumentException("label length exceeds MAX_LABEL_LENGTH: " + label.length());
+            }
+
+            final long registrationId = driverProxy.addCounter(typeId, label);
+            asyncCommandIdSet.add(registrationId);
+
+            return registrationId;
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
+    Counter getCounter(final long registrationId)
+    {
+        return getAsyncResource(registrationId, Counter.class);
+    }
+
     void releaseCounter(final Counter counter)
     {
         clientLock.lock();
@@ -678,6 +816,41 @@ class ClientConductor implements Agent, DriverEventsListener
         }
     }
 
+    private <T> T getAsyncResource(final long registrationId, final Class<T> resourceClass)
+    {
+        clientLock.lock();
+        try
+        {
+            ensureOpen();
+            ensureNotReentrant();
+
+            if (asyncCommandIdSet.contains(registrationId))
+            {
+                return null;
+            }
+
+            final RegistrationException ex = asyncExceptionByRegIdMap.remove(registrationId);
+            if (null != ex)
+            {
+                throw ex;
+            }
+
+            final Object resource = resourceByRegIdMap.get(registrationId);
+            if (null != resource && !resourceClass.isInstance(resource))
+            {
+                throw new AeronException(
+                    "registrationId=" + registrationId + " is for a " + resource.getClass().getSimpleName() +
+                    " not a " + resourceClass.getSimpleName());
+            }
+
+            return resourceClass.cast(resource);
+        }
+        finally
+        {
+            clientLock.unlock();
+        }
+    }
+
     private void ensureOpen()
     {
         if (isClosed)
@@ -700,6 +873,11 @@ class ClientConductor implements Agent, DriverEventsListener
         if (null == logBuffers)
         {
             logBuffers = logBuffersFactory.map(logFileName);
+            if (preTouchMappedMemory)
+            {
+                logBuffers.preTouch();
+            }
+
             logBuffersByIdMap.put(registrationId, logBuffers);
         }
 
@@ -879,5 +1057,8 @@ class ClientConductor implements Agent, DriverEventsListener
         }
 
         resourceByRegIdMap.clear();
+        asyncCommandIdSet.clear();
+        asyncChannelByRegIdMap.clear();
+        asyncExceptionByRegIdMap.clear();
     }
 }
@@ -190,6 +190,25 @@ public class CommonContext implements AutoCloseable, Cloneable
      */
     public static final String SPARSE_PARAM_NAME = "sparse";
 
+    /**
+     * Parameter name for channel URI param to indicate the max number of MTU sized datagrams a network publication
+     * will send in a single pass of the sender. Value is an int greater than zero.
+     */
+    public static final String SEND_BATCH_SIZE_PARAM_NAME = "send-batch";
+
+    /**
+     * Parameter name for channel URI param to set the number of receivers which must reach a position before a
+     * multicast or multi-destination-cast publication can advance beyond it, i.e. the limit is set by the k-th fastest
+     * receiver. Value is an int greater than zero.
+     */
+    public static final String FLOW_CONTROL_QUORUM_PARAM_NAME = "fc-quorum";
+
+    /**
+     * Parameter name for channel URI param to restrict the receivers counted for flow control to those which send a
+     * matching group tag in their status messages. Value is a long.
+     */
+    public static final String FLOW_CONTROL_GROUP_TAG_PARAM_NAME = "fc-group-tag";
+
     private long driverTimeoutMs = DRIVER_TIMEOUT_MS;
     private String aeronDirectoryName = getAeronDirectoryName();
     private File aeronDirectory;
@@ -182,6 +182,58 @@ public class ConcurrentPublication extends Publication
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a batch of messages, each described by a vector, as a unit. Each message is framed
+     * separately with its own header, as if offered on its own, but the batch is appended with a single reservation
+     * in the log so it either succeeds or fails as a whole.
+     *
+     * @param messages              to be published with each vector being a message.
+     * @param messageCount          number of messages from the start of the array to be published.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if a message is greater than {@link #maxPayloadLength()} or the batch is
+     * greater than {@link #maxMessageLength()} once framed.
+     */
+    public long offerBatch(
+        final DirectBufferVector[] messages,
+        final int messageCount,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int batchLength = validateAndComputeBatchLength(messages, messageCount);
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final int termCount = activeTermCount(logMetaDataBuffer);
+            final TermAppender termAppender = termAppenders[indexByTermCount(termCount)];
+            final long rawTail = termAppender.rawTailVolatile();
+            final long termOffset = rawTail & 0xFFFF_FFFFL;
+            final int termId = termId(rawTail);
+            final long position = computeTermBeginPosition(termId, positionBitsToShift, initialTermId) + termOffset;
+
+            if (termCount != (termId - initialTermId))
+            {
+                return ADMIN_ACTION;
+            }
+
+            if (position < limit)
+            {
+                final int resultingOffset = termAppender.appendUnfragmentedBatch(
+                    headerWriter, messages, messageCount, batchLength, reservedValueSupplier, termId);
+
+                newPosition = newPosition(termCount, (int)termOffset, termId, position, resultingOffset);
+            }
+            else
+            {
+                newPosition = backPressureStatus(position, batchLength);
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it available.
@@ -17,6 +17,7 @@ package io.aeron;
 
 import io.aeron.command.*;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongHashSet;
 import org.agrona.concurrent.MessageHandler;
 import org.agrona.concurrent.broadcast.CopyBroadcastReceiver;
 
@@ -38,14 +39,19 @@ class DriverEventsAdapter implements MessageHandler
     private final ImageMessageFlyweight imageMessage = new ImageMessageFlyweight();
     private final CounterUpdateFlyweight counterUpdate = new CounterUpdateFlyweight();
     private final DriverEventsListener listener;
+    private final LongHashSet asyncCommandIdSet;
 
     private long activeCorrelationId;
     private long receivedCorrelationId;
 
-    DriverEventsAdapter(final CopyBroadcastReceiver broadcastReceiver, final DriverEventsListener listener)
+    DriverEventsAdapter(
+        final CopyBroadcastReceiver broadcastReceiver,
+        final DriverEventsListener listener,
+        final LongHashSet asyncCommandIdSet)
     {
         this.broadcastReceiver = broadcastReceiver;
         this.listener = listener;
+        this.asyncCommandIdSet = asyncCommandIdSet;
     }
 
     public int receive(final long activeCorrelationId)
@@ -84,6 +90,11 @@ class DriverEventsAdapter implements MessageHandler
                     receivedCorrelationId = correlationId;
                     listener.onError(correlationId, errorCodeValue, errorCode, message);
                 }
+                else if (asyncCommandIdSet.remove(errorResponse.offendingCommandCorrelationId()))
+                {
+                    listener.onAsyncError(
+                        errorResponse.offendingCommandCorrelationId(), errorCodeValue, errorCode, message);
+                }
                 break;
             }
 
@@ -107,9 +118,8 @@ class DriverEventsAdapter implements MessageHandler
                 publicationReady.wrap(buffer, index);
 
                 final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isActiveOrAsyncCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewPublication(
                         correlationId,
                         publicationReady.registrationId(),
@@ -127,9 +137,8 @@ class DriverEventsAdapter implements MessageHandler
                 subscriptionReady.wrap(buffer, index);
 
                 final long correlationId = subscriptionReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isActiveOrAsyncCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewSubscription(correlationId, subscriptionReady.channelStatusCounterId());
                 }
                 break;
@@ -161,9 +170,8 @@ class DriverEventsAdapter implements MessageHandler
                 publicationReady.wrap(buffer, index);
 
                 final long correlationId = publicationReady.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isActiveOrAsyncCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewExclusivePublication(
                         correlationId,
                         publicationReady.registrationId(),
@@ -182,9 +190,8 @@ class DriverEventsAdapter implements MessageHandler
 
                 final int counterId = counterUpdate.counterId();
                 final long correlationId = counterUpdate.correlationId();
-                if (correlationId == activeCorrelationId)
+                if (isActiveOrAsyncCommand(correlationId))
                 {
-                    receivedCorrelationId = correlationId;
                     listener.onNewCounter(correlationId, counterId);
                 }
                 else
@@ -203,4 +210,15 @@ class DriverEventsAdapter implements MessageHandler
             }
         }
     }
+
+    private boolean isActiveOrAsyncCommand(final long correlationId)
+    {
+        if (correlationId == activeCorrelationId)
+        {
+            receivedCorrelationId = correlationId;
+            return true;
+        }
+
+        return asyncCommandIdSet.remove(correlationId);
+    }
 }
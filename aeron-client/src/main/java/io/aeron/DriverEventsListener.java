@@ -22,6 +22,8 @@ interface DriverEventsListener
 {
     void onError(long correlationId, int codeValue, ErrorCode errorCode, String message);
 
+    void onAsyncError(long correlationId, int codeValue, ErrorCode errorCode, String message);
+
     void onAvailableImage(
         long correlationId,
         int streamId,
@@ -24,6 +24,15 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.SESSION_ID_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.FRAME_LENGTH_FIELD_OFFSET;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static io.aeron.protocol.HeaderFlyweight.TYPE_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.STREAM_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.TERM_ID_FIELD_OFFSET;
+import static io.aeron.protocol.DataHeaderFlyweight.TERM_OFFSET_FIELD_OFFSET;
+import static java.nio.ByteOrder.LITTLE_ENDIAN;
 
 /**
  * Aeron publisher API for sending messages to subscribers of a given channel and streamId pair. ExclusivePublications
@@ -200,6 +209,49 @@ public class ExclusivePublication extends Publication
         return newPosition;
     }
 
+    /**
+     * Non-blocking publish of a batch of messages, each described by a vector, as a unit. Each message is framed
+     * separately with its own header, as if offered on its own, but the batch is appended with a single update of
+     * the tail so it either succeeds or fails as a whole.
+     *
+     * @param messages              to be published with each vector being a message.
+     * @param messageCount          number of messages from the start of the array to be published.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if a message is greater than {@link #maxPayloadLength()} or the batch is
+     * greater than {@link #maxMessageLength()} once framed.
+     */
+    public long offerBatch(
+        final DirectBufferVector[] messages,
+        final int messageCount,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final int batchLength = validateAndComputeBatchLength(messages, messageCount);
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit)
+            {
+                final int result = termAppender.appendUnfragmentedBatch(
+                    termId, termOffset, headerWriter, messages, messageCount, batchLength, reservedValueSupplier);
+
+                newPosition = newPosition(result);
+            }
+            else
+            {
+                newPosition = backPressureStatus(position, batchLength);
+            }
+        }
+
+        return newPosition;
+    }
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link ExclusiveBufferClaim#commit()} should be called thus making it
@@ -293,6 +345,86 @@ public class ExclusivePublication extends Publication
         return newPosition;
     }
 
+    /**
+     * Offer a block of pre-formatted message fragments, such as those replayed from a recording, to the publication in
+     * a single append. The block must begin at the current position of the publication with a data or padding frame,
+     * the first frame must carry the session id, stream id, term id, and term offset of the publication, and the block
+     * must fit within the term.
+     * <p>
+     * When the publication is at the end of a term an {@link #ADMIN_ACTION} is returned as the term is rotated and the
+     * block should be offered again.
+     *
+     * @param buffer containing the block of frames.
+     * @param offset at which the block begins.
+     * @param length of the block in bytes which must be a multiple of {@link FrameDescriptor#FRAME_ALIGNMENT}.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if the block does not match the publication or fit within the term.
+     */
+    public long offerBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        long newPosition = CLOSED;
+
+        if (!isClosed)
+        {
+            if (termOffset >= termBufferLength)
+            {
+                return newPosition(ExclusiveTermAppender.FAILED);
+            }
+
+            final long limit = positionLimit.getVolatile();
+            final ExclusiveTermAppender termAppender = termAppenders[activePartitionIndex];
+            final long position = termBeginPosition + termOffset;
+
+            if (position < limit)
+            {
+                checkBlock(buffer, offset, length);
+                final int result = termAppender.appendBlock(termId, termOffset, buffer, offset, length);
+                newPosition = newPosition(result);
+            }
+            else
+            {
+                newPosition = backPressureStatus(position, length);
+            }
+        }
+
+        return newPosition;
+    }
+
+    private void checkBlock(final DirectBuffer buffer, final int offset, final int length)
+    {
+        if (length <= 0 || (length & (FrameDescriptor.FRAME_ALIGNMENT - 1)) != 0 ||
+            length > (termBufferLength - termOffset))
+        {
+            throw new IllegalArgumentException("invalid block length " + length + " at termOffset=" + termOffset);
+        }
+
+        final int firstFrameLength = buffer.getInt(offset + FRAME_LENGTH_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int firstFrameType = buffer.getShort(offset + TYPE_FIELD_OFFSET, LITTLE_ENDIAN) & 0xFFFF;
+        if (firstFrameLength <= 0 || firstFrameLength > length ||
+            (HDR_TYPE_DATA != firstFrameType && HDR_TYPE_PAD != firstFrameType))
+        {
+            throw new IllegalArgumentException(
+                "block does not begin with a valid frame: frameLength=" + firstFrameLength +
+                " frameType=" + firstFrameType + " blockLength=" + length);
+        }
+
+        final int blockTermOffset = buffer.getInt(offset + TERM_OFFSET_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int blockSessionId = buffer.getInt(offset + SESSION_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int blockStreamId = buffer.getInt(offset + STREAM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+        final int blockTermId = buffer.getInt(offset + TERM_ID_FIELD_OFFSET, LITTLE_ENDIAN);
+
+        if (blockTermOffset != termOffset || blockSessionId != sessionId || blockStreamId != streamId ||
+            blockTermId != termId)
+        {
+            throw new IllegalArgumentException(
+                "block does not match publication: termOffset=" + blockTermOffset + " (expected=" + termOffset +
+                ") sessionId=" + blockSessionId + " (expected=" + sessionId +
+                ") streamId=" + blockStreamId + " (expected=" + streamId +
+                ") termId=" + blockTermId + " (expected=" + termId + ")");
+        }
+    }
+
     private long newPosition(final int resultingOffset)
     {
         if (resultingOffset > 0)
@@ -32,7 +32,8 @@ import static io.aeron.logbuffer.FrameDescriptor.*;
  * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
  * <p>
  * Session based buffers will be allocated and grown as necessary based on the length of messages to be assembled.
- * When sessions go inactive see {@link UnavailableImageHandler}, it is possible to free the buffer by calling
+ * Buffers which have grown beyond the max retained buffer length are compacted after each message. When sessions go
+ * inactive see {@link UnavailableImageHandler}, it is possible to free the buffer by calling
  * {@link #freeSessionBuffer(int)}.
  *
  * @see Subscription#poll(FragmentHandler, int)
@@ -42,6 +43,7 @@ public class FragmentAssembler implements FragmentHandler
 {
     private final boolean isDirectByteBuffer;
     private final int initialBufferLength;
+    private final int maxRetainedBufferLength;
     private final FragmentHandler delegate;
     private final Int2ObjectHashMap<BufferBuilder> builderBySessionIdMap = new Int2ObjectHashMap<>();
 
@@ -75,10 +77,28 @@ public class FragmentAssembler implements FragmentHandler
      */
     public FragmentAssembler(
         final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, initialBufferLength, isDirectByteBuffer, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate                onto which whole messages are forwarded.
+     * @param initialBufferLength     to be used for each session.
+     * @param isDirectByteBuffer      is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param maxRetainedBufferLength above which a session buffer is compacted after assembling a message.
+     */
+    public FragmentAssembler(
+        final FragmentHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final int maxRetainedBufferLength)
     {
         this.initialBufferLength = initialBufferLength;
         this.delegate = delegate;
         this.isDirectByteBuffer = isDirectByteBuffer;
+        this.maxRetainedBufferLength = maxRetainedBufferLength;
     }
 
     /**
@@ -143,6 +163,11 @@ public class FragmentAssembler implements FragmentHandler
                     final int msgLength = builder.limit();
                     delegate.onFragment(builder.buffer(), 0, msgLength, header);
                     builder.reset();
+
+                    if (builder.capacity() > maxRetainedBufferLength)
+                    {
+                        builder.compact();
+                    }
                 }
             }
         }
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.logbuffer.FragmentVectorHandler;
+import io.aeron.logbuffer.Header;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.Int2ObjectHashMap;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.Arrays;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
+
+/**
+ * A {@link FragmentHandler} that sits in a chain-of-responsibility pattern that reassembles fragmented messages
+ * so that the next {@link FragmentVectorHandler} in the chain only sees whole messages as vectors over their data.
+ * <p>
+ * Unfragmented messages are delegated as a single vector without copy. The fragments of a message are appended
+ * contiguously to a term so when the begin fragment is polled from an {@link Image} and all the following fragments
+ * are already in the term then the message is delegated as a vector per fragment over the term buffer without copy.
+ * The following fragments are then skipped as they are polled. Otherwise, the fragments are copied to a session
+ * buffer for reassembly and delegated as a single vector over that buffer.
+ * <p>
+ * Messages delegated without copy are delivered as soon as they are complete in the term, so this assembler should
+ * not be used with bounded polls which must not see data beyond the limit position.
+ * <p>
+ * The {@link Header} passed to the delegate on assembling a message will be that of the last fragment.
+ * <p>
+ * Session based buffers will be allocated and grown as necessary based on the length of messages to be assembled
+ * by copy. Buffers which have grown beyond the max retained buffer length are compacted after each message. When
+ * sessions go inactive see {@link UnavailableImageHandler}, it is possible to free the buffer by calling
+ * {@link #freeSessionBuffer(int)}.
+ *
+ * @see Subscription#poll(FragmentHandler, int)
+ * @see Image#poll(FragmentHandler, int)
+ */
+public class FragmentVectorAssembler implements FragmentHandler
+{
+    private static final int INITIAL_VECTOR_COUNT = 16;
+
+    private final boolean isDirectByteBuffer;
+    private final int initialBufferLength;
+    private final int maxRetainedBufferLength;
+    private final FragmentVectorHandler delegate;
+    private final Int2ObjectHashMap<SessionAssembly> assemblyBySessionIdMap = new Int2ObjectHashMap<>();
+    private DirectBufferVector[] vectors = new DirectBufferVector[0];
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate onto which whole messages are forwarded.
+     */
+    public FragmentVectorAssembler(final FragmentVectorHandler delegate)
+    {
+        this(delegate, 0, false, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on whole messages.
+     *
+     * @param delegate                onto which whole messages are forwarded.
+     * @param initialBufferLength     to be used for each session.
+     * @param isDirectByteBuffer      is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param maxRetainedBufferLength above which a session buffer is compacted after assembling a message.
+     */
+    public FragmentVectorAssembler(
+        final FragmentVectorHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final int maxRetainedBufferLength)
+    {
+        this.delegate = delegate;
+        this.initialBufferLength = initialBufferLength;
+        this.isDirectByteBuffer = isDirectByteBuffer;
+        this.maxRetainedBufferLength = maxRetainedBufferLength;
+
+        ensureVectorCapacity(INITIAL_VECTOR_COUNT);
+    }
+
+    /**
+     * Get the delegate unto which assembled messages are delegated.
+     *
+     * @return the delegate unto which assembled messages are delegated.
+     */
+    public FragmentVectorHandler delegate()
+    {
+        return delegate;
+    }
+
+    /**
+     * Is the underlying buffer used to assemble fragments a direct {@link java.nio.ByteBuffer}?
+     *
+     * @return true if the underlying buffer used to assemble fragments is a direct {@link java.nio.ByteBuffer}
+     */
+    public boolean isDirectByteBuffer()
+    {
+        return isDirectByteBuffer;
+    }
+
+    /**
+     * The implementation of {@link FragmentHandler} that reassembles and forwards whole messages.
+     *
+     * @param buffer containing the data.
+     * @param offset at which the data begins.
+     * @param length of the data in bytes.
+     * @param header representing the meta data for the data.
+     */
+    public void onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        final byte flags = header.flags();
+
+        if ((flags & UNFRAGMENTED) == UNFRAGMENTED)
+        {
+            vectors[0].reset(buffer, offset, length);
+            delegate.onFragments(vectors, 1, length, header);
+        }
+        else
+        {
+            handleFragment(buffer, offset, length, header, flags);
+        }
+    }
+
+    /**
+     * Free an existing session buffer to reduce memory pressure when an image goes inactive or no more
+     * large messages are expected.
+     *
+     * @param sessionId to have its buffer freed
+     * @return true if a buffer has been freed otherwise false.
+     */
+    public boolean freeSessionBuffer(final int sessionId)
+    {
+        return null != assemblyBySessionIdMap.remove(sessionId);
+    }
+
+    /**
+     * Clear down the cache of buffers by session for reassembling messages.
+     */
+    public void clear()
+    {
+        assemblyBySessionIdMap.clear();
+    }
+
+    private void handleFragment(
+        final DirectBuffer buffer, final int offset, final int length, final Header header, final byte flags)
+    {
+        if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+        {
+            final SessionAssembly assembly = getSessionAssembly(header.sessionId());
+            assembly.builder.reset();
+            assembly.isSkippingToEnd = delegateInPlace(buffer, offset, length, header);
+
+            if (!assembly.isSkippingToEnd)
+            {
+                assembly.builder.append(buffer, offset, length);
+            }
+        }
+        else
+        {
+            final SessionAssembly assembly = assemblyBySessionIdMap.get(header.sessionId());
+            if (null != assembly)
+            {
+                if (assembly.isSkippingToEnd)
+                {
+                    assembly.isSkippingToEnd = (flags & END_FRAG_FLAG) != END_FRAG_FLAG;
+                }
+                else if (assembly.builder.limit() != 0)
+                {
+                    final BufferBuilder builder = assembly.builder;
+                    builder.append(buffer, offset, length);
+
+                    if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+                    {
+                        final int msgLength = builder.limit();
+                        vectors[0].reset(builder.buffer(), 0, msgLength);
+                        delegate.onFragments(vectors, 1, msgLength, header);
+                        builder.reset();
+
+                        if (builder.capacity() > maxRetainedBufferLength)
+                        {
+                            builder.compact();
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean delegateInPlace(
+        final DirectBuffer buffer, final int offset, final int length, final Header header)
+    {
+        if (buffer != header.buffer() || !(buffer instanceof UnsafeBuffer))
+        {
+            return false;
+        }
+
+        final UnsafeBuffer termBuffer = (UnsafeBuffer)buffer;
+        final int capacity = termBuffer.capacity();
+        final int beginFrameOffset = header.offset();
+        int frameOffset = beginFrameOffset + align(header.frameLength(), FRAME_ALIGNMENT);
+        int vectorCount = 1;
+        int msgLength = length;
+
+        vectors[0].reset(termBuffer, offset, length);
+
+        while (frameOffset < capacity)
+        {
+            final int frameLength = frameLengthVolatile(termBuffer, frameOffset);
+            if (frameLength <= 0)
+            {
+                break;
+            }
+
+            final byte flags = frameFlags(termBuffer, frameOffset);
+            if ((flags & BEGIN_FRAG_FLAG) == BEGIN_FRAG_FLAG)
+            {
+                break;
+            }
+
+            final int fragmentLength = frameLength - HEADER_LENGTH;
+            ensureVectorCapacity(vectorCount + 1);
+            vectors[vectorCount++].reset(termBuffer, frameOffset + HEADER_LENGTH, fragmentLength);
+            msgLength += fragmentLength;
+
+            if ((flags & END_FRAG_FLAG) == END_FRAG_FLAG)
+            {
+                header.offset(frameOffset);
+                delegate.onFragments(vectors, vectorCount, msgLength, header);
+                header.offset(beginFrameOffset);
+
+                return true;
+            }
+
+            frameOffset += align(frameLength, FRAME_ALIGNMENT);
+        }
+
+        return false;
+    }
+
+    private void ensureVectorCapacity(final int vectorCount)
+    {
+        final int capacity = vectors.length;
+        if (vectorCount > capacity)
+        {
+            vectors = Arrays.copyOf(vectors, Math.max(vectorCount, capacity * 2));
+            for (int i = capacity; i < vectors.length; i++)
+            {
+                vectors[i] = new DirectBufferVector();
+            }
+        }
+    }
+
+    private SessionAssembly getSessionAssembly(final int sessionId)
+    {
+        SessionAssembly assembly = assemblyBySessionIdMap.get(sessionId);
+
+        if (null == assembly)
+        {
+            assembly = new SessionAssembly(new BufferBuilder(initialBufferLength, isDirectByteBuffer));
+            assemblyBySessionIdMap.put(sessionId, assembly);
+        }
+
+        return assembly;
+    }
+
+    static final class SessionAssembly
+    {
+        final BufferBuilder builder;
+        boolean isSkippingToEnd;
+
+        SessionAssembly(final BufferBuilder builder)
+        {
+            this.builder = builder;
+        }
+    }
+}
@@ -26,8 +26,7 @@ import java.nio.channels.FileChannel;
 
 import static io.aeron.logbuffer.ControlledFragmentHandler.Action.*;
 import static io.aeron.logbuffer.FrameDescriptor.*;
-import static io.aeron.logbuffer.LogBufferDescriptor.endOfStreamPosition;
-import static io.aeron.logbuffer.LogBufferDescriptor.indexByPosition;
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
 import static io.aeron.logbuffer.TermReader.read;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static io.aeron.protocol.DataHeaderFlyweight.TERM_ID_FIELD_OFFSET;
@@ -209,6 +208,26 @@ public class Image
         return subscriberPosition.get();
     }
 
+    /**
+     * The position up to which the log of this {@link Image} has been appended. For an IPC stream this is the tail
+     * of the publication. For a network stream this is the position to which the media driver has rebuilt the stream
+     * without gaps, so it can lag the data received.
+     *
+     * @return the position up to which the log of this {@link Image} has been appended.
+     */
+    public long tailPosition()
+    {
+        if (isClosed)
+        {
+            return finalPosition;
+        }
+
+        final long rawTail = rawTailVolatile(logBuffers.metaDataBuffer());
+        final int termOffset = termOffset(rawTail, termLengthMask + 1);
+
+        return computePosition(termId(rawTail), termOffset, positionBitsToShift, initialTermId);
+    }
+
     /**
      * Set the subscriber position for this {@link Image} to indicate where it has been consumed to.
      *
@@ -35,6 +35,7 @@ public class ImageFragmentAssembler implements FragmentHandler
 {
     private final FragmentHandler delegate;
     private final BufferBuilder builder;
+    private final int maxRetainedBufferLength;
 
     /**
      * Construct an adapter to reassemble message fragments and delegate on only whole messages.
@@ -54,8 +55,7 @@ public class ImageFragmentAssembler implements FragmentHandler
      */
     public ImageFragmentAssembler(final FragmentHandler delegate, final int initialBufferLength)
     {
-        this.delegate = delegate;
-        this.builder = new BufferBuilder(initialBufferLength, false);
+        this(delegate, initialBufferLength, false);
     }
 
     /**
@@ -67,9 +67,27 @@ public class ImageFragmentAssembler implements FragmentHandler
      */
     public ImageFragmentAssembler(
         final FragmentHandler delegate, final int initialBufferLength, final boolean isDirectByteBuffer)
+    {
+        this(delegate, initialBufferLength, isDirectByteBuffer, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Construct an adapter to reassemble message fragments and delegate on only whole messages.
+     *
+     * @param delegate                onto which whole messages are forwarded.
+     * @param initialBufferLength     to be used for the session.
+     * @param isDirectByteBuffer      is the underlying buffer to be a direct {@link java.nio.ByteBuffer}?
+     * @param maxRetainedBufferLength above which the buffer is compacted after assembling a message.
+     */
+    public ImageFragmentAssembler(
+        final FragmentHandler delegate,
+        final int initialBufferLength,
+        final boolean isDirectByteBuffer,
+        final int maxRetainedBufferLength)
     {
         this.delegate = delegate;
         this.builder = new BufferBuilder(initialBufferLength, isDirectByteBuffer);
+        this.maxRetainedBufferLength = maxRetainedBufferLength;
     }
 
     /**
@@ -130,6 +148,11 @@ public class ImageFragmentAssembler implements FragmentHandler
                 final int msgLength = builder.limit();
                 delegate.onFragment(builder.buffer(), 0, msgLength, header);
                 builder.reset();
+
+                if (builder.capacity() > maxRetainedBufferLength)
+                {
+                    builder.compact();
+                }
             }
         }
     }
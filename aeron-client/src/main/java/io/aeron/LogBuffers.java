@@ -162,6 +162,28 @@ public class LogBuffers implements AutoCloseable, ManagedResource
         return buffers;
     }
 
+    /**
+     * Pre-touch the pages of the terms so they are faulted into this mapping before use rather than on the first
+     * pass through each term.
+     * <p>
+     * Each page is touched with an atomic compare and set of zero with zero so a concurrent writer is not disturbed.
+     */
+    public void preTouch()
+    {
+        final int pageSize = LogBufferDescriptor.pageSize(logMetaDataBuffer);
+        final UnsafeBuffer atomicBuffer = new UnsafeBuffer(0, 0);
+
+        for (final ByteBuffer termBuffer : termBuffers)
+        {
+            atomicBuffer.wrap(termBuffer);
+
+            for (int i = 0; i < termLength; i += pageSize)
+            {
+                atomicBuffer.compareAndSetInt(i, 0, 0);
+            }
+        }
+    }
+
     /**
      * Get the buffer which holds the log metadata.
      *
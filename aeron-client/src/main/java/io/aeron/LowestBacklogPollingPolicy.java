@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+/**
+ * {@link PollingPolicy} which polls the {@link Image}s with the least data available first, ranked by the position of
+ * each {@link Image} behind the tail of its log, so a low rate publisher is not delayed behind a busy one on the
+ * same stream.
+ * <p>
+ * Images with an equal backlog are polled in an order which rotates on each poll.
+ *
+ * @see Image#tailPosition()
+ */
+public class LowestBacklogPollingPolicy implements PollingPolicy
+{
+    private int roundRobinIndex = 0;
+    private Image[] rankedImages = new Image[0];
+    private long[] backlogs = new long[0];
+
+    public int poll(final Image[] images, final ImagePoller imagePoller, final int fragmentLimit)
+    {
+        final int length = images.length;
+        if (0 == length)
+        {
+            return 0;
+        }
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        rankImages(images, length, startingIndex);
+
+        final Image[] rankedImages = this.rankedImages;
+        int fragmentsRead = 0;
+        for (int i = 0; i < length && fragmentsRead < fragmentLimit; i++)
+        {
+            fragmentsRead += imagePoller.poll(rankedImages[i], fragmentLimit - fragmentsRead);
+        }
+
+        for (int i = 0; i < length; i++)
+        {
+            rankedImages[i] = null;
+        }
+
+        return fragmentsRead;
+    }
+
+    private void rankImages(final Image[] images, final int length, final int startingIndex)
+    {
+        if (rankedImages.length < length)
+        {
+            rankedImages = new Image[length];
+            backlogs = new long[length];
+        }
+
+        final Image[] rankedImages = this.rankedImages;
+        final long[] backlogs = this.backlogs;
+
+        for (int n = 0, i = startingIndex; n < length; n++)
+        {
+            final Image image = images[i];
+            final long backlog = Math.max(0, image.tailPosition() - image.position());
+
+            int j = n;
+            while (j > 0 && backlogs[j - 1] > backlog)
+            {
+                rankedImages[j] = rankedImages[j - 1];
+                backlogs[j] = backlogs[j - 1];
+                j--;
+            }
+
+            rankedImages[j] = image;
+            backlogs[j] = backlog;
+
+            if (++i == length)
+            {
+                i = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+/**
+ * Policy for how a {@link Subscription} shares the fragment limit of a poll across its {@link Image}s and in what
+ * order they are polled. When a {@link Subscription} has no policy then the images are polled round-robin from a
+ * rotating starting index.
+ * <p>
+ * A policy is called on the polling thread of the {@link Subscription} and need not be threadsafe, however a policy
+ * instance should only be used by a single {@link Subscription}.
+ *
+ * @see Subscription#pollingPolicy(PollingPolicy)
+ * @see WeightedFairPollingPolicy
+ * @see LowestBacklogPollingPolicy
+ */
+public interface PollingPolicy
+{
+    /**
+     * Poll the images up to the fragment limit in total.
+     *
+     * @param images        of the {@link Subscription} to be polled.
+     * @param imagePoller   to poll an individual {@link Image} with the handler passed to the {@link Subscription}.
+     * @param fragmentLimit number of message fragments to limit for the poll operation across all {@link Image}s.
+     * @return the number of fragments received.
+     */
+    int poll(Image[] images, ImagePoller imagePoller, int fragmentLimit);
+
+    /**
+     * Poll an individual {@link Image} with the handler passed to the {@link Subscription} poll operation.
+     */
+    @FunctionalInterface
+    interface ImagePoller
+    {
+        /**
+         * Poll an {@link Image} for available message fragments.
+         *
+         * @param image         to be polled.
+         * @param fragmentLimit number of message fragments to limit for the poll of the {@link Image}.
+         * @return the number of fragments received.
+         */
+        int poll(Image image, int fragmentLimit);
+    }
+}
@@ -23,7 +23,9 @@ import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.concurrent.status.ReadablePosition;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static org.agrona.BitUtil.align;
 
 /**
  * Aeron publisher API for sending messages to subscribers of a given channel and streamId pair. {@link Publication}s
@@ -413,6 +415,38 @@ public abstract class Publication implements AutoCloseable
      */
     public abstract long offer(DirectBufferVector[] vectors, ReservedValueSupplier reservedValueSupplier);
 
+    /**
+     * Non-blocking publish of a batch of messages, each described by a vector, as a unit. Each message is framed
+     * separately with its own header, as if offered on its own, but the batch is appended with a single reservation
+     * in the log so it either succeeds or fails as a whole.
+     *
+     * @param messages to be published with each vector being a message.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if a message is greater than {@link #maxPayloadLength()} or the batch is
+     * greater than {@link #maxMessageLength()} once framed.
+     */
+    public final long offerBatch(final DirectBufferVector[] messages)
+    {
+        return offerBatch(messages, messages.length, null);
+    }
+
+    /**
+     * Non-blocking publish of a batch of messages, each described by a vector, as a unit. Each message is framed
+     * separately with its own header, as if offered on its own, but the batch is appended with a single reservation
+     * in the log so it either succeeds or fails as a whole.
+     *
+     * @param messages              to be published with each vector being a message.
+     * @param messageCount          number of messages from the start of the array to be published.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return The new stream position, otherwise a negative error value of {@link #NOT_CONNECTED},
+     * {@link #BACK_PRESSURED}, {@link #ADMIN_ACTION}, {@link #CLOSED}, or {@link #MAX_POSITION_EXCEEDED}.
+     * @throws IllegalArgumentException if a message is greater than {@link #maxPayloadLength()} or the batch is
+     * greater than {@link #maxMessageLength()} once framed.
+     */
+    public abstract long offerBatch(
+        DirectBufferVector[] messages, int messageCount, ReservedValueSupplier reservedValueSupplier);
+
     /**
      * Try to claim a range in the publication log into which a message can be written with zero copy semantics.
      * Once the message has been written then {@link BufferClaim#commit()} should be called thus making it available.
@@ -505,6 +539,32 @@ public abstract class Publication implements AutoCloseable
         return NOT_CONNECTED;
     }
 
+    final int validateAndComputeBatchLength(final DirectBufferVector[] messages, final int messageCount)
+    {
+        if (messageCount <= 0 || messageCount > messages.length)
+        {
+            throw new IllegalArgumentException(
+                "invalid messageCount=" + messageCount + " for batch of length " + messages.length);
+        }
+
+        long batchLength = 0;
+        for (int i = 0; i < messageCount; i++)
+        {
+            final DirectBufferVector message = messages[i];
+            message.validate();
+            checkForMaxPayloadLength(message.length);
+            batchLength += align(message.length + HEADER_LENGTH, FRAME_ALIGNMENT);
+        }
+
+        if (batchLength > maxMessageLength)
+        {
+            throw new IllegalArgumentException(
+                "batch exceeds maxMessageLength of " + maxMessageLength + ", length=" + batchLength);
+        }
+
+        return (int)batchLength;
+    }
+
     final void checkForMaxPayloadLength(final int length)
     {
         if (length > maxPayloadLength)
@@ -43,6 +43,9 @@ class SubscriptionFields extends SubscriptionLhsPadding
     protected final AvailableImageHandler availableImageHandler;
     protected final UnavailableImageHandler unavailableImageHandler;
     protected int channelStatusId = 0;
+    protected PollingPolicy pollingPolicy;
+    protected FragmentImagePoller fragmentImagePoller;
+    protected ControlledFragmentImagePoller controlledFragmentImagePoller;
 
     protected SubscriptionFields(
         final long registrationId,
@@ -59,6 +62,26 @@ class SubscriptionFields extends SubscriptionLhsPadding
         this.availableImageHandler = availableImageHandler;
         this.unavailableImageHandler = unavailableImageHandler;
     }
+
+    static final class FragmentImagePoller implements PollingPolicy.ImagePoller
+    {
+        FragmentHandler fragmentHandler;
+
+        public int poll(final Image image, final int fragmentLimit)
+        {
+            return image.poll(fragmentHandler, fragmentLimit);
+        }
+    }
+
+    static final class ControlledFragmentImagePoller implements PollingPolicy.ImagePoller
+    {
+        ControlledFragmentHandler fragmentHandler;
+
+        public int poll(final Image image, final int fragmentLimit)
+        {
+            return image.controlledPoll(fragmentHandler, fragmentLimit);
+        }
+    }
 }
 
 /**
@@ -72,7 +95,9 @@ class SubscriptionFields extends SubscriptionLhsPadding
  * receive whole messages, whether or not they were fragmented, then the Subscriber
  * should be created with a {@link FragmentAssembler} or a custom implementation.
  * <p>
- * It is an application's responsibility to {@link #poll} the {@link Subscription} for new messages.
+ * It is an application's responsibility to {@link #poll} the {@link Subscription} for new messages. By default
+ * {@link Image}s are polled round-robin, see {@link #pollingPolicy(PollingPolicy)} for sharing the fragment limit
+ * by weight or backlog instead.
  * <p>
  * <b>Note:</b>Subscriptions are not threadsafe and should not be shared between subscribers.
  *
@@ -153,6 +178,37 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
         return unavailableImageHandler;
     }
 
+    /**
+     * Set the {@link PollingPolicy} for how the fragment limit of {@link #poll(FragmentHandler, int)} and
+     * {@link #controlledPoll(ControlledFragmentHandler, int)} is shared across {@link Image}s. This must be called
+     * on the polling thread.
+     *
+     * @param pollingPolicy for the {@link Image}s or null for the default round-robin polling.
+     * @return this for a fluent API.
+     */
+    public Subscription pollingPolicy(final PollingPolicy pollingPolicy)
+    {
+        if (null != pollingPolicy && null == fragmentImagePoller)
+        {
+            fragmentImagePoller = new FragmentImagePoller();
+            controlledFragmentImagePoller = new ControlledFragmentImagePoller();
+        }
+
+        this.pollingPolicy = pollingPolicy;
+
+        return this;
+    }
+
+    /**
+     * The {@link PollingPolicy} for how the fragment limit of a poll is shared across {@link Image}s.
+     *
+     * @return the {@link PollingPolicy} for the {@link Image}s or null for the default round-robin polling.
+     */
+    public PollingPolicy pollingPolicy()
+    {
+        return pollingPolicy;
+    }
+
     /**
      * Poll the {@link Image}s under the subscription for having reached End of Stream.
      *
@@ -190,6 +246,13 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
     public int poll(final FragmentHandler fragmentHandler, final int fragmentLimit)
     {
         final Image[] images = this.images;
+        final PollingPolicy pollingPolicy = this.pollingPolicy;
+        if (null != pollingPolicy)
+        {
+            fragmentImagePoller.fragmentHandler = fragmentHandler;
+            return pollingPolicy.poll(images, fragmentImagePoller, fragmentLimit);
+        }
+
         final int length = images.length;
         int fragmentsRead = 0;
 
@@ -230,6 +293,13 @@ public class Subscription extends SubscriptionFields implements AutoCloseable
     public int controlledPoll(final ControlledFragmentHandler fragmentHandler, final int fragmentLimit)
     {
         final Image[] images = this.images;
+        final PollingPolicy pollingPolicy = this.pollingPolicy;
+        if (null != pollingPolicy)
+        {
+            controlledFragmentImagePoller.fragmentHandler = fragmentHandler;
+            return pollingPolicy.poll(images, controlledFragmentImagePoller, fragmentLimit);
+        }
+
         final int length = images.length;
         int fragmentsRead = 0;
 
@@ -0,0 +1,153 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import org.agrona.collections.Int2IntHashMap;
+
+/**
+ * {@link PollingPolicy} which shares the fragment limit of a poll across {@link Image}s in proportion to a weight
+ * per session so a busy publisher cannot starve a low rate one on the same stream.
+ * <p>
+ * Each {@link Image} is first polled up to its share of the fragment limit, which is at least one fragment, starting
+ * from a rotating index. Any of the fragment limit unused by images with less available is then given to images
+ * in the same order so the poll is work conserving.
+ * <p>
+ * Sessions without a weight set have the default weight.
+ */
+public class WeightedFairPollingPolicy implements PollingPolicy
+{
+    /**
+     * Default weight for sessions which have not had a weight set.
+     */
+    public static final int DEFAULT_WEIGHT = 1;
+
+    private int roundRobinIndex = 0;
+    private final int defaultWeight;
+    private final Int2IntHashMap weightBySessionIdMap = new Int2IntHashMap(0);
+
+    /**
+     * Construct a policy where sessions without a weight set have {@link #DEFAULT_WEIGHT}.
+     */
+    public WeightedFairPollingPolicy()
+    {
+        this(DEFAULT_WEIGHT);
+    }
+
+    /**
+     * Construct a policy with a default weight for sessions which have not had a weight set.
+     *
+     * @param defaultWeight for sessions which have not had a weight set.
+     */
+    public WeightedFairPollingPolicy(final int defaultWeight)
+    {
+        validateWeight(defaultWeight);
+        this.defaultWeight = defaultWeight;
+    }
+
+    /**
+     * Set the weight for a session.
+     *
+     * @param sessionId of the {@link Image} to be weighted.
+     * @param weight    relative to other sessions which must be greater than zero.
+     * @return this for a fluent API.
+     */
+    public WeightedFairPollingPolicy weight(final int sessionId, final int weight)
+    {
+        validateWeight(weight);
+        weightBySessionIdMap.put(sessionId, weight);
+
+        return this;
+    }
+
+    /**
+     * Get the weight for a session.
+     *
+     * @param sessionId of the {@link Image}.
+     * @return the weight for the session.
+     */
+    public int weight(final int sessionId)
+    {
+        final int weight = weightBySessionIdMap.get(sessionId);
+
+        return 0 == weight ? defaultWeight : weight;
+    }
+
+    /**
+     * Remove the weight for a session so it returns to the default weight.
+     *
+     * @param sessionId of the {@link Image}.
+     */
+    public void removeWeight(final int sessionId)
+    {
+        weightBySessionIdMap.remove(sessionId);
+    }
+
+    public int poll(final Image[] images, final ImagePoller imagePoller, final int fragmentLimit)
+    {
+        final int length = images.length;
+        if (0 == length)
+        {
+            return 0;
+        }
+
+        long totalWeight = 0;
+        for (final Image image : images)
+        {
+            totalWeight += weight(image.sessionId());
+        }
+
+        int startingIndex = roundRobinIndex++;
+        if (startingIndex >= length)
+        {
+            roundRobinIndex = startingIndex = 0;
+        }
+
+        int fragmentsRead = 0;
+        for (int i = startingIndex, n = 0; n < length && fragmentsRead < fragmentLimit; n++)
+        {
+            final Image image = images[i];
+            final long weight = weight(image.sessionId());
+            final int share = (int)Math.max(1, (fragmentLimit * weight) / totalWeight);
+
+            fragmentsRead += imagePoller.poll(image, Math.min(share, fragmentLimit - fragmentsRead));
+
+            if (++i == length)
+            {
+                i = 0;
+            }
+        }
+
+        for (int i = startingIndex, n = 0; n < length && fragmentsRead < fragmentLimit; n++)
+        {
+            fragmentsRead += imagePoller.poll(images[i], fragmentLimit - fragmentsRead);
+
+            if (++i == length)
+            {
+                i = 0;
+            }
+        }
+
+        return fragmentsRead;
+    }
+
+    private static void validateWeight(final int weight)
+    {
+        if (weight <= 0)
+        {
+            throw new IllegalArgumentException("weight must be greater than zero: " + weight);
+        }
+    }
+}
@@ -27,6 +27,7 @@ import static io.aeron.logbuffer.LogBufferDescriptor.packTail;
 import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 import static io.aeron.protocol.DataHeaderFlyweight.RESERVED_VALUE_OFFSET;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static org.agrona.BitUtil.SIZE_OF_INT;
 import static org.agrona.BitUtil.SIZE_OF_LONG;
 import static org.agrona.BitUtil.align;
 
@@ -431,6 +432,99 @@ public class ExclusiveTermAppender
         return resultingOffset;
     }
 
+    /**
+     * Append a block of pre-formatted frames to the term buffer. The block must fit within the term.
+     * <p>
+     * The frames are copied before the length of the first frame is written with release semantics so the block
+     * becomes visible to consumers in one step.
+     *
+     * @param termId     for the current term.
+     * @param termOffset in the term at which to append.
+     * @param srcBuffer  containing the block of frames.
+     * @param srcOffset  at which the block begins.
+     * @param length     of the block in the source buffer.
+     * @return the resulting offset of the term after the append.
+     */
+    public int appendBlock(
+        final int termId,
+        final int termOffset,
+        final DirectBuffer srcBuffer,
+        final int srcOffset,
+        final int length)
+    {
+        final int resultingOffset = termOffset + length;
+        final int lengthOfFirstFrame = srcBuffer.getInt(srcOffset, LITTLE_ENDIAN);
+
+        putRawTailOrdered(termId, resultingOffset);
+
+        termBuffer.putBytes(
+            termOffset + SIZE_OF_INT, srcBuffer, srcOffset + SIZE_OF_INT,
+            length - SIZE_OF_INT);
+        frameLengthOrdered(termBuffer, termOffset, lengthOfFirstFrame);
+
+        return resultingOffset;
+    }
+
+    /**
+     * Append a batch of unfragmented messages to the term buffer with a single update of the tail. Each message is
+     * framed with its own header and reserved value. The batch is appended as a whole or, at the end of the term,
+     * not at all.
+     * <p>
+     * The first frame is made visible last so consumers see the batch in one step.
+     *
+     * @param termId                for the current term.
+     * @param termOffset            in the term at which to append.
+     * @param header                for writing the default header.
+     * @param messages              to be appended with each vector being a message.
+     * @param messageCount          number of messages from the start of the array to be appended.
+     * @param batchLength           of the messages once framed and aligned.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @return the resulting offset of the term after the append on success otherwise {@link #FAILED}.
+     */
+    public int appendUnfragmentedBatch(
+        final int termId,
+        final int termOffset,
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int messageCount,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        int resultingOffset = termOffset + batchLength;
+        putRawTailOrdered(termId, resultingOffset);
+
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            final int firstFrameLength = messages[0].length + HEADER_LENGTH;
+            header.write(termBuffer, termOffset, firstFrameLength, termId);
+            putMessage(termBuffer, termOffset, firstFrameLength, messages[0], reservedValueSupplier);
+
+            int frameOffset = termOffset + align(firstFrameLength, FRAME_ALIGNMENT);
+            for (int i = 1; i < messageCount; i++)
+            {
+                final DirectBufferVector message = messages[i];
+                final int frameLength = message.length + HEADER_LENGTH;
+
+                header.write(termBuffer, frameOffset, frameLength, termId);
+                putMessage(termBuffer, frameOffset, frameLength, message, reservedValueSupplier);
+                frameLengthOrdered(termBuffer, frameOffset, frameLength);
+
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            }
+
+            frameLengthOrdered(termBuffer, termOffset, firstFrameLength);
+        }
+
+        return resultingOffset;
+    }
+
     private int handleEndOfLogCondition(
         final UnsafeBuffer termBuffer,
         final long termOffset,
@@ -450,6 +544,22 @@ public class ExclusiveTermAppender
         return FAILED;
     }
 
+    private static void putMessage(
+        final UnsafeBuffer termBuffer,
+        final int frameOffset,
+        final int frameLength,
+        final DirectBufferVector message,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        termBuffer.putBytes(frameOffset + HEADER_LENGTH, message.buffer, message.offset, message.length);
+
+        if (null != reservedValueSupplier)
+        {
+            final long reservedValue = reservedValueSupplier.get(termBuffer, frameOffset, frameLength);
+            termBuffer.putLong(frameOffset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+        }
+    }
+
     private void putRawTailOrdered(final int termId, final int termOffset)
     {
         UnsafeAccess.UNSAFE.putOrderedLong(tailBuffer, tailAddressOffset, packTail(termId, termOffset));
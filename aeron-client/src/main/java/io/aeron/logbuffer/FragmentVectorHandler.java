@@ -0,0 +1,39 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.DirectBufferVector;
+
+/**
+ * Handler for whole messages delivered as a sequence of vectors over the fragments which make up the message, so a
+ * fragmented message can be consumed in place without first being copied into a contiguous buffer.
+ *
+ * @see io.aeron.FragmentVectorAssembler
+ */
+@FunctionalInterface
+public interface FragmentVectorHandler
+{
+    /**
+     * Callback for handling a whole message which is made up of one or more vectors. The vectors are only valid
+     * for the duration of the callback and must be copied if the data is to be retained.
+     *
+     * @param vectors     containing the message data in order.
+     * @param vectorCount number of vectors from the start of the array which make up the message.
+     * @param length      of the message in bytes which is the sum of the vector lengths.
+     * @param header      representing the meta data for the last fragment of the message.
+     */
+    void onFragments(DirectBufferVector[] vectors, int vectorCount, int length, Header header);
+}
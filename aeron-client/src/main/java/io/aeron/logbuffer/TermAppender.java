@@ -418,6 +418,68 @@ public class TermAppender
         return (int)resultingOffset;
     }
 
+    /**
+     * Append a batch of unfragmented messages to the term buffer with a single reservation of the tail. Each message is
+     * framed with its own header and reserved value. The batch is appended as a whole or, at the end of the term,
+     * not at all.
+     * <p>
+     * The first frame is made visible last so consumers see the batch in one step.
+     *
+     * @param header                for writing the default header.
+     * @param messages              to be appended with each vector being a message.
+     * @param messageCount          number of messages from the start of the array to be appended.
+     * @param batchLength           of the messages once framed and aligned.
+     * @param reservedValueSupplier {@link ReservedValueSupplier} for each frame.
+     * @param activeTermId          used for flow control.
+     * @return the resulting offset of the term after the append on success otherwise {@link #FAILED}.
+     */
+    public int appendUnfragmentedBatch(
+        final HeaderWriter header,
+        final DirectBufferVector[] messages,
+        final int messageCount,
+        final int batchLength,
+        final ReservedValueSupplier reservedValueSupplier,
+        final int activeTermId)
+    {
+        final long rawTail = getAndAddRawTail(batchLength);
+        final int termId = termId(rawTail);
+        final long termOffset = rawTail & 0xFFFF_FFFFL;
+        final UnsafeBuffer termBuffer = this.termBuffer;
+        final int termLength = termBuffer.capacity();
+
+        checkTerm(activeTermId, termId);
+
+        long resultingOffset = termOffset + batchLength;
+        if (resultingOffset > termLength)
+        {
+            resultingOffset = handleEndOfLogCondition(termBuffer, termOffset, header, termLength, termId);
+        }
+        else
+        {
+            final int batchOffset = (int)termOffset;
+            final int firstFrameLength = messages[0].length + HEADER_LENGTH;
+            header.write(termBuffer, batchOffset, firstFrameLength, termId);
+            putMessage(termBuffer, batchOffset, firstFrameLength, messages[0], reservedValueSupplier);
+
+            int frameOffset = batchOffset + align(firstFrameLength, FRAME_ALIGNMENT);
+            for (int i = 1; i < messageCount; i++)
+            {
+                final DirectBufferVector message = messages[i];
+                final int frameLength = message.length + HEADER_LENGTH;
+
+                header.write(termBuffer, frameOffset, frameLength, termId);
+                putMessage(termBuffer, frameOffset, frameLength, message, reservedValueSupplier);
+                frameLengthOrdered(termBuffer, frameOffset, frameLength);
+
+                frameOffset += align(frameLength, FRAME_ALIGNMENT);
+            }
+
+            frameLengthOrdered(termBuffer, batchOffset, firstFrameLength);
+        }
+
+        return (int)resultingOffset;
+    }
+
     private static void checkTerm(final int expectedTermId, final int termId)
     {
         if (termId != expectedTermId)
@@ -446,6 +508,22 @@ public class TermAppender
         return FAILED;
     }
 
+    private static void putMessage(
+        final UnsafeBuffer termBuffer,
+        final int frameOffset,
+        final int frameLength,
+        final DirectBufferVector message,
+        final ReservedValueSupplier reservedValueSupplier)
+    {
+        termBuffer.putBytes(frameOffset + HEADER_LENGTH, message.buffer, message.offset, message.length);
+
+        if (null != reservedValueSupplier)
+        {
+            final long reservedValue = reservedValueSupplier.get(termBuffer, frameOffset, frameLength);
+            termBuffer.putLong(frameOffset + RESERVED_VALUE_OFFSET, reservedValue, LITTLE_ENDIAN);
+        }
+    }
+
     private long getAndAddRawTail(final int alignedLength)
     {
         return UnsafeAccess.UNSAFE.getAndAddLong(tailBuffer, tailAddressOffset, alignedLength);
@@ -65,6 +65,59 @@ public class TermGapScanner
         final int termOffset,
         final int limitOffset,
         final GapHandler handler)
+    {
+        final int gapBeginOffset = scanToGap(termBuffer, termOffset, limitOffset);
+        if (gapBeginOffset < limitOffset)
+        {
+            final int gapEndOffset = scanGap(termBuffer, gapBeginOffset, limitOffset);
+            handler.onGap(termId, gapBeginOffset, gapEndOffset - gapBeginOffset);
+        }
+
+        return gapBeginOffset;
+    }
+
+    /**
+     * Scan for up to maxGaps gaps from the scanOffset up to a limit offset. Each gap will be reported to the
+     * {@link GapHandler} in order of ascending offset.
+     *
+     * @param termBuffer  to be scanned for gaps.
+     * @param termId      of the current term buffer.
+     * @param termOffset  at which to start scanning.
+     * @param limitOffset at which to stop scanning.
+     * @param maxGaps     to be reported by the scan.
+     * @param handler     to call for each gap found.
+     * @return offset of last contiguous frame
+     */
+    public static int scanForGaps(
+        final UnsafeBuffer termBuffer,
+        final int termId,
+        final int termOffset,
+        final int limitOffset,
+        final int maxGaps,
+        final GapHandler handler)
+    {
+        final int firstGapBeginOffset = scanToGap(termBuffer, termOffset, limitOffset);
+        int gapBeginOffset = firstGapBeginOffset;
+        int gapCount = 0;
+
+        while (gapBeginOffset < limitOffset && gapCount < maxGaps)
+        {
+            final int gapEndOffset = scanGap(termBuffer, gapBeginOffset, limitOffset);
+            handler.onGap(termId, gapBeginOffset, gapEndOffset - gapBeginOffset);
+            gapCount++;
+
+            if (gapEndOffset >= limitOffset)
+            {
+                break;
+            }
+
+            gapBeginOffset = scanToGap(termBuffer, gapEndOffset, limitOffset);
+        }
+
+        return firstGapBeginOffset;
+    }
+
+    private static int scanToGap(final UnsafeBuffer termBuffer, final int termOffset, final int limitOffset)
     {
         int offset = termOffset;
         do
@@ -79,25 +132,24 @@ public class TermGapScanner
         }
         while (offset < limitOffset);
 
-        final int gapBeginOffset = offset;
-        if (offset < limitOffset)
+        return offset;
+    }
+
+    private static int scanGap(final UnsafeBuffer termBuffer, final int gapBeginOffset, final int limitOffset)
+    {
+        int offset = gapBeginOffset;
+        final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
+        while (offset < limit)
         {
-            final int limit = limitOffset - ALIGNED_HEADER_LENGTH;
-            while (offset < limit)
-            {
-                offset += FRAME_ALIGNMENT;
+            offset += FRAME_ALIGNMENT;
 
-                if (0 != termBuffer.getIntVolatile(offset))
-                {
-                    offset -= ALIGNED_HEADER_LENGTH;
-                    break;
-                }
+            if (0 != termBuffer.getIntVolatile(offset))
+            {
+                offset -= ALIGNED_HEADER_LENGTH;
+                break;
             }
-
-            final int gapLength = (offset - gapBeginOffset) + ALIGNED_HEADER_LENGTH;
-            handler.onGap(termId, gapBeginOffset, gapLength);
         }
 
-        return gapBeginOffset;
+        return offset + ALIGNED_HEADER_LENGTH;
     }
 }
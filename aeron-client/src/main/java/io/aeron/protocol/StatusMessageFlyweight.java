@@ -48,6 +48,7 @@ public class StatusMessageFlyweight extends HeaderFlyweight
     private static final int RECEIVER_WINDOW_FIELD_OFFSET = 24;
     private static final int RECEIVER_ID_FIELD_OFFSET = 28;
     private static final int APP_SPECIFIC_FEEDBACK_FIELD_OFFSET = 36;
+    private static final int GROUP_TAG_LENGTH = 8;
 
     public StatusMessageFlyweight()
     {
@@ -297,6 +298,42 @@ public class StatusMessageFlyweight extends HeaderFlyweight
         return this;
     }
 
+    /**
+     * Does the Status Message carry a group tag, i.e. is the Application Specific Feedback the length of a tag.
+     *
+     * @return true if the Status Message carries a group tag otherwise false.
+     * @see #groupTag()
+     */
+    public boolean hasGroupTag()
+    {
+        return HEADER_LENGTH + GROUP_TAG_LENGTH == frameLength() && capacity() >= HEADER_LENGTH + GROUP_TAG_LENGTH;
+    }
+
+    /**
+     * Group tag of the receiver, carried as little endian Application Specific Feedback, so flow control strategies
+     * can count receivers in a given group.
+     *
+     * @return group tag of the receiver when {@link #hasGroupTag()} is true.
+     */
+    public long groupTag()
+    {
+        return getLong(APP_SPECIFIC_FEEDBACK_FIELD_OFFSET, LITTLE_ENDIAN);
+    }
+
+    /**
+     * Set the group tag of the receiver as the Application Specific Feedback for the Status Message.
+     *
+     * @param groupTag of the receiver.
+     * @return flyweight
+     */
+    public StatusMessageFlyweight groupTag(final long groupTag)
+    {
+        frameLength(HEADER_LENGTH + GROUP_TAG_LENGTH);
+        putLong(APP_SPECIFIC_FEEDBACK_FIELD_OFFSET, groupTag, LITTLE_ENDIAN);
+
+        return this;
+    }
+
     public String toString()
     {
         final StringBuilder sb = new StringBuilder();
@@ -104,4 +104,42 @@ public class ChannelUriStringBuilderTest
             builder.build(),
             is("aeron:udp?endpoint=address:9999|term-length=131072|init-term-id=777|term-id=999|term-offset=64"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGenerateMulticastChannelWithQuorumFlowControl()
+    {
+        final ChannelUriStringBuilder builder = new ChannelUriStringBuilder()
+            .media("udp")
+            .endpoint("224.20.30.39:54326")
+            .networkInterface("localhost")
+            .flowControlQuorum(2)
+            .flowControlGroupTag(1001L);
+
+        assertThat(
+            builder.build(),
+            is("aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc-quorum=2|fc-group-tag=1001"));
+    }
+
+    @Test
+    public void shouldGenerateChannelWithSendBatchSize()
+    {
+        final ChannelUriStringBuilder builder = new ChannelUriStringBuilder()
+            .media("udp")
+            .endpoint("address:9999")
+            .sendBatchSize(64);
+
+        assertThat(builder.build(), is("aeron:udp?endpoint=address:9999|send-batch=64"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSendBatchSizeOfZero()
+    {
+        new ChannelUriStringBuilder().sendBatchSize(0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectSendBatchSizeGreaterThanDriverMax()
+    {
+        new ChannelUriStringBuilder().sendBatchSize(65);
+    }
+}
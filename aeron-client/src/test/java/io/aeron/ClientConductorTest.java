@@ -16,6 +16,7 @@
 package io.aeron;
 
 import io.aeron.command.*;
+import io.aeron.exceptions.AeronException;
 import io.aeron.exceptions.ConductorServiceTimeoutException;
 import io.aeron.exceptions.DriverTimeoutException;
 import io.aeron.exceptions.RegistrationException;
@@ -42,6 +43,7 @@ import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 
@@ -209,6 +211,34 @@ public class ClientConductorTest
         verify(logBuffersFactory).map(SESSION_ID_1 + "-log");
     }
 
+    @Test
+    public void addPublicationShouldPreTouchLogFileWhenConfigured()
+    {
+        final LogBuffers logBuffers = logBuffersFactory.map(SESSION_ID_1 + "-log");
+        final Aeron.Context ctx = new Aeron.Context()
+            .clientLock(mockClientLock)
+            .epochClock(epochClock)
+            .nanoClock(nanoClock)
+            .toClientBuffer(mockToClientReceiver)
+            .driverProxy(driverProxy)
+            .logBuffersFactory(logBuffersFactory)
+            .errorHandler(mockClientErrorHandler)
+            .driverTimeoutMs(AWAIT_TIMEOUT)
+            .preTouchMappedMemory(true);
+
+        ctx.countersValuesBuffer(counterValuesBuffer);
+        conductor = new ClientConductor(ctx);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        conductor.addPublication(CHANNEL, STREAM_ID_1);
+
+        verify(logBuffers).preTouch();
+    }
+
     @Test(expected = DriverTimeoutException.class, timeout = 5_000)
     public void addPublicationShouldTimeoutWithoutReadyMessage()
     {
@@ -295,6 +325,86 @@ public class ClientConductorTest
         conductor.addPublication(CHANNEL, STREAM_ID_1);
     }
 
+    @Test
+    public void asyncAddPublicationShouldReturnPublicationOnceReady()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_1);
+        assertThat(registrationId, is(CORRELATION_ID));
+        assertNull(conductor.getPublication(registrationId));
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_PUBLICATION_READY,
+            publicationReadyBuffer,
+            (buffer) -> publicationReady.length());
+
+        conductor.doWork();
+
+        final Publication publication = conductor.getPublication(registrationId);
+        assertThat(publication.registrationId(), is(CORRELATION_ID));
+        assertThat(publication.channel(), is(CHANNEL));
+        assertThat(publication.streamId(), is(STREAM_ID_1));
+    }
+
+    @Test
+    public void asyncReadyResponseAfterSyncResponseInSameBatchShouldNotHideSyncResponse()
+    {
+        final long registrationId = conductor.asyncAddPublication(CHANNEL, STREAM_ID_2);
+        assertThat(registrationId, is(CORRELATION_ID_2));
+
+        doAnswer(
+            (invocation) ->
+            {
+                subscriptionReady.correlationId(CORRELATION_ID);
+                conductor.driverListenerAdapter().onMessage(
+                    ControlProtocolEvents.ON_SUBSCRIPTION_READY,
+                    subscriptionReadyBuffer,
+                    0,
+                    SubscriptionReadyFlyweight.LENGTH);
+
+                publicationReady.streamId(STREAM_ID_2);
+                publicationReady.sessionId(SESSION_ID_2);
+                publicationReady.logFileName(SESSION_ID_2 + "-log");
+                publicationReady.correlationId(CORRELATION_ID_2);
+                publicationReady.registrationId(CORRELATION_ID_2);
+                conductor.driverListenerAdapter().onMessage(
+                    ControlProtocolEvents.ON_PUBLICATION_READY,
+                    publicationReadyBuffer,
+                    0,
+                    publicationReady.length());
+
+                return 2;
+            })
+            .doReturn(0)
+            .when(mockToClientReceiver).receive(any(MessageHandler.class));
+
+        final Subscription subscription = conductor.addSubscription(CHANNEL, STREAM_ID_1);
+        assertThat(subscription.registrationId(), is(CORRELATION_ID));
+
+        final Publication publication = conductor.getPublication(registrationId);
+        assertThat(publication.registrationId(), is(CORRELATION_ID_2));
+        assertThat(publication.streamId(), is(STREAM_ID_2));
+    }
+
+    @Test(expected = AeronException.class)
+    public void shouldFailToGetPublicationForSubscriptionRegistrationId()
+    {
+        final long registrationId = conductor.asyncAddSubscription(
+            CHANNEL, STREAM_ID_1, mockAvailableImageHandler, mockUnavailableImageHandler);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_SUBSCRIPTION_READY,
+            subscriptionReadyBuffer,
+            (buffer) ->
+            {
+                subscriptionReady.correlationId(CORRELATION_ID);
+                return SubscriptionReadyFlyweight.LENGTH;
+            });
+
+        conductor.doWork();
+
+        conductor.getPublication(registrationId);
+    }
+
     @Test
     public void closingPublicationDoesNotRemoveOtherPublications()
     {
@@ -430,6 +540,28 @@ public class ClientConductorTest
         conductor.addSubscription(CHANNEL, STREAM_ID_1);
     }
 
+    @Test(expected = RegistrationException.class)
+    public void shouldFailToGetAsyncSubscriptionOnMediaDriverError()
+    {
+        final long registrationId = conductor.asyncAddSubscription(
+            CHANNEL, STREAM_ID_1, mockAvailableImageHandler, mockUnavailableImageHandler);
+
+        whenReceiveBroadcastOnMessage(
+            ControlProtocolEvents.ON_ERROR,
+            errorMessageBuffer,
+            (buffer) ->
+            {
+                errorResponse.errorCode(INVALID_CHANNEL);
+                errorResponse.errorMessage("invalid channel");
+                errorResponse.offendingCommandCorrelationId(CORRELATION_ID);
+                return errorResponse.length();
+            });
+
+        conductor.doWork();
+
+        conductor.getSubscription(registrationId);
+    }
+
     @Test
     public void clientNotifiedOfNewImageShouldMapLogFile()
     {
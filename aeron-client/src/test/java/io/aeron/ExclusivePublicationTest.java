@@ -0,0 +1,169 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import io.aeron.status.ChannelEndpointStatus;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.ReadablePosition;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.*;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class ExclusivePublicationTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:40124";
+    private static final int STREAM_ID_1 = 2;
+    private static final int SESSION_ID_1 = 13;
+    private static final int TERM_ID_1 = 1;
+    private static final int CORRELATION_ID = 2000;
+    private static final int PARTITION_INDEX = 0;
+    private static final int MTU_LENGTH = 4096;
+    private static final int PAGE_SIZE = 4 * 1024;
+    private static final int FRAME_LENGTH = HEADER_LENGTH * 2;
+
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(LOG_META_DATA_LENGTH));
+    private final UnsafeBuffer[] termBuffers = new UnsafeBuffer[PARTITION_COUNT];
+    private final UnsafeBuffer blockBuffer = new UnsafeBuffer(allocateDirect(TERM_MIN_LENGTH));
+    private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+
+    private final ClientConductor conductor = mock(ClientConductor.class);
+    private final LogBuffers logBuffers = mock(LogBuffers.class);
+    private final ReadablePosition publicationLimit = mock(ReadablePosition.class);
+    private ExclusivePublication publication;
+
+    @Before
+    public void setUp()
+    {
+        when(publicationLimit.getVolatile()).thenReturn(4L * TERM_MIN_LENGTH);
+        when(logBuffers.duplicateTermBuffers()).thenReturn(termBuffers);
+        when(logBuffers.termLength()).thenReturn(TERM_MIN_LENGTH);
+        when(logBuffers.metaDataBuffer()).thenReturn(logMetaDataBuffer);
+
+        initialTermId(logMetaDataBuffer, TERM_ID_1);
+        mtuLength(logMetaDataBuffer, MTU_LENGTH);
+        termLength(logMetaDataBuffer, TERM_MIN_LENGTH);
+        pageSize(logMetaDataBuffer, PAGE_SIZE);
+        isConnected(logMetaDataBuffer, true);
+
+        for (int i = 0; i < PARTITION_COUNT; i++)
+        {
+            termBuffers[i] = new UnsafeBuffer(allocateDirect(TERM_MIN_LENGTH));
+        }
+
+        initialiseTailWithTermId(logMetaDataBuffer, PARTITION_INDEX, TERM_ID_1);
+
+        publication = new ExclusivePublication(
+            conductor,
+            CHANNEL,
+            STREAM_ID_1,
+            SESSION_ID_1,
+            publicationLimit,
+            ChannelEndpointStatus.NO_ID_ALLOCATED,
+            logBuffers,
+            CORRELATION_ID,
+            CORRELATION_ID);
+    }
+
+    @Test
+    public void shouldOfferBlockWhichFitsInTerm()
+    {
+        final int blockLength = FRAME_LENGTH * 2;
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, 0, SESSION_ID_1, STREAM_ID_1, TERM_ID_1);
+        putFrame(FRAME_LENGTH, FRAME_LENGTH, HDR_TYPE_DATA, FRAME_LENGTH, SESSION_ID_1, STREAM_ID_1, TERM_ID_1);
+
+        assertThat(publication.offerBlock(blockBuffer, 0, blockLength), is((long)blockLength));
+        assertThat(publication.position(), is((long)blockLength));
+        assertThat(termBuffers[PARTITION_INDEX].getInt(0), is(FRAME_LENGTH));
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(packTail(TERM_ID_1, blockLength)));
+    }
+
+    @Test
+    public void shouldRotateTermOnceBlockEndingInPaddingFillsTerm()
+    {
+        final int paddingLength = TERM_MIN_LENGTH - FRAME_LENGTH;
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, 0, SESSION_ID_1, STREAM_ID_1, TERM_ID_1);
+        putFrame(FRAME_LENGTH, paddingLength, HDR_TYPE_PAD, FRAME_LENGTH, SESSION_ID_1, STREAM_ID_1, TERM_ID_1);
+
+        assertThat(publication.offerBlock(blockBuffer, 0, TERM_MIN_LENGTH), is((long)TERM_MIN_LENGTH));
+
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, 0, SESSION_ID_1, STREAM_ID_1, TERM_ID_1 + 1);
+
+        assertThat(publication.offerBlock(blockBuffer, 0, FRAME_LENGTH), is(Publication.ADMIN_ACTION));
+        assertThat(activeTermCount(logMetaDataBuffer), is(1));
+
+        assertThat(publication.offerBlock(blockBuffer, 0, FRAME_LENGTH), is((long)TERM_MIN_LENGTH + FRAME_LENGTH));
+        assertThat(termBuffers[PARTITION_INDEX + 1].getInt(0), is(FRAME_LENGTH));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBlockWhichDoesNotFitInTerm()
+    {
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, 0, SESSION_ID_1, STREAM_ID_1, TERM_ID_1);
+
+        publication.offerBlock(blockBuffer, 0, TERM_MIN_LENGTH + FRAME_LENGTH);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBlockWhichDoesNotStartWithValidFrame()
+    {
+        putFrame(0, 0, HDR_TYPE_DATA, 0, SESSION_ID_1, STREAM_ID_1, TERM_ID_1);
+
+        publication.offerBlock(blockBuffer, 0, FRAME_LENGTH);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBlockWithMismatchedSessionId()
+    {
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, 0, SESSION_ID_1 + 1, STREAM_ID_1, TERM_ID_1);
+
+        publication.offerBlock(blockBuffer, 0, FRAME_LENGTH);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBlockWithMismatchedStreamId()
+    {
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, 0, SESSION_ID_1, STREAM_ID_1 + 1, TERM_ID_1);
+
+        publication.offerBlock(blockBuffer, 0, FRAME_LENGTH);
+    }
+
+    private void putFrame(
+        final int offset,
+        final int frameLength,
+        final int type,
+        final int termOffset,
+        final int sessionId,
+        final int streamId,
+        final int termId)
+    {
+        dataHeader.wrap(blockBuffer, offset, HEADER_LENGTH);
+        dataHeader.frameLength(frameLength);
+        dataHeader.headerType(type);
+        dataHeader.termOffset(termOffset);
+        dataHeader.sessionId(sessionId);
+        dataHeader.streamId(streamId);
+        dataHeader.termId(termId);
+    }
+}
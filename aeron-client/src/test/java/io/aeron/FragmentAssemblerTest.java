@@ -157,6 +157,34 @@ public class FragmentAssemblerTest
         assertFalse(adapter.freeSessionBuffer(SESSION_ID));
     }
 
+    @Test
+    public void shouldCompactSessionBufferAboveMaxRetainedLength()
+    {
+        when(header.flags())
+            .thenReturn(FrameDescriptor.BEGIN_FRAG_FLAG)
+            .thenReturn(FrameDescriptor.END_FRAG_FLAG);
+
+        final int maxRetainedBufferLength = 8 * 1024;
+        final FragmentAssembler assembler = new FragmentAssembler(
+            delegateFragmentHandler, 0, false, maxRetainedBufferLength);
+        final UnsafeBuffer srcBuffer = new UnsafeBuffer(new byte[64 * 1024]);
+        final int length = srcBuffer.capacity() / 2;
+
+        final ArgumentCaptor<UnsafeBuffer> bufferArg = ArgumentCaptor.forClass(UnsafeBuffer.class);
+        doAnswer(
+            (invocation) ->
+            {
+                assertThat(((UnsafeBuffer)invocation.getArgument(0)).capacity() >= length * 2, is(true));
+                return null;
+            }).when(delegateFragmentHandler).onFragment(bufferArg.capture(), eq(0), eq(length * 2), any());
+
+        assembler.onFragment(srcBuffer, 0, length, header);
+        assembler.onFragment(srcBuffer, length, length, header);
+
+        verify(delegateFragmentHandler, times(1)).onFragment(any(), eq(0), eq(length * 2), any());
+        assertThat(bufferArg.getValue().capacity() <= maxRetainedBufferLength, is(true));
+    }
+
     @Test
     public void shouldDoNotingIfEndArrivesWithoutBegin()
     {
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.logbuffer.FragmentVectorHandler;
+import io.aeron.logbuffer.Header;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+
+import static io.aeron.logbuffer.FrameDescriptor.*;
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.align;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.junit.Assert.*;
+
+public class FragmentVectorAssemblerTest
+{
+    private static final int SESSION_ID = 777;
+    private static final int INITIAL_TERM_ID = 3;
+    private static final int FRAGMENT_LENGTH = 1024 - HEADER_LENGTH;
+
+    private final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(TERM_MIN_LENGTH));
+    private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+    private final Header header = new Header(INITIAL_TERM_ID, Integer.numberOfTrailingZeros(TERM_MIN_LENGTH));
+    private final CapturingHandler handler = new CapturingHandler();
+    private final FragmentVectorAssembler assembler = new FragmentVectorAssembler(handler);
+
+    @Before
+    public void setUp()
+    {
+        header.buffer(termBuffer);
+    }
+
+    @Test
+    public void shouldPassThroughUnfragmentedMessageAsSingleVector()
+    {
+        appendFrame(0, 100, UNFRAGMENTED, (byte)'A');
+
+        poll(0);
+
+        assertThat(handler.messageCount, is(1));
+        assertThat(handler.vectorCount, is(1));
+        assertThat(handler.length, is(100));
+        assertThat(handler.buffer, is(sameInstance(termBuffer)));
+    }
+
+    @Test
+    public void shouldDelegateCompleteMessageInPlaceOnBeginFragment()
+    {
+        final int secondFrameOffset = appendFrame(0, FRAGMENT_LENGTH, BEGIN_FRAG_FLAG, (byte)'A');
+        final int lastFrameOffset = appendFrame(secondFrameOffset, FRAGMENT_LENGTH, (byte)0, (byte)'B');
+        appendFrame(lastFrameOffset, 100, END_FRAG_FLAG, (byte)'C');
+
+        poll(0);
+
+        assertThat(handler.messageCount, is(1));
+        assertThat(handler.vectorCount, is(3));
+        assertThat(handler.length, is((FRAGMENT_LENGTH * 2) + 100));
+        assertThat(handler.buffer, is(sameInstance(termBuffer)));
+        assertThat(handler.headerFlags, is(END_FRAG_FLAG));
+        assertThat(handler.headerOffset, is(lastFrameOffset));
+        assertArrayEquals(expectedMessage(), handler.message);
+
+        poll(secondFrameOffset);
+        poll(lastFrameOffset);
+
+        assertThat(handler.messageCount, is(1));
+    }
+
+    @Test
+    public void shouldAssembleByCopyWhenMessageIsNotYetCompleteInTerm()
+    {
+        final int secondFrameOffset = appendFrame(0, FRAGMENT_LENGTH, BEGIN_FRAG_FLAG, (byte)'A');
+        poll(0);
+        assertThat(handler.messageCount, is(0));
+
+        final int lastFrameOffset = appendFrame(secondFrameOffset, FRAGMENT_LENGTH, (byte)0, (byte)'B');
+        appendFrame(lastFrameOffset, 100, END_FRAG_FLAG, (byte)'C');
+        poll(secondFrameOffset);
+        poll(lastFrameOffset);
+
+        assertThat(handler.messageCount, is(1));
+        assertThat(handler.vectorCount, is(1));
+        assertThat(handler.length, is((FRAGMENT_LENGTH * 2) + 100));
+        assertNotSame(termBuffer, handler.buffer);
+        assertThat(handler.headerFlags, is(END_FRAG_FLAG));
+        assertArrayEquals(expectedMessage(), handler.message);
+    }
+
+    @Test
+    public void shouldDoNothingIfEndArrivesWithoutBegin()
+    {
+        appendFrame(0, 100, END_FRAG_FLAG, (byte)'C');
+
+        poll(0);
+
+        assertThat(handler.messageCount, is(0));
+    }
+
+    private void poll(final int frameOffset)
+    {
+        header.offset(frameOffset);
+        assembler.onFragment(
+            termBuffer, frameOffset + HEADER_LENGTH, header.frameLength() - HEADER_LENGTH, header);
+    }
+
+    private int appendFrame(final int frameOffset, final int length, final byte flags, final byte value)
+    {
+        dataHeader.wrap(termBuffer, frameOffset, HEADER_LENGTH);
+        dataHeader
+            .sessionId(SESSION_ID)
+            .termId(INITIAL_TERM_ID)
+            .termOffset(frameOffset)
+            .flags(flags)
+            .headerType(DataHeaderFlyweight.HDR_TYPE_DATA);
+
+        termBuffer.setMemory(frameOffset + HEADER_LENGTH, length, value);
+        frameLengthOrdered(termBuffer, frameOffset, HEADER_LENGTH + length);
+
+        return frameOffset + align(HEADER_LENGTH + length, FRAME_ALIGNMENT);
+    }
+
+    private static byte[] expectedMessage()
+    {
+        final byte[] message = new byte[(FRAGMENT_LENGTH * 2) + 100];
+        for (int i = 0; i < message.length; i++)
+        {
+            message[i] = (byte)('A' + (i / FRAGMENT_LENGTH));
+        }
+
+        return message;
+    }
+
+    static class CapturingHandler implements FragmentVectorHandler
+    {
+        int messageCount;
+        int vectorCount;
+        int length;
+        int headerOffset;
+        byte headerFlags;
+        Object buffer;
+        byte[] message;
+
+        public void onFragments(
+            final DirectBufferVector[] vectors, final int vectorCount, final int length, final Header header)
+        {
+            messageCount++;
+            this.vectorCount = vectorCount;
+            this.length = length;
+            headerOffset = header.offset();
+            headerFlags = header.flags();
+            buffer = vectors[0].buffer;
+            message = new byte[length];
+
+            int position = 0;
+            for (int i = 0; i < vectorCount; i++)
+            {
+                vectors[i].buffer.getBytes(vectors[i].offset, message, position, vectors[i].length);
+                position += vectors[i].length;
+            }
+        }
+    }
+}
@@ -118,6 +118,27 @@ public class PublicationTest
         assertThat(publication.tryClaim(SEND_BUFFER_CAPACITY, bufferClaim), is(Publication.CLOSED));
     }
 
+    @Test
+    public void shouldEnsureThePublicationIsOpenBeforeOfferBatch()
+    {
+        publication.close();
+        final DirectBufferVector[] messages = { new DirectBufferVector(atomicSendBuffer, 0, SEND_BUFFER_CAPACITY) };
+        assertThat(publication.offerBatch(messages), is(Publication.CLOSED));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectBatchLongerThanMaxMessageLength()
+    {
+        final int messageCount = (publication.maxMessageLength() / SEND_BUFFER_CAPACITY) + 1;
+        final DirectBufferVector[] messages = new DirectBufferVector[messageCount];
+        for (int i = 0; i < messageCount; i++)
+        {
+            messages[i] = new DirectBufferVector(atomicSendBuffer, 0, SEND_BUFFER_CAPACITY);
+        }
+
+        publication.offerBatch(messages);
+    }
+
     @Test
     public void shouldReportThatPublicationHasNotBeenConnectedYet()
     {
@@ -17,6 +17,7 @@ package io.aeron;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.FrameDescriptor;
 import io.aeron.logbuffer.Header;
@@ -146,4 +147,38 @@ public class SubscriptionTest
 
         assertThat(subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT), is(2));
     }
+
+    @Test
+    public void shouldShareFragmentLimitByWeight()
+    {
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+        subscription.pollingPolicy(new WeightedFairPollingPolicy().weight(1, 3).weight(2, 1));
+
+        when(imageOneMock.sessionId()).thenReturn(1);
+        when(imageTwoMock.sessionId()).thenReturn(2);
+        when(imageOneMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+        when(imageTwoMock.poll(any(FragmentHandler.class), anyInt())).then((invocation) -> invocation.getArgument(1));
+
+        assertThat(subscription.poll(fragmentHandler, 8), is(8));
+        verify(imageOneMock).poll(fragmentHandler, 6);
+        verify(imageTwoMock).poll(fragmentHandler, 2);
+    }
+
+    @Test
+    public void shouldPollImageWithLowestBacklogFirst()
+    {
+        subscription.addImage(imageOneMock);
+        subscription.addImage(imageTwoMock);
+        subscription.pollingPolicy(new LowestBacklogPollingPolicy());
+
+        when(imageOneMock.tailPosition()).thenReturn(64 * 1024L);
+        when(imageTwoMock.tailPosition()).thenReturn(1024L);
+
+        assertThat(subscription.poll(fragmentHandler, FRAGMENT_COUNT_LIMIT), is(0));
+
+        final InOrder inOrder = inOrder(imageOneMock, imageTwoMock);
+        inOrder.verify(imageTwoMock).poll(fragmentHandler, FRAGMENT_COUNT_LIMIT);
+        inOrder.verify(imageOneMock).poll(fragmentHandler, FRAGMENT_COUNT_LIMIT);
+    }
 }
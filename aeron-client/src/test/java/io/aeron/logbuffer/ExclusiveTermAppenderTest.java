@@ -0,0 +1,117 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.logbuffer;
+
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_TAIL_COUNTERS_OFFSET;
+import static io.aeron.logbuffer.LogBufferDescriptor.packTail;
+import static io.aeron.logbuffer.LogBufferDescriptor.rawTailVolatile;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_DATA;
+import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_PAD;
+import static java.nio.ByteBuffer.allocateDirect;
+import static org.agrona.BitUtil.SIZE_OF_INT;
+import static org.agrona.BitUtil.SIZE_OF_LONG;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.*;
+
+public class ExclusiveTermAppenderTest
+{
+    private static final int TERM_BUFFER_LENGTH = LogBufferDescriptor.TERM_MIN_LENGTH;
+    private static final int META_DATA_BUFFER_LENGTH = LogBufferDescriptor.LOG_META_DATA_LENGTH;
+    private static final int PARTITION_INDEX = 0;
+    private static final int TERM_TAIL_COUNTER_OFFSET = TERM_TAIL_COUNTERS_OFFSET + (PARTITION_INDEX * SIZE_OF_LONG);
+    private static final int TERM_ID = 7;
+    private static final int SESSION_ID = 13;
+    private static final int STREAM_ID = 1002;
+    private static final int FRAME_LENGTH = HEADER_LENGTH * 2;
+
+    private final UnsafeBuffer termBuffer = spy(new UnsafeBuffer(allocateDirect(TERM_BUFFER_LENGTH)));
+    private final UnsafeBuffer logMetaDataBuffer = new UnsafeBuffer(allocateDirect(META_DATA_BUFFER_LENGTH));
+    private final UnsafeBuffer blockBuffer = new UnsafeBuffer(allocateDirect(TERM_BUFFER_LENGTH));
+    private final DataHeaderFlyweight dataHeader = new DataHeaderFlyweight();
+
+    private final ExclusiveTermAppender termAppender =
+        new ExclusiveTermAppender(termBuffer, logMetaDataBuffer, PARTITION_INDEX);
+
+    @Test
+    public void shouldAppendBlockToEmptyLogPublishingFirstFrameLengthLast()
+    {
+        final int blockLength = FRAME_LENGTH * 2;
+        final int tail = 0;
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, tail);
+        putFrame(FRAME_LENGTH, FRAME_LENGTH, HDR_TYPE_DATA, tail + FRAME_LENGTH);
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tail));
+
+        assertThat(termAppender.appendBlock(TERM_ID, tail, blockBuffer, 0, blockLength), is(blockLength));
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(packTail(TERM_ID, tail + blockLength)));
+
+        final InOrder inOrder = inOrder(termBuffer);
+        inOrder.verify(termBuffer).putBytes(tail + SIZE_OF_INT, blockBuffer, SIZE_OF_INT, blockLength - SIZE_OF_INT);
+        inOrder.verify(termBuffer).putIntOrdered(tail, FRAME_LENGTH);
+
+        assertThat(FrameDescriptor.frameLength(termBuffer, tail), is(FRAME_LENGTH));
+        assertThat(FrameDescriptor.frameLength(termBuffer, tail + FRAME_LENGTH), is(FRAME_LENGTH));
+        assertThat(DataHeaderFlyweight.sessionId(termBuffer, tail + FRAME_LENGTH), is(SESSION_ID));
+    }
+
+    @Test
+    public void shouldAppendBlockAfterExistingFrames()
+    {
+        final int tail = FRAME_LENGTH * 4;
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, tail);
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tail));
+
+        assertThat(termAppender.appendBlock(TERM_ID, tail, blockBuffer, 0, FRAME_LENGTH), is(tail + FRAME_LENGTH));
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(packTail(TERM_ID, tail + FRAME_LENGTH)));
+        assertThat(DataHeaderFlyweight.termOffset(termBuffer, tail), is(tail));
+    }
+
+    @Test
+    public void shouldAppendBlockWhichFillsTermWithPadding()
+    {
+        final int tail = TERM_BUFFER_LENGTH - (FRAME_LENGTH * 4);
+        final int paddingLength = TERM_BUFFER_LENGTH - tail - FRAME_LENGTH;
+        putFrame(0, FRAME_LENGTH, HDR_TYPE_DATA, tail);
+        putFrame(FRAME_LENGTH, paddingLength, HDR_TYPE_PAD, tail + FRAME_LENGTH);
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tail));
+
+        final int blockLength = TERM_BUFFER_LENGTH - tail;
+        assertThat(termAppender.appendBlock(TERM_ID, tail, blockBuffer, 0, blockLength), is(TERM_BUFFER_LENGTH));
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX), is(packTail(TERM_ID, TERM_BUFFER_LENGTH)));
+        assertThat(FrameDescriptor.frameLength(termBuffer, tail + FRAME_LENGTH), is(paddingLength));
+        assertThat(FrameDescriptor.isPaddingFrame(termBuffer, tail + FRAME_LENGTH), is(true));
+    }
+
+    private void putFrame(final int offset, final int frameLength, final int type, final int termOffset)
+    {
+        dataHeader.wrap(blockBuffer, offset, HEADER_LENGTH);
+        dataHeader.frameLength(frameLength);
+        dataHeader.headerType(type);
+        dataHeader.termOffset(termOffset);
+        dataHeader.sessionId(SESSION_ID);
+        dataHeader.streamId(STREAM_ID);
+        dataHeader.termId(TERM_ID);
+    }
+}
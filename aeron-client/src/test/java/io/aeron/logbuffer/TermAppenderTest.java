@@ -346,4 +346,76 @@ public class TermAppenderTest
 
         termAppender.appendUnfragmentedMessage(headerWriter, buffer, srcOffset, length, RVS, TERM_ID);
     }
+
+    @Test
+    public void shouldAppendBatchOfFramesWithSingleTailReservation()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer bufferOne = new UnsafeBuffer(new byte[64]);
+        final UnsafeBuffer bufferTwo = new UnsafeBuffer(new byte[128]);
+        final int lengthOne = 20;
+        final int lengthTwo = 100;
+        final int frameLengthOne = lengthOne + headerLength;
+        final int frameLengthTwo = lengthTwo + headerLength;
+        final int alignedFrameLengthOne = align(frameLengthOne, FRAME_ALIGNMENT);
+        final int batchLength = alignedFrameLengthOne + align(frameLengthTwo, FRAME_ALIGNMENT);
+        final int tail = 0;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tail));
+
+        final DirectBufferVector[] messages = new DirectBufferVector[]
+        {
+            new DirectBufferVector(bufferOne, 0, lengthOne),
+            new DirectBufferVector(bufferTwo, 0, lengthTwo)
+        };
+
+        assertThat(termAppender.appendUnfragmentedBatch(headerWriter, messages, 2, batchLength, RVS, TERM_ID),
+            is(batchLength));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(packTail(TERM_ID, tail + batchLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tail, frameLengthOne, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putBytes(headerLength, bufferOne, 0, lengthOne);
+        inOrder.verify(termBuffer, times(1)).putLong(tail + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, alignedFrameLengthOne, frameLengthTwo, TERM_ID);
+        inOrder.verify(termBuffer, times(1))
+            .putBytes(alignedFrameLengthOne + headerLength, bufferTwo, 0, lengthTwo);
+        inOrder.verify(termBuffer, times(1))
+            .putLong(alignedFrameLengthOne + RESERVED_VALUE_OFFSET, RV, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(alignedFrameLengthOne, frameLengthTwo);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tail, frameLengthOne);
+    }
+
+    @Test
+    public void shouldPadLogWhenAppendingBatchWithInsufficientRemainingCapacity()
+    {
+        final int headerLength = DEFAULT_HEADER.capacity();
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[128]);
+        final int msgLength = 20;
+        final int alignedFrameLength = align(msgLength + headerLength, FRAME_ALIGNMENT);
+        final int batchLength = alignedFrameLength * 2;
+        final int tailValue = TERM_BUFFER_LENGTH - alignedFrameLength;
+
+        logMetaDataBuffer.putLong(TERM_TAIL_COUNTER_OFFSET, packTail(TERM_ID, tailValue));
+
+        final DirectBufferVector[] messages = new DirectBufferVector[]
+        {
+            new DirectBufferVector(buffer, 0, msgLength),
+            new DirectBufferVector(buffer, 0, msgLength)
+        };
+
+        assertThat(termAppender.appendUnfragmentedBatch(headerWriter, messages, 2, batchLength, RVS, TERM_ID),
+            is(FAILED));
+
+        assertThat(rawTailVolatile(logMetaDataBuffer, PARTITION_INDEX),
+            is(packTail(TERM_ID, tailValue + batchLength)));
+
+        final InOrder inOrder = inOrder(termBuffer, headerWriter);
+        inOrder.verify(headerWriter, times(1)).write(termBuffer, tailValue, alignedFrameLength, TERM_ID);
+        inOrder.verify(termBuffer, times(1)).putShort(typeOffset(tailValue), (short)PADDING_FRAME_TYPE, LITTLE_ENDIAN);
+        inOrder.verify(termBuffer, times(1)).putIntOrdered(tailValue, alignedFrameLength);
+        verify(termBuffer, never()).putBytes(anyInt(), any(UnsafeBuffer.class), anyInt(), anyInt());
+    }
 }
@@ -17,6 +17,7 @@ package io.aeron.logbuffer;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.InOrder;
 import io.aeron.protocol.DataHeaderFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -86,6 +87,26 @@ public class TermGapScannerTest
         verify(gapHandler).onGap(TERM_ID, tail, align(HEADER_LENGTH, FRAME_ALIGNMENT));
     }
 
+    @Test
+    public void shouldReportMultipleGapsUpToMaxGaps()
+    {
+        final int alignedFrameLength = align(HEADER_LENGTH, FRAME_ALIGNMENT);
+        final int highWaterMark = alignedFrameLength * 8;
+
+        when(termBuffer.getIntVolatile(0)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 2)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 5)).thenReturn(HEADER_LENGTH);
+        when(termBuffer.getIntVolatile(alignedFrameLength * 7)).thenReturn(HEADER_LENGTH);
+
+        assertThat(
+            TermGapScanner.scanForGaps(termBuffer, TERM_ID, 0, highWaterMark, 2, gapHandler), is(alignedFrameLength));
+
+        final InOrder inOrder = inOrder(gapHandler);
+        inOrder.verify(gapHandler).onGap(TERM_ID, alignedFrameLength, alignedFrameLength);
+        inOrder.verify(gapHandler).onGap(TERM_ID, alignedFrameLength * 3, alignedFrameLength * 2);
+        verifyNoMoreInteractions(gapHandler);
+    }
+
     @Test
     public void shouldReportNoGapWhenHwmIsInPadding()
     {
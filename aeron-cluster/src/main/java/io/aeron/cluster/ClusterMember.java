@@ -644,6 +644,34 @@ public final class ClusterMember
         return true;
     }
 
+    /**
+     * The lowest leadership term id of the logs of the other cluster members as last reported to this member. As the
+     * reported values are not updated after an election they can only be lower than the current ones.
+     *
+     * @param clusterMembers to check.
+     * @param thisMemberId   to be excluded.
+     * @return the lowest leadership term id of the other members, or {@link Aeron#NULL_VALUE} if not known for one.
+     */
+    public static long minLeadershipTermId(final ClusterMember[] clusterMembers, final int thisMemberId)
+    {
+        long minLeadershipTermId = Long.MAX_VALUE;
+
+        for (final ClusterMember member : clusterMembers)
+        {
+            if (member.id != thisMemberId)
+            {
+                if (Aeron.NULL_VALUE == member.leadershipTermId)
+                {
+                    return Aeron.NULL_VALUE;
+                }
+
+                minLeadershipTermId = Math.min(minLeadershipTermId, member.leadershipTermId);
+            }
+        }
+
+        return minLeadershipTermId;
+    }
+
     /**
      * Reset the state of all cluster members.
      *
@@ -48,6 +48,8 @@ class ClusterSession
     private State state = State.INIT;
     private CloseReason closeReason = CloseReason.NULL_VAL;
     private byte[] encodedPrincipal = NULL_PRINCIPAL;
+    private ClusterSession prevByActivity;
+    private ClusterSession nextByActivity;
 
     ClusterSession(final long sessionId, final int responseStreamId, final String responseChannel)
     {
@@ -208,6 +210,26 @@ class ClusterSession
         return hasNewLeaderEventPending;
     }
 
+    ClusterSession prevByActivity()
+    {
+        return prevByActivity;
+    }
+
+    void prevByActivity(final ClusterSession session)
+    {
+        prevByActivity = session;
+    }
+
+    ClusterSession nextByActivity()
+    {
+        return nextByActivity;
+    }
+
+    void nextByActivity(final ClusterSession session)
+    {
+        nextByActivity = session;
+    }
+
     static void checkEncodedPrincipalLength(final byte[] encodedPrincipal)
     {
         if (null != encodedPrincipal && encodedPrincipal.length > MAX_ENCODED_PRINCIPAL_LENGTH)
@@ -28,18 +28,22 @@ import java.io.File;
 import java.io.PrintStream;
 import java.nio.MappedByteBuffer;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
+import static io.aeron.Aeron.NULL_VALUE;
+
 /**
  * Tool for investigating the state of a cluster node.
  * <pre>
  *
  * Usage: ClusterTool &#60;cluster-dir&#62; &#60;command&#62; [options]
- *          describe: prints out all descriptors in the file.
- *               pid: prints PID of cluster component.
- *     recovery-plan: [service count] prints recovery plan of cluster component.
- *     recording-log: prints recording log of cluster component.
- *            errors: prints Aeron and cluster component error logs.
+ *                 describe: prints out all descriptors in the file.
+ *                      pid: prints PID of cluster component.
+ *            recovery-plan: [service count] prints recovery plan of cluster component.
+ *            recording-log: prints recording log of cluster component.
+ *    compact-recording-log: removes snapshots superseded by the latest snapshot from recording log of a stopped node.
+ *                   errors: prints Aeron and cluster component error logs.
  * </pre>
  */
 public class ClusterTool
@@ -85,6 +89,10 @@ public class ClusterTool
                 recordingLog(System.out, clusterDir);
                 break;
 
+            case "compact-recording-log":
+                compactRecordingLog(System.out, clusterDir);
+                break;
+
             case "errors":
                 errors(System.out, clusterDir);
                 break;
@@ -142,6 +150,30 @@ public class ClusterTool
         }
     }
 
+    public static void compactRecordingLog(final PrintStream out, final File clusterDir)
+    {
+        if (markFileExists(clusterDir))
+        {
+            try (ClusterMarkFile markFile = openMarkFile(clusterDir, null))
+            {
+                final long activeTimeoutMs = TimeUnit.NANOSECONDS.toMillis(
+                    ConsensusModule.Configuration.serviceHeartbeatTimeoutNs());
+
+                if (markFile.activityTimestampVolatile() > (System.currentTimeMillis() - activeTimeoutMs))
+                {
+                    printTypeAndActivityTimestamp(out, markFile);
+                    out.println("Cluster node is active, it must be stopped to compact the recording log.");
+                    return;
+                }
+            }
+        }
+
+        try (RecordingLog recordingLog = new RecordingLog(clusterDir))
+        {
+            out.println("Removed " + recordingLog.compact(NULL_VALUE) + " entries from the recording log.");
+        }
+    }
+
     public static void errors(final PrintStream out, final File clusterDir)
     {
         if (markFileExists(clusterDir) || TIMEOUT_MS > 0)
@@ -257,6 +289,9 @@ public class ClusterTool
         out.println("  pid: prints PID of cluster component.");
         out.println("  recovery-plan: [service count] prints recovery plan of cluster component.");
         out.println("  recording-log: prints recording log of cluster component.");
+        out.println(
+            "  compact-recording-log: removes snapshots superseded by the latest snapshot from recording log" +
+            " of a stopped node.");
         out.println("  errors: prints Aeron and cluster component error logs.");
     }
 }
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import org.agrona.concurrent.status.AtomicCounter;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks the latency on the leader from a log position being appended locally to it being committed by a quorum of
+ * the cluster. Appended positions are sampled, with the time they were observed, into a fixed capacity ring so
+ * tracking does not allocate. Samples are skipped while the ring is full.
+ * <p>
+ * The max latency is published per window of {@link #MAX_LATENCY_WINDOW_NS}, being reset by the first commit after
+ * the window has elapsed, so a single outlier does not mask later behaviour. The count and total of the sampled
+ * latencies are accumulated so the mean can be derived between two readings.
+ */
+class CommitLatencyTracker
+{
+    static final int SAMPLE_CAPACITY = 1024;
+    static final long MAX_LATENCY_WINDOW_NS = TimeUnit.SECONDS.toNanos(1);
+    private static final int MASK = SAMPLE_CAPACITY - 1;
+
+    private final long[] positions = new long[SAMPLE_CAPACITY];
+    private final long[] timesNs = new long[SAMPLE_CAPACITY];
+    private final AtomicCounter maxCommitLatencyNs;
+    private final AtomicCounter commitLatencyCount;
+    private final AtomicCounter totalCommitLatencyNs;
+    private long lastPosition;
+    private long head;
+    private long tail;
+    private long windowDeadlineNs;
+
+    CommitLatencyTracker(
+        final AtomicCounter maxCommitLatencyNs,
+        final AtomicCounter commitLatencyCount,
+        final AtomicCounter totalCommitLatencyNs)
+    {
+        this.maxCommitLatencyNs = maxCommitLatencyNs;
+        this.commitLatencyCount = commitLatencyCount;
+        this.totalCommitLatencyNs = totalCommitLatencyNs;
+    }
+
+    /**
+     * Sample a position appended to the log locally.
+     *
+     * @param position appended to the log.
+     * @param nowNs    at which the position was observed.
+     */
+    void onAppendedPosition(final long position, final long nowNs)
+    {
+        if (position > lastPosition && (tail - head) < SAMPLE_CAPACITY)
+        {
+            final int index = (int)tail & MASK;
+            positions[index] = position;
+            timesNs[index] = nowNs;
+            lastPosition = position;
+            tail++;
+        }
+    }
+
+    /**
+     * Record the latency of the sampled positions which have been reached by the commit position.
+     *
+     * @param commitPosition of the cluster.
+     * @param nowNs          at which the commit position was reached.
+     */
+    void onCommitPosition(final long commitPosition, final long nowNs)
+    {
+        final long startHead = head;
+        long maxLatencyNs = 0;
+        long totalLatencyNs = 0;
+        while (head < tail)
+        {
+            final int index = (int)head & MASK;
+            if (positions[index] > commitPosition)
+            {
+                break;
+            }
+
+            final long latencyNs = nowNs - timesNs[index];
+            maxLatencyNs = Math.max(maxLatencyNs, latencyNs);
+            totalLatencyNs += latencyNs;
+            head++;
+        }
+
+        if (head > startHead)
+        {
+            commitLatencyCount.getAndAddOrdered(head - startHead);
+            totalCommitLatencyNs.getAndAddOrdered(totalLatencyNs);
+
+            if (nowNs >= windowDeadlineNs)
+            {
+                windowDeadlineNs = nowNs + MAX_LATENCY_WINDOW_NS;
+                maxCommitLatencyNs.setOrdered(maxLatencyNs);
+            }
+            else
+            {
+                maxCommitLatencyNs.proposeMaxOrdered(maxLatencyNs);
+            }
+        }
+    }
+
+    /**
+     * Discard samples such as when leadership changes.
+     */
+    void reset()
+    {
+        lastPosition = 0;
+        head = tail;
+    }
+}
@@ -555,6 +555,58 @@ public class ConsensusModule implements AutoCloseable
          */
         public static final int ERROR_BUFFER_LENGTH_DEFAULT = 1024 * 1024;
 
+        /**
+         * Max length in bytes of ingress messages, including frame headers, which the leader will coalesce into a
+         * single append to the log in a duty cycle. A value of 0 disables batching so each message is appended as
+         * it is received.
+         */
+        public static final String INGRESS_BATCH_LENGTH_PROP_NAME = "aeron.cluster.ingress.batch.length";
+
+        /**
+         * Default max length in bytes of a batch of ingress messages appended to the log which disables batching.
+         */
+        public static final int INGRESS_BATCH_LENGTH_DEFAULT = 0;
+
+        /**
+         * Length in bytes the recorded log must advance on a follower before it sends its appended position to the
+         * leader while the log is moving. The position is also sent as soon as the log stops advancing. A non-zero
+         * value enables an event driven mode in which the leader recomputes the commit position as each appended
+         * position is received. A value of 0 sends the appended position whenever it changes in a duty cycle.
+         */
+        public static final String APPENDED_POSITION_THRESHOLD_PROP_NAME = "aeron.cluster.appended.position.threshold";
+
+        /**
+         * Default length in bytes of the appended position threshold which sends the position whenever it changes.
+         */
+        public static final int APPENDED_POSITION_THRESHOLD_DEFAULT = 0;
+
+        /**
+         * Max number of fragments the consensus module consumes from the log in each poll while replaying it from the
+         * archive during recovery. Larger values, combined with block replay in the archive, allow recovery to progress
+         * in bigger batches without returning to the duty cycle.
+         */
+        public static final String REPLAY_FRAGMENT_LIMIT_PROP_NAME = "aeron.cluster.replay.fragment.limit";
+
+        /**
+         * Default max number of fragments consumed from the log in each poll while replaying it during recovery.
+         */
+        public static final int REPLAY_FRAGMENT_LIMIT_DEFAULT = 100;
+
+        /**
+         * Number of entries in the {@link RecordingLog} superseded by the latest snapshot at which the log is compacted
+         * after a snapshot is taken. A value of 0 disables compaction of the log by a running node.
+         * <p>
+         * Term entries from the lowest leadership term last reported by the other members are retained so members which
+         * are lagging can still be served in an election.
+         */
+        public static final String RECORDING_LOG_COMPACTION_THRESHOLD_PROP_NAME =
+            "aeron.cluster.recording.log.compaction.threshold";
+
+        /**
+         * Default number of superseded entries at which the {@link RecordingLog} is compacted which disables it.
+         */
+        public static final int RECORDING_LOG_COMPACTION_THRESHOLD_DEFAULT = 0;
+
         public static final int LOG_PUBLICATION_SESSION_ID_TAG = 2;
         public static final String LOG_PUBLICATION_TAGS = "1," + LOG_PUBLICATION_SESSION_ID_TAG;
         public static final String LOG_SUBSCRIPTION_TAGS = "3,4";
@@ -800,6 +852,52 @@ public class ConsensusModule implements AutoCloseable
             return getSizeAsInt(ERROR_BUFFER_LENGTH_PROP_NAME, ERROR_BUFFER_LENGTH_DEFAULT);
         }
 
+        /**
+         * Max length in bytes of a batch of ingress messages appended to the log by the leader.
+         *
+         * @return max length in bytes of a batch of ingress messages appended to the log by the leader.
+         * @see #INGRESS_BATCH_LENGTH_PROP_NAME
+         */
+        public static int ingressBatchLength()
+        {
+            return getSizeAsInt(INGRESS_BATCH_LENGTH_PROP_NAME, INGRESS_BATCH_LENGTH_DEFAULT);
+        }
+
+        /**
+         * Length in bytes the recorded log must advance on a follower before it sends its appended position.
+         *
+         * @return length in bytes the recorded log must advance on a follower before it sends its appended position.
+         * @see #APPENDED_POSITION_THRESHOLD_PROP_NAME
+         */
+        public static int appendedPositionThreshold()
+        {
+            return getSizeAsInt(APPENDED_POSITION_THRESHOLD_PROP_NAME, APPENDED_POSITION_THRESHOLD_DEFAULT);
+        }
+
+        /**
+         * Max number of fragments consumed from the log in each poll while replaying it during recovery.
+         *
+         * @return max number of fragments consumed from the log in each poll while replaying it during recovery.
+         * @see #REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public static int replayFragmentLimit()
+        {
+            return Integer.getInteger(REPLAY_FRAGMENT_LIMIT_PROP_NAME, REPLAY_FRAGMENT_LIMIT_DEFAULT);
+        }
+
+        /**
+         * Number of entries in the {@link RecordingLog} superseded by the latest snapshot at which the log is
+         * compacted.
+         *
+         * @return number of superseded entries at which the log is compacted, or 0 if compaction is disabled.
+         * @see #RECORDING_LOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        public static int recordingLogCompactionThreshold()
+        {
+            return Integer.getInteger(
+                RECORDING_LOG_COMPACTION_THRESHOLD_PROP_NAME, RECORDING_LOG_COMPACTION_THRESHOLD_DEFAULT);
+        }
+
         /**
          * The value {@link #AUTHENTICATOR_SUPPLIER_DEFAULT} or system property
          * {@link #AUTHENTICATOR_SUPPLIER_PROP_NAME} if set.
@@ -889,6 +987,10 @@ public class ConsensusModule implements AutoCloseable
         private int serviceCount = Configuration.serviceCount();
         private Counter[] serviceHeartbeatCounters;
         private int errorBufferLength = Configuration.errorBufferLength();
+        private int ingressBatchLength = Configuration.ingressBatchLength();
+        private int appendedPositionThreshold = Configuration.appendedPositionThreshold();
+        private int replayFragmentLimit = Configuration.replayFragmentLimit();
+        private int recordingLogCompactionThreshold = Configuration.recordingLogCompactionThreshold();
         private int maxConcurrentSessions = Configuration.maxConcurrentSessions();
         private long sessionTimeoutNs = Configuration.sessionTimeoutNs();
         private long leaderHeartbeatTimeoutNs = Configuration.leaderHeartbeatTimeoutNs();
@@ -902,6 +1004,7 @@ public class ConsensusModule implements AutoCloseable
         private ThreadFactory threadFactory;
         private Supplier<IdleStrategy> idleStrategySupplier;
         private EpochClock epochClock;
+        private NanoClock nanoClock;
         private Random random;
 
         private DistinctErrorLog errorLog;
@@ -916,6 +1019,14 @@ public class ConsensusModule implements AutoCloseable
         private Counter snapshotCounter;
         private Counter invalidRequestCounter;
         private Counter timedOutClientCounter;
+        private Counter ingressBatchCounter;
+        private Counter ingressBatchedMessageCounter;
+        private Counter sessionsCheckedCounter;
+        private Counter maxCommitLatencyCounter;
+        private Counter commitLatencyCountCounter;
+        private Counter totalCommitLatencyCounter;
+        private Counter logReplayBytesCounter;
+        private Counter logReplayRateCounter;
         private ShutdownSignalBarrier shutdownSignalBarrier;
         private Runnable terminationHook;
 
@@ -969,6 +1080,11 @@ public class ConsensusModule implements AutoCloseable
                 epochClock = new SystemEpochClock();
             }
 
+            if (null == nanoClock)
+            {
+                nanoClock = new SystemNanoClock();
+            }
+
             if (null == markFile)
             {
                 markFile = new ClusterMarkFile(
@@ -1061,6 +1177,49 @@ public class ConsensusModule implements AutoCloseable
                 timedOutClientCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Timed out cluster client count");
             }
 
+            if (null == ingressBatchCounter)
+            {
+                ingressBatchCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Cluster ingress batch count");
+            }
+
+            if (null == ingressBatchedMessageCounter)
+            {
+                ingressBatchedMessageCounter = aeron.addCounter(
+                    SYSTEM_COUNTER_TYPE_ID, "Cluster ingress batched message count");
+            }
+
+            if (null == sessionsCheckedCounter)
+            {
+                sessionsCheckedCounter = aeron.addCounter(
+                    SYSTEM_COUNTER_TYPE_ID, "Cluster sessions checked in last session check");
+            }
+
+            if (null == maxCommitLatencyCounter)
+            {
+                maxCommitLatencyCounter = aeron.addCounter(
+                    SYSTEM_COUNTER_TYPE_ID, "Cluster max commit latency ns per window");
+            }
+
+            if (null == commitLatencyCountCounter)
+            {
+                commitLatencyCountCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Cluster commit latency count");
+            }
+
+            if (null == totalCommitLatencyCounter)
+            {
+                totalCommitLatencyCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Cluster total commit latency ns");
+            }
+
+            if (null == logReplayBytesCounter)
+            {
+                logReplayBytesCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Cluster log replay bytes");
+            }
+
+            if (null == logReplayRateCounter)
+            {
+                logReplayRateCounter = aeron.addCounter(SYSTEM_COUNTER_TYPE_ID, "Cluster log replay rate bytes/s");
+            }
+
             if (null == serviceHeartbeatCounters)
             {
                 serviceHeartbeatCounters = new Counter[serviceCount];
@@ -1117,7 +1276,8 @@ public class ConsensusModule implements AutoCloseable
 
             if (null == logPublisher)
             {
-                logPublisher = new LogPublisher();
+                logPublisher = new LogPublisher(
+                    ingressBatchLength, ingressBatchCounter, ingressBatchedMessageCounter);
             }
 
             if (null == egressPublisher)
@@ -2051,6 +2211,28 @@ public class ConsensusModule implements AutoCloseable
             return epochClock;
         }
 
+        /**
+         * Set the {@link NanoClock} to be used for measuring the latency of commits to the log.
+         *
+         * @param clock {@link NanoClock} to be used for measuring the latency of commits to the log.
+         * @return this for a fluent API.
+         */
+        public Context nanoClock(final NanoClock clock)
+        {
+            this.nanoClock = clock;
+            return this;
+        }
+
+        /**
+         * Get the {@link NanoClock} to be used for measuring the latency of commits to the log.
+         *
+         * @return the {@link NanoClock} to be used for measuring the latency of commits to the log.
+         */
+        public NanoClock nanoClock()
+        {
+            return nanoClock;
+        }
+
         /**
          * Get the {@link ErrorHandler} to be used by the Consensus Module.
          *
@@ -2279,6 +2461,189 @@ public class ConsensusModule implements AutoCloseable
             return this;
         }
 
+        /**
+         * Get the counter for the count of batches of ingress messages appended to the log.
+         *
+         * @return the counter for the count of batches of ingress messages appended to the log.
+         */
+        public Counter ingressBatchCounter()
+        {
+            return ingressBatchCounter;
+        }
+
+        /**
+         * Set the counter for the count of batches of ingress messages appended to the log.
+         *
+         * @param ingressBatchCounter the count of batches of ingress messages appended to the log.
+         * @return this for a fluent API.
+         */
+        public Context ingressBatchCounter(final Counter ingressBatchCounter)
+        {
+            this.ingressBatchCounter = ingressBatchCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the count of ingress messages appended to the log in batches.
+         *
+         * @return the counter for the count of ingress messages appended to the log in batches.
+         */
+        public Counter ingressBatchedMessageCounter()
+        {
+            return ingressBatchedMessageCounter;
+        }
+
+        /**
+         * Set the counter for the count of ingress messages appended to the log in batches.
+         *
+         * @param ingressBatchedMessageCounter the count of ingress messages appended to the log in batches.
+         * @return this for a fluent API.
+         */
+        public Context ingressBatchedMessageCounter(final Counter ingressBatchedMessageCounter)
+        {
+            this.ingressBatchedMessageCounter = ingressBatchedMessageCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the number of sessions examined in the last check for timed out sessions and pending
+         * session events.
+         *
+         * @return the counter for the number of sessions examined in the last session check.
+         */
+        public Counter sessionsCheckedCounter()
+        {
+            return sessionsCheckedCounter;
+        }
+
+        /**
+         * Set the counter for the number of sessions examined in the last check for timed out sessions and pending
+         * session events.
+         *
+         * @param sessionsCheckedCounter the number of sessions examined in the last session check.
+         * @return this for a fluent API.
+         */
+        public Context sessionsCheckedCounter(final Counter sessionsCheckedCounter)
+        {
+            this.sessionsCheckedCounter = sessionsCheckedCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the max latency in nanoseconds, observed on the leader, from the log being appended
+         * locally to it being committed by a quorum of the cluster. The max is reset by the first commit after each
+         * window of one second.
+         *
+         * @return the counter for the max latency in nanoseconds of commits to the log.
+         */
+        public Counter maxCommitLatencyCounter()
+        {
+            return maxCommitLatencyCounter;
+        }
+
+        /**
+         * Set the counter for the max latency in nanoseconds, observed on the leader, from the log being appended
+         * locally to it being committed by a quorum of the cluster.
+         *
+         * @param maxCommitLatencyCounter the max latency in nanoseconds of commits to the log.
+         * @return this for a fluent API.
+         */
+        public Context maxCommitLatencyCounter(final Counter maxCommitLatencyCounter)
+        {
+            this.maxCommitLatencyCounter = maxCommitLatencyCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the number of commit latencies sampled on the leader which, with the
+         * {@link #totalCommitLatencyCounter()}, gives the mean commit latency.
+         *
+         * @return the counter for the number of commit latencies sampled.
+         */
+        public Counter commitLatencyCountCounter()
+        {
+            return commitLatencyCountCounter;
+        }
+
+        /**
+         * Set the counter for the number of commit latencies sampled on the leader which, with the
+         * {@link #totalCommitLatencyCounter()}, gives the mean commit latency.
+         *
+         * @param commitLatencyCountCounter the number of commit latencies sampled.
+         * @return this for a fluent API.
+         */
+        public Context commitLatencyCountCounter(final Counter commitLatencyCountCounter)
+        {
+            this.commitLatencyCountCounter = commitLatencyCountCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the total in nanoseconds of the commit latencies sampled on the leader.
+         *
+         * @return the counter for the total in nanoseconds of the commit latencies sampled.
+         */
+        public Counter totalCommitLatencyCounter()
+        {
+            return totalCommitLatencyCounter;
+        }
+
+        /**
+         * Set the counter for the total in nanoseconds of the commit latencies sampled on the leader.
+         *
+         * @param totalCommitLatencyCounter the total in nanoseconds of the commit latencies sampled.
+         * @return this for a fluent API.
+         */
+        public Context totalCommitLatencyCounter(final Counter totalCommitLatencyCounter)
+        {
+            this.totalCommitLatencyCounter = totalCommitLatencyCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the total bytes of the log replayed from the archive during recovery.
+         *
+         * @return the counter for the total bytes of the log replayed from the archive during recovery.
+         */
+        public Counter logReplayBytesCounter()
+        {
+            return logReplayBytesCounter;
+        }
+
+        /**
+         * Set the counter for the total bytes of the log replayed from the archive during recovery.
+         *
+         * @param logReplayBytesCounter the total bytes of the log replayed from the archive during recovery.
+         * @return this for a fluent API.
+         */
+        public Context logReplayBytesCounter(final Counter logReplayBytesCounter)
+        {
+            this.logReplayBytesCounter = logReplayBytesCounter;
+            return this;
+        }
+
+        /**
+         * Get the counter for the rate in bytes per second of the current, or last, replay of the log during recovery.
+         *
+         * @return the counter for the rate in bytes per second of the replay of the log during recovery.
+         */
+        public Counter logReplayRateCounter()
+        {
+            return logReplayRateCounter;
+        }
+
+        /**
+         * Set the counter for the rate in bytes per second of the current, or last, replay of the log during recovery.
+         *
+         * @param logReplayRateCounter the rate in bytes per second of the replay of the log during recovery.
+         * @return this for a fluent API.
+         */
+        public Context logReplayRateCounter(final Counter logReplayRateCounter)
+        {
+            this.logReplayRateCounter = logReplayRateCounter;
+            return this;
+        }
+
         /**
          * {@link Aeron} client for communicating with the local Media Driver.
          * <p>
@@ -2488,6 +2853,104 @@ public class ConsensusModule implements AutoCloseable
             return errorBufferLength;
         }
 
+        /**
+         * Set the max length in bytes of ingress messages the leader will coalesce into a single append to the log.
+         *
+         * @param ingressBatchLength in bytes of a batch of ingress messages, or 0 to disable batching.
+         * @return this for a fluent API.
+         * @see Configuration#INGRESS_BATCH_LENGTH_PROP_NAME
+         */
+        public Context ingressBatchLength(final int ingressBatchLength)
+        {
+            this.ingressBatchLength = ingressBatchLength;
+            return this;
+        }
+
+        /**
+         * The max length in bytes of ingress messages the leader will coalesce into a single append to the log.
+         *
+         * @return max length in bytes of a batch of ingress messages, or 0 if batching is disabled.
+         * @see Configuration#INGRESS_BATCH_LENGTH_PROP_NAME
+         */
+        public int ingressBatchLength()
+        {
+            return ingressBatchLength;
+        }
+
+        /**
+         * Set the length in bytes the recorded log must advance on a follower before it sends its appended position.
+         *
+         * @param appendedPositionThreshold in bytes, or 0 to send the appended position whenever it changes.
+         * @return this for a fluent API.
+         * @see Configuration#APPENDED_POSITION_THRESHOLD_PROP_NAME
+         */
+        public Context appendedPositionThreshold(final int appendedPositionThreshold)
+        {
+            this.appendedPositionThreshold = appendedPositionThreshold;
+            return this;
+        }
+
+        /**
+         * The length in bytes the recorded log must advance on a follower before it sends its appended position.
+         *
+         * @return length in bytes, or 0 if the appended position is sent whenever it changes.
+         * @see Configuration#APPENDED_POSITION_THRESHOLD_PROP_NAME
+         */
+        public int appendedPositionThreshold()
+        {
+            return appendedPositionThreshold;
+        }
+
+        /**
+         * Set the max number of fragments consumed from the log in each poll while replaying it during recovery.
+         *
+         * @param replayFragmentLimit max number of fragments consumed in each poll of the log replay.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public Context replayFragmentLimit(final int replayFragmentLimit)
+        {
+            this.replayFragmentLimit = replayFragmentLimit;
+            return this;
+        }
+
+        /**
+         * The max number of fragments consumed from the log in each poll while replaying it during recovery.
+         *
+         * @return max number of fragments consumed in each poll of the log replay.
+         * @see Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public int replayFragmentLimit()
+        {
+            return replayFragmentLimit;
+        }
+
+        /**
+         * Set the number of entries in the {@link RecordingLog} superseded by the latest snapshot at which the log is
+         * compacted after a snapshot is taken.
+         *
+         * @param recordingLogCompactionThreshold number of superseded entries, or 0 to disable compaction.
+         * @return this for a fluent API.
+         * @see Configuration#RECORDING_LOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        public Context recordingLogCompactionThreshold(final int recordingLogCompactionThreshold)
+        {
+            this.recordingLogCompactionThreshold = recordingLogCompactionThreshold;
+            return this;
+        }
+
+        /**
+         * The number of entries in the {@link RecordingLog} superseded by the latest snapshot at which the log is
+         * compacted after a snapshot is taken.
+         *
+         * @return number of superseded entries, or 0 if compaction is disabled.
+         * @see Configuration#RECORDING_LOG_COMPACTION_THRESHOLD_PROP_NAME
+         */
+        public int recordingLogCompactionThreshold()
+        {
+            return recordingLogCompactionThreshold;
+        }
+
         /**
          * Set the {@link DistinctErrorLog} in use.
          *
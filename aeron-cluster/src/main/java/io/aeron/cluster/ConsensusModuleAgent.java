@@ -43,6 +43,7 @@ import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.AgentInvoker;
 import org.agrona.concurrent.EpochClock;
 import org.agrona.concurrent.IdleStrategy;
+import org.agrona.concurrent.NanoClock;
 import org.agrona.concurrent.status.CountersReader;
 
 import java.util.ArrayList;
@@ -63,11 +64,13 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
     private final long leaderHeartbeatIntervalMs;
     private final long leaderHeartbeatTimeoutMs;
     private final long serviceHeartbeatTimeoutMs;
+    private final int appendedPositionThreshold;
     private long nextSessionId = 1;
     private long leadershipTermId = NULL_VALUE;
     private long expectedAckPosition = 0;
     private long serviceAckId = 0;
     private long lastAppendedPosition = 0;
+    private long lastObservedAppendedPosition = 0;
     private long followerCommitPosition = 0;
     private long timeOfLastLogUpdateMs = 0;
     private long cachedTimeMs;
@@ -92,6 +95,8 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
     private final ClusterMarkFile markFile;
     private final AgentInvoker aeronClientInvoker;
     private final EpochClock epochClock;
+    private final NanoClock nanoClock;
+    private final CommitLatencyTracker commitLatencyTracker;
     private final Counter moduleState;
     private final Counter controlToggle;
     private final TimerService timerService;
@@ -104,6 +109,8 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
     private final MemberStatusAdapter memberStatusAdapter;
     private final MemberStatusPublisher memberStatusPublisher = new MemberStatusPublisher();
     private final Long2ObjectHashMap<ClusterSession> sessionByIdMap = new Long2ObjectHashMap<>();
+    private final SessionActivityList sessionActivityList = new SessionActivityList();
+    private final ArrayList<ClusterSession> sessionsWithPendingEvent = new ArrayList<>();
     private final ArrayList<ClusterSession> pendingSessions = new ArrayList<>();
     private final ArrayList<ClusterSession> rejectedSessions = new ArrayList<>();
     private final ArrayList<ClusterSession> redirectSessions = new ArrayList<>();
@@ -130,6 +137,10 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         this.ctx = ctx;
         this.aeron = ctx.aeron();
         this.epochClock = ctx.epochClock();
+        this.nanoClock = ctx.nanoClock();
+        this.commitLatencyTracker = new CommitLatencyTracker(
+            ctx.maxCommitLatencyCounter(), ctx.commitLatencyCountCounter(), ctx.totalCommitLatencyCounter());
+        this.appendedPositionThreshold = ctx.appendedPositionThreshold();
         this.sessionTimeoutMs = TimeUnit.NANOSECONDS.toMillis(ctx.sessionTimeoutNs());
         this.leaderHeartbeatIntervalMs = TimeUnit.NANOSECONDS.toMillis(ctx.leaderHeartbeatIntervalNs());
         this.leaderHeartbeatTimeoutMs = TimeUnit.NANOSECONDS.toMillis(ctx.leaderHeartbeatTimeoutNs());
@@ -274,6 +285,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             if (Cluster.Role.LEADER == role && ConsensusModule.State.ACTIVE == state)
             {
                 workCount += ingressAdapter.poll();
+                logPublisher.flushIngressBatch();
                 workCount += timerService.poll(nowMs);
             }
             else if (Cluster.Role.FOLLOWER == role &&
@@ -344,7 +356,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
 
             if (logPublisher.appendSessionClose(session, clusterTimeMs))
             {
-                sessionByIdMap.remove(clusterSessionId);
+                removeSession(session);
             }
         }
     }
@@ -369,9 +381,10 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         }
 
         if (session.state() == OPEN &&
-            logPublisher.appendMessage(correlationId, clusterSessionId, clusterTimeMs, buffer, offset, length))
+            logPublisher.batchMessage(correlationId, clusterSessionId, clusterTimeMs, buffer, offset, length))
         {
             session.lastActivity(clusterTimeMs, correlationId);
+            sessionActivityList.onActivity(session);
             return ControlledFragmentHandler.Action.CONTINUE;
         }
 
@@ -386,6 +399,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             if (null != session && session.state() == OPEN)
             {
                 session.timeOfLastActivityMs(clusterTimeMs);
+                sessionActivityList.onActivity(session);
             }
         }
     }
@@ -501,6 +515,11 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             if (null != follower)
             {
                 follower.logPosition(logPosition);
+
+                if (appendedPositionThreshold > 0)
+                {
+                    updateLeaderPosition(cachedTimeMs);
+                }
             }
         }
     }
@@ -707,6 +726,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
     {
         this.role = role;
         clusterRoleCounter.setOrdered(role.code());
+        commitLatencyTracker.reset();
     }
 
     Cluster.Role role()
@@ -789,6 +809,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             if (session.openedLogPosition() >= logPosition)
             {
                 i.remove();
+                sessionActivityList.remove(session);
                 session.close();
             }
         }
@@ -810,7 +831,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
 
             if (Cluster.Role.LEADER == role && logPublisher.appendSessionClose(session, clusterTimeMs))
             {
-                sessionByIdMap.remove(clusterSessionId);
+                removeSession(session);
             }
         }
     }
@@ -842,6 +863,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
                     for (final ClusterSession session : sessionByIdMap.values())
                     {
                         session.timeOfLastActivityMs(clusterTimeMs);
+                        sessionActivityList.onActivity(session);
                     }
                     break;
 
@@ -922,7 +944,10 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         final Header header)
     {
         clusterTimeMs(timestamp);
-        sessionByIdMap.get(clusterSessionId).lastActivity(timestamp, correlationId);
+
+        final ClusterSession session = sessionByIdMap.get(clusterSessionId);
+        session.lastActivity(timestamp, correlationId);
+        sessionActivityList.onActivity(session);
     }
 
     void onReplayTimerEvent(final long correlationId, final long timestamp)
@@ -949,7 +974,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         session.open(logPosition);
         session.lastActivity(timestamp, correlationId);
 
-        sessionByIdMap.put(clusterSessionId, session);
+        addSession(session);
         if (clusterSessionId >= nextSessionId)
         {
             nextSessionId = clusterSessionId + 1;
@@ -965,7 +990,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         final int responseStreamId,
         final String responseChannel)
     {
-        sessionByIdMap.put(clusterSessionId, new ClusterSession(
+        addSession(new ClusterSession(
             clusterSessionId, responseStreamId, responseChannel, logPosition, timestamp, correlationId, closeReason));
 
         if (clusterSessionId >= nextSessionId)
@@ -979,7 +1004,10 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         final long correlationId, final long clusterSessionId, final long timestamp, final CloseReason closeReason)
     {
         clusterTimeMs(timestamp);
-        sessionByIdMap.remove(clusterSessionId).close();
+
+        final ClusterSession session = sessionByIdMap.get(clusterSessionId);
+        removeSession(session);
+        session.close();
     }
 
     @SuppressWarnings("unused")
@@ -1156,7 +1184,9 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             if (session.state() != CLOSED)
             {
                 session.timeOfLastActivityMs(nowMs);
+                sessionActivityList.onActivity(session);
                 session.hasNewLeaderEventPending(true);
+                sessionsWithPendingEvent.add(session);
             }
         }
     }
@@ -1231,7 +1261,8 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
     {
         final String channel = Cluster.Role.LEADER == role && UDP_MEDIA.equals(logChannelUri.media()) ?
             logChannelUri.prefix(SPY_QUALIFIER).toString() : logChannelUri.toString();
-        serviceProxy.joinLog(leadershipTermId, logPosition, Long.MAX_VALUE, logSessionId, ctx.logStreamId(), channel);
+        serviceProxy.joinLog(
+            leadershipTermId, logPosition, Long.MAX_VALUE, logSessionId, ctx.logStreamId(), isDynamicJoin(), channel);
 
         expectedAckPosition = logPosition;
         awaitServiceAcks(logPosition);
@@ -1279,7 +1310,8 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         final long logPosition,
         final long maxLogPosition)
     {
-        serviceProxy.joinLog(leadershipTermId, logPosition, maxLogPosition, logSessionId, streamId, channel);
+        serviceProxy.joinLog(
+            leadershipTermId, logPosition, maxLogPosition, logSessionId, streamId, isDynamicJoin(), channel);
         expectedAckPosition = logPosition;
         awaitServiceAcks(logPosition);
     }
@@ -1296,9 +1328,9 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         }
     }
 
-    void replayLogPoll(final LogAdapter logAdapter, final long stopPosition)
+    int replayLogPoll(final LogAdapter logAdapter, final long stopPosition)
     {
-        final int workCount = logAdapter.poll(stopPosition);
+        int workCount = logAdapter.poll(stopPosition);
         if (0 == workCount)
         {
             if (logAdapter.isImageClosed() && logAdapter.position() != stopPosition)
@@ -1308,8 +1340,10 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         }
 
         commitPosition.setOrdered(logAdapter.position());
-        consensusModuleAdapter.poll();
+        workCount += consensusModuleAdapter.poll();
         cancelMissedTimers();
+
+        return workCount;
     }
 
     long logRecordingId()
@@ -1541,7 +1575,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             if (ConsensusModule.State.ACTIVE == state)
             {
                 workCount += processPendingSessions(pendingSessions, nowMs);
-                workCount += checkSessions(sessionByIdMap, nowMs);
+                workCount += checkSessions(nowMs);
                 workCount += processPassiveMembers(passiveMembers);
             }
         }
@@ -1632,6 +1666,11 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
 
     private boolean appendAction(final ClusterAction action, final long nowMs)
     {
+        if (!logPublisher.flushIngressBatch())
+        {
+            return false;
+        }
+
         final int length = DataHeaderFlyweight.HEADER_LENGTH +
             MessageHeaderEncoder.ENCODED_LENGTH + ClusterActionRequestEncoder.BLOCK_LENGTH;
 
@@ -1669,8 +1708,12 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             {
                 ArrayListUtil.fastUnorderedRemove(pendingSessions, i, lastIndex--);
                 session.timeOfLastActivityMs(nowMs);
-                sessionByIdMap.put(session.id(), session);
+                addSession(session);
                 appendSessionOpen(session, nowMs);
+                if (session.state() != OPEN)
+                {
+                    sessionsWithPendingEvent.add(session);
+                }
 
                 workCount += 1;
             }
@@ -1786,66 +1829,97 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         return workCount;
     }
 
-    private int checkSessions(final Long2ObjectHashMap<ClusterSession> sessionByIdMap, final long nowMs)
+    private int checkSessions(final long nowMs)
     {
         int workCount = 0;
+        int checkedCount = 0;
 
-        for (final Iterator<ClusterSession> i = sessionByIdMap.values().iterator(); i.hasNext(); )
+        ClusterSession session = sessionActivityList.head();
+        while (null != session && nowMs > (session.timeOfLastActivityMs() + sessionTimeoutMs))
         {
-            final ClusterSession session = i.next();
+            final ClusterSession next = session.nextByActivity();
 
-            if (nowMs > (session.timeOfLastActivityMs() + sessionTimeoutMs))
+            switch (session.state())
             {
-                switch (session.state())
-                {
-                    case OPEN:
-                        if (session.isResponsePublicationConnected())
-                        {
-                            egressPublisher.sendEvent(
-                                session, leadershipTermId, leaderMember.id(), EventCode.ERROR, SESSION_TIMEOUT_MSG);
-                        }
+                case OPEN:
+                    if (session.isResponsePublicationConnected())
+                    {
+                        egressPublisher.sendEvent(
+                            session, leadershipTermId, leaderMember.id(), EventCode.ERROR, SESSION_TIMEOUT_MSG);
+                    }
 
-                        session.close(CloseReason.TIMEOUT);
-                        if (logPublisher.appendSessionClose(session, nowMs))
+                    session.close(CloseReason.TIMEOUT);
+                    if (logPublisher.appendSessionClose(session, nowMs))
+                    {
+                        removeSession(session);
+                        ctx.timedOutClientCounter().incrementOrdered();
+                    }
+                    break;
+
+                case CLOSED:
+                    if (logPublisher.appendSessionClose(session, nowMs))
+                    {
+                        removeSession(session);
+                        if (session.closeReason() == CloseReason.TIMEOUT)
                         {
-                            i.remove();
                             ctx.timedOutClientCounter().incrementOrdered();
                         }
-                        break;
+                    }
+                    break;
 
-                    case CLOSED:
-                        if (logPublisher.appendSessionClose(session, nowMs))
-                        {
-                            i.remove();
-                            if (session.closeReason() == CloseReason.TIMEOUT)
-                            {
-                                ctx.timedOutClientCounter().incrementOrdered();
-                            }
-                        }
-                        break;
+                default:
+                    removeSession(session);
+                    session.close();
+            }
 
-                    default:
-                        i.remove();
-                        session.close();
-                }
+            session = next;
+            checkedCount++;
+            workCount += 1;
+        }
 
-                workCount += 1;
+        final ArrayList<ClusterSession> sessionsWithPendingEvent = this.sessionsWithPendingEvent;
+        for (int lastIndex = sessionsWithPendingEvent.size() - 1, i = lastIndex; i >= 0; i--)
+        {
+            final ClusterSession pendingSession = sessionsWithPendingEvent.get(i);
+            checkedCount++;
+
+            if (pendingSession.state() == CLOSED || sessionByIdMap.get(pendingSession.id()) != pendingSession)
+            {
+                ArrayListUtil.fastUnorderedRemove(sessionsWithPendingEvent, i, lastIndex--);
             }
-            else if (session.state() == CONNECTED)
+            else if (pendingSession.state() == CONNECTED || pendingSession.state() == AUTHENTICATED)
             {
-                appendSessionOpen(session, nowMs);
+                appendSessionOpen(pendingSession, nowMs);
                 workCount += 1;
             }
-            else if (session.hasNewLeaderEventPending())
+            else if (pendingSession.hasNewLeaderEventPending())
             {
-                sendNewLeaderEvent(session);
+                sendNewLeaderEvent(pendingSession);
                 workCount += 1;
             }
+            else
+            {
+                ArrayListUtil.fastUnorderedRemove(sessionsWithPendingEvent, i, lastIndex--);
+            }
         }
 
+        ctx.sessionsCheckedCounter().setOrdered(checkedCount);
+
         return workCount;
     }
 
+    private void addSession(final ClusterSession session)
+    {
+        sessionByIdMap.put(session.id(), session);
+        sessionActivityList.add(session);
+    }
+
+    private void removeSession(final ClusterSession session)
+    {
+        sessionByIdMap.remove(session.id());
+        sessionActivityList.remove(session);
+    }
+
     private void sendNewLeaderEvent(final ClusterSession session)
     {
         if (egressPublisher.newLeader(session, leadershipTermId, leaderMember.id(), clientFacingEndpoints))
@@ -1966,6 +2040,13 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         return null;
     }
 
+    private boolean isDynamicJoin()
+    {
+        final String endpoints = ctx.clusterMembersStatusEndpoints();
+
+        return null != endpoints && !endpoints.isEmpty();
+    }
+
     private void awaitServiceAcks(final long logPosition)
     {
         while (!ServiceAck.hasReachedPosition(logPosition, serviceAckId, serviceAcks))
@@ -2016,24 +2097,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
 
         if (Cluster.Role.LEADER == role)
         {
-            thisMember.logPosition(appendedPosition.get());
-
-            if (commitPosition.proposeMaxOrdered(ClusterMember.quorumPosition(clusterMembers, rankedPositions)) ||
-                nowMs >= (timeOfLastLogUpdateMs + leaderHeartbeatIntervalMs))
-            {
-                final long commitPosition = this.commitPosition.getWeak();
-                for (final ClusterMember member : clusterMembers)
-                {
-                    if (member != thisMember)
-                    {
-                        final Publication publication = member.publication();
-                        memberStatusPublisher.commitPosition(publication, leadershipTermId, commitPosition, memberId);
-                    }
-                }
-
-                timeOfLastLogUpdateMs = nowMs;
-                workCount += 1;
-            }
+            workCount += updateLeaderPosition(nowMs);
         }
         else
         {
@@ -2041,12 +2105,15 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
             final Publication publication = leaderMember.publication();
 
             if (appendedPosition != lastAppendedPosition &&
+                isAppendedPositionDue(appendedPosition) &&
                 memberStatusPublisher.appendedPosition(publication, leadershipTermId, appendedPosition, memberId))
             {
                 lastAppendedPosition = appendedPosition;
                 workCount += 1;
             }
 
+            lastObservedAppendedPosition = appendedPosition;
+
             commitPosition.proposeMaxOrdered(logAdapter.position());
 
             if (nowMs >= (timeOfLastLogUpdateMs + leaderHeartbeatTimeoutMs))
@@ -2059,6 +2126,43 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
         return workCount;
     }
 
+    private int updateLeaderPosition(final long nowMs)
+    {
+        final long nowNs = nanoClock.nanoTime();
+        final long appendedPosition = this.appendedPosition.get();
+        thisMember.logPosition(appendedPosition);
+        commitLatencyTracker.onAppendedPosition(appendedPosition, nowNs);
+
+        final boolean isCommitAdvanced =
+            commitPosition.proposeMaxOrdered(ClusterMember.quorumPosition(clusterMembers, rankedPositions));
+        final long commitPosition = this.commitPosition.getWeak();
+        commitLatencyTracker.onCommitPosition(commitPosition, nowNs);
+
+        if (isCommitAdvanced || nowMs >= (timeOfLastLogUpdateMs + leaderHeartbeatIntervalMs))
+        {
+            for (final ClusterMember member : clusterMembers)
+            {
+                if (member != thisMember)
+                {
+                    final Publication publication = member.publication();
+                    memberStatusPublisher.commitPosition(publication, leadershipTermId, commitPosition, memberId);
+                }
+            }
+
+            timeOfLastLogUpdateMs = nowMs;
+            return 1;
+        }
+
+        return 0;
+    }
+
+    private boolean isAppendedPositionDue(final long appendedPosition)
+    {
+        return 0 == appendedPositionThreshold ||
+            appendedPosition == lastObservedAppendedPosition ||
+            (appendedPosition - lastAppendedPosition) >= appendedPositionThreshold;
+    }
+
     private void enterElection(final long nowMs)
     {
         ingressAdapter.close();
@@ -2128,6 +2232,16 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
                     recordingId, leadershipTermId, termBaseLogPosition, logPosition, timestampMs, SERVICE_ID);
 
                 recordingLog.force();
+
+                final int compactionThreshold = ctx.recordingLogCompactionThreshold();
+                if (compactionThreshold > 0)
+                {
+                    final long minLeadershipTermId = ClusterMember.minLeadershipTermId(clusterMembers, memberId);
+                    if (recordingLog.supersededEntryCount(minLeadershipTermId) >= compactionThreshold)
+                    {
+                        recordingLog.compact(minLeadershipTermId);
+                    }
+                }
             }
             finally
             {
@@ -2174,7 +2288,7 @@ class ConsensusModuleAgent implements Agent, MemberStatusListener
 
         snapshotTaker.markBegin(SNAPSHOT_TYPE_ID, logPosition, leadershipTermId, 0);
 
-        for (final ClusterSession session : sessionByIdMap.values())
+        for (ClusterSession session = sessionActivityList.head(); null != session; session = session.nextByActivity())
         {
             if (session.state() == OPEN || session.state() == CLOSED)
             {
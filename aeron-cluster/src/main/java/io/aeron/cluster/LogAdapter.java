@@ -33,6 +33,7 @@ final class LogAdapter implements ControlledFragmentHandler, AutoCloseable
     private static final int FRAGMENT_LIMIT = 100;
 
     private final ImageControlledFragmentAssembler fragmentAssembler = new ImageControlledFragmentAssembler(this);
+    private final int fragmentLimit;
     private final Image image;
     private final ConsensusModuleAgent consensusModuleAgent;
     private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
@@ -45,9 +46,15 @@ final class LogAdapter implements ControlledFragmentHandler, AutoCloseable
     private final ClusterChangeEventDecoder clusterChangeEventDecoder = new ClusterChangeEventDecoder();
 
     LogAdapter(final Image image, final ConsensusModuleAgent consensusModuleAgent)
+    {
+        this(image, consensusModuleAgent, FRAGMENT_LIMIT);
+    }
+
+    LogAdapter(final Image image, final ConsensusModuleAgent consensusModuleAgent, final int fragmentLimit)
     {
         this.image = image;
         this.consensusModuleAgent = consensusModuleAgent;
+        this.fragmentLimit = fragmentLimit;
     }
 
     public void close()
@@ -62,7 +69,7 @@ final class LogAdapter implements ControlledFragmentHandler, AutoCloseable
 
     int poll(final long boundPosition)
     {
-        return image.boundedControlledPoll(fragmentAssembler, boundPosition, FRAGMENT_LIMIT);
+        return image.boundedControlledPoll(fragmentAssembler, boundPosition, fragmentLimit);
     }
 
     boolean isImageClosed()
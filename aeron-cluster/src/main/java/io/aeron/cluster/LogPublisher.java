@@ -16,16 +16,22 @@
 package io.aeron.cluster;
 
 import io.aeron.ChannelUriStringBuilder;
+import io.aeron.Counter;
 import io.aeron.DirectBufferVector;
 import io.aeron.Publication;
 import io.aeron.cluster.codecs.*;
 import io.aeron.exceptions.AeronException;
 import io.aeron.logbuffer.BufferClaim;
+import org.agrona.BitUtil;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import java.util.Arrays;
+
 import static io.aeron.CommonContext.UDP_MEDIA;
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
+import static io.aeron.protocol.DataHeaderFlyweight.HEADER_LENGTH;
 
 class LogPublisher
 {
@@ -45,10 +51,39 @@ class LogPublisher
     private final BufferClaim bufferClaim = new BufferClaim();
     private final DirectBufferVector[] vectors = new DirectBufferVector[2];
     private final DirectBufferVector messageVector = new DirectBufferVector();
+    private final SessionHeaderEncoder batchSessionHeaderEncoder = new SessionHeaderEncoder();
+    private final ExpandableArrayBuffer batchBuffer;
+    private final int ingressBatchLength;
+    private final Counter ingressBatchCounter;
+    private final Counter ingressBatchedMessageCounter;
+    private DirectBufferVector[] batchVectors = new DirectBufferVector[0];
+    private int batchMessageCount;
+    private int batchBufferLength;
+    private int batchFrameLength;
     private Publication publication;
 
     LogPublisher()
     {
+        this(0, null, null);
+    }
+
+    /**
+     * Construct a publisher to the log which can coalesce ingress messages into a single append.
+     *
+     * @param ingressBatchLength           max length in bytes, including frame headers, of a batch of ingress
+     *                                     messages or 0 to append each message as it is received.
+     * @param ingressBatchCounter          for the count of batches appended.
+     * @param ingressBatchedMessageCounter for the count of messages appended in batches.
+     */
+    LogPublisher(
+        final int ingressBatchLength, final Counter ingressBatchCounter, final Counter ingressBatchedMessageCounter)
+    {
+        this.ingressBatchLength = ingressBatchLength;
+        this.ingressBatchCounter = ingressBatchCounter;
+        this.ingressBatchedMessageCounter = ingressBatchedMessageCounter;
+
+        batchBuffer = ingressBatchLength > 0 ? new ExpandableArrayBuffer(ingressBatchLength) : null;
+
         final UnsafeBuffer headerBuffer = new UnsafeBuffer(new byte[SESSION_HEADER_LENGTH]);
         sessionHeaderEncoder.wrapAndApplyHeader(headerBuffer, 0, new MessageHeaderEncoder());
 
@@ -58,11 +93,13 @@ class LogPublisher
 
     void connect(final Publication publication)
     {
+        resetIngressBatch();
         this.publication = publication;
     }
 
     void disconnect()
     {
+        resetIngressBatch();
         if (null != publication)
         {
             publication.close();
@@ -105,6 +142,100 @@ class LogPublisher
         }
     }
 
+    /**
+     * Add an ingress message to the batch to be appended to the log with {@link #flushIngressBatch()}. The batch is
+     * flushed first if the message would take it beyond the batch length. Messages which cannot be batched, or all
+     * messages when batching is disabled, are appended immediately after flushing the batch.
+     *
+     * @param correlationId    of the message.
+     * @param clusterSessionId of the session which sent the message.
+     * @param timestampMs      for the message in cluster time.
+     * @param buffer           containing the message.
+     * @param offset           at which the message begins.
+     * @param length           of the message.
+     * @return true if the message has been batched or appended otherwise false if the log is back pressured.
+     */
+    boolean batchMessage(
+        final long correlationId,
+        final long clusterSessionId,
+        final long timestampMs,
+        final DirectBuffer buffer,
+        final int offset,
+        final int length)
+    {
+        final int messageLength = SESSION_HEADER_LENGTH + length;
+        final int maxBatchLength = Math.min(ingressBatchLength, publication.maxMessageLength());
+
+        final int frameLength = BitUtil.align(HEADER_LENGTH + messageLength, FRAME_ALIGNMENT);
+        if (messageLength > publication.maxPayloadLength() || frameLength > maxBatchLength)
+        {
+            return flushIngressBatch() &&
+                appendMessage(correlationId, clusterSessionId, timestampMs, buffer, offset, length);
+        }
+
+        if (batchFrameLength + frameLength > maxBatchLength && !flushIngressBatch())
+        {
+            return false;
+        }
+
+        final int batchOffset = batchBufferLength;
+        batchSessionHeaderEncoder
+            .wrapAndApplyHeader(batchBuffer, batchOffset, messageHeaderEncoder)
+            .correlationId(correlationId)
+            .clusterSessionId(clusterSessionId)
+            .timestamp(timestampMs);
+        batchBuffer.putBytes(batchOffset + SESSION_HEADER_LENGTH, buffer, offset, length);
+
+        if (batchMessageCount == batchVectors.length)
+        {
+            final int newLength = Math.max(batchVectors.length * 2, 8);
+            batchVectors = Arrays.copyOf(batchVectors, newLength);
+            for (int i = batchMessageCount; i < newLength; i++)
+            {
+                batchVectors[i] = new DirectBufferVector();
+            }
+        }
+
+        batchVectors[batchMessageCount++].reset(batchBuffer, batchOffset, messageLength);
+        batchBufferLength += messageLength;
+        batchFrameLength += frameLength;
+
+        return true;
+    }
+
+    /**
+     * Append the batch of ingress messages to the log with a single reservation in the log.
+     *
+     * @return true if the batch has been appended or is empty otherwise false if the log is back pressured.
+     */
+    boolean flushIngressBatch()
+    {
+        final int messageCount = batchMessageCount;
+        if (0 == messageCount)
+        {
+            return true;
+        }
+
+        int attempts = SEND_ATTEMPTS;
+        do
+        {
+            final long result = publication.offerBatch(batchVectors, messageCount, null);
+            if (result > 0)
+            {
+                ingressBatchCounter.incrementOrdered();
+                ingressBatchedMessageCounter.getAndAddOrdered(messageCount);
+                resetIngressBatch();
+
+                return true;
+            }
+
+            checkResult(result);
+        }
+        while (--attempts > 0);
+
+        return false;
+    }
+
     boolean appendMessage(
         final long correlationId,
         final long clusterSessionId,
@@ -113,6 +244,11 @@ class LogPublisher
         final int offset,
         final int length)
     {
+        if (!flushIngressBatch())
+        {
+            return false;
+        }
+
         sessionHeaderEncoder
             .correlationId(correlationId)
             .clusterSessionId(clusterSessionId)
@@ -138,6 +274,11 @@ class LogPublisher
 
     long appendSessionOpen(final ClusterSession session, final long nowMs)
     {
+        if (!flushIngressBatch())
+        {
+            return Publication.BACK_PRESSURED;
+        }
+
         long result;
         final byte[] encodedPrincipal = session.encodedPrincipal();
         final String channel = session.responseChannel();
@@ -171,6 +312,11 @@ class LogPublisher
 
     boolean appendSessionClose(final ClusterSession session, final long nowMs)
     {
+        if (!flushIngressBatch())
+        {
+            return false;
+        }
+
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + SessionCloseEventEncoder.BLOCK_LENGTH;
 
         int attempts = SEND_ATTEMPTS;
@@ -199,6 +345,11 @@ class LogPublisher
 
     boolean appendTimer(final long correlationId, final long nowMs)
     {
+        if (!flushIngressBatch())
+        {
+            return false;
+        }
+
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + TimerEventEncoder.BLOCK_LENGTH;
 
         int attempts = SEND_ATTEMPTS;
@@ -227,6 +378,11 @@ class LogPublisher
     boolean appendClusterAction(
         final long leadershipTermId, final long logPosition, final long nowMs, final ClusterAction action)
     {
+        if (!flushIngressBatch())
+        {
+            return false;
+        }
+
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + ClusterActionRequestEncoder.BLOCK_LENGTH;
 
         int attempts = SEND_ATTEMPTS;
@@ -261,6 +417,11 @@ class LogPublisher
         final int leaderMemberId,
         final int logSessionId)
     {
+        if (!flushIngressBatch())
+        {
+            return false;
+        }
+
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + NewLeadershipTermEventEncoder.BLOCK_LENGTH;
 
         int attempts = SEND_ATTEMPTS;
@@ -299,6 +460,11 @@ class LogPublisher
         final int memberId,
         final String clusterMembers)
     {
+        if (!flushIngressBatch())
+        {
+            return false;
+        }
+
         long result;
 
         clusterChangeEventEncoder
@@ -330,6 +496,13 @@ class LogPublisher
         return false;
     }
 
+    private void resetIngressBatch()
+    {
+        batchMessageCount = 0;
+        batchBufferLength = 0;
+        batchFrameLength = 0;
+    }
+
     private static void checkResult(final long result)
     {
         if (result == Publication.NOT_CONNECTED ||
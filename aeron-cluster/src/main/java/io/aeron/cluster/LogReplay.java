@@ -37,7 +37,12 @@ class LogReplay implements AutoCloseable
     private final AeronArchive archive;
     private final ConsensusModuleAgent consensusModuleAgent;
     private final String channel;
+    private final int fragmentLimit;
+    private final Counter replayBytesCounter;
+    private final Counter replayRateCounter;
 
+    private long replayStartMs;
+    private long replayedPosition;
     private int replaySessionId = Aeron.NULL_VALUE;
     private State state = State.INIT;
     private Subscription logSubscription;
@@ -61,6 +66,10 @@ class LogReplay implements AutoCloseable
         this.logSessionId = logSessionId;
         this.consensusModuleAgent = consensusModuleAgent;
         this.replayStreamId = ctx.replayStreamId();
+        this.fragmentLimit = ctx.replayFragmentLimit();
+        this.replayBytesCounter = ctx.logReplayBytesCounter();
+        this.replayRateCounter = ctx.logReplayRateCounter();
+        this.replayedPosition = startPosition;
 
         final Aeron aeron = ctx.aeron();
 
@@ -77,7 +86,6 @@ class LogReplay implements AutoCloseable
         CloseHelper.close(logAdapter);
     }
 
-    @SuppressWarnings("unused")
     int doWork(final long nowMs)
     {
         int workCount = 0;
@@ -89,6 +97,8 @@ class LogReplay implements AutoCloseable
 
             final long length = stopPosition - startPosition;
             replaySessionId = (int)archive.startReplay(recordingId, startPosition, length, channel, replayStreamId);
+            replayStartMs = nowMs;
+            replayRateCounter.setOrdered(0);
             state = State.REPLAY;
             workCount = 1;
         }
@@ -99,13 +109,15 @@ class LogReplay implements AutoCloseable
                 final Image image = logSubscription.imageBySessionId(replaySessionId);
                 if (null != image)
                 {
-                    logAdapter = new LogAdapter(image, consensusModuleAgent);
+                    logAdapter = new LogAdapter(image, consensusModuleAgent, fragmentLimit);
                     workCount = 1;
                 }
             }
             else
             {
-                consensusModuleAgent.replayLogPoll(logAdapter, stopPosition);
+                workCount += consensusModuleAgent.replayLogPoll(logAdapter, stopPosition);
+                updateReplayCounters(nowMs, logAdapter.position());
+
                 if (logAdapter.position() == stopPosition)
                 {
                     consensusModuleAgent.awaitServicesReplayComplete(stopPosition);
@@ -129,4 +141,19 @@ class LogReplay implements AutoCloseable
     {
         return State.DONE == state;
     }
+
+    private void updateReplayCounters(final long nowMs, final long position)
+    {
+        if (position > replayedPosition)
+        {
+            replayBytesCounter.getAndAddOrdered(position - replayedPosition);
+            replayedPosition = position;
+
+            final long elapsedMs = nowMs - replayStartMs;
+            if (elapsedMs > 0)
+            {
+                replayRateCounter.setOrdered(((position - startPosition) * 1000) / elapsedMs);
+            }
+        }
+    }
 }
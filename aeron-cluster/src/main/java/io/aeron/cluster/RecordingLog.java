@@ -20,19 +20,22 @@ import io.aeron.cluster.client.ClusterException;
 import io.aeron.cluster.codecs.RecoveryPlanDecoder;
 import io.aeron.cluster.codecs.RecoveryPlanEncoder;
 import org.agrona.*;
-import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
 import java.nio.channels.FileChannel;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.List;
 
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
 import static java.nio.ByteOrder.LITTLE_ENDIAN;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 import static java.nio.file.StandardOpenOption.*;
 import static org.agrona.BitUtil.*;
 
@@ -76,6 +79,10 @@ import static org.agrona.BitUtil.*;
  *  |                                                               |
  *  +---------------------------------------------------------------+
  * </pre>
+ * <p>
+ * Entries are indexed in memory by leadership term and by entry type so lookups are binary searches rather than scans
+ * of the whole log. The log can be compacted with {@link #compact(long)} to remove entries superseded by the latest
+ * snapshot.
  */
 public class RecordingLog implements AutoCloseable
 {
@@ -407,6 +414,11 @@ public class RecordingLog implements AutoCloseable
      */
     public static final String RECORDING_LOG_FILE_NAME = "recording.log";
 
+    /**
+     * Suffix for the temporary file to which retained entries are written when compacting the log.
+     */
+    public static final String COMPACTION_FILE_SUFFIX = ".compact";
+
     /**
      * The log entry is for a recording of messages within a leadership term to the log.
      */
@@ -458,11 +470,14 @@ public class RecordingLog implements AutoCloseable
     private static final int ENTRY_LENGTH = BitUtil.align(ENTRY_TYPE_OFFSET + SIZE_OF_INT, CACHE_LINE_LENGTH);
 
     private int nextEntryIndex;
-    private final FileChannel fileChannel;
+    private final File parentDir;
+    private final File logFile;
+    private FileChannel fileChannel;
     private final ByteBuffer byteBuffer = ByteBuffer.allocateDirect(4096).order(LITTLE_ENDIAN);
     private final UnsafeBuffer buffer = new UnsafeBuffer(byteBuffer);
     private final ArrayList<Entry> entries = new ArrayList<>();
-    private final Long2LongHashMap indexByLeadershipTermIdMap = new Long2LongHashMap(NULL_VALUE);
+    private final ArrayList<Entry> termEntries = new ArrayList<>();
+    private final ArrayList<Entry> snapshotEntries = new ArrayList<>();
 
     /**
      * Create a log that appends to an existing log or creates a new one.
@@ -471,7 +486,8 @@ public class RecordingLog implements AutoCloseable
      */
     public RecordingLog(final File parentDir)
     {
-        final File logFile = new File(parentDir, RECORDING_LOG_FILE_NAME);
+        this.parentDir = parentDir;
+        this.logFile = new File(parentDir, RECORDING_LOG_FILE_NAME);
         final boolean newFile = !logFile.exists();
 
         try
@@ -535,38 +551,31 @@ public class RecordingLog implements AutoCloseable
 
     /**
      * Reload the log from disk.
+     * <p>
+     * The file is mapped and scanned in a single pass to rebuild the entries and the indices by leadership term and
+     * entry type.
      */
     public void reload()
     {
         entries.clear();
-        indexByLeadershipTermIdMap.clear();
-        indexByLeadershipTermIdMap.compact();
-
+        termEntries.clear();
+        snapshotEntries.clear();
         nextEntryIndex = 0;
-        byteBuffer.clear();
 
         try
         {
-            while (true)
+            final long fileLength = fileChannel.size();
+            final int length = (int)(fileLength - (fileLength % ENTRY_LENGTH));
+            if (length > 0)
             {
-                final int bytes = fileChannel.read(byteBuffer);
-                if (byteBuffer.remaining() == 0)
+                final MappedByteBuffer mappedBuffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, 0, length);
+                try
                 {
-                    byteBuffer.flip();
-                    captureEntriesFromBuffer(byteBuffer, buffer, entries);
-                    byteBuffer.clear();
+                    captureEntries(new UnsafeBuffer(mappedBuffer), length);
                 }
-
-                if (-1 == bytes)
+                finally
                 {
-                    if (byteBuffer.position() > 0)
-                    {
-                        byteBuffer.flip();
-                        captureEntriesFromBuffer(byteBuffer, buffer, entries);
-                        byteBuffer.clear();
-                    }
-
-                    break;
+                    IoUtil.unmap(mappedBuffer);
                 }
             }
         }
@@ -584,18 +593,19 @@ public class RecordingLog implements AutoCloseable
      */
     public Entry getTermEntry(final long leadershipTermId)
     {
-        final int index = (int)indexByLeadershipTermIdMap.get(leadershipTermId);
-        if (NULL_VALUE == index)
+        final int index = termEntryIndex(leadershipTermId);
+        if (-1 == index)
         {
             throw new ClusterException("unknown leadershipTermId=" + leadershipTermId);
         }
 
-        return entries.get(index);
+        return termEntries.get(index);
     }
 
     /**
      * Find entries in a {@link RecordingLog} from a leadershipTermId inclusive. The results are limited to a count
-     * and can optionally include snapshots or not.
+     * and can optionally include snapshots or not. If the leadershipTermId is before the first term retained by
+     * {@link #compact(long)} then the results begin with the first retained entry.
      *
      * @param fromLeadershipTermId include value from which the query begins.
      * @param entryLimit           to limit the number of returned results.
@@ -608,22 +618,18 @@ public class RecordingLog implements AutoCloseable
         final boolean includeSnapshots,
         final List<Entry> results)
     {
-        int index = (int)indexByLeadershipTermIdMap.get(fromLeadershipTermId);
-        if (NULL_VALUE == index)
+        if (-1 == termEntryIndex(fromLeadershipTermId) &&
+            (termEntries.isEmpty() || fromLeadershipTermId > termEntries.get(0).leadershipTermId))
         {
             return;
         }
 
-        for (int size = entries.size(), count = 0; index < size && count < entryLimit; index++)
+        final ArrayList<Entry> entries = includeSnapshots ? this.entries : termEntries;
+        for (int i = firstIndexOfTerm(entries, fromLeadershipTermId), size = entries.size(), count = 0;
+            i < size && count < entryLimit;
+            i++, count++)
         {
-            final Entry entry = entries.get(index);
-            if (ENTRY_TYPE_SNAPSHOT == entry.type && !includeSnapshots)
-            {
-                continue;
-            }
-
-            results.add(entry);
-            count++;
+            results.add(entries.get(i));
         }
     }
 
@@ -635,10 +641,10 @@ public class RecordingLog implements AutoCloseable
      */
     public Entry getLatestSnapshot(final int serviceId)
     {
-        for (int i = entries.size() - 1; i >= 0; i--)
+        for (int i = snapshotEntries.size() - 1; i >= 0; i--)
         {
-            final Entry entry = entries.get(i);
-            if (ENTRY_TYPE_SNAPSHOT == entry.type && serviceId == entry.serviceId)
+            final Entry entry = snapshotEntries.get(i);
+            if (serviceId == entry.serviceId)
             {
                 return entry;
             }
@@ -659,7 +665,7 @@ public class RecordingLog implements AutoCloseable
     {
         final ArrayList<Snapshot> snapshots = new ArrayList<>();
         final ArrayList<Log> logs = new ArrayList<>();
-        planRecovery(snapshots, logs, entries, archive, serviceCount);
+        planRecovery(snapshots, logs, termEntries, snapshotEntries, archive, serviceCount);
 
         long lastLeadershipTermId = NULL_VALUE;
         long lastTermBaseLogPosition = 0;
@@ -704,9 +710,7 @@ public class RecordingLog implements AutoCloseable
      */
     public boolean hasTermBeenAppended(final long leadershipTermId)
     {
-        final int index = (int)indexByLeadershipTermIdMap.get(leadershipTermId);
-
-        return (NULL_VALUE != index);
+        return -1 != termEntryIndex(leadershipTermId);
     }
 
     /**
@@ -725,15 +729,13 @@ public class RecordingLog implements AutoCloseable
         {
             final Entry lastEntry = entries.get(size - 1);
 
-            if (lastEntry.type != NULL_VALUE && lastEntry.leadershipTermId >= leadershipTermId)
+            if (lastEntry.leadershipTermId >= leadershipTermId)
             {
                 throw new ClusterException("leadershipTermId out of sequence: previous " +
                     lastEntry.leadershipTermId + " this " + leadershipTermId);
             }
         }
 
-        indexByLeadershipTermIdMap.put(leadershipTermId, nextEntryIndex);
-
         append(
             ENTRY_TYPE_TERM,
             recordingId,
@@ -792,11 +794,16 @@ public class RecordingLog implements AutoCloseable
      */
     public void commitLogPosition(final long leadershipTermId, final long logPosition)
     {
-        final int index = getLeadershipTermEntryIndex(leadershipTermId);
-        commitEntryValue(index, logPosition, LOG_POSITION_OFFSET);
+        final int termIndex = termEntryIndex(leadershipTermId);
+        if (-1 == termIndex)
+        {
+            throw new ClusterException("unknown leadershipTermId: " + leadershipTermId);
+        }
 
-        final Entry entry = entries.get(index);
-        entries.set(index, new Entry(
+        final Entry entry = termEntries.get(termIndex);
+        commitEntryValue(entry.entryIndex, logPosition, LOG_POSITION_OFFSET);
+
+        final Entry committedEntry = new Entry(
             entry.recordingId,
             entry.leadershipTermId,
             entry.termBaseLogPosition,
@@ -804,7 +811,17 @@ public class RecordingLog implements AutoCloseable
             entry.timestamp,
             entry.serviceId,
             entry.type,
-            entry.entryIndex));
+            entry.entryIndex);
+
+        termEntries.set(termIndex, committedEntry);
+        for (int i = firstIndexOfTerm(entries, leadershipTermId), size = entries.size(); i < size; i++)
+        {
+            if (entries.get(i) == entry)
+            {
+                entries.set(i, committedEntry);
+                break;
+            }
+        }
     }
 
     /**
@@ -815,31 +832,40 @@ public class RecordingLog implements AutoCloseable
      */
     public void tombstoneEntry(final long leadershipTermId, final int entryIndex)
     {
-        int index = -1;
-        for (int i = 0, size = entries.size(); i < size; i++)
+        Entry tombstonedEntry = null;
+        for (int i = firstIndexOfTerm(entries, leadershipTermId), size = entries.size(); i < size; i++)
         {
             final Entry entry = entries.get(i);
-            if (entry.leadershipTermId == leadershipTermId && entry.entryIndex == entryIndex)
+            if (entry.leadershipTermId != leadershipTermId)
             {
-                index = entry.entryIndex;
-
-                if (ENTRY_TYPE_TERM == entry.type)
-                {
-                    indexByLeadershipTermIdMap.remove(leadershipTermId);
-                }
+                break;
+            }
 
+            if (entry.entryIndex == entryIndex)
+            {
+                tombstonedEntry = entry;
+                entries.remove(i);
                 break;
             }
         }
 
-        if (-1 == index)
+        if (null == tombstonedEntry)
         {
             throw new ClusterException("unknown entry index: " + entryIndex);
         }
 
+        if (ENTRY_TYPE_TERM == tombstonedEntry.type)
+        {
+            termEntries.remove(tombstonedEntry);
+        }
+        else
+        {
+            snapshotEntries.remove(tombstonedEntry);
+        }
+
         buffer.putInt(0, NULL_VALUE, LITTLE_ENDIAN);
         byteBuffer.limit(SIZE_OF_INT).position(0);
-        final long filePosition = (index * (long)ENTRY_LENGTH) + ENTRY_TYPE_OFFSET;
+        final long filePosition = (entryIndex * (long)ENTRY_LENGTH) + ENTRY_TYPE_OFFSET;
 
         try
         {
@@ -854,6 +880,120 @@ public class RecordingLog implements AutoCloseable
         }
     }
 
+    /**
+     * Count of entries in the log which have been superseded by the latest snapshot and are no longer required for
+     * recovery, plus any tombstoned entries still occupying space in the file.
+     * <p>
+     * Superseded entries are snapshots other than the latest set taken at the same log position and terms before both
+     * the term of the latest snapshot and the minimum leadership term id which other members may still ask for.
+     *
+     * @param minLeadershipTermId the lowest leadership term id of the other members, from which term entries are
+     *                            retained so their elections and queries can be served, or
+     *                            {@link io.aeron.Aeron#NULL_VALUE} to retain all term entries.
+     * @return count of entries which would be removed by {@link #compact(long)}.
+     */
+    public int supersededEntryCount(final long minLeadershipTermId)
+    {
+        final int tombstonedCount = nextEntryIndex - entries.size();
+        final int snapshotCount = snapshotEntries.size();
+        if (0 == snapshotCount)
+        {
+            return tombstonedCount;
+        }
+
+        final int retainedSnapshotCount = snapshotCount - firstIndexOfLatestSnapshotSet();
+        final long retainedLeadershipTermId = Math.min(
+            snapshotEntries.get(snapshotCount - 1).leadershipTermId, minLeadershipTermId);
+        final int retainedTermCount = termEntries.size() - firstIndexOfTerm(termEntries, retainedLeadershipTermId);
+
+        return tombstonedCount + entries.size() - retainedSnapshotCount - retainedTermCount;
+    }
+
+    /**
+     * Compact the log by removing entries which are superseded by the latest snapshot, see
+     * {@link #supersededEntryCount(long)}, and tombstoned entries.
+     * <p>
+     * The retained entries are written to a temporary file which is then atomically renamed over the log so a failure
+     * part way through leaves the existing log intact. Entries are assigned new entry indices by the compaction. This
+     * can be run by the node which has the log open or offline on the log of a stopped node.
+     *
+     * @param minLeadershipTermId the lowest leadership term id of the other members, from which term entries are
+     *                            retained so their elections and queries can be served, or
+     *                            {@link io.aeron.Aeron#NULL_VALUE} to retain all term entries.
+     * @return the number of entries removed from the log.
+     */
+    public int compact(final long minLeadershipTermId)
+    {
+        final int supersededEntryCount = supersededEntryCount(minLeadershipTermId);
+        if (0 == supersededEntryCount)
+        {
+            return 0;
+        }
+
+        final ArrayList<Entry> retainedEntries = new ArrayList<>();
+        if (snapshotEntries.isEmpty())
+        {
+            retainedEntries.addAll(entries);
+        }
+        else
+        {
+            final Entry latestSnapshot = snapshotEntries.get(snapshotEntries.size() - 1);
+            final Entry firstSnapshot = snapshotEntries.get(firstIndexOfLatestSnapshotSet());
+            final int fromIndex = firstIndexOfTerm(
+                entries, Math.min(latestSnapshot.leadershipTermId, minLeadershipTermId));
+
+            for (int i = fromIndex, size = entries.size(); i < size; i++)
+            {
+                final Entry entry = entries.get(i);
+                if (ENTRY_TYPE_TERM == entry.type || entry.entryIndex >= firstSnapshot.entryIndex)
+                {
+                    retainedEntries.add(entry);
+                }
+            }
+        }
+
+        final File compactedFile = new File(parentDir, RECORDING_LOG_FILE_NAME + COMPACTION_FILE_SUFFIX);
+        IoUtil.delete(compactedFile, true);
+
+        try
+        {
+            try (FileChannel compactedChannel = FileChannel.open(compactedFile.toPath(), CREATE_NEW, WRITE))
+            {
+                for (int i = 0, size = retainedEntries.size(); i < size; i++)
+                {
+                    final Entry entry = retainedEntries.get(i);
+                    writeEntry(
+                        compactedChannel,
+                        i,
+                        entry.type,
+                        entry.recordingId,
+                        entry.leadershipTermId,
+                        entry.termBaseLogPosition,
+                        entry.logPosition,
+                        entry.timestamp,
+                        entry.serviceId);
+                }
+
+                compactedChannel.force(true);
+            }
+
+            Files.move(compactedFile.toPath(), logFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+            syncDirectory(parentDir);
+
+            CloseHelper.close(fileChannel);
+            fileChannel = FileChannel.open(logFile.toPath(), READ, WRITE);
+        }
+        catch (final IOException ex)
+        {
+            IoUtil.delete(compactedFile, true);
+            throw new ClusterException(ex);
+        }
+
+        reload();
+
+        return supersededEntryCount;
+    }
+
     public String toString()
     {
         return "RecordingLog{" +
@@ -869,6 +1009,39 @@ public class RecordingLog implements AutoCloseable
         final long logPosition,
         final long timestamp,
         final int serviceId)
+    {
+        writeEntry(
+            fileChannel,
+            nextEntryIndex,
+            entryType,
+            recordingId,
+            leadershipTermId,
+            termBaseLogPosition,
+            logPosition,
+            timestamp,
+            serviceId);
+
+        addEntry(new Entry(
+            recordingId,
+            leadershipTermId,
+            termBaseLogPosition,
+            logPosition,
+            timestamp,
+            serviceId,
+            entryType,
+            nextEntryIndex++));
+    }
+
+    private void writeEntry(
+        final FileChannel fileChannel,
+        final int entryIndex,
+        final int entryType,
+        final long recordingId,
+        final long leadershipTermId,
+        final long termBaseLogPosition,
+        final long logPosition,
+        final long timestamp,
+        final int serviceId)
     {
         buffer.putLong(RECORDING_ID_OFFSET, recordingId, LITTLE_ENDIAN);
         buffer.putLong(LEADERSHIP_TERM_ID_OFFSET, leadershipTermId, LITTLE_ENDIAN);
@@ -882,7 +1055,7 @@ public class RecordingLog implements AutoCloseable
 
         try
         {
-            if (ENTRY_LENGTH != fileChannel.write(byteBuffer))
+            if (ENTRY_LENGTH != fileChannel.write(byteBuffer, entryIndex * (long)ENTRY_LENGTH))
             {
                 throw new ClusterException("failed to write entry atomically");
             }
@@ -891,28 +1064,31 @@ public class RecordingLog implements AutoCloseable
         {
             LangUtil.rethrowUnchecked(ex);
         }
+    }
 
-        entries.add(new Entry(
-            recordingId,
-            leadershipTermId,
-            termBaseLogPosition,
-            logPosition,
-            timestamp,
-            serviceId,
-            entryType,
-            nextEntryIndex++));
+    private void addEntry(final Entry entry)
+    {
+        entries.add(entry);
+
+        if (ENTRY_TYPE_TERM == entry.type)
+        {
+            termEntries.add(entry);
+        }
+        else
+        {
+            snapshotEntries.add(entry);
+        }
     }
 
-    private void captureEntriesFromBuffer(
-        final ByteBuffer byteBuffer, final UnsafeBuffer buffer, final ArrayList<Entry> entries)
+    private void captureEntries(final UnsafeBuffer buffer, final int length)
     {
-        for (int i = 0, length = byteBuffer.limit(); i < length; i += ENTRY_LENGTH)
+        for (int i = 0; i < length; i += ENTRY_LENGTH)
         {
-            final int entryType = buffer.getInt(i + ENTRY_TYPE_OFFSET);
+            final int entryType = buffer.getInt(i + ENTRY_TYPE_OFFSET, LITTLE_ENDIAN);
 
             if (NULL_VALUE != entryType)
             {
-                final Entry entry = new Entry(
+                addEntry(new Entry(
                     buffer.getLong(i + RECORDING_ID_OFFSET, LITTLE_ENDIAN),
                     buffer.getLong(i + LEADERSHIP_TERM_ID_OFFSET, LITTLE_ENDIAN),
                     buffer.getLong(i + TERM_BASE_LOG_POSITION_OFFSET, LITTLE_ENDIAN),
@@ -920,18 +1096,66 @@ public class RecordingLog implements AutoCloseable
                     buffer.getLong(i + TIMESTAMP_OFFSET, LITTLE_ENDIAN),
                     buffer.getInt(i + SERVICE_ID_OFFSET, LITTLE_ENDIAN),
                     entryType,
-                    nextEntryIndex);
+                    nextEntryIndex));
+            }
 
-                entries.add(entry);
+            ++nextEntryIndex;
+        }
+    }
 
-                if (ENTRY_TYPE_TERM == entryType)
-                {
-                    indexByLeadershipTermIdMap.put(entry.leadershipTermId, nextEntryIndex);
-                }
+    private int termEntryIndex(final long leadershipTermId)
+    {
+        final int index = firstIndexOfTerm(termEntries, leadershipTermId);
+        if (index < termEntries.size() && termEntries.get(index).leadershipTermId == leadershipTermId)
+        {
+            return index;
+        }
+
+        return -1;
+    }
+
+    private int firstIndexOfLatestSnapshotSet()
+    {
+        final Entry latestSnapshot = snapshotEntries.get(snapshotEntries.size() - 1);
+        int index = snapshotEntries.size() - 1;
+        while (index > 0)
+        {
+            final Entry entry = snapshotEntries.get(index - 1);
+            if (entry.leadershipTermId != latestSnapshot.leadershipTermId ||
+                entry.logPosition != latestSnapshot.logPosition)
+            {
+                break;
             }
 
-            ++nextEntryIndex;
+            index--;
+        }
+
+        return index;
+    }
+
+    /**
+     * Binary search for the index of the first entry with a leadershipTermId greater than or equal to the one given.
+     * Entries are appended in leadership term order.
+     */
+    private static int firstIndexOfTerm(final ArrayList<Entry> entries, final long leadershipTermId)
+    {
+        int low = 0;
+        int high = entries.size() - 1;
+
+        while (low <= high)
+        {
+            final int mid = (low + high) >>> 1;
+            if (entries.get(mid).leadershipTermId < leadershipTermId)
+            {
+                low = mid + 1;
+            }
+            else
+            {
+                high = mid - 1;
+            }
         }
+
+        return low;
     }
 
     private static void syncDirectory(final File dir)
@@ -954,20 +1178,6 @@ public class RecordingLog implements AutoCloseable
         }
     }
 
-    private int getLeadershipTermEntryIndex(final long leadershipTermId)
-    {
-        for (int i = 0, size = entries.size(); i < size; i++)
-        {
-            final Entry entry = entries.get(i);
-            if (entry.leadershipTermId == leadershipTermId && entry.type == ENTRY_TYPE_TERM)
-            {
-                return entry.entryIndex;
-            }
-        }
-
-        throw new ClusterException("unknown leadershipTermId: " + leadershipTermId);
-    }
-
     private void commitEntryValue(final int entryIndex, final long value, final int fieldOffset)
     {
         buffer.putLong(0, value, LITTLE_ENDIAN);
@@ -990,39 +1200,25 @@ public class RecordingLog implements AutoCloseable
     private static void planRecovery(
         final ArrayList<Snapshot> snapshots,
         final ArrayList<Log> logs,
-        final ArrayList<Entry> entries,
+        final ArrayList<Entry> termEntries,
+        final ArrayList<Entry> snapshotEntries,
         final AeronArchive archive,
         final int serviceCount)
     {
-        if (entries.isEmpty())
-        {
-            return;
-        }
-
         int logIndex = -1;
-        int snapshotIndex = -1;
-        for (int i = entries.size() - 1; i >= 0; i--)
+        for (int i = termEntries.size() - 1; i >= 0; i--)
         {
-            final Entry entry = entries.get(i);
-            if (-1 == snapshotIndex && ENTRY_TYPE_SNAPSHOT == entry.type)
-            {
-                snapshotIndex = i;
-            }
-            else if (-1 == logIndex && ENTRY_TYPE_TERM == entry.type && NULL_VALUE != entry.recordingId)
+            if (NULL_VALUE != termEntries.get(i).recordingId)
             {
                 logIndex = i;
-            }
-            else if (-1 != snapshotIndex && -1 != logIndex)
-            {
                 break;
             }
         }
 
-        final RecordingExtent recordingExtent = new RecordingExtent();
-
+        final int snapshotIndex = snapshotEntries.size() - 1;
         if (-1 != snapshotIndex)
         {
-            final Entry snapshot = entries.get(snapshotIndex);
+            final Entry snapshot = snapshotEntries.get(snapshotIndex);
             snapshots.add(new Snapshot(
                 snapshot.recordingId,
                 snapshot.leadershipTermId,
@@ -1035,13 +1231,13 @@ public class RecordingLog implements AutoCloseable
             {
                 if ((snapshotIndex - i) < 0)
                 {
-                    throw new ClusterException("snapshot missing for service at index " + i + " in " + entries);
+                    throw new ClusterException(
+                        "snapshot missing for service at index " + i + " in " + snapshotEntries);
                 }
 
-                final Entry entry = entries.get(snapshotIndex - 1);
+                final Entry entry = snapshotEntries.get(snapshotIndex - i);
 
-                if (ENTRY_TYPE_SNAPSHOT == entry.type &&
-                    entry.leadershipTermId == snapshot.leadershipTermId &&
+                if (entry.leadershipTermId == snapshot.leadershipTermId &&
                     entry.logPosition == snapshot.logPosition)
                 {
                     snapshots.add(entry.serviceId + 1, new Snapshot(
@@ -1057,7 +1253,8 @@ public class RecordingLog implements AutoCloseable
 
         if (-1 != logIndex)
         {
-            final Entry entry = entries.get(logIndex);
+            final RecordingExtent recordingExtent = new RecordingExtent();
+            final Entry entry = termEntries.get(logIndex);
             getRecordingExtent(archive, recordingExtent, entry);
 
             final long startPosition = -1 == snapshotIndex ?
@@ -48,6 +48,7 @@ final class ServiceProxy implements AutoCloseable
         final long maxLogPosition,
         final int logSessionId,
         final int logStreamId,
+        final boolean isDynamicJoin,
         final String channel)
     {
         final int length = MessageHeaderEncoder.ENCODED_LENGTH + JoinLogEncoder.BLOCK_LENGTH +
@@ -66,6 +67,7 @@ final class ServiceProxy implements AutoCloseable
                     .maxLogPosition(maxLogPosition)
                     .logSessionId(logSessionId)
                     .logStreamId(logStreamId)
+                    .isDynamicJoin(isDynamicJoin ? BooleanType.TRUE : BooleanType.FALSE)
                     .logChannel(channel);
 
                 bufferClaim.commit();
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+/**
+ * Intrusive list of {@link ClusterSession}s ordered by time of last activity, oldest first, so sessions which have
+ * timed out can be found at the head without scanning all sessions.
+ * <p>
+ * Activity times on the leader advance with cluster time so a session which has activity is moved to the tail in
+ * constant time. Sessions with an older time, such as when loaded from a snapshot, are inserted in order by walking
+ * back from the tail.
+ */
+class SessionActivityList
+{
+    private ClusterSession head;
+    private ClusterSession tail;
+    private int size;
+
+    /**
+     * Session with the oldest time of last activity.
+     *
+     * @return session with the oldest time of last activity or null if the list is empty.
+     */
+    ClusterSession head()
+    {
+        return head;
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Add a session to the list in order of its time of last activity.
+     *
+     * @param session to be added.
+     */
+    void add(final ClusterSession session)
+    {
+        final long timeOfLastActivityMs = session.timeOfLastActivityMs();
+        ClusterSession prev = tail;
+        while (null != prev && prev.timeOfLastActivityMs() > timeOfLastActivityMs)
+        {
+            prev = prev.prevByActivity();
+        }
+
+        final ClusterSession next = null == prev ? head : prev.nextByActivity();
+        session.prevByActivity(prev);
+        session.nextByActivity(next);
+
+        if (null == prev)
+        {
+            head = session;
+        }
+        else
+        {
+            prev.nextByActivity(session);
+        }
+
+        if (null == next)
+        {
+            tail = session;
+        }
+        else
+        {
+            next.prevByActivity(session);
+        }
+
+        size++;
+    }
+
+    /**
+     * Remove a session from the list if it is present.
+     *
+     * @param session to be removed.
+     */
+    void remove(final ClusterSession session)
+    {
+        final ClusterSession prev = session.prevByActivity();
+        final ClusterSession next = session.nextByActivity();
+
+        if (null == prev)
+        {
+            if (head != session)
+            {
+                return;
+            }
+
+            head = next;
+        }
+        else
+        {
+            prev.nextByActivity(next);
+        }
+
+        if (null == next)
+        {
+            tail = prev;
+        }
+        else
+        {
+            next.prevByActivity(prev);
+        }
+
+        session.prevByActivity(null);
+        session.nextByActivity(null);
+        size--;
+    }
+
+    /**
+     * Move a session to its new place in the list after its time of last activity has been updated.
+     *
+     * @param session which has had activity.
+     */
+    void onActivity(final ClusterSession session)
+    {
+        remove(session);
+        add(session);
+    }
+}
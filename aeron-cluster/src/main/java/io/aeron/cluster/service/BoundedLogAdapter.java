@@ -45,15 +45,23 @@ final class BoundedLogAdapter implements ControlledFragmentHandler, AutoCloseabl
     private final NewLeadershipTermEventDecoder newLeadershipTermEventDecoder = new NewLeadershipTermEventDecoder();
     private final ClusterChangeEventDecoder clusterChangeEventDecoder = new ClusterChangeEventDecoder();
 
+    private final int fragmentLimit;
     private final Image image;
     private final ReadableCounter upperBound;
     private final ClusteredServiceAgent agent;
 
     BoundedLogAdapter(final Image image, final ReadableCounter upperBound, final ClusteredServiceAgent agent)
+    {
+        this(image, upperBound, agent, FRAGMENT_LIMIT);
+    }
+
+    BoundedLogAdapter(
+        final Image image, final ReadableCounter upperBound, final ClusteredServiceAgent agent, final int fragmentLimit)
     {
         this.image = image;
         this.upperBound = upperBound;
         this.agent = agent;
+        this.fragmentLimit = fragmentLimit;
     }
 
     public void close()
@@ -73,7 +81,7 @@ final class BoundedLogAdapter implements ControlledFragmentHandler, AutoCloseabl
 
     public int poll()
     {
-        return image.boundedControlledPoll(fragmentAssembler, upperBound.get(), FRAGMENT_LIMIT);
+        return image.boundedControlledPoll(fragmentAssembler, upperBound.get(), fragmentLimit);
     }
 
     @SuppressWarnings("MethodLength")
@@ -17,6 +17,7 @@ package io.aeron.cluster.service;
 
 import io.aeron.Image;
 import io.aeron.Publication;
+import io.aeron.cluster.client.ClusterException;
 import io.aeron.cluster.codecs.CloseReason;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
@@ -101,6 +102,33 @@ public interface ClusteredService
      */
     void onLoadSnapshot(Image snapshotImage);
 
+    /**
+     * The service should store only the changes to its state since the previous snapshot to the provided archive
+     * {@link Publication}. This is called in place of {@link #onTakeSnapshot(Publication)} when delta snapshots are
+     * enabled with {@link ClusteredServiceContainer.Configuration#SNAPSHOT_DELTA_LIMIT_PROP_NAME} and the chain of
+     * deltas to the last full snapshot has not reached the limit.
+     * <p>
+     * Services must implement this method, and {@link #onLoadDeltaSnapshot(Image)}, for delta snapshots to be enabled.
+     *
+     * @param snapshotPublication to which the changes in state should be recorded.
+     */
+    default void onTakeDeltaSnapshot(Publication snapshotPublication)
+    {
+        throw new ClusterException("delta snapshot not supported by service");
+    }
+
+    /**
+     * The service should apply the changes to its state stored in a delta snapshot in the provided archived
+     * {@link Image}. On recovery the full snapshot is loaded with {@link #onLoadSnapshot(Image)} and then each
+     * delta chained to it is applied, oldest first.
+     *
+     * @param snapshotImage from which the service should apply the changes to its state.
+     */
+    default void onLoadDeltaSnapshot(Image snapshotImage)
+    {
+        throw new ClusterException("delta snapshot not supported by service");
+    }
+
     /**
      * Notify that the cluster node has changed role.
      *
@@ -24,7 +24,9 @@ import io.aeron.logbuffer.Header;
 import io.aeron.status.ReadableCounter;
 import org.agrona.CloseHelper;
 import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
 import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.*;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.status.CountersReader;
@@ -68,6 +70,8 @@ class ClusteredServiceAgent implements Agent, Cluster
     private ReadableCounter commitPosition;
     private ActiveLogEvent activeLogEvent;
     private Role role = Role.FOLLOWER;
+    private final LongArrayList snapshotChain = new LongArrayList();
+    private final ExpandableArrayBuffer snapshotChainBuffer = new ExpandableArrayBuffer();
 
     ClusteredServiceAgent(final ClusteredServiceContainer.Context ctx)
     {
@@ -264,8 +268,16 @@ class ClusteredServiceAgent implements Agent, Cluster
         final long maxLogPosition,
         final int logSessionId,
         final int logStreamId,
+        final boolean isDynamicJoin,
         final String logChannel)
     {
+        if (isDynamicJoin && ctx.snapshotDeltaLimit() > 0)
+        {
+            throw new ClusterException(
+                "delta snapshots are not supported with dynamic join as a joining member only copies the " +
+                "latest snapshot: snapshotDeltaLimit=" + ctx.snapshotDeltaLimit());
+        }
+
         activeLogEvent = new ActiveLogEvent(
             leadershipTermId, logPosition, maxLogPosition, logSessionId, logStreamId, logChannel);
     }
@@ -424,7 +436,8 @@ class ClusteredServiceAgent implements Agent, Cluster
 
 
                 final Image image = awaitImage(activeLogEvent.sessionId, subscription);
-                final BoundedLogAdapter adapter = new BoundedLogAdapter(image, commitPosition, this);
+                final BoundedLogAdapter adapter = new BoundedLogAdapter(
+                    image, commitPosition, this, ctx.replayFragmentLimit());
 
                 consumeImage(image, adapter, activeLogEvent.maxLogPosition);
             }
@@ -585,15 +598,56 @@ class ClusteredServiceAgent implements Agent, Cluster
             try (Subscription subscription = aeron.addSubscription(replaySessionChannel, streamId))
             {
                 final Image image = awaitImage(sessionId, subscription);
-                loadState(image);
+                final LongArrayList chain = loadState(image, true);
+                snapshotChain.clear();
+
+                if (chain.isEmpty())
+                {
+                    service.onLoadSnapshot(image);
+                }
+                else
+                {
+                    for (int i = 0, size = chain.size(); i < size; i++)
+                    {
+                        final long chainRecordingId = chain.getLong(i);
+                        loadChainedSnapshot(archive, chainRecordingId, i > 0);
+                        snapshotChain.addLong(chainRecordingId);
+                    }
+
+                    service.onLoadDeltaSnapshot(image);
+                }
+            }
+
+            snapshotChain.addLong(recordingId);
+        }
+    }
+
+    private void loadChainedSnapshot(final AeronArchive archive, final long recordingId, final boolean isDelta)
+    {
+        final String channel = ctx.replayChannel();
+        final int streamId = ctx.replayStreamId();
+        final int sessionId = (int)archive.startReplay(recordingId, 0, NULL_VALUE, channel, streamId);
+
+        final String replaySessionChannel = ChannelUri.addSessionId(channel, sessionId);
+        try (Subscription subscription = aeron.addSubscription(replaySessionChannel, streamId))
+        {
+            final Image image = awaitImage(sessionId, subscription);
+            loadState(image, false);
+
+            if (isDelta)
+            {
+                service.onLoadDeltaSnapshot(image);
+            }
+            else
+            {
                 service.onLoadSnapshot(image);
             }
         }
     }
 
-    private void loadState(final Image image)
+    private LongArrayList loadState(final Image image, final boolean isLoadingSessions)
     {
-        final ServiceSnapshotLoader snapshotLoader = new ServiceSnapshotLoader(image, this);
+        final ServiceSnapshotLoader snapshotLoader = new ServiceSnapshotLoader(image, this, isLoadingSessions);
         while (true)
         {
             final int fragments = snapshotLoader.poll();
@@ -614,6 +668,8 @@ class ClusteredServiceAgent implements Agent, Cluster
                 idleStrategy.idle(fragments);
             }
         }
+
+        return snapshotLoader.snapshotChain();
     }
 
     private long onTakeSnapshot(final long logPosition, final long leadershipTermId)
@@ -631,10 +687,22 @@ class ClusteredServiceAgent implements Agent, Cluster
                 final int counterId = awaitRecordingCounter(publication.sessionId(), counters);
 
                 recordingId = RecordingPos.getRecordingId(counters, counterId);
-                snapshotState(publication, logPosition, leadershipTermId);
-                service.onTakeSnapshot(publication);
+
+                final int snapshotDeltaLimit = ctx.snapshotDeltaLimit();
+                final boolean isDelta = !snapshotChain.isEmpty() && snapshotChain.size() <= snapshotDeltaLimit;
+                snapshotState(publication, logPosition, leadershipTermId, isDelta);
+                if (isDelta)
+                {
+                    service.onTakeDeltaSnapshot(publication);
+                }
+                else
+                {
+                    service.onTakeSnapshot(publication);
+                    snapshotChain.clear();
+                }
 
                 awaitRecordingComplete(recordingId, publication.position(), counters, counterId, archive);
+                snapshotChain.addLong(recordingId);
             }
             finally
             {
@@ -668,12 +736,18 @@ class ClusteredServiceAgent implements Agent, Cluster
         while (counters.getCounterValue(counterId) < position);
     }
 
-    private void snapshotState(final Publication publication, final long logPosition, final long leadershipTermId)
+    private void snapshotState(
+        final Publication publication, final long logPosition, final long leadershipTermId, final boolean isDelta)
     {
         final ServiceSnapshotTaker snapshotTaker = new ServiceSnapshotTaker(publication, idleStrategy, null);
 
         snapshotTaker.markBegin(ClusteredServiceContainer.SNAPSHOT_TYPE_ID, logPosition, leadershipTermId, 0);
 
+        if (isDelta)
+        {
+            snapshotTaker.snapshotChain(snapshotChain, snapshotChainBuffer);
+        }
+
         for (final ClientSession clientSession : sessionByIdMap.values())
         {
             snapshotTaker.snapshotSession(clientSession);
@@ -17,6 +17,8 @@ package io.aeron.cluster.service;
 
 import io.aeron.Aeron;
 import io.aeron.CommonContext;
+import io.aeron.Image;
+import io.aeron.Publication;
 import io.aeron.archive.client.AeronArchive;
 import io.aeron.cluster.client.ClusterException;
 import io.aeron.cluster.codecs.mark.ClusterComponentType;
@@ -263,6 +265,29 @@ public final class ClusteredServiceContainer implements AutoCloseable
          */
         public static final boolean RESPONDER_SERVICE_DEFAULT = true;
 
+        /**
+         * Max number of delta snapshots, taken with {@link ClusteredService#onTakeDeltaSnapshot(Publication)}, which
+         * can be chained to a full snapshot before the chain is compacted by taking a full snapshot. A value of 0
+         * disables delta snapshots so every snapshot is full.
+         */
+        public static final String SNAPSHOT_DELTA_LIMIT_PROP_NAME = "aeron.cluster.service.snapshot.delta.limit";
+
+        /**
+         * Default max number of delta snapshots chained to a full snapshot which disables delta snapshots.
+         */
+        public static final int SNAPSHOT_DELTA_LIMIT_DEFAULT = 0;
+
+        /**
+         * Max number of fragments consumed from the log in each poll while replaying it during recovery. Larger values
+         * allow a service to consume the replay in bigger batches behind the consensus module.
+         */
+        public static final String REPLAY_FRAGMENT_LIMIT_PROP_NAME = "aeron.cluster.service.replay.fragment.limit";
+
+        /**
+         * Default max number of fragments consumed from the log in each poll while replaying it during recovery.
+         */
+        public static final int REPLAY_FRAGMENT_LIMIT_DEFAULT = 100;
+
         /**
          * The value {@link #SERVICE_ID_DEFAULT} or system property {@link #SERVICE_ID_PROP_NAME} if set.
          *
@@ -416,6 +441,30 @@ public final class ClusteredServiceContainer implements AutoCloseable
 
             return "true".equals(property);
         }
+
+        /**
+         * The value {@link #SNAPSHOT_DELTA_LIMIT_DEFAULT} or system property {@link #SNAPSHOT_DELTA_LIMIT_PROP_NAME}
+         * if set.
+         *
+         * @return {@link #SNAPSHOT_DELTA_LIMIT_DEFAULT} or system property {@link #SNAPSHOT_DELTA_LIMIT_PROP_NAME}
+         * if set.
+         */
+        public static int snapshotDeltaLimit()
+        {
+            return Integer.getInteger(SNAPSHOT_DELTA_LIMIT_PROP_NAME, SNAPSHOT_DELTA_LIMIT_DEFAULT);
+        }
+
+        /**
+         * The value {@link #REPLAY_FRAGMENT_LIMIT_DEFAULT} or system property {@link #REPLAY_FRAGMENT_LIMIT_PROP_NAME}
+         * if set.
+         *
+         * @return {@link #REPLAY_FRAGMENT_LIMIT_DEFAULT} or system property {@link #REPLAY_FRAGMENT_LIMIT_PROP_NAME}
+         * if set.
+         */
+        public static int replayFragmentLimit()
+        {
+            return Integer.getInteger(REPLAY_FRAGMENT_LIMIT_PROP_NAME, REPLAY_FRAGMENT_LIMIT_DEFAULT);
+        }
     }
 
     public static class Context implements AutoCloseable, Cloneable
@@ -431,6 +480,8 @@ public final class ClusteredServiceContainer implements AutoCloseable
         private int snapshotStreamId = Configuration.snapshotStreamId();
         private int errorBufferLength = Configuration.errorBufferLength();
         private boolean isRespondingService = Configuration.isRespondingService();
+        private int snapshotDeltaLimit = Configuration.snapshotDeltaLimit();
+        private int replayFragmentLimit = Configuration.replayFragmentLimit();
 
         private ThreadFactory threadFactory;
         private Supplier<IdleStrategy> idleStrategySupplier;
@@ -589,6 +640,15 @@ public final class ClusteredServiceContainer implements AutoCloseable
                 }
             }
 
+            if (snapshotDeltaLimit > 0 &&
+                (!overrides(clusteredService, "onTakeDeltaSnapshot", Publication.class) ||
+                !overrides(clusteredService, "onLoadDeltaSnapshot", Image.class)))
+            {
+                throw new ConfigurationException(
+                    "service must implement onTakeDeltaSnapshot and onLoadDeltaSnapshot for delta snapshots: " +
+                    clusteredService.getClass().getName());
+            }
+
             concludeMarkFile();
         }
 
@@ -1216,6 +1276,63 @@ public final class ClusteredServiceContainer implements AutoCloseable
             return errorBufferLength;
         }
 
+        /**
+         * Set the max number of delta snapshots which can be chained to a full snapshot before a full snapshot is
+         * taken to compact the chain.
+         *
+         * <p>
+         * Delta snapshots can not be used when members join the cluster dynamically, as a joining member only copies
+         * the latest snapshot, and so the service fails to join the log when the consensus module has cluster member
+         * status endpoints set. The {@link #clusteredService()} must implement both
+         * {@link ClusteredService#onTakeDeltaSnapshot(Publication)} and
+         * {@link ClusteredService#onLoadDeltaSnapshot(Image)} when this is greater than 0.
+         *
+         * @param snapshotDeltaLimit max number of chained delta snapshots, or 0 to disable delta snapshots.
+         * @return this for a fluent API.
+         * @see Configuration#SNAPSHOT_DELTA_LIMIT_PROP_NAME
+         */
+        public Context snapshotDeltaLimit(final int snapshotDeltaLimit)
+        {
+            this.snapshotDeltaLimit = snapshotDeltaLimit;
+            return this;
+        }
+
+        /**
+         * The max number of delta snapshots which can be chained to a full snapshot before a full snapshot is taken
+         * to compact the chain.
+         *
+         * @return max number of chained delta snapshots, or 0 if delta snapshots are disabled.
+         * @see Configuration#SNAPSHOT_DELTA_LIMIT_PROP_NAME
+         */
+        public int snapshotDeltaLimit()
+        {
+            return snapshotDeltaLimit;
+        }
+
+        /**
+         * Set the max number of fragments consumed from the log in each poll while replaying it during recovery.
+         *
+         * @param replayFragmentLimit max number of fragments consumed in each poll of the log replay.
+         * @return this for a fluent API.
+         * @see Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public Context replayFragmentLimit(final int replayFragmentLimit)
+        {
+            this.replayFragmentLimit = replayFragmentLimit;
+            return this;
+        }
+
+        /**
+         * The max number of fragments consumed from the log in each poll while replaying it during recovery.
+         *
+         * @return max number of fragments consumed in each poll of the log replay.
+         * @see Configuration#REPLAY_FRAGMENT_LIMIT_PROP_NAME
+         */
+        public int replayFragmentLimit()
+        {
+            return replayFragmentLimit;
+        }
+
         /**
          * Set the {@link DistinctErrorLog} in use.
          *
@@ -1264,6 +1381,20 @@ public final class ClusteredServiceContainer implements AutoCloseable
             }
         }
 
+        private static boolean overrides(
+            final ClusteredService service, final String methodName, final Class<?> parameterType)
+        {
+            try
+            {
+                return ClusteredService.class !=
+                    service.getClass().getMethod(methodName, parameterType).getDeclaringClass();
+            }
+            catch (final NoSuchMethodException ex)
+            {
+                return false;
+            }
+        }
+
         private void concludeMarkFile()
         {
             ClusterMarkFile.checkHeaderLength(
@@ -16,6 +16,7 @@
 package io.aeron.cluster.service;
 
 import io.aeron.Subscription;
+import io.aeron.cluster.codecs.BooleanType;
 import io.aeron.cluster.codecs.JoinLogDecoder;
 import io.aeron.cluster.codecs.MessageHeaderDecoder;
 import io.aeron.logbuffer.FragmentHandler;
@@ -66,6 +67,7 @@ final class ServiceAdapter implements FragmentHandler, AutoCloseable
                 joinLogDecoder.maxLogPosition(),
                 joinLogDecoder.logSessionId(),
                 joinLogDecoder.logStreamId(),
+                BooleanType.TRUE == joinLogDecoder.isDynamicJoin(),
                 joinLogDecoder.logChannel());
         }
     }
@@ -15,12 +15,14 @@
  */
 package io.aeron.cluster.service;
 
+import io.aeron.ControlledFragmentAssembler;
 import io.aeron.Image;
 import io.aeron.cluster.client.ClusterException;
 import io.aeron.cluster.codecs.*;
 import io.aeron.logbuffer.ControlledFragmentHandler;
 import io.aeron.logbuffer.Header;
 import org.agrona.DirectBuffer;
+import org.agrona.collections.LongArrayList;
 
 import static io.aeron.cluster.service.ClusteredServiceContainer.SNAPSHOT_TYPE_ID;
 
@@ -33,13 +35,28 @@ class ServiceSnapshotLoader implements ControlledFragmentHandler
     private final MessageHeaderDecoder messageHeaderDecoder = new MessageHeaderDecoder();
     private final SnapshotMarkerDecoder snapshotMarkerDecoder = new SnapshotMarkerDecoder();
     private final ClientSessionDecoder clientSessionDecoder = new ClientSessionDecoder();
+    private final SnapshotChainDecoder snapshotChainDecoder = new SnapshotChainDecoder();
+    private final ControlledFragmentAssembler fragmentAssembler = new ControlledFragmentAssembler(this);
+    private final LongArrayList snapshotChain = new LongArrayList();
     private final Image image;
     private final ClusteredServiceAgent agent;
+    private final boolean isLoadingSessions;
 
-    ServiceSnapshotLoader(final Image image, final ClusteredServiceAgent agent)
+    ServiceSnapshotLoader(final Image image, final ClusteredServiceAgent agent, final boolean isLoadingSessions)
     {
         this.image = image;
         this.agent = agent;
+        this.isLoadingSessions = isLoadingSessions;
+    }
+
+    /**
+     * Recordings of the snapshots a delta snapshot applies to, full snapshot first.
+     *
+     * @return recordings of the snapshots a delta snapshot applies to which is empty for a full snapshot.
+     */
+    public LongArrayList snapshotChain()
+    {
+        return snapshotChain;
     }
 
     public boolean isDone()
@@ -49,7 +66,7 @@ class ServiceSnapshotLoader implements ControlledFragmentHandler
 
     public int poll()
     {
-        return image.controlledPoll(this, FRAGMENT_LIMIT);
+        return image.controlledPoll(fragmentAssembler, FRAGMENT_LIMIT);
     }
 
     public Action onFragment(final DirectBuffer buffer, final int offset, final int length, final Header header)
@@ -93,6 +110,11 @@ class ServiceSnapshotLoader implements ControlledFragmentHandler
                 break;
 
             case ClientSessionDecoder.TEMPLATE_ID:
+                if (!isLoadingSessions)
+                {
+                    break;
+                }
+
                 clientSessionDecoder.wrap(
                     buffer,
                     offset + MessageHeaderDecoder.ENCODED_LENGTH,
@@ -111,6 +133,19 @@ class ServiceSnapshotLoader implements ControlledFragmentHandler
                     encodedPrincipal);
                 break;
 
+            case SnapshotChainDecoder.TEMPLATE_ID:
+                snapshotChainDecoder.wrap(
+                    buffer,
+                    offset + MessageHeaderDecoder.ENCODED_LENGTH,
+                    messageHeaderDecoder.blockLength(),
+                    messageHeaderDecoder.version());
+
+                for (final SnapshotChainDecoder.SnapshotsDecoder snapshot : snapshotChainDecoder.snapshots())
+                {
+                    snapshotChain.addLong(snapshot.recordingId());
+                }
+                break;
+
             default:
                 throw new ClusterException("unknown template id: " + templateId);
         }
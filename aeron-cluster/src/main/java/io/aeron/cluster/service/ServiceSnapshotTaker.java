@@ -17,12 +17,15 @@ package io.aeron.cluster.service;
 
 import io.aeron.Publication;
 import io.aeron.cluster.codecs.*;
+import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.LongArrayList;
 import org.agrona.concurrent.AgentInvoker;
 import org.agrona.concurrent.IdleStrategy;
 
 class ServiceSnapshotTaker extends SnapshotTaker
 {
     private final ClientSessionEncoder clientSessionEncoder = new ClientSessionEncoder();
+    private final SnapshotChainEncoder snapshotChainEncoder = new SnapshotChainEncoder();
 
     ServiceSnapshotTaker(
         final Publication publication, final IdleStrategy idleStrategy, final AgentInvoker aeronClientInvoker)
@@ -59,4 +62,31 @@ class ServiceSnapshotTaker extends SnapshotTaker
             checkResultAndIdle(result);
         }
     }
+
+    public void snapshotChain(final LongArrayList snapshotRecordingIds, final MutableDirectBuffer buffer)
+    {
+        final int count = snapshotRecordingIds.size();
+        final SnapshotChainEncoder.SnapshotsEncoder snapshotsEncoder = snapshotChainEncoder
+            .wrapAndApplyHeader(buffer, 0, messageHeaderEncoder)
+            .snapshotsCount(count);
+
+        for (int i = 0; i < count; i++)
+        {
+            snapshotsEncoder.next().recordingId(snapshotRecordingIds.getLong(i));
+        }
+
+        final int length = MessageHeaderEncoder.ENCODED_LENGTH + snapshotChainEncoder.encodedLength();
+
+        idleStrategy.reset();
+        while (true)
+        {
+            final long result = publication.offer(buffer, 0, length);
+            if (result > 0)
+            {
+                break;
+            }
+
+            checkResultAndIdle(result);
+        }
+    }
 }
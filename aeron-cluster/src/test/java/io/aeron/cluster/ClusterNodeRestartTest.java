@@ -361,6 +361,55 @@ public class ClusterNodeRestartTest
         assertThat(serviceState.get(), is("5"));
     }
 
+    @Test(timeout = 10_000)
+    public void shouldRestartServiceFromChainOfDeltaSnapshots() throws Exception
+    {
+        final AtomicLong serviceMsgCounter = new AtomicLong(0);
+
+        launchDeltaSnapshotService(serviceMsgCounter);
+        connectClient();
+
+        final CountersReader counters = aeronCluster.context().aeron().countersReader();
+        final AtomicCounter controlToggle = ClusterControl.findControlToggle(counters);
+        assertNotNull(controlToggle);
+
+        int value = 0;
+        for (int i = 1; i <= 3; i++)
+        {
+            for (int j = 0; j < i; j++)
+            {
+                sendCountedMessageIntoCluster(value++);
+            }
+
+            while (serviceMsgCounter.get() != value)
+            {
+                TestUtil.checkInterruptedStatus();
+                Thread.yield();
+            }
+
+            assertTrue(ClusterControl.ToggleState.SNAPSHOT.toggle(controlToggle));
+
+            while (snapshotCount.get() != i)
+            {
+                TestUtil.checkInterruptedStatus();
+                Thread.sleep(1);
+            }
+        }
+
+        forceCloseForRestart();
+
+        serviceState.set(null);
+        launchClusteredMediaDriver(false);
+        launchDeltaSnapshotService(serviceMsgCounter);
+        connectClient();
+
+        while (!"6".equals(serviceState.get()))
+        {
+            TestUtil.checkInterruptedStatus();
+            Thread.yield();
+        }
+    }
+
     private void sendCountedMessageIntoCluster(final int value)
     {
         msgBuffer.putInt(MESSAGE_VALUE_OFFSET, value);
@@ -482,6 +531,86 @@ public class ClusterNodeRestartTest
                 .errorHandler(Throwable::printStackTrace));
     }
 
+    private void launchDeltaSnapshotService(final AtomicLong msgCounter)
+    {
+        final ClusteredService service =
+            new StubClusteredService()
+            {
+                private int counterValue = 0;
+                private int snapshotCounterValue = 0;
+
+                public void onSessionMessage(
+                    final ClientSession session,
+                    final long correlationId,
+                    final long timestampMs,
+                    final DirectBuffer buffer,
+                    final int offset,
+                    final int length,
+                    final Header header)
+                {
+                    counterValue++;
+                    serviceState.set(Integer.toString(counterValue));
+                    msgCounter.getAndIncrement();
+                }
+
+                public void onTakeSnapshot(final Publication snapshotPublication)
+                {
+                    offerCounterValue(snapshotPublication, counterValue);
+                }
+
+                public void onTakeDeltaSnapshot(final Publication snapshotPublication)
+                {
+                    offerCounterValue(snapshotPublication, counterValue - snapshotCounterValue);
+                }
+
+                public void onLoadSnapshot(final Image snapshotImage)
+                {
+                    counterValue = 0;
+                    onLoadDeltaSnapshot(snapshotImage);
+                }
+
+                public void onLoadDeltaSnapshot(final Image snapshotImage)
+                {
+                    while (true)
+                    {
+                        final int fragments = snapshotImage.poll(
+                            (buffer, offset, length, header) ->
+                            {
+                                counterValue += buffer.getInt(offset);
+                                snapshotCounterValue = counterValue;
+                                serviceState.set(Integer.toString(counterValue));
+                            },
+                            1);
+
+                        if (fragments == 1)
+                        {
+                            break;
+                        }
+
+                        cluster.idle();
+                    }
+                }
+
+                private void offerCounterValue(final Publication snapshotPublication, final int value)
+                {
+                    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+                    buffer.putInt(0, value);
+
+                    snapshotPublication.offer(buffer, 0, SIZE_OF_INT);
+                    snapshotCounterValue = counterValue;
+                }
+            };
+
+        container = null;
+
+        container = ClusteredServiceContainer.launch(
+            new ClusteredServiceContainer.Context()
+                .clusteredService(service)
+                .snapshotDeltaLimit(2)
+                .terminationHook(TestUtil.TERMINATION_HOOK)
+                .errorHandler(Throwable::printStackTrace));
+    }
+
     private AeronCluster connectToCluster()
     {
         return AeronCluster.connect();
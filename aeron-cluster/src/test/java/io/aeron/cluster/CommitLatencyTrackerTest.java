@@ -0,0 +1,107 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.Test;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+public class CommitLatencyTrackerTest
+{
+    private final AtomicCounter maxCommitLatencyNs = mock(AtomicCounter.class);
+    private final AtomicCounter commitLatencyCount = mock(AtomicCounter.class);
+    private final AtomicCounter totalCommitLatencyNs = mock(AtomicCounter.class);
+    private final CommitLatencyTracker commitLatencyTracker =
+        new CommitLatencyTracker(maxCommitLatencyNs, commitLatencyCount, totalCommitLatencyNs);
+
+    @Test
+    public void shouldRecordLatencyOfPositionsReachedByCommit()
+    {
+        commitLatencyTracker.onAppendedPosition(64, 100);
+        commitLatencyTracker.onAppendedPosition(128, 150);
+        commitLatencyTracker.onAppendedPosition(192, 170);
+
+        commitLatencyTracker.onCommitPosition(32, 200);
+        verifyZeroInteractions(maxCommitLatencyNs, commitLatencyCount, totalCommitLatencyNs);
+
+        commitLatencyTracker.onCommitPosition(128, 300);
+        verify(maxCommitLatencyNs).setOrdered(200);
+        verify(commitLatencyCount).getAndAddOrdered(2);
+        verify(totalCommitLatencyNs).getAndAddOrdered(200 + 150);
+
+        commitLatencyTracker.onCommitPosition(192, 400);
+        verify(maxCommitLatencyNs).proposeMaxOrdered(230);
+        verify(commitLatencyCount).getAndAddOrdered(1);
+        verify(totalCommitLatencyNs).getAndAddOrdered(230);
+    }
+
+    @Test
+    public void shouldResetMaxLatencyOnceWindowHasElapsed()
+    {
+        commitLatencyTracker.onAppendedPosition(64, 100);
+        commitLatencyTracker.onCommitPosition(64, 1_100);
+        verify(maxCommitLatencyNs).setOrdered(1_000);
+
+        final long nextWindowNs = 1_100 + CommitLatencyTracker.MAX_LATENCY_WINDOW_NS;
+        commitLatencyTracker.onAppendedPosition(128, nextWindowNs - 10);
+        commitLatencyTracker.onCommitPosition(128, nextWindowNs);
+        verify(maxCommitLatencyNs).setOrdered(10);
+        verify(maxCommitLatencyNs, never()).proposeMaxOrdered(anyLong());
+    }
+
+    @Test
+    public void shouldNotSamplePositionWhichHasNotAdvanced()
+    {
+        commitLatencyTracker.onAppendedPosition(64, 100);
+        commitLatencyTracker.onAppendedPosition(64, 150);
+
+        commitLatencyTracker.onCommitPosition(64, 200);
+        verify(maxCommitLatencyNs).setOrdered(100);
+        verify(commitLatencyCount).getAndAddOrdered(1);
+
+        commitLatencyTracker.onCommitPosition(64, 300);
+        verifyNoMoreInteractions(maxCommitLatencyNs, commitLatencyCount);
+    }
+
+    @Test
+    public void shouldDiscardSamplesOnReset()
+    {
+        commitLatencyTracker.onAppendedPosition(64, 100);
+        commitLatencyTracker.reset();
+
+        commitLatencyTracker.onCommitPosition(64, 200);
+        verifyZeroInteractions(maxCommitLatencyNs, commitLatencyCount, totalCommitLatencyNs);
+    }
+
+    @Test
+    public void shouldSkipSamplesWhenFull()
+    {
+        for (int i = 1; i <= CommitLatencyTracker.SAMPLE_CAPACITY + 1; i++)
+        {
+            commitLatencyTracker.onAppendedPosition(i * 32, i);
+        }
+
+        commitLatencyTracker.onCommitPosition(Long.MAX_VALUE, 10_000);
+        verify(maxCommitLatencyNs).setOrdered(10_000 - 1);
+        verify(commitLatencyCount).getAndAddOrdered(CommitLatencyTracker.SAMPLE_CAPACITY);
+
+        commitLatencyTracker.onAppendedPosition((CommitLatencyTracker.SAMPLE_CAPACITY + 2) * 32, 20_000);
+        commitLatencyTracker.onCommitPosition(Long.MAX_VALUE, 20_010);
+        verify(maxCommitLatencyNs).proposeMaxOrdered(10);
+    }
+}
@@ -28,6 +28,7 @@ import org.agrona.concurrent.AgentInvoker;
 import org.agrona.concurrent.CachedEpochClock;
 import org.agrona.concurrent.NoOpIdleStrategy;
 import org.agrona.concurrent.SystemEpochClock;
+import org.agrona.concurrent.SystemNanoClock;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.junit.Before;
 import org.junit.Test;
@@ -63,11 +64,18 @@ public class ConsensusModuleAgentTest
         .controlToggleCounter(mock(Counter.class))
         .clusterNodeCounter(mock(Counter.class))
         .timedOutClientCounter(mockTimedOutClientCounter)
+        .sessionsCheckedCounter(mock(Counter.class))
+        .maxCommitLatencyCounter(mock(Counter.class))
+        .commitLatencyCountCounter(mock(Counter.class))
+        .totalCommitLatencyCounter(mock(Counter.class))
+        .logReplayBytesCounter(mock(Counter.class))
+        .logReplayRateCounter(mock(Counter.class))
         .idleStrategySupplier(NoOpIdleStrategy::new)
         .aeron(mockAeron)
         .clusterMemberId(0)
         .serviceHeartbeatCounters(mock(Counter.class))
         .epochClock(new SystemEpochClock())
+        .nanoClock(new SystemNanoClock())
         .authenticatorSupplier(new DefaultAuthenticatorSupplier())
         .clusterMarkFile(mock(ClusterMarkFile.class))
         .archiveContext(new AeronArchive.Context())
@@ -79,6 +87,7 @@ public class ConsensusModuleAgentTest
     {
         when(mockAeron.conductorAgentInvoker()).thenReturn(mock(AgentInvoker.class));
         when(mockEgressPublisher.sendEvent(any(), anyLong(), anyInt(), any(), any())).thenReturn(TRUE);
+        when(mockLogPublisher.flushIngressBatch()).thenReturn(TRUE);
         when(mockLogPublisher.appendSessionClose(any(), anyLong())).thenReturn(TRUE);
         when(mockLogPublisher.appendSessionOpen(any(), anyLong())).thenReturn(128L);
         when(mockLogPublisher.appendClusterAction(anyLong(), anyLong(), anyLong(), any(ClusterAction.class)))
@@ -21,19 +21,23 @@ import io.aeron.Publication;
 import io.aeron.Subscription;
 import io.aeron.cluster.service.Cluster;
 import io.aeron.cluster.service.ClusterMarkFile;
+import org.agrona.IoUtil;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.concurrent.CachedEpochClock;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.InOrder;
 
+import java.io.File;
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
+import static io.aeron.cluster.ConsensusModule.Configuration.SERVICE_ID;
 import static io.aeron.cluster.Election.NOMINATION_TIMEOUT_MULTIPLIER;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
@@ -42,6 +46,7 @@ import static org.mockito.Mockito.*;
 public class ElectionTest
 {
     public static final long RECORDING_ID = 1L;
+    private static final File TEMP_DIR = new File(IoUtil.tmpDirName());
     private final Aeron aeron = mock(Aeron.class);
     private final Counter electionStateCounter = mock(Counter.class);
     private final RecordingLog recordingLog = mock(RecordingLog.class);
@@ -599,6 +604,95 @@ public class ElectionTest
         verify(consensusModuleAgent).role(Cluster.Role.FOLLOWER);
     }
 
+    @Test
+    public void shouldPublishLogStopPositionToLaggingFollowerAfterRecordingLogCompaction()
+    {
+        final long leadershipTermId = 2;
+        final long logPosition = 600;
+        final long laggingLeadershipTermId = 0;
+        final long laggingLogStopPosition = 200;
+        final ClusterMember[] clusterMembers = prepareClusterMembers();
+        final ClusterMember candidateMember = clusterMembers[0];
+        final CachedEpochClock clock = (CachedEpochClock)ctx.epochClock();
+
+        try (RecordingLog log = new RecordingLog(TEMP_DIR))
+        {
+            log.appendTerm(RECORDING_ID, 0, 0, 0);
+            log.appendSnapshot(2L, 0, 0, 100, 0, SERVICE_ID);
+            log.appendTerm(RECORDING_ID, 1, laggingLogStopPosition, 1);
+            log.appendTerm(RECORDING_ID, 2, 400, 2);
+            log.commitLogPosition(0, laggingLogStopPosition);
+            log.commitLogPosition(1, 400);
+            log.appendSnapshot(3L, 2, 400, 500, 3, SERVICE_ID);
+
+            clusterMembers[1].leadershipTermId(laggingLeadershipTermId);
+            clusterMembers[2].leadershipTermId(leadershipTermId);
+            assertThat(log.compact(ClusterMember.minLeadershipTermId(clusterMembers, candidateMember.id())), is(1));
+            assertTrue(log.hasTermBeenAppended(laggingLeadershipTermId));
+
+            when(consensusModuleAgent.logStopPosition(anyLong())).thenAnswer(
+                (invocation) ->
+                {
+                    final long termId = invocation.getArgument(0);
+                    return log.getTermEntry(termId).logPosition;
+                });
+
+            ctx.appointedLeaderId(candidateMember.id());
+            final Election election = newElection(leadershipTermId, logPosition, clusterMembers, candidateMember);
+
+            final long candidateTermId = leadershipTermId + 1;
+            final long t1 = 1;
+            clock.update(t1);
+            election.doWork(t1);
+            election.onCanvassPosition(laggingLeadershipTermId, laggingLogStopPosition, 1);
+            election.onCanvassPosition(leadershipTermId, logPosition, 2);
+
+            final long t2 = 2;
+            clock.update(t2);
+            election.doWork(t2);
+
+            final long t3 = t2 + electionStatusIntervalMs * NOMINATION_TIMEOUT_MULTIPLIER;
+            clock.update(t3);
+            election.doWork(t3);
+            election.doWork(t3);
+            assertThat(election.state(), is(Election.State.CANDIDATE_BALLOT));
+
+            when(consensusModuleAgent.role()).thenReturn(Cluster.Role.CANDIDATE);
+            election.onVote(
+                candidateTermId,
+                laggingLeadershipTermId,
+                laggingLogStopPosition,
+                candidateMember.id(),
+                clusterMembers[1].id(),
+                true);
+            election.onVote(
+                candidateTermId, leadershipTermId, logPosition, candidateMember.id(), clusterMembers[2].id(), true);
+
+            final long t4 = t3 + 1;
+            clock.update(t4);
+            election.doWork(t4);
+            election.doWork(t4);
+            election.doWork(t4);
+            assertThat(election.state(), is(Election.State.LEADER_READY));
+
+            final int logSessionId = -7;
+            election.logSessionId(logSessionId);
+            election.onCanvassPosition(laggingLeadershipTermId, laggingLogStopPosition, clusterMembers[1].id());
+
+            verify(memberStatusPublisher).newLeadershipTerm(
+                clusterMembers[1].publication(),
+                laggingLeadershipTermId,
+                laggingLogStopPosition,
+                laggingLeadershipTermId + 1,
+                candidateMember.id(),
+                logSessionId);
+        }
+        finally
+        {
+            IoUtil.delete(new File(TEMP_DIR, RecordingLog.RECORDING_LOG_FILE_NAME), false);
+        }
+    }
+
     private Election newElection(
         final boolean isStartup,
         final long logLeadershipTermId,
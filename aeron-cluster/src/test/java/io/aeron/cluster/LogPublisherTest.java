@@ -0,0 +1,134 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import io.aeron.Counter;
+import io.aeron.DirectBufferVector;
+import io.aeron.Publication;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static io.aeron.cluster.LogPublisher.SESSION_HEADER_LENGTH;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class LogPublisherTest
+{
+    private static final int MESSAGE_LENGTH = 100;
+    private static final int FRAME_LENGTH = 192;
+
+    private final Publication publication = mock(Publication.class);
+    private final Counter batchCounter = mock(Counter.class);
+    private final Counter batchedMessageCounter = mock(Counter.class);
+    private final UnsafeBuffer buffer = new UnsafeBuffer(new byte[MESSAGE_LENGTH]);
+
+    @Before
+    public void before()
+    {
+        when(publication.maxMessageLength()).thenReturn(1024 * 1024);
+        when(publication.maxPayloadLength()).thenReturn(1376);
+        when(publication.offer(any(DirectBufferVector[].class), any())).thenReturn(128L);
+        when(publication.offerBatch(any(DirectBufferVector[].class), anyInt(), any())).thenReturn(128L);
+    }
+
+    @Test
+    public void shouldAppendEachMessageWhenBatchingIsDisabled()
+    {
+        final LogPublisher logPublisher = new LogPublisher(0, batchCounter, batchedMessageCounter);
+        logPublisher.connect(publication);
+
+        assertTrue(logPublisher.batchMessage(1, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertTrue(logPublisher.batchMessage(4, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertTrue(logPublisher.flushIngressBatch());
+
+        verify(publication, times(2)).offer(any(DirectBufferVector[].class), any());
+        verify(publication, never()).offerBatch(any(DirectBufferVector[].class), anyInt(), any());
+    }
+
+    @Test
+    public void shouldAppendBatchedMessagesWithSingleOffer()
+    {
+        final LogPublisher logPublisher = new LogPublisher(FRAME_LENGTH * 4, batchCounter, batchedMessageCounter);
+        logPublisher.connect(publication);
+
+        assertTrue(logPublisher.batchMessage(1, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertTrue(logPublisher.batchMessage(4, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertTrue(logPublisher.batchMessage(5, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        verifyZeroInteractions(batchCounter);
+
+        assertTrue(logPublisher.flushIngressBatch());
+
+        verify(publication).offerBatch(any(DirectBufferVector[].class), eq(3), any());
+        verify(batchCounter).incrementOrdered();
+        verify(batchedMessageCounter).getAndAddOrdered(3);
+
+        assertTrue(logPublisher.flushIngressBatch());
+        verify(publication, times(1)).offerBatch(any(DirectBufferVector[].class), anyInt(), any());
+    }
+
+    @Test
+    public void shouldFlushBatchBeforeItExceedsBatchLength()
+    {
+        final LogPublisher logPublisher = new LogPublisher(FRAME_LENGTH * 2, batchCounter, batchedMessageCounter);
+        logPublisher.connect(publication);
+
+        assertTrue(logPublisher.batchMessage(1, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertTrue(logPublisher.batchMessage(4, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        verify(publication, never()).offerBatch(any(DirectBufferVector[].class), anyInt(), any());
+
+        assertTrue(logPublisher.batchMessage(5, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        verify(publication).offerBatch(any(DirectBufferVector[].class), eq(2), any());
+    }
+
+    @Test
+    public void shouldRejectMessageWhenBatchCannotBeFlushed()
+    {
+        when(publication.offerBatch(any(DirectBufferVector[].class), anyInt(), any()))
+            .thenReturn(Publication.BACK_PRESSURED);
+
+        final LogPublisher logPublisher = new LogPublisher(FRAME_LENGTH, batchCounter, batchedMessageCounter);
+        logPublisher.connect(publication);
+
+        assertTrue(logPublisher.batchMessage(1, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertFalse(logPublisher.batchMessage(4, 2, 3, buffer, 0, MESSAGE_LENGTH));
+        assertFalse(logPublisher.appendTimer(5, 3));
+
+        verify(publication, never()).tryClaim(anyInt(), any());
+        verifyZeroInteractions(batchCounter);
+    }
+
+    @Test
+    public void shouldAppendMessageLongerThanPayloadLengthOnItsOwn()
+    {
+        final int length = publication.maxPayloadLength() - SESSION_HEADER_LENGTH + 1;
+        final UnsafeBuffer buffer = new UnsafeBuffer(new byte[length]);
+        final LogPublisher logPublisher = new LogPublisher(64 * 1024, batchCounter, batchedMessageCounter);
+        logPublisher.connect(publication);
+
+        assertTrue(logPublisher.batchMessage(1, 2, 3, this.buffer, 0, MESSAGE_LENGTH));
+        assertTrue(logPublisher.batchMessage(4, 2, 3, buffer, 0, length));
+
+        final InOrder inOrder = inOrder(publication);
+        inOrder.verify(publication).offerBatch(any(DirectBufferVector[].class), eq(1), any());
+        inOrder.verify(publication).offer(any(DirectBufferVector[].class), any());
+    }
+}
@@ -20,6 +20,7 @@ import org.junit.After;
 import org.junit.Test;
 
 import java.io.File;
+import java.util.ArrayList;
 
 import static io.aeron.Aeron.NULL_VALUE;
 import static io.aeron.archive.client.AeronArchive.NULL_POSITION;
@@ -28,6 +29,8 @@ import static io.aeron.cluster.RecordingLog.ENTRY_TYPE_SNAPSHOT;
 import static io.aeron.cluster.RecordingLog.ENTRY_TYPE_TERM;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertThat;
 
 public class RecordingLogTest
@@ -123,4 +126,85 @@ public class RecordingLogTest
             assertThat(recordingLog.nextEntryIndex(), is(2));
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldGetTermEntryAfterEarlierEntryTombstoned()
+    {
+        try (RecordingLog recordingLog = new RecordingLog(TEMP_DIR))
+        {
+            recordingLog.appendTerm(1L, 3, 0, 4);
+            recordingLog.appendSnapshot(2L, 3, 0, 100, 5, SERVICE_ID);
+            recordingLog.appendTerm(1L, 4, 200, 6);
+
+            recordingLog.tombstoneEntry(3, 1);
+
+            assertThat(recordingLog.getTermEntry(4).termBaseLogPosition, is(200L));
+            assertNull(recordingLog.getLatestSnapshot(SERVICE_ID));
+        }
+
+        try (RecordingLog recordingLog = new RecordingLog(TEMP_DIR))
+        {
+            assertThat(recordingLog.entries().size(), is(2));
+            assertThat(recordingLog.getTermEntry(4).entryIndex, is(2));
+        }
+    }
+
+    @Test
+    public void shouldCompactEntriesSupersededByLatestSnapshot()
+    {
+        try (RecordingLog recordingLog = new RecordingLog(TEMP_DIR))
+        {
+            recordingLog.appendTerm(1L, 0, 0, 0);
+            recordingLog.appendSnapshot(2L, 0, 0, 100, 1, 0);
+            recordingLog.appendSnapshot(3L, 0, 0, 100, 1, SERVICE_ID);
+            recordingLog.appendTerm(1L, 1, 200, 2);
+            recordingLog.appendSnapshot(4L, 1, 200, 300, 3, 0);
+            recordingLog.appendSnapshot(5L, 1, 200, 300, 3, SERVICE_ID);
+            recordingLog.appendTerm(1L, 2, 400, 4);
+
+            assertThat(recordingLog.supersededEntryCount(2), is(3));
+            assertThat(recordingLog.compact(2), is(3));
+            assertThat(recordingLog.supersededEntryCount(2), is(0));
+
+            recordingLog.appendSnapshot(6L, 2, 400, 500, 5, 0);
+        }
+
+        try (RecordingLog recordingLog = new RecordingLog(TEMP_DIR))
+        {
+            assertThat(recordingLog.entries().size(), is(5));
+            assertThat(recordingLog.nextEntryIndex(), is(5));
+            assertFalse(recordingLog.hasTermBeenAppended(0));
+            assertThat(recordingLog.getTermEntry(1).entryIndex, is(0));
+            assertThat(recordingLog.getLatestSnapshot(SERVICE_ID).recordingId, is(5L));
+            assertThat(recordingLog.getLatestSnapshot(0).recordingId, is(6L));
+        }
+    }
+
+    @Test
+    public void shouldRetainTermEntriesFromMinLeadershipTermIdOfMembersWhenCompacting()
+    {
+        try (RecordingLog recordingLog = new RecordingLog(TEMP_DIR))
+        {
+            recordingLog.appendTerm(1L, 0, 0, 0);
+            recordingLog.appendTerm(1L, 1, 200, 2);
+            recordingLog.appendSnapshot(2L, 1, 200, 300, 3, SERVICE_ID);
+            recordingLog.appendTerm(1L, 2, 400, 4);
+            recordingLog.appendSnapshot(3L, 2, 400, 500, 5, SERVICE_ID);
+            recordingLog.commitLogPosition(0, 200);
+            recordingLog.commitLogPosition(1, 400);
+
+            assertThat(recordingLog.supersededEntryCount(NULL_VALUE), is(1));
+            assertThat(recordingLog.compact(1), is(2));
+
+            assertThat(recordingLog.entries().size(), is(3));
+            assertFalse(recordingLog.hasTermBeenAppended(0));
+            assertThat(recordingLog.getTermEntry(1).logPosition, is(400L));
+            assertThat(recordingLog.getLatestSnapshot(SERVICE_ID).recordingId, is(3L));
+
+            final ArrayList<RecordingLog.Entry> results = new ArrayList<>();
+            recordingLog.findEntries(0, 10, false, results);
+            assertThat(results.size(), is(2));
+            assertThat(results.get(0).leadershipTermId, is(1L));
+        }
+    }
+}
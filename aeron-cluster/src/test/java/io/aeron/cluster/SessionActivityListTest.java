@@ -0,0 +1,101 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.cluster;
+
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+public class SessionActivityListTest
+{
+    private final SessionActivityList sessionActivityList = new SessionActivityList();
+
+    @Test
+    public void shouldOrderSessionsByTimeOfLastActivity()
+    {
+        final ClusterSession one = newSession(1, 30);
+        final ClusterSession two = newSession(2, 10);
+        final ClusterSession three = newSession(3, 20);
+
+        sessionActivityList.add(one);
+        sessionActivityList.add(two);
+        sessionActivityList.add(three);
+
+        assertThat(sessionActivityList.size(), is(3));
+        assertOrder(two, three, one);
+    }
+
+    @Test
+    public void shouldMoveSessionToTailOnActivity()
+    {
+        final ClusterSession one = newSession(1, 10);
+        final ClusterSession two = newSession(2, 20);
+        final ClusterSession three = newSession(3, 30);
+
+        sessionActivityList.add(one);
+        sessionActivityList.add(two);
+        sessionActivityList.add(three);
+
+        one.timeOfLastActivityMs(40);
+        sessionActivityList.onActivity(one);
+
+        assertOrder(two, three, one);
+    }
+
+    @Test
+    public void shouldRemoveSessions()
+    {
+        final ClusterSession one = newSession(1, 10);
+        final ClusterSession two = newSession(2, 20);
+        final ClusterSession three = newSession(3, 30);
+
+        sessionActivityList.add(one);
+        sessionActivityList.add(two);
+        sessionActivityList.add(three);
+
+        sessionActivityList.remove(two);
+        assertOrder(one, three);
+
+        sessionActivityList.remove(two);
+        sessionActivityList.remove(one);
+        sessionActivityList.remove(three);
+
+        assertThat(sessionActivityList.size(), is(0));
+        assertThat(sessionActivityList.head(), nullValue());
+    }
+
+    private void assertOrder(final ClusterSession... sessions)
+    {
+        ClusterSession session = sessionActivityList.head();
+        for (final ClusterSession expected : sessions)
+        {
+            assertThat(session, is(expected));
+            session = session.nextByActivity();
+        }
+
+        assertThat(session, nullValue());
+    }
+
+    private static ClusterSession newSession(final long id, final long timeOfLastActivityMs)
+    {
+        final ClusterSession session = new ClusterSession(id, 1, "aeron:ipc");
+        session.timeOfLastActivityMs(timeOfLastActivityMs);
+
+        return session;
+    }
+}
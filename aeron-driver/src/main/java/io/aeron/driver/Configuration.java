@@ -116,6 +116,21 @@ public class Configuration
      */
     public static final int FILE_PAGE_SIZE = getSizeAsInt(FILE_PAGE_SIZE_PROP_NAME, FILE_PAGE_SIZE_DEFAULT);
 
+    /**
+     * Property name for the directory in which the log buffers for publications and images are created.
+     * <p>
+     * The directory can be on a hugetlbfs mount so log buffers are backed by huge pages, in which case the
+     * {@link #FILE_PAGE_SIZE_PROP_NAME} should be set to the huge page size, e.g. 2m, so the log lengths are aligned.
+     * The log buffers are created in a subdirectory named after the Aeron directory and a hash of its canonical path,
+     * so the directory can be shared, and the subdirectory is deleted on start along with the Aeron directory.
+     */
+    public static final String LOG_BUFFERS_DIR_PROP_NAME = "aeron.log.buffers.dir";
+
+    /**
+     * Directory in which the log buffers are created, or null for them to be created in the Aeron directory.
+     */
+    public static final String LOG_BUFFERS_DIR = getProperty(LOG_BUFFERS_DIR_PROP_NAME);
+
     /**
      * Property name for boolean value for if storage checks should be performed when allocating files.
      */
@@ -621,6 +636,159 @@ public class Configuration
      */
     public static final int IPC_MTU_LENGTH = getSizeAsInt(IPC_MTU_LENGTH_PROP_NAME, MTU_LENGTH_DEFAULT);
 
+    /**
+     * Property name for the max number of MTU sized datagrams a network publication will send in a single pass
+     * of the {@link Sender} duty cycle.
+     */
+    public static final String SEND_BATCH_SIZE_PROP_NAME = "aeron.send.batch.size";
+
+    /**
+     * Default of one datagram per publication per duty cycle which keeps the round robin between publications
+     * on the same {@link Sender} as fair as possible.
+     * <p>
+     * For high rate streams a larger value reduces the per datagram overhead of the {@link Sender} duty cycle.
+     */
+    public static final int SEND_BATCH_SIZE_DEFAULT = 1;
+
+    /**
+     * Max number of datagrams which can be sent in a batch to bound the time spent on a single publication.
+     */
+    public static final int SEND_BATCH_SIZE_MAX = 64;
+
+    /**
+     * Max number of MTU sized datagrams a network publication will send in a single pass of the {@link Sender}.
+     */
+    public static final int SEND_BATCH_SIZE = getInteger(SEND_BATCH_SIZE_PROP_NAME, SEND_BATCH_SIZE_DEFAULT);
+
+    /**
+     * Property name for the max number of datagrams the {@link Receiver} will drain from a transport in a single poll.
+     */
+    public static final String RECEIVE_BATCH_SIZE_PROP_NAME = "aeron.receive.batch.size";
+
+    /**
+     * Default of one datagram per transport per poll so that transports on the same {@link Receiver} get equal
+     * treatment and images are serviced between datagrams.
+     * <p>
+     * Under bursts a larger value drains the socket buffer faster so the kernel is less likely to drop datagrams.
+     */
+    public static final int RECEIVE_BATCH_SIZE_DEFAULT = 1;
+
+    /**
+     * Max number of datagrams which can be received in a batch to bound the time spent on a single transport.
+     */
+    public static final int RECEIVE_BATCH_SIZE_MAX = 64;
+
+    /**
+     * Max number of datagrams the {@link Receiver} will drain from a transport in a single poll.
+     */
+    public static final int RECEIVE_BATCH_SIZE = getInteger(
+        RECEIVE_BATCH_SIZE_PROP_NAME, RECEIVE_BATCH_SIZE_DEFAULT);
+
+    /**
+     * Property name for the number of {@link Receiver} agents, each on its own thread, when running in
+     * {@link ThreadingMode#DEDICATED}. Each {@link io.aeron.driver.media.ReceiveChannelEndpoint} is owned by one
+     * {@link Receiver} chosen by its channel tag, when it has one, or otherwise by a hash of its channel.
+     */
+    public static final String RECEIVER_COUNT_PROP_NAME = "aeron.receiver.count";
+
+    /**
+     * Default of a single {@link Receiver} agent for the driver.
+     */
+    public static final int RECEIVER_COUNT_DEFAULT = 1;
+
+    /**
+     * Number of {@link Receiver} agents when running in {@link ThreadingMode#DEDICATED}.
+     */
+    public static final int RECEIVER_COUNT = getInteger(RECEIVER_COUNT_PROP_NAME, RECEIVER_COUNT_DEFAULT);
+
+    /**
+     * Property name for the number of {@link Sender} agents, each on its own thread, when running in
+     * {@link ThreadingMode#DEDICATED}. Each {@link io.aeron.driver.media.SendChannelEndpoint}, and the
+     * {@link NetworkPublication}s on it, is owned by one {@link Sender} chosen by its channel tag, when it has one,
+     * or otherwise by a hash of its channel.
+     */
+    public static final String SENDER_COUNT_PROP_NAME = "aeron.sender.count";
+
+    /**
+     * Default of a single {@link Sender} agent for the driver.
+     */
+    public static final int SENDER_COUNT_DEFAULT = 1;
+
+    /**
+     * Number of {@link Sender} agents when running in {@link ThreadingMode#DEDICATED}.
+     */
+    public static final int SENDER_COUNT = getInteger(SENDER_COUNT_PROP_NAME, SENDER_COUNT_DEFAULT);
+
+    /**
+     * Property name for the max number of gaps in a term a {@link PublicationImage} will NAK in a single round.
+     */
+    public static final String NAK_MAX_GAPS_PROP_NAME = "aeron.rcv.nak.max.gaps";
+
+    /**
+     * Default of a single gap per NAK round which is compatible with the loss detection of previous versions.
+     * <p>
+     * A larger value allows several non-contiguous losses in a term to be recovered in the same round trip.
+     */
+    public static final int NAK_MAX_GAPS_DEFAULT = 1;
+
+    /**
+     * Max number of gaps which can be NAKed in a round so that the NAK frames fit in a single datagram.
+     */
+    public static final int NAK_MAX_GAPS_MAX = 16;
+
+    /**
+     * Max number of gaps in a term a {@link PublicationImage} will NAK in a single round.
+     */
+    public static final int NAK_MAX_GAPS = getInteger(NAK_MAX_GAPS_PROP_NAME, NAK_MAX_GAPS_DEFAULT);
+
+    /**
+     * Property name for the number of distinct destinations of a multi-destination-cast publication which must NAK the
+     * same range before the retransmit is sent to all destinations rather than only to those which NAKed.
+     * <p>
+     * Below the threshold a retransmit is unicast to each NAKing destination so repairs for a single lossy receiver do
+     * not consume bandwidth on every other destination. Multicast publications always retransmit to the group as
+     * the control address of a multicast receiver is not one it reads data from.
+     */
+    public static final String RETRANSMIT_UNICAST_REPAIR_THRESHOLD_PROP_NAME =
+        "aeron.retransmit.unicast.repair.threshold";
+
+    /**
+     * Default of 0 which disables unicast repair so all retransmits are sent to every destination.
+     */
+    public static final int RETRANSMIT_UNICAST_REPAIR_THRESHOLD_DEFAULT = 0;
+
+    /**
+     * Max number of distinct NAKing destinations which can be tracked for a retransmit before falling back to group.
+     */
+    public static final int RETRANSMIT_UNICAST_REPAIR_THRESHOLD_MAX = 64;
+
+    /**
+     * Number of distinct NAKing destinations at which a retransmit falls back to being sent to all destinations.
+     */
+    public static final int RETRANSMIT_UNICAST_REPAIR_THRESHOLD = getInteger(
+        RETRANSMIT_UNICAST_REPAIR_THRESHOLD_PROP_NAME, RETRANSMIT_UNICAST_REPAIR_THRESHOLD_DEFAULT);
+
+    /**
+     * Property name for the number of log buffers to keep pre-allocated for each of the publication and IPC
+     * publication term lengths.
+     */
+    public static final String RAW_LOG_POOL_SIZE_PROP_NAME = "aeron.raw.log.pool.size";
+
+    /**
+     * Default of no pooling so log buffers are created on demand by the {@link DriverConductor}.
+     */
+    public static final int RAW_LOG_POOL_SIZE_DEFAULT = 0;
+
+    /**
+     * Max number of log buffers which can be pooled for each term length.
+     */
+    public static final int RAW_LOG_POOL_SIZE_MAX = 1024;
+
+    /**
+     * Number of log buffers to keep pre-allocated for each of the publication and IPC publication term lengths.
+     */
+    public static final int RAW_LOG_POOL_SIZE = getInteger(RAW_LOG_POOL_SIZE_PROP_NAME, RAW_LOG_POOL_SIZE_DEFAULT);
+
     /**
      * {@link ThreadingMode} to be used by the Aeron {@link MediaDriver}.
      */
@@ -686,11 +854,17 @@ public class Configuration
     public static final String SM_APPLICATION_SPECIFIC_FEEDBACK_PROP_NAME =
         "aeron.flow.control.sm.applicationSpecificFeedback";
 
+    /**
+     * Property name for a group tag added to Status Messages by the driver, as the Application Specific Feedback, so
+     * flow control strategies such as {@link QuorumMulticastFlowControl} can count receivers by group. When set it
+     * takes precedence over {@link #SM_APPLICATION_SPECIFIC_FEEDBACK_PROP_NAME}.
+     */
+    public static final String SM_GROUP_TAG_PROP_NAME = "aeron.flow.control.sm.groupTag";
+
     /**
      * Value to use for all Status Message Application Specific Feedback values from the driver for flow control.
      */
-    public static final byte[] SM_APPLICATION_SPECIFIC_FEEDBACK = fromHex(getProperty(
-        SM_APPLICATION_SPECIFIC_FEEDBACK_PROP_NAME, ""));
+    public static final byte[] SM_APPLICATION_SPECIFIC_FEEDBACK = smApplicationSpecificFeedback();
 
     /**
      * Property name for {@link CongestionControlSupplier} to be employed for receivers.
@@ -1105,6 +1279,167 @@ public class Configuration
         }
     }
 
+    /**
+     * Validate that the send batch size is within range.
+     *
+     * @param sendBatchSize to be validated.
+     * @throws ConfigurationException if the send batch size is not valid.
+     */
+    static void validateSendBatchSize(final int sendBatchSize)
+    {
+        if (sendBatchSize < 1 || sendBatchSize > SEND_BATCH_SIZE_MAX)
+        {
+            throw new ConfigurationException(
+                "sendBatchSize must be >= 1 and <= " + SEND_BATCH_SIZE_MAX + ": " + sendBatchSize);
+        }
+    }
+
+    /**
+     * Validate that the receive batch size is within range.
+     *
+     * @param receiveBatchSize to be validated.
+     * @throws ConfigurationException if the receive batch size is not valid.
+     */
+    static void validateReceiveBatchSize(final int receiveBatchSize)
+    {
+        if (receiveBatchSize < 1 || receiveBatchSize > RECEIVE_BATCH_SIZE_MAX)
+        {
+            throw new ConfigurationException(
+                "receiveBatchSize must be >= 1 and <= " + RECEIVE_BATCH_SIZE_MAX + ": " + receiveBatchSize);
+        }
+    }
+
+    /**
+     * Validate that the number of receivers is positive and only greater than one for dedicated threading.
+     *
+     * @param receiverCount to be validated.
+     * @param threadingMode in which the driver is run.
+     * @throws ConfigurationException if the receiver count is not valid.
+     */
+    static void validateReceiverCount(final int receiverCount, final ThreadingMode threadingMode)
+    {
+        if (receiverCount < 1)
+        {
+            throw new ConfigurationException("receiverCount must be >= 1: " + receiverCount);
+        }
+
+        if (receiverCount > 1 && DEDICATED != threadingMode)
+        {
+            throw new ConfigurationException(
+                "receiverCount > 1 requires " + DEDICATED + " threading mode: " + threadingMode);
+        }
+    }
+
+    /**
+     * Get the Application Specific Feedback for Status Messages from the system properties, giving precedence to
+     * {@link #SM_GROUP_TAG_PROP_NAME} over {@link #SM_APPLICATION_SPECIFIC_FEEDBACK_PROP_NAME}.
+     *
+     * @return the Application Specific Feedback for Status Messages.
+     * @throws ConfigurationException if the group tag is not a valid long.
+     */
+    static byte[] smApplicationSpecificFeedback()
+    {
+        final String groupTag = getProperty(SM_GROUP_TAG_PROP_NAME);
+        if (null == groupTag)
+        {
+            return fromHex(getProperty(SM_APPLICATION_SPECIFIC_FEEDBACK_PROP_NAME, ""));
+        }
+
+        try
+        {
+            return groupTagFeedback(Long.parseLong(groupTag));
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new ConfigurationException(SM_GROUP_TAG_PROP_NAME + " must be a valid long: " + groupTag);
+        }
+    }
+
+    /**
+     * Encode a group tag as the Application Specific Feedback for Status Messages.
+     *
+     * @param groupTag of the receivers in the driver.
+     * @return the group tag encoded as Application Specific Feedback.
+     * @see io.aeron.protocol.StatusMessageFlyweight#groupTag()
+     */
+    public static byte[] groupTagFeedback(final long groupTag)
+    {
+        final byte[] feedback = new byte[BitUtil.SIZE_OF_LONG];
+        for (int i = 0; i < feedback.length; i++)
+        {
+            feedback[i] = (byte)(groupTag >> (i * 8));
+        }
+
+        return feedback;
+    }
+
+    /**
+     * Validate that the number of senders is positive and only greater than one for dedicated threading.
+     *
+     * @param senderCount   to be validated.
+     * @param threadingMode in which the driver is run.
+     * @throws ConfigurationException if the sender count is not valid.
+     */
+    static void validateSenderCount(final int senderCount, final ThreadingMode threadingMode)
+    {
+        if (senderCount < 1)
+        {
+            throw new ConfigurationException("senderCount must be >= 1: " + senderCount);
+        }
+
+        if (senderCount > 1 && DEDICATED != threadingMode)
+        {
+            throw new ConfigurationException(
+                "senderCount > 1 requires " + DEDICATED + " threading mode: " + threadingMode);
+        }
+    }
+
+    /**
+     * Validate the max number of gaps NAKed in a round is within range.
+     *
+     * @param nakMaxGaps to be validated.
+     * @throws ConfigurationException if the NAK max gaps is not valid.
+     */
+    static void validateNakMaxGaps(final int nakMaxGaps)
+    {
+        if (nakMaxGaps < 1 || nakMaxGaps > NAK_MAX_GAPS_MAX)
+        {
+            throw new ConfigurationException(
+                "nakMaxGaps must be >= 1 and <= " + NAK_MAX_GAPS_MAX + ": " + nakMaxGaps);
+        }
+    }
+
+    /**
+     * Validate the unicast repair threshold for retransmits is within range.
+     *
+     * @param threshold to be validated.
+     * @throws ConfigurationException if the threshold is not valid.
+     */
+    static void validateRetransmitUnicastRepairThreshold(final int threshold)
+    {
+        if (threshold < 0 || threshold > RETRANSMIT_UNICAST_REPAIR_THRESHOLD_MAX)
+        {
+            throw new ConfigurationException(
+                "retransmitUnicastRepairThreshold must be >= 0 and <= " + RETRANSMIT_UNICAST_REPAIR_THRESHOLD_MAX +
+                ": " + threshold);
+        }
+    }
+
+    /**
+     * Validate the number of pooled log buffers is within range.
+     *
+     * @param rawLogPoolSize to be validated.
+     * @throws ConfigurationException if the raw log pool size is not valid.
+     */
+    static void validateRawLogPoolSize(final int rawLogPoolSize)
+    {
+        if (rawLogPoolSize < 0 || rawLogPoolSize > RAW_LOG_POOL_SIZE_MAX)
+        {
+            throw new ConfigurationException(
+                "rawLogPoolSize must be >= 0 and <= " + RAW_LOG_POOL_SIZE_MAX + ": " + rawLogPoolSize);
+        }
+    }
+
     /**
      * Validate the publication linger timeout is an appropriate value.
      *
@@ -20,6 +20,7 @@ import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
+import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.collections.Int2ObjectHashMap;
 import org.agrona.collections.IntHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -31,6 +32,10 @@ import static io.aeron.driver.DataPacketDispatcher.SessionState.*;
 /**
  * Handling of dispatching data packets to {@link PublicationImage}s streams.
  * <p>
+ * Session interests are indexed by stream then session for managing subscriptions, and also in a flat index keyed
+ * on session and stream id so data packets are dispatched with a single lookup. The last session interest found is
+ * cached as packets from the same image tend to arrive back to back.
+ * <p>
  * All methods should be called from the {@link Receiver} thread.
  */
 public class DataPacketDispatcher
@@ -70,6 +75,10 @@ public class DataPacketDispatcher
     }
 
     private final Int2ObjectHashMap<StreamInterest> streamInterestByIdMap = new Int2ObjectHashMap<>();
+    private final BiInt2ObjectMap<SessionInterest> sessionInterestBySessionAndStreamIdMap = new BiInt2ObjectMap<>();
+    private SessionInterest lastSessionInterest;
+    private int lastSessionId;
+    private int lastStreamId;
     private final DriverConductorProxy conductorProxy;
     private final Receiver receiver;
 
@@ -96,7 +105,7 @@ public class DataPacketDispatcher
                 final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
                 if (NO_INTEREST == sessionInterest.state)
                 {
-                    streamInterest.sessionInterestByIdMap.remove(sessionId);
+                    removeSessionInterest(streamInterest, streamId, sessionId);
                 }
             }
         }
@@ -117,7 +126,7 @@ public class DataPacketDispatcher
         final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
         if (null != sessionInterest && NO_INTEREST == sessionInterest.state)
         {
-            streamInterest.sessionInterestByIdMap.remove(sessionId);
+            removeSessionInterest(streamInterest, streamId, sessionId);
         }
     }
 
@@ -140,7 +149,7 @@ public class DataPacketDispatcher
                     sessionInterest.image.ifActiveGoInactive();
                 }
 
-                streamInterest.sessionInterestByIdMap.remove(sessionId);
+                removeSessionInterest(streamInterest, streamId, sessionId);
             }
         }
 
@@ -148,7 +157,7 @@ public class DataPacketDispatcher
 
         if (streamInterest.subscribedSessionIds.isEmpty())
         {
-            streamInterestByIdMap.remove(streamId);
+            removeStreamInterest(streamId, streamInterest);
         }
     }
 
@@ -160,7 +169,7 @@ public class DataPacketDispatcher
             throw new UnknownSubscriptionException("No subscription registered on stream " + streamId);
         }
 
-        final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.remove(sessionId);
+        final SessionInterest sessionInterest = removeSessionInterest(streamInterest, streamId, sessionId);
         if (null != sessionInterest && null != sessionInterest.image)
         {
             sessionInterest.image.ifActiveGoInactive();
@@ -170,7 +179,7 @@ public class DataPacketDispatcher
 
         if (!streamInterest.isForAllSessions && streamInterest.subscribedSessionIds.isEmpty())
         {
-            streamInterestByIdMap.remove(streamId);
+            removeStreamInterest(streamId, streamInterest);
         }
     }
 
@@ -185,7 +194,7 @@ public class DataPacketDispatcher
         if (null == sessionInterest)
         {
             sessionInterest = new SessionInterest(ACTIVE);
-            streamInterest.sessionInterestByIdMap.put(sessionId, sessionInterest);
+            putSessionInterest(streamInterest, streamId, sessionId, sessionInterest);
         }
         else
         {
@@ -227,7 +236,7 @@ public class DataPacketDispatcher
             final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
             if (null != sessionInterest && PENDING_SETUP_FRAME == sessionInterest.state)
             {
-                streamInterest.sessionInterestByIdMap.remove(sessionId);
+                removeSessionInterest(streamInterest, streamId, sessionId);
             }
         }
     }
@@ -240,7 +249,7 @@ public class DataPacketDispatcher
             final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
             if (null != sessionInterest && ON_COOL_DOWN == sessionInterest.state)
             {
-                streamInterest.sessionInterestByIdMap.remove(sessionId);
+                removeSessionInterest(streamInterest, streamId, sessionId);
             }
         }
     }
@@ -254,32 +263,31 @@ public class DataPacketDispatcher
         final int transportIndex)
     {
         final int streamId = header.streamId();
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+        final int sessionId = header.sessionId();
+        final SessionInterest sessionInterest = sessionInterest(sessionId, streamId);
 
-        if (null != streamInterest)
+        if (null != sessionInterest)
         {
-            final int sessionId = header.sessionId();
-            final int termId = header.termId();
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
-
-            if (null != sessionInterest)
+            if (null != sessionInterest.image)
             {
-                if (null != sessionInterest.image)
-                {
-                    return sessionInterest.image.insertPacket(
-                        termId, header.termOffset(), buffer, length, transportIndex, srcAddress);
-                }
+                return sessionInterest.image.insertPacket(
+                    header.termId(), header.termOffset(), buffer, length, transportIndex, srcAddress);
             }
-            else if (!DataHeaderFlyweight.isEndOfStream(buffer))
+        }
+        else if (!DataHeaderFlyweight.isEndOfStream(buffer))
+        {
+            final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+            if (null != streamInterest)
             {
                 if (streamInterest.isForAllSessions || streamInterest.subscribedSessionIds.contains(sessionId))
                 {
-                    streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(PENDING_SETUP_FRAME));
+                    putSessionInterest(
+                        streamInterest, streamId, sessionId, new SessionInterest(PENDING_SETUP_FRAME));
                     elicitSetupMessageFromSource(channelEndpoint, transportIndex, srcAddress, streamId, sessionId);
                 }
                 else
                 {
-                    streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(NO_INTEREST));
+                    putSessionInterest(streamInterest, streamId, sessionId, new SessionInterest(NO_INTEREST));
                 }
             }
         }
@@ -329,7 +337,7 @@ public class DataPacketDispatcher
             }
             else if (streamInterest.isForAllSessions || streamInterest.subscribedSessionIds.contains(sessionId))
             {
-                streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(INIT_IN_PROGRESS));
+                putSessionInterest(streamInterest, streamId, sessionId, new SessionInterest(INIT_IN_PROGRESS));
                 createPublicationImage(
                     channelEndpoint,
                     transportIndex,
@@ -345,7 +353,7 @@ public class DataPacketDispatcher
             }
             else
             {
-                streamInterest.sessionInterestByIdMap.put(sessionId, new SessionInterest(NO_INTEREST));
+                putSessionInterest(streamInterest, streamId, sessionId, new SessionInterest(NO_INTEREST));
             }
         }
     }
@@ -357,29 +365,24 @@ public class DataPacketDispatcher
         final int transportIndex)
     {
         final int streamId = header.streamId();
-        final StreamInterest streamInterest = streamInterestByIdMap.get(streamId);
+        final int sessionId = header.sessionId();
+        final SessionInterest sessionInterest = sessionInterest(sessionId, streamId);
 
-        if (null != streamInterest)
+        if (null != sessionInterest && null != sessionInterest.image)
         {
-            final int sessionId = header.sessionId();
-            final SessionInterest sessionInterest = streamInterest.sessionInterestByIdMap.get(sessionId);
-
-            if (null != sessionInterest && null != sessionInterest.image)
+            if (RttMeasurementFlyweight.REPLY_FLAG == (header.flags() & RttMeasurementFlyweight.REPLY_FLAG))
             {
-                if (RttMeasurementFlyweight.REPLY_FLAG == (header.flags() & RttMeasurementFlyweight.REPLY_FLAG))
-                {
-                    // TODO: check rate limit
+                // TODO: check rate limit
 
-                    final InetSocketAddress controlAddress = channelEndpoint.isMulticast(transportIndex) ?
-                        channelEndpoint.udpChannel(transportIndex).remoteControl() : srcAddress;
+                final InetSocketAddress controlAddress = channelEndpoint.isMulticast(transportIndex) ?
+                    channelEndpoint.udpChannel(transportIndex).remoteControl() : srcAddress;
 
-                    channelEndpoint.sendRttMeasurement(
-                        transportIndex, controlAddress, sessionId, streamId, header.echoTimestampNs(), 0, false);
-                }
-                else
-                {
-                    sessionInterest.image.onRttMeasurement(header, transportIndex, srcAddress);
-                }
+                channelEndpoint.sendRttMeasurement(
+                    transportIndex, controlAddress, sessionId, streamId, header.echoTimestampNs(), 0, false);
+            }
+            else
+            {
+                sessionInterest.image.onRttMeasurement(header, transportIndex, srcAddress);
             }
         }
     }
@@ -389,6 +392,54 @@ public class DataPacketDispatcher
         return !streamInterestByIdMap.isEmpty();
     }
 
+    private SessionInterest sessionInterest(final int sessionId, final int streamId)
+    {
+        SessionInterest sessionInterest = lastSessionInterest;
+
+        if (null == sessionInterest || sessionId != lastSessionId || streamId != lastStreamId)
+        {
+            sessionInterest = sessionInterestBySessionAndStreamIdMap.get(sessionId, streamId);
+            if (null != sessionInterest)
+            {
+                lastSessionInterest = sessionInterest;
+                lastSessionId = sessionId;
+                lastStreamId = streamId;
+            }
+        }
+
+        return sessionInterest;
+    }
+
+    private void putSessionInterest(
+        final StreamInterest streamInterest,
+        final int streamId,
+        final int sessionId,
+        final SessionInterest sessionInterest)
+    {
+        streamInterest.sessionInterestByIdMap.put(sessionId, sessionInterest);
+        sessionInterestBySessionAndStreamIdMap.put(sessionId, streamId, sessionInterest);
+    }
+
+    private SessionInterest removeSessionInterest(
+        final StreamInterest streamInterest, final int streamId, final int sessionId)
+    {
+        lastSessionInterest = null;
+        sessionInterestBySessionAndStreamIdMap.remove(sessionId, streamId);
+
+        return streamInterest.sessionInterestByIdMap.remove(sessionId);
+    }
+
+    private void removeStreamInterest(final int streamId, final StreamInterest streamInterest)
+    {
+        lastSessionInterest = null;
+        for (final int sessionId : streamInterest.sessionInterestByIdMap.keySet())
+        {
+            sessionInterestBySessionAndStreamIdMap.remove(sessionId, streamId);
+        }
+
+        streamInterestByIdMap.remove(streamId);
+    }
+
     private void elicitSetupMessageFromSource(
         final ReceiveChannelEndpoint channelEndpoint,
         final int transportIndex,
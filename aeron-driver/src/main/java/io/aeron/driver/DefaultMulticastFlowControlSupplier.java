@@ -15,13 +15,28 @@
  */
 package io.aeron.driver;
 
+import io.aeron.ChannelUri;
 import io.aeron.driver.media.UdpChannel;
 import org.agrona.LangUtil;
 
+import static io.aeron.CommonContext.FLOW_CONTROL_GROUP_TAG_PARAM_NAME;
+import static io.aeron.CommonContext.FLOW_CONTROL_QUORUM_PARAM_NAME;
+
+/**
+ * Supplies the {@link FlowControl} strategy configured by {@link Configuration#MULTICAST_FLOW_CONTROL_STRATEGY}
+ * unless the channel sets a quorum or group tag, in which case a {@link QuorumMulticastFlowControl} is supplied.
+ */
 public class DefaultMulticastFlowControlSupplier implements FlowControlSupplier
 {
     public FlowControl newInstance(final UdpChannel udpChannel, final int streamId, final long registrationId)
     {
+        final ChannelUri channelUri = udpChannel.channelUri();
+        if (null != channelUri.get(FLOW_CONTROL_QUORUM_PARAM_NAME) ||
+            null != channelUri.get(FLOW_CONTROL_GROUP_TAG_PARAM_NAME))
+        {
+            return QuorumMulticastFlowControl.newInstance(udpChannel);
+        }
+
         FlowControl flowControl = null;
         try
         {
@@ -72,8 +72,6 @@ public class DriverConductor implements Agent
 
     private final Context context;
     private final RawLogFactory rawLogFactory;
-    private final ReceiverProxy receiverProxy;
-    private final SenderProxy senderProxy;
     private final ClientProxy clientProxy;
     private final RingBuffer toDriverCommands;
     private final ClientCommandAdapter clientCommandAdapter;
@@ -95,7 +93,7 @@ public class DriverConductor implements Agent
     private final CachedEpochClock cachedEpochClock;
     private final CachedNanoClock cachedNanoClock;
     private final CountersManager countersManager;
-    private final NetworkPublicationThreadLocals networkPublicationThreadLocals = new NetworkPublicationThreadLocals();
+    private final NetworkPublicationThreadLocals[] networkPublicationThreadLocals;
     private final MutableDirectBuffer tempBuffer;
 
     public DriverConductor(final Context ctx)
@@ -107,8 +105,6 @@ public class DriverConductor implements Agent
         publicationUnblockTimeoutNs = ctx.publicationUnblockTimeoutNs();
         statusMessageTimeoutNs = ctx.statusMessageTimeoutNs();
         driverCmdQueue = ctx.driverCommandQueue();
-        receiverProxy = ctx.receiverProxy();
-        senderProxy = ctx.senderProxy();
         rawLogFactory = ctx.rawLogBuffersFactory();
         epochClock = ctx.epochClock();
         nanoClock = ctx.nanoClock();
@@ -120,6 +116,12 @@ public class DriverConductor implements Agent
 
         countersManager = context.countersManager();
 
+        networkPublicationThreadLocals = new NetworkPublicationThreadLocals[ctx.senderCount()];
+        for (int i = 0; i < networkPublicationThreadLocals.length; i++)
+        {
+            networkPublicationThreadLocals[i] = new NetworkPublicationThreadLocals();
+        }
+
         clientCommandAdapter = new ClientCommandAdapter(
             context.systemCounters().get(ERRORS),
             ctx.errorHandler(),
@@ -252,6 +254,7 @@ public class DriverConductor implements Agent
                 initialTermOffset,
                 rawLog,
                 udpChannel.isMulticast() ? NAK_MULTICAST_DELAY_GENERATOR : NAK_UNICAST_DELAY_GENERATOR,
+                context.nakMaxGaps(),
                 positionArray(subscriberPositions),
                 ReceiverHwm.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
                 ReceiverPos.allocate(tempBuffer, countersManager, registrationId, sessionId, streamId, channel),
@@ -259,13 +262,14 @@ public class DriverConductor implements Agent
                 cachedNanoClock,
                 cachedEpochClock,
                 context.systemCounters(),
+                context.receiverCount() > 1,
                 sourceAddress,
                 congestionControl,
                 context.lossReport(),
                 subscriberPositions.get(0).subscription().isReliable());
 
             publicationImages.add(image);
-            receiverProxy.newPublicationImage(channelEndpoint, image);
+            receiverProxy(channelEndpoint).newPublicationImage(channelEndpoint, image);
 
             final String sourceIdentity = generateSourceIdentity(sourceAddress);
             for (int i = 0, size = subscriberPositions.size(); i < size; i++)
@@ -415,14 +419,14 @@ public class DriverConductor implements Agent
     void cleanupPublication(final NetworkPublication publication)
     {
         activeSessionIds.remove(publication.sessionId());
-        senderProxy.removeNetworkPublication(publication);
+        senderProxy(publication.channelEndpoint()).removeNetworkPublication(publication);
 
         final SendChannelEndpoint channelEndpoint = publication.channelEndpoint();
         if (channelEndpoint.shouldBeClosed())
         {
             channelEndpoint.closeStatusIndicator();
             sendChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-            senderProxy.closeSendChannelEndpoint(channelEndpoint);
+            senderProxy(channelEndpoint).closeSendChannelEndpoint(channelEndpoint);
         }
     }
 
@@ -436,14 +440,14 @@ public class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
             else
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
@@ -451,7 +455,7 @@ public class DriverConductor implements Agent
             {
                 channelEndpoint.closeStatusIndicator();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
     }
@@ -469,7 +473,8 @@ public class DriverConductor implements Agent
             }
         }
 
-        receiverProxy.removeCoolDown(image.channelEndpoint(), image.sessionId(), image.streamId());
+        final ReceiveChannelEndpoint channelEndpoint = image.channelEndpoint();
+        receiverProxy(channelEndpoint).removeCoolDown(channelEndpoint, image.sessionId(), image.streamId());
     }
 
     void transitionToLinger(final IpcPublication publication)
@@ -593,7 +598,7 @@ public class DriverConductor implements Agent
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri);
-        senderProxy.addDestination(sendChannelEndpoint, dstAddress);
+        senderProxy(sendChannelEndpoint).addDestination(sendChannelEndpoint, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -621,7 +626,7 @@ public class DriverConductor implements Agent
 
         final ChannelUri channelUri = ChannelUri.parse(destinationChannel);
         final InetSocketAddress dstAddress = UdpChannel.destinationAddress(channelUri);
-        senderProxy.removeDestination(sendChannelEndpoint, dstAddress);
+        senderProxy(sendChannelEndpoint).removeDestination(sendChannelEndpoint, dstAddress);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -639,14 +644,14 @@ public class DriverConductor implements Agent
         {
             if (1 == channelEndpoint.incRefToStreamAndSession(streamId, params.sessionId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId, params.sessionId);
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, streamId, params.sessionId);
             }
         }
         else
         {
             if (1 == channelEndpoint.incRefToStream(streamId))
             {
-                receiverProxy.addSubscription(channelEndpoint, streamId);
+                receiverProxy(channelEndpoint).addSubscription(channelEndpoint, streamId);
             }
         }
 
@@ -754,7 +759,7 @@ public class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStreamAndSession(subscription.streamId(), subscription.sessionId()))
                 {
-                    receiverProxy.removeSubscription(
+                    receiverProxy(channelEndpoint).removeSubscription(
                         channelEndpoint, subscription.streamId(), subscription.sessionId());
                 }
             }
@@ -762,7 +767,7 @@ public class DriverConductor implements Agent
             {
                 if (0 == channelEndpoint.decRefToStream(subscription.streamId()))
                 {
-                    receiverProxy.removeSubscription(channelEndpoint, subscription.streamId());
+                    receiverProxy(channelEndpoint).removeSubscription(channelEndpoint, subscription.streamId());
                 }
             }
 
@@ -770,7 +775,7 @@ public class DriverConductor implements Agent
             {
                 channelEndpoint.closeStatusIndicator();
                 receiveChannelEndpointByChannelMap.remove(channelEndpoint.udpChannel().canonicalForm());
-                receiverProxy.closeReceiveChannelEndpoint(channelEndpoint);
+                receiverProxy(channelEndpoint).closeReceiveChannelEndpoint(channelEndpoint);
             }
         }
 
@@ -870,7 +875,7 @@ public class DriverConductor implements Agent
         final ReceiveDestinationUdpTransport transport =
             new ReceiveDestinationUdpTransport(destinationUdpChannel, context);
 
-        receiverProxy.addDestination(receiveChannelEndpoint, transport);
+        receiverProxy(receiveChannelEndpoint).addDestination(receiveChannelEndpoint, transport);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -897,7 +902,7 @@ public class DriverConductor implements Agent
         receiveChannelEndpoint.validateAllowsDestinationControl();
 
         final UdpChannel destinationUdpChannel = UdpChannel.parse(destinationChannel);
-        receiverProxy.removeDestination(receiveChannelEndpoint, destinationUdpChannel);
+        receiverProxy(receiveChannelEndpoint).removeDestination(receiveChannelEndpoint, destinationUdpChannel);
         clientProxy.operationSucceeded(correlationId);
     }
 
@@ -1013,7 +1018,8 @@ public class DriverConductor implements Agent
             cachedNanoClock,
             context.systemCounters(),
             RETRANSMIT_UNICAST_DELAY_GENERATOR,
-            RETRANSMIT_UNICAST_LINGER_GENERATOR);
+            RETRANSMIT_UNICAST_LINGER_GENERATOR,
+            channelEndpoint.isMultiDestination() ? context.retransmitUnicastRepairThreshold() : 0);
 
         final FlowControl flowControl = udpChannel.isMulticast() || udpChannel.hasExplicitControl() ?
             context.multicastFlowControlSupplier().newInstance(udpChannel, streamId, registrationId) :
@@ -1033,10 +1039,12 @@ public class DriverConductor implements Agent
             streamId,
             initialTermId,
             params.mtuLength,
+            params.sendBatchSize,
             context.systemCounters(),
+            context.senderCount() > 1,
             flowControl,
             retransmitHandler,
-            networkPublicationThreadLocals,
+            networkPublicationThreadLocals[channelEndpoint.senderIndex()],
             publicationUnblockTimeoutNs,
             context.publicationConnectionTimeoutNs(),
             params.lingerTimeoutNs,
@@ -1045,7 +1053,7 @@ public class DriverConductor implements Agent
 
         channelEndpoint.incRef();
         networkPublications.add(publication);
-        senderProxy.newNetworkPublication(publication);
+        senderProxy(channelEndpoint).newNetworkPublication(publication);
         linkSpies(subscriptionLinks, publication);
         activeSessionIds.add(sessionId);
 
@@ -1169,7 +1177,7 @@ public class DriverConductor implements Agent
                 context);
 
             sendChannelEndpointByChannelMap.put(udpChannel.canonicalForm(), channelEndpoint);
-            senderProxy.registerSendChannelEndpoint(channelEndpoint);
+            senderProxy(channelEndpoint).registerSendChannelEndpoint(channelEndpoint);
         }
 
         return channelEndpoint;
@@ -1318,6 +1326,7 @@ public class DriverConductor implements Agent
         ReceiveChannelEndpoint channelEndpoint = findExistingReceiveChannelEndpoint(udpChannel);
         if (null == channelEndpoint)
         {
+            final ReceiverProxy receiverProxy = context.receiverProxy(context.receiverIndex(udpChannel));
             channelEndpoint = context.receiveChannelEndpointSupplier().newInstance(
                 udpChannel,
                 new DataPacketDispatcher(context.driverConductorProxy(), receiverProxy.receiver()),
@@ -1331,6 +1340,16 @@ public class DriverConductor implements Agent
         return channelEndpoint;
     }
 
+    private SenderProxy senderProxy(final SendChannelEndpoint channelEndpoint)
+    {
+        return context.senderProxy(channelEndpoint.senderIndex());
+    }
+
+    private ReceiverProxy receiverProxy(final ReceiveChannelEndpoint channelEndpoint)
+    {
+        return context.receiverProxy(channelEndpoint.receiverIndex());
+    }
+
     private ReceiveChannelEndpoint findExistingReceiveChannelEndpoint(final UdpChannel udpChannel)
     {
         if (udpChannel.hasTag())
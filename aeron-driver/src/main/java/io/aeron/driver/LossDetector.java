@@ -19,32 +19,55 @@ import io.aeron.Aeron;
 import io.aeron.logbuffer.TermGapScanner;
 import org.agrona.concurrent.UnsafeBuffer;
 
-import static io.aeron.logbuffer.TermGapScanner.scanForGap;
+import static io.aeron.logbuffer.TermGapScanner.scanForGaps;
 
 /**
  * Detecting and handling of gaps in a message stream.
  * <p>
- * Each detector only notifies a single run of a gap in a message stream.
+ * Each detector notifies up to a max number of runs of gaps in the term being rebuilt. The gaps are notified
+ * together so they can be recovered in the same round trip.
  */
 public class LossDetector implements TermGapScanner.GapHandler
 {
     private final FeedbackDelayGenerator delayGenerator;
     private final LossHandler lossHandler;
-    private final Gap scannedGap = new Gap();
-    private final Gap activeGap = new Gap();
+    private final Gap[] scannedGaps;
+    private final Gap[] activeGaps;
 
+    private int scannedGapCount;
+    private int activeGapCount;
     private long deadlineNs = Aeron.NULL_VALUE;
 
     /**
-     * Create a loss detector for a channel.
+     * Create a loss detector for a channel which notifies a single gap at a time.
      *
      * @param delayGenerator to use for delay determination
      * @param lossHandler    to call when signalling a gap
      */
     public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler)
+    {
+        this(delayGenerator, lossHandler, 1);
+    }
+
+    /**
+     * Create a loss detector for a channel.
+     *
+     * @param delayGenerator to use for delay determination
+     * @param lossHandler    to call when signalling a gap
+     * @param maxGaps        to be notified from a scan of a term.
+     */
+    public LossDetector(final FeedbackDelayGenerator delayGenerator, final LossHandler lossHandler, final int maxGaps)
     {
         this.delayGenerator = delayGenerator;
         this.lossHandler = lossHandler;
+
+        scannedGaps = new Gap[maxGaps];
+        activeGaps = new Gap[maxGaps];
+        for (int i = 0; i < maxGaps; i++)
+        {
+            scannedGaps[i] = new Gap();
+            activeGaps[i] = new Gap();
+        }
     }
 
     /**
@@ -82,14 +105,22 @@ public class LossDetector implements TermGapScanner.GapHandler
             final int hwmTermOffset = (int)hwmPosition & termLengthMask;
             final int limitOffset = rebuildTermCount == hwmTermCount ? hwmTermOffset : termBuffer.capacity();
 
-            rebuildOffset = scanForGap(termBuffer, rebuildTermId, rebuildOffset, limitOffset, this);
+            scannedGapCount = 0;
+            rebuildOffset = scanForGaps(
+                termBuffer, rebuildTermId, rebuildOffset, limitOffset, scannedGaps.length, this);
+
             if (rebuildOffset < limitOffset)
             {
-                if (!scannedGap.matches(activeGap))
+                if (hasNewGap())
                 {
-                    activateGap(nowNs, scannedGap);
+                    activateGaps();
+                    resetDeadline(nowNs);
                     lossFound = true;
                 }
+                else if (scannedGapCount != activeGapCount)
+                {
+                    activateGaps();
+                }
 
                 checkTimerExpiry(nowNs);
             }
@@ -100,7 +131,10 @@ public class LossDetector implements TermGapScanner.GapHandler
 
     public void onGap(final int termId, final int offset, final int length)
     {
-        scannedGap.set(termId, offset, length);
+        if (scannedGapCount < scannedGaps.length)
+        {
+            scannedGaps[scannedGapCount++].set(termId, offset, length);
+        }
     }
 
     /**
@@ -137,10 +171,45 @@ public class LossDetector implements TermGapScanner.GapHandler
         return (int)(scanOutcome >>> 32);
     }
 
-    private void activateGap(final long nowNs, final Gap gap)
+    private boolean hasNewGap()
+    {
+        for (int i = 0; i < scannedGapCount; i++)
+        {
+            if (!isActive(scannedGaps[i]))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private boolean isActive(final Gap gap)
     {
-        activeGap.set(gap.termId, gap.termOffset, gap.length);
+        for (int i = 0; i < activeGapCount; i++)
+        {
+            if (gap.matches(activeGaps[i]))
+            {
+                return true;
+            }
+        }
+
+        return false;
+    }
 
+    private void activateGaps()
+    {
+        for (int i = 0; i < scannedGapCount; i++)
+        {
+            final Gap gap = scannedGaps[i];
+            activeGaps[i].set(gap.termId, gap.termOffset, gap.length);
+        }
+
+        activeGapCount = scannedGapCount;
+    }
+
+    private void resetDeadline(final long nowNs)
+    {
         if (delayGenerator.shouldFeedbackImmediately())
         {
             deadlineNs = nowNs;
@@ -155,7 +224,12 @@ public class LossDetector implements TermGapScanner.GapHandler
     {
         if (nowNs >= deadlineNs)
         {
-            lossHandler.onGapDetected(activeGap.termId, activeGap.termOffset, activeGap.length);
+            for (int i = 0; i < activeGapCount; i++)
+            {
+                final Gap gap = activeGaps[i];
+                lossHandler.onGapDetected(gap.termId, gap.termOffset, gap.length);
+            }
+
             deadlineNs = nowNs + delayGenerator.generateDelay();
         }
     }
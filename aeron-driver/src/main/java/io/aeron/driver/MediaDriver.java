@@ -19,8 +19,10 @@ import io.aeron.*;
 import io.aeron.driver.exceptions.ActiveDriverException;
 import io.aeron.driver.media.*;
 import io.aeron.driver.buffer.RawLogFactory;
+import io.aeron.driver.buffer.RawLogPool;
 import io.aeron.driver.reports.LossReport;
 import io.aeron.driver.status.SystemCounters;
+import io.aeron.exceptions.ConfigurationException;
 import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.*;
 import org.agrona.concurrent.*;
@@ -32,11 +34,14 @@ import org.agrona.concurrent.status.*;
 
 import java.io.*;
 import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.UUID;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 import static io.aeron.CncFileDescriptor.*;
 import static io.aeron.driver.Configuration.*;
@@ -65,8 +70,9 @@ public final class MediaDriver implements AutoCloseable
     private final AgentRunner sharedRunner;
     private final AgentRunner sharedNetworkRunner;
     private final AgentRunner conductorRunner;
-    private final AgentRunner receiverRunner;
-    private final AgentRunner senderRunner;
+    private final AgentRunner[] receiverRunners;
+    private final AgentRunner[] senderRunners;
+    private final AgentRunner rawLogPoolRunner;
     private final AgentInvoker sharedInvoker;
     private final Context ctx;
 
@@ -104,26 +110,53 @@ public final class MediaDriver implements AutoCloseable
         ctx.conclude();
 
         final DriverConductor conductor = new DriverConductor(ctx);
-        final Receiver receiver = new Receiver(ctx);
-        final Sender sender = new Sender(ctx);
+        final Receiver[] receivers = new Receiver[ctx.receiverCount()];
+        for (int i = 0; i < receivers.length; i++)
+        {
+            receivers[i] = new Receiver(ctx, i);
+            ctx.receiverProxy(i).receiver(receivers[i]);
+        }
+
+        final Sender[] senders = new Sender[ctx.senderCount()];
+        for (int i = 0; i < senders.length; i++)
+        {
+            senders[i] = new Sender(ctx, i);
+            ctx.senderProxy(i).sender(senders[i]);
+        }
+
+        final Receiver receiver = receivers[0];
+        final Sender sender = senders[0];
 
-        ctx.receiverProxy().receiver(receiver);
-        ctx.senderProxy().sender(sender);
         ctx.driverConductorProxy().driverConductor(conductor);
 
         final AtomicCounter errorCounter = ctx.systemCounters().get(ERRORS);
         final ErrorHandler errorHandler = ctx.errorHandler();
+        final RawLogPool rawLogPool = ctx.rawLogPool();
+
+        if (null != rawLogPool && ThreadingMode.INVOKER != ctx.threadingMode())
+        {
+            rawLogPoolRunner = new AgentRunner(
+                new SleepingIdleStrategy(TimeUnit.MILLISECONDS.toNanos(1)), errorHandler, errorCounter, rawLogPool);
+        }
+        else
+        {
+            rawLogPoolRunner = null;
+        }
 
         switch (ctx.threadingMode())
         {
             case INVOKER:
                 sharedInvoker = new AgentInvoker(
-                    errorHandler, errorCounter, new CompositeAgent(sender, receiver, conductor));
+                    errorHandler,
+                    errorCounter,
+                    null != rawLogPool ?
+                        new CompositeAgent(sender, receiver, conductor, rawLogPool) :
+                        new CompositeAgent(sender, receiver, conductor));
                 sharedRunner = null;
                 sharedNetworkRunner = null;
                 conductorRunner = null;
-                receiverRunner = null;
-                senderRunner = null;
+                receiverRunners = null;
+                senderRunners = null;
                 break;
 
             case SHARED:
@@ -134,8 +167,8 @@ public final class MediaDriver implements AutoCloseable
                     new CompositeAgent(sender, receiver, conductor));
                 sharedNetworkRunner = null;
                 conductorRunner = null;
-                receiverRunner = null;
-                senderRunner = null;
+                receiverRunners = null;
+                senderRunners = null;
                 sharedInvoker = null;
                 break;
 
@@ -144,15 +177,25 @@ public final class MediaDriver implements AutoCloseable
                     ctx.sharedNetworkIdleStrategy(), errorHandler, errorCounter, new CompositeAgent(sender, receiver));
                 conductorRunner = new AgentRunner(ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                 sharedRunner = null;
-                receiverRunner = null;
-                senderRunner = null;
+                receiverRunners = null;
+                senderRunners = null;
                 sharedInvoker = null;
                 break;
 
             default:
             case DEDICATED:
-                senderRunner = new AgentRunner(ctx.senderIdleStrategy(), errorHandler, errorCounter, sender);
-                receiverRunner = new AgentRunner(ctx.receiverIdleStrategy(), errorHandler, errorCounter, receiver);
+                senderRunners = new AgentRunner[senders.length];
+                for (int i = 0; i < senders.length; i++)
+                {
+                    senderRunners[i] = new AgentRunner(
+                        ctx.senderIdleStrategy(i), errorHandler, errorCounter, senders[i]);
+                }
+                receiverRunners = new AgentRunner[receivers.length];
+                for (int i = 0; i < receivers.length; i++)
+                {
+                    receiverRunners[i] = new AgentRunner(
+                        ctx.receiverIdleStrategy(i), errorHandler, errorCounter, receivers[i]);
+                }
                 conductorRunner = new AgentRunner(ctx.conductorIdleStrategy(), errorHandler, errorCounter, conductor);
                 sharedNetworkRunner = null;
                 sharedRunner = null;
@@ -244,10 +287,23 @@ public final class MediaDriver implements AutoCloseable
     {
         CloseHelper.quietClose(sharedRunner);
         CloseHelper.quietClose(sharedNetworkRunner);
-        CloseHelper.quietClose(receiverRunner);
-        CloseHelper.quietClose(senderRunner);
+        if (null != receiverRunners)
+        {
+            for (final AgentRunner receiverRunner : receiverRunners)
+            {
+                CloseHelper.quietClose(receiverRunner);
+            }
+        }
+        if (null != senderRunners)
+        {
+            for (final AgentRunner senderRunner : senderRunners)
+            {
+                CloseHelper.quietClose(senderRunner);
+            }
+        }
         CloseHelper.quietClose(conductorRunner);
         CloseHelper.quietClose(sharedInvoker);
+        CloseHelper.quietClose(rawLogPoolRunner);
 
         if (ctx.useWindowsHighResTimer() && SystemUtil.osName().startsWith("win"))
         {
@@ -287,14 +343,20 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(conductorRunner, ctx.conductorThreadFactory());
         }
 
-        if (null != senderRunner)
+        if (null != senderRunners)
         {
-            AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+            for (final AgentRunner senderRunner : senderRunners)
+            {
+                AgentRunner.startOnThread(senderRunner, ctx.senderThreadFactory());
+            }
         }
 
-        if (null != receiverRunner)
+        if (null != receiverRunners)
         {
-            AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+            for (final AgentRunner receiverRunner : receiverRunners)
+            {
+                AgentRunner.startOnThread(receiverRunner, ctx.receiverThreadFactory());
+            }
         }
 
         if (null != sharedNetworkRunner)
@@ -307,6 +369,11 @@ public final class MediaDriver implements AutoCloseable
             AgentRunner.startOnThread(sharedRunner, ctx.sharedThreadFactory());
         }
 
+        if (null != rawLogPoolRunner)
+        {
+            AgentRunner.startOnThread(rawLogPoolRunner, ctx.rawLogPoolThreadFactory());
+        }
+
         if (null != sharedInvoker)
         {
             sharedInvoker.start();
@@ -344,9 +411,23 @@ public final class MediaDriver implements AutoCloseable
             }
 
             ctx.deleteAeronDirectory();
+            if (null != ctx.logBuffersDirectoryName())
+            {
+                IoUtil.delete(new File(ctx.logBuffersDirName()), false);
+            }
+        }
+        else if (null != ctx.logBuffersDirectoryName())
+        {
+            // without the aeron directory there is no driver to own log buffers left from a previous run
+            IoUtil.delete(new File(ctx.logBuffersDirName()), false);
         }
 
         IoUtil.ensureDirectoryExists(ctx.aeronDirectory(), "aeron");
+
+        if (null != ctx.logBuffersDirectoryName())
+        {
+            IoUtil.ensureDirectoryExists(new File(ctx.logBuffersDirName()), "log buffers");
+        }
     }
 
     private static void reportExistingErrors(final Context ctx, final MappedByteBuffer cncByteBuffer)
@@ -416,7 +497,16 @@ public final class MediaDriver implements AutoCloseable
         private int initialWindowLength = Configuration.initialWindowLength();
         private int mtuLength = Configuration.MTU_LENGTH;
         private int ipcMtuLength = Configuration.IPC_MTU_LENGTH;
+        private int sendBatchSize = Configuration.SEND_BATCH_SIZE;
+        private int receiveBatchSize = Configuration.RECEIVE_BATCH_SIZE;
+        private int receiverCount = Configuration.RECEIVER_COUNT;
+        private int senderCount = Configuration.SENDER_COUNT;
+        private int nakMaxGaps = Configuration.NAK_MAX_GAPS;
+        private int retransmitUnicastRepairThreshold = Configuration.RETRANSMIT_UNICAST_REPAIR_THRESHOLD;
+        private int rawLogPoolSize = Configuration.RAW_LOG_POOL_SIZE;
         private int filePageSize = Configuration.FILE_PAGE_SIZE;
+        private String logBuffersDirectoryName = Configuration.LOG_BUFFERS_DIR;
+        private String logBuffersDirName;
         private int publicationReservedSessionIdLow = Configuration.PUBLICATION_RESERVED_SESSION_ID_LOW;
         private int publicationReservedSessionIdHigh = Configuration.PUBLICATION_RESERVED_SESSION_ID_HIGH;
 
@@ -430,9 +520,14 @@ public final class MediaDriver implements AutoCloseable
         private ThreadFactory receiverThreadFactory;
         private ThreadFactory sharedThreadFactory;
         private ThreadFactory sharedNetworkThreadFactory;
+        private ThreadFactory rawLogPoolThreadFactory;
         private IdleStrategy conductorIdleStrategy;
         private IdleStrategy senderIdleStrategy;
+        private Supplier<IdleStrategy> senderIdleStrategySupplier;
+        private IdleStrategy[] senderIdleStrategies;
         private IdleStrategy receiverIdleStrategy;
+        private Supplier<IdleStrategy> receiverIdleStrategySupplier;
+        private IdleStrategy[] receiverIdleStrategies;
         private IdleStrategy sharedNetworkIdleStrategy;
         private IdleStrategy sharedIdleStrategy;
         private SendChannelEndpointSupplier sendChannelEndpointSupplier;
@@ -452,13 +547,21 @@ public final class MediaDriver implements AutoCloseable
         private LossReport lossReport;
 
         private RawLogFactory rawLogFactory;
+        private RawLogPool rawLogPool;
         private DataTransportPoller dataTransportPoller;
         private ControlTransportPoller controlTransportPoller;
         private ManyToOneConcurrentArrayQueue<Runnable> driverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue;
         private OneToOneConcurrentArrayQueue<Runnable> senderCommandQueue;
         private ReceiverProxy receiverProxy;
+        private ReceiverProxy[] receiverProxies;
+        private DataTransportPoller[] dataTransportPollers;
+        private OneToOneConcurrentArrayQueue<Runnable>[] receiverCommandQueues;
+        private ReceiveChannelEndpointThreadLocals[] receiveChannelEndpointThreadLocalsByReceiver;
         private SenderProxy senderProxy;
+        private SenderProxy[] senderProxies;
+        private ControlTransportPoller[] controlTransportPollers;
+        private OneToOneConcurrentArrayQueue<Runnable>[] senderCommandQueues;
         private DriverConductorProxy driverConductorProxy;
         private ClientProxy clientProxy;
         private RingBuffer toDriverCommands;
@@ -498,6 +601,13 @@ public final class MediaDriver implements AutoCloseable
 
                 validateMtuLength(mtuLength);
                 validateMtuLength(ipcMtuLength);
+                validateSendBatchSize(sendBatchSize);
+                validateReceiveBatchSize(receiveBatchSize);
+                validateReceiverCount(receiverCount, threadingMode);
+                validateSenderCount(senderCount, threadingMode);
+                validateNakMaxGaps(nakMaxGaps);
+                validateRetransmitUnicastRepairThreshold(retransmitUnicastRepairThreshold);
+                validateRawLogPoolSize(rawLogPoolSize);
                 validatePageSize(filePageSize);
                 validateSessionIdRange(publicationReservedSessionIdLow, publicationReservedSessionIdHigh);
 
@@ -550,6 +660,7 @@ public final class MediaDriver implements AutoCloseable
         public Context aeronDirectoryName(final String dirName)
         {
             super.aeronDirectoryName(dirName);
+            logBuffersDirName = null;
             return this;
         }
 
@@ -715,6 +826,39 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Directory in which the log buffers for publications and images are created.
+         *
+         * @return directory in which the log buffers are created, or null if they are created in the
+         * {@link #aeronDirectoryName()} which is the default.
+         * @see Configuration#LOG_BUFFERS_DIR_PROP_NAME
+         */
+        public String logBuffersDirectoryName()
+        {
+            return logBuffersDirectoryName;
+        }
+
+        /**
+         * Directory in which the log buffers for publications and images are created.
+         * <p>
+         * This can be on a hugetlbfs mount so the log buffers are backed by huge pages, in which case the
+         * {@link #filePageSize(int)} should be the huge page size so the log lengths are aligned to it. The log
+         * buffers are created in a subdirectory named after the {@link #aeronDirectoryName()} and a hash of its
+         * canonical path so the directory can be shared by drivers whose Aeron directories have the same name. The
+         * subdirectory is deleted on start along with the Aeron directory.
+         *
+         * @param logBuffersDirectoryName in which the log buffers are created, or null for the
+         *                                {@link #aeronDirectoryName()}.
+         * @return this for a fluent API.
+         * @see Configuration#LOG_BUFFERS_DIR_PROP_NAME
+         */
+        public Context logBuffersDirectoryName(final String logBuffersDirectoryName)
+        {
+            this.logBuffersDirectoryName = logBuffersDirectoryName;
+            this.logBuffersDirName = null;
+            return this;
+        }
+
         /**
          * Interval in nanoseconds between checks for timers and timeouts.
          *
@@ -1047,6 +1191,237 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Max number of MTU sized datagrams a network publication will send in a single pass of the {@link Sender}.
+         *
+         * @return max number of datagrams a network publication will send in a single pass of the {@link Sender}.
+         * @see Configuration#SEND_BATCH_SIZE_PROP_NAME
+         */
+        public int sendBatchSize()
+        {
+            return sendBatchSize;
+        }
+
+        /**
+         * Max number of MTU sized datagrams a network publication will send in a single pass of the {@link Sender}.
+         * <p>
+         * Sending a batch reduces the duty cycle overhead per datagram for high rate streams at the expense of
+         * fairness between publications sharing the {@link Sender}.
+         *
+         * @param sendBatchSize max number of datagrams a network publication will send in a single pass.
+         * @return this for a fluent API.
+         * @see Configuration#SEND_BATCH_SIZE_PROP_NAME
+         */
+        public Context sendBatchSize(final int sendBatchSize)
+        {
+            this.sendBatchSize = sendBatchSize;
+            return this;
+        }
+
+        /**
+         * Max number of datagrams the {@link Receiver} will drain from a transport in a single poll.
+         *
+         * @return max number of datagrams the {@link Receiver} will drain from a transport in a single poll.
+         * @see Configuration#RECEIVE_BATCH_SIZE_PROP_NAME
+         */
+        public int receiveBatchSize()
+        {
+            return receiveBatchSize;
+        }
+
+        /**
+         * Max number of datagrams the {@link Receiver} will drain from a transport in a single poll.
+         * <p>
+         * Draining a batch keeps up with bursts, such as on multicast, at the expense of fairness between the
+         * transports sharing the {@link Receiver}.
+         *
+         * @param receiveBatchSize max number of datagrams to drain from a transport in a single poll.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVE_BATCH_SIZE_PROP_NAME
+         */
+        public Context receiveBatchSize(final int receiveBatchSize)
+        {
+            this.receiveBatchSize = receiveBatchSize;
+            return this;
+        }
+
+        /**
+         * Number of {@link Receiver} agents, each on its own thread, when running in {@link ThreadingMode#DEDICATED}.
+         *
+         * @return number of {@link Receiver} agents.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public int receiverCount()
+        {
+            return receiverCount;
+        }
+
+        /**
+         * Number of {@link Receiver} agents, each on its own thread, when running in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * Each {@link ReceiveChannelEndpoint} is owned by one {@link Receiver}, which polls its transports and services
+         * its images, so busy channels can be spread over cores. A channel with a tag is assigned by its tag so
+         * channels can be placed explicitly, otherwise by a hash of its canonical form. When greater than one each
+         * {@link Receiver} also has counters for its bytes received and time spent in duty cycles which did work.
+         *
+         * @param receiverCount number of {@link Receiver} agents.
+         * @return this for a fluent API.
+         * @see Configuration#RECEIVER_COUNT_PROP_NAME
+         */
+        public Context receiverCount(final int receiverCount)
+        {
+            this.receiverCount = receiverCount;
+            return this;
+        }
+
+        /**
+         * Index of the {@link Receiver} which owns the {@link ReceiveChannelEndpoint} for a channel.
+         *
+         * @param udpChannel for the {@link ReceiveChannelEndpoint}.
+         * @return index of the {@link Receiver} which owns the {@link ReceiveChannelEndpoint} for the channel.
+         */
+        public int receiverIndex(final UdpChannel udpChannel)
+        {
+            if (receiverCount <= 1)
+            {
+                return 0;
+            }
+
+            final long key = udpChannel.hasTag() ? udpChannel.tag() : udpChannel.canonicalForm().hashCode();
+
+            return (int)Math.floorMod(key, (long)receiverCount);
+        }
+
+        /**
+         * Number of {@link Sender} agents, each on its own thread, when running in {@link ThreadingMode#DEDICATED}.
+         *
+         * @return number of {@link Sender} agents.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public int senderCount()
+        {
+            return senderCount;
+        }
+
+        /**
+         * Number of {@link Sender} agents, each on its own thread, when running in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * Each {@link SendChannelEndpoint} is owned by one {@link Sender}, which sends for the
+         * {@link NetworkPublication}s on it and polls its control transports, so busy channels can be spread over
+         * cores. A channel with a tag is assigned by its tag so channels can be placed explicitly, otherwise by a hash
+         * of its canonical form. When greater than one each {@link Sender} also has counters for its bytes sent and
+         * time spent in duty cycles which did work.
+         *
+         * @param senderCount number of {@link Sender} agents.
+         * @return this for a fluent API.
+         * @see Configuration#SENDER_COUNT_PROP_NAME
+         */
+        public Context senderCount(final int senderCount)
+        {
+            this.senderCount = senderCount;
+            return this;
+        }
+
+        /**
+         * Index of the {@link Sender} which owns the {@link SendChannelEndpoint} for a channel.
+         *
+         * @param udpChannel for the {@link SendChannelEndpoint}.
+         * @return index of the {@link Sender} which owns the {@link SendChannelEndpoint} for the channel.
+         */
+        public int senderIndex(final UdpChannel udpChannel)
+        {
+            if (senderCount <= 1)
+            {
+                return 0;
+            }
+
+            final long key = udpChannel.hasTag() ? udpChannel.tag() : udpChannel.canonicalForm().hashCode();
+
+            return (int)Math.floorMod(key, (long)senderCount);
+        }
+
+        /**
+         * Max number of gaps in a term a {@link PublicationImage} will NAK in a single round.
+         *
+         * @return max number of gaps in a term a {@link PublicationImage} will NAK in a single round.
+         * @see Configuration#NAK_MAX_GAPS_PROP_NAME
+         */
+        public int nakMaxGaps()
+        {
+            return nakMaxGaps;
+        }
+
+        /**
+         * Max number of gaps in a term a {@link PublicationImage} will NAK in a single round.
+         * <p>
+         * When greater than one the NAKs for a round are sent as consecutive frames in a single datagram.
+         *
+         * @param nakMaxGaps max number of gaps in a term to NAK in a single round.
+         * @return this for a fluent API.
+         * @see Configuration#NAK_MAX_GAPS_PROP_NAME
+         */
+        public Context nakMaxGaps(final int nakMaxGaps)
+        {
+            this.nakMaxGaps = nakMaxGaps;
+            return this;
+        }
+
+        /**
+         * Number of distinct destinations of a multi-destination-cast publication which must NAK the same range before
+         * a retransmit is sent to all destinations rather than unicast to those which NAKed.
+         *
+         * @return number of distinct NAKing destinations at which a retransmit is sent to all, or 0 if disabled.
+         * @see Configuration#RETRANSMIT_UNICAST_REPAIR_THRESHOLD_PROP_NAME
+         */
+        public int retransmitUnicastRepairThreshold()
+        {
+            return retransmitUnicastRepairThreshold;
+        }
+
+        /**
+         * Number of distinct destinations of a multi-destination-cast publication which must NAK the same range before
+         * a retransmit is sent to all destinations rather than unicast to those which NAKed.
+         * <p>
+         * Setting a non-zero retransmit delay widens the window in which NAKs from several destinations are grouped.
+         *
+         * @param threshold of distinct NAKing destinations at which a retransmit is sent to all, or 0 to disable.
+         * @return this for a fluent API.
+         * @see Configuration#RETRANSMIT_UNICAST_REPAIR_THRESHOLD_PROP_NAME
+         */
+        public Context retransmitUnicastRepairThreshold(final int threshold)
+        {
+            this.retransmitUnicastRepairThreshold = threshold;
+            return this;
+        }
+
+        /**
+         * Number of log buffers to keep pre-allocated for each of the publication and IPC publication term lengths.
+         *
+         * @return number of log buffers to keep pre-allocated for each of the term lengths.
+         * @see Configuration#RAW_LOG_POOL_SIZE_PROP_NAME
+         */
+        public int rawLogPoolSize()
+        {
+            return rawLogPoolSize;
+        }
+
+        /**
+         * Number of log buffers to keep pre-allocated for each of the publication and IPC publication term lengths.
+         * <p>
+         * When greater than zero log buffers are created on a separate thread so the {@link DriverConductor} does not
+         * wait on file creation for a new publication or image. Freed log buffers are deleted rather than reused as
+         * clients may still have them mapped.
+         *
+         * @param rawLogPoolSize number of log buffers to keep pre-allocated for each of the term lengths.
+         * @return this for a fluent API.
+         * @see Configuration#RAW_LOG_POOL_SIZE_PROP_NAME
+         */
+        public Context rawLogPoolSize(final int rawLogPoolSize)
+        {
+            this.rawLogPoolSize = rawLogPoolSize;
+            return this;
+        }
+
         /**
          * The {@link EpochClock} as a source of time in milliseconds for wall clock time.
          *
@@ -1288,6 +1663,32 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * {@link ThreadFactory} to be used for creating agent thread for the {@link RawLogPool} when the raw log pool
+         * size is greater than zero and not running in {@link ThreadingMode#INVOKER}.
+         *
+         * @return {@link ThreadFactory} to be used for creating agent thread for the {@link RawLogPool}.
+         */
+        public ThreadFactory rawLogPoolThreadFactory()
+        {
+            return rawLogPoolThreadFactory;
+        }
+
+        /**
+         * {@link ThreadFactory} to be used for creating agent thread for the {@link RawLogPool} when the raw log pool
+         * size is greater than zero and not running in {@link ThreadingMode#INVOKER}.
+         * <p>
+         * If none is provided then this will default a simple new operation.
+         *
+         * @param factory to be used for creating agent thread for the {@link RawLogPool}.
+         * @return this for a fluent API.
+         */
+        public Context rawLogPoolThreadFactory(final ThreadFactory factory)
+        {
+            rawLogPoolThreadFactory = factory;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
          *
@@ -1300,6 +1701,9 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * {@link IdleStrategy} to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * This can only be set when {@link #senderCount()} is one as an {@link IdleStrategy} can not be shared by
+         * threads, otherwise use {@link #senderIdleStrategySupplier(Supplier)}.
          *
          * @param strategy to be used by the {@link Sender} when in {@link ThreadingMode#DEDICATED}.
          * @return this for a fluent API.
@@ -1310,6 +1714,31 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of an {@link IdleStrategy} for each {@link Sender} when in {@link ThreadingMode#DEDICATED}.
+         *
+         * @return supplier of an {@link IdleStrategy} for each {@link Sender}.
+         */
+        public Supplier<IdleStrategy> senderIdleStrategySupplier()
+        {
+            return senderIdleStrategySupplier;
+        }
+
+        /**
+         * Supplier of an {@link IdleStrategy} for each {@link Sender} when in {@link ThreadingMode#DEDICATED}, which
+         * is called once per {@link Sender} when {@link #senderCount()} is greater than one.
+         * <p>
+         * If not set a new instance of {@link Configuration#SENDER_IDLE_STRATEGY} is used for each {@link Sender}.
+         *
+         * @param supplier of an {@link IdleStrategy} for each {@link Sender}.
+         * @return this for a fluent API.
+         */
+        public Context senderIdleStrategySupplier(final Supplier<IdleStrategy> supplier)
+        {
+            senderIdleStrategySupplier = supplier;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
          *
@@ -1322,6 +1751,9 @@ public final class MediaDriver implements AutoCloseable
 
         /**
          * {@link IdleStrategy} to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
+         * <p>
+         * This can only be set when {@link #receiverCount()} is one as an {@link IdleStrategy} can not be shared by
+         * threads, otherwise use {@link #receiverIdleStrategySupplier(Supplier)}.
          *
          * @param strategy to be used by the {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
          * @return this for a fluent API.
@@ -1332,6 +1764,31 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Supplier of an {@link IdleStrategy} for each {@link Receiver} when in {@link ThreadingMode#DEDICATED}.
+         *
+         * @return supplier of an {@link IdleStrategy} for each {@link Receiver}.
+         */
+        public Supplier<IdleStrategy> receiverIdleStrategySupplier()
+        {
+            return receiverIdleStrategySupplier;
+        }
+
+        /**
+         * Supplier of an {@link IdleStrategy} for each {@link Receiver} when in {@link ThreadingMode#DEDICATED}, which
+         * is called once per {@link Receiver} when {@link #receiverCount()} is greater than one.
+         * <p>
+         * If not set a new instance of {@link Configuration#RECEIVER_IDLE_STRATEGY} is used for each {@link Receiver}.
+         *
+         * @param supplier of an {@link IdleStrategy} for each {@link Receiver}.
+         * @return this for a fluent API.
+         */
+        public Context receiverIdleStrategySupplier(final Supplier<IdleStrategy> supplier)
+        {
+            receiverIdleStrategySupplier = supplier;
+            return this;
+        }
+
         /**
          * {@link IdleStrategy} to be used by the {@link DriverConductor} when in {@link ThreadingMode#DEDICATED}
          * or {@link ThreadingMode#SHARED_NETWORK}.
@@ -1474,6 +1931,20 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * The thread local buffers and associated objects for use by the {@link ReceiveChannelEndpoint}s owned by a
+         * given {@link Receiver}.
+         *
+         * @param receiverIndex of the {@link Receiver} which owns the {@link ReceiveChannelEndpoint}.
+         * @return thread local buffers and associated objects for use by subclasses of {@link ReceiveChannelEndpoint}.
+         * @see #receiverIndex(UdpChannel)
+         */
+        public ReceiveChannelEndpointThreadLocals receiveChannelEndpointThreadLocals(final int receiverIndex)
+        {
+            return 0 == receiverIndex ?
+                receiveChannelEndpointThreadLocals : receiveChannelEndpointThreadLocalsByReceiver[receiverIndex];
+        }
+
         /**
          * The temporary buffer than can be used to build up counter labels to avoid allocation.
          *
@@ -1564,6 +2035,20 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        /**
+         * Group tag added to Status Messages (SMs), as the {@link #applicationSpecificFeedback()}, to identify the
+         * receivers of this driver to a {@link QuorumMulticastFlowControl} restricted to a group.
+         *
+         * @param groupTag to identify the receivers of this driver.
+         * @return this for a fluent API.
+         * @see Configuration#SM_GROUP_TAG_PROP_NAME
+         */
+        public Context receiverGroupTag(final long groupTag)
+        {
+            this.applicationSpecificFeedback = Configuration.groupTagFeedback(groupTag);
+            return this;
+        }
+
         /**
          * Supplier of dynamically created {@link CongestionControl} strategies for individual connections.
          *
@@ -1790,6 +2275,11 @@ public final class MediaDriver implements AutoCloseable
             return receiverCommandQueue;
         }
 
+        OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue(final int receiverIndex)
+        {
+            return 0 == receiverIndex ? receiverCommandQueue : receiverCommandQueues[receiverIndex];
+        }
+
         Context receiverCommandQueue(final OneToOneConcurrentArrayQueue<Runnable> receiverCommandQueue)
         {
             this.receiverCommandQueue = receiverCommandQueue;
@@ -1801,6 +2291,11 @@ public final class MediaDriver implements AutoCloseable
             return senderCommandQueue;
         }
 
+        OneToOneConcurrentArrayQueue<Runnable> senderCommandQueue(final int senderIndex)
+        {
+            return 0 == senderIndex ? senderCommandQueue : senderCommandQueues[senderIndex];
+        }
+
         Context senderCommandQueue(final OneToOneConcurrentArrayQueue<Runnable> senderCommandQueue)
         {
             this.senderCommandQueue = senderCommandQueue;
@@ -1851,11 +2346,27 @@ public final class MediaDriver implements AutoCloseable
             return this;
         }
 
+        RawLogPool rawLogPool()
+        {
+            return rawLogPool;
+        }
+
+        Context rawLogPool(final RawLogPool rawLogPool)
+        {
+            this.rawLogPool = rawLogPool;
+            return this;
+        }
+
         DataTransportPoller dataTransportPoller()
         {
             return dataTransportPoller;
         }
 
+        DataTransportPoller dataTransportPoller(final int receiverIndex)
+        {
+            return 0 == receiverIndex ? dataTransportPoller : dataTransportPollers[receiverIndex];
+        }
+
         Context dataTransportPoller(final DataTransportPoller transportPoller)
         {
             this.dataTransportPoller = transportPoller;
@@ -1867,6 +2378,11 @@ public final class MediaDriver implements AutoCloseable
             return controlTransportPoller;
         }
 
+        ControlTransportPoller controlTransportPoller(final int senderIndex)
+        {
+            return 0 == senderIndex ? controlTransportPoller : controlTransportPollers[senderIndex];
+        }
+
         Context controlTransportPoller(final ControlTransportPoller transportPoller)
         {
             this.controlTransportPoller = transportPoller;
@@ -1878,6 +2394,16 @@ public final class MediaDriver implements AutoCloseable
             return receiverProxy;
         }
 
+        IdleStrategy receiverIdleStrategy(final int receiverIndex)
+        {
+            return receiverIdleStrategies[receiverIndex];
+        }
+
+        ReceiverProxy receiverProxy(final int receiverIndex)
+        {
+            return 0 == receiverIndex ? receiverProxy : receiverProxies[receiverIndex];
+        }
+
         Context receiverProxy(final ReceiverProxy receiverProxy)
         {
             this.receiverProxy = receiverProxy;
@@ -1889,6 +2415,16 @@ public final class MediaDriver implements AutoCloseable
             return senderProxy;
         }
 
+        IdleStrategy senderIdleStrategy(final int senderIndex)
+        {
+            return senderIdleStrategies[senderIndex];
+        }
+
+        SenderProxy senderProxy(final int senderIndex)
+        {
+            return 0 == senderIndex ? senderProxy : senderProxies[senderIndex];
+        }
+
         Context senderProxy(final SenderProxy senderProxy)
         {
             this.senderProxy = senderProxy;
@@ -1954,11 +2490,6 @@ public final class MediaDriver implements AutoCloseable
                 receiveChannelEndpointSupplier = Configuration.receiveChannelEndpointSupplier();
             }
 
-            if (null == dataTransportPoller)
-            {
-                dataTransportPoller = new DataTransportPoller();
-            }
-
             if (null == controlTransportPoller)
             {
                 controlTransportPoller = new ControlTransportPoller();
@@ -1989,6 +2520,11 @@ public final class MediaDriver implements AutoCloseable
                 sharedNetworkThreadFactory = Thread::new;
             }
 
+            if (null == rawLogPoolThreadFactory)
+            {
+                rawLogPoolThreadFactory = Thread::new;
+            }
+
             if (null == receiveChannelEndpointThreadLocals)
             {
                 receiveChannelEndpointThreadLocals = new ReceiveChannelEndpointThreadLocals(this);
@@ -2015,6 +2551,53 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
+        @SuppressWarnings("unchecked")
+        private void concludeAdditionalReceivers()
+        {
+            receiverProxies = new ReceiverProxy[receiverCount];
+            dataTransportPollers = new DataTransportPoller[receiverCount];
+            receiverCommandQueues = new OneToOneConcurrentArrayQueue[receiverCount];
+            receiveChannelEndpointThreadLocalsByReceiver = new ReceiveChannelEndpointThreadLocals[receiverCount];
+
+            receiverProxies[0] = receiverProxy;
+            dataTransportPollers[0] = dataTransportPoller;
+            receiverCommandQueues[0] = receiverCommandQueue;
+            receiveChannelEndpointThreadLocalsByReceiver[0] = receiveChannelEndpointThreadLocals;
+
+            for (int i = 1; i < receiverCount; i++)
+            {
+                receiverCommandQueues[i] = new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+                receiverProxies[i] = new ReceiverProxy(
+                    threadingMode, receiverCommandQueues[i], systemCounters.get(RECEIVER_PROXY_FAILS));
+                dataTransportPollers[i] = new DataTransportPoller(
+                    receiveBatchSize,
+                    systemCounters.get(RECEIVE_BATCHES),
+                    systemCounters.get(RECEIVE_BATCH_DATAGRAMS),
+                    true);
+                receiveChannelEndpointThreadLocalsByReceiver[i] = new ReceiveChannelEndpointThreadLocals(this);
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private void concludeAdditionalSenders()
+        {
+            senderProxies = new SenderProxy[senderCount];
+            controlTransportPollers = new ControlTransportPoller[senderCount];
+            senderCommandQueues = new OneToOneConcurrentArrayQueue[senderCount];
+
+            senderProxies[0] = senderProxy;
+            controlTransportPollers[0] = controlTransportPoller;
+            senderCommandQueues[0] = senderCommandQueue;
+
+            for (int i = 1; i < senderCount; i++)
+            {
+                senderCommandQueues[i] = new OneToOneConcurrentArrayQueue<>(CMD_QUEUE_CAPACITY);
+                senderProxies[i] = new SenderProxy(
+                    threadingMode, senderCommandQueues[i], systemCounters.get(SENDER_PROXY_FAILS));
+                controlTransportPollers[i] = new ControlTransportPoller();
+            }
+        }
+
         private void concludeDependantProperties()
         {
             clientProxy = new ClientProxy(new BroadcastTransmitter(
@@ -2039,10 +2622,38 @@ public final class MediaDriver implements AutoCloseable
             driverConductorProxy = new DriverConductorProxy(
                 threadingMode, driverCommandQueue(), systemCounters.get(CONDUCTOR_PROXY_FAILS));
 
+            if (null == dataTransportPoller)
+            {
+                dataTransportPoller = new DataTransportPoller(
+                    receiveBatchSize,
+                    systemCounters.get(RECEIVE_BATCHES),
+                    systemCounters.get(RECEIVE_BATCH_DATAGRAMS),
+                    receiverCount > 1);
+            }
+
+            concludeAdditionalReceivers();
+            concludeAdditionalSenders();
+
+            if (null == rawLogPool && rawLogPoolSize > 0)
+            {
+                final int[] termLengths = publicationTermBufferLength == ipcPublicationTermBufferLength ?
+                    new int[]{ publicationTermBufferLength } :
+                    new int[]{ publicationTermBufferLength, ipcPublicationTermBufferLength };
+
+                rawLogPool = new RawLogPool(
+                    logBuffersDirName(), termLengths, rawLogPoolSize, filePageSize, errorHandler);
+            }
+
             if (null == rawLogFactory)
             {
                 rawLogFactory = new RawLogFactory(
-                    aeronDirectoryName(), filePageSize, performStorageChecks, errorHandler);
+                    logBuffersDirName(),
+                    filePageSize,
+                    performStorageChecks,
+                    errorHandler,
+                    rawLogPool,
+                    systemCounters.get(RAW_LOG_POOL_HITS),
+                    systemCounters.get(RAW_LOG_POOL_MISSES));
             }
 
             if (null == lossReport)
@@ -2053,6 +2664,32 @@ public final class MediaDriver implements AutoCloseable
             }
         }
 
+        private String logBuffersDirName()
+        {
+            if (null == logBuffersDirectoryName)
+            {
+                return aeronDirectoryName();
+            }
+
+            if (null == logBuffersDirName)
+            {
+                try
+                {
+                    final String canonicalPath = aeronDirectory().getCanonicalPath();
+                    final String subDirName = aeronDirectory().getName() + '-' +
+                        UUID.nameUUIDFromBytes(canonicalPath.getBytes(StandardCharsets.UTF_8));
+
+                    logBuffersDirName = new File(logBuffersDirectoryName, subDirName).getPath();
+                }
+                catch (final IOException ex)
+                {
+                    LangUtil.rethrowUnchecked(ex);
+                }
+            }
+
+            return logBuffersDirName;
+        }
+
         private void concludeCounters()
         {
             if (null == countersManager)
@@ -2118,14 +2755,52 @@ public final class MediaDriver implements AutoCloseable
                         conductorIdleStrategy = Configuration.conductorIdleStrategy(indicator);
                     }
 
-                    if (null == senderIdleStrategy)
+                    if (null != senderIdleStrategy && senderCount > 1)
+                    {
+                        throw new ConfigurationException(
+                            "senderIdleStrategy can not be shared by senders, use senderIdleStrategySupplier: " +
+                            "senderCount=" + senderCount);
+                    }
+
+                    if (null != receiverIdleStrategy && receiverCount > 1)
+                    {
+                        throw new ConfigurationException(
+                            "receiverIdleStrategy can not be shared by receivers, use receiverIdleStrategySupplier: " +
+                            "receiverCount=" + receiverCount);
+                    }
+
+                    if (null == senderIdleStrategySupplier)
+                    {
+                        senderIdleStrategySupplier = () -> Configuration.senderIdleStrategy(indicator);
+                    }
+
+                    if (null == receiverIdleStrategySupplier)
+                    {
+                        receiverIdleStrategySupplier = () -> Configuration.receiverIdleStrategy(indicator);
+                    }
+
+                    if (null == senderIdleStrategy && 1 == senderCount)
+                    {
+                        senderIdleStrategy = senderIdleStrategySupplier.get();
+                    }
+
+                    senderIdleStrategies = new IdleStrategy[senderCount];
+                    for (int i = 0; i < senderCount; i++)
+                    {
+                        senderIdleStrategies[i] = 1 == senderCount ?
+                            senderIdleStrategy : senderIdleStrategySupplier.get();
+                    }
+
+                    if (null == receiverIdleStrategy && 1 == receiverCount)
                     {
-                        senderIdleStrategy = Configuration.senderIdleStrategy(indicator);
+                        receiverIdleStrategy = receiverIdleStrategySupplier.get();
                     }
 
-                    if (null == receiverIdleStrategy)
+                    receiverIdleStrategies = new IdleStrategy[receiverCount];
+                    for (int i = 0; i < receiverCount; i++)
                     {
-                        receiverIdleStrategy = Configuration.receiverIdleStrategy(indicator);
+                        receiverIdleStrategies[i] = 1 == receiverCount ?
+                            receiverIdleStrategy : receiverIdleStrategySupplier.get();
                     }
                     break;
 
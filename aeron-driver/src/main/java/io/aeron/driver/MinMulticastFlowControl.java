@@ -16,10 +16,10 @@
 package io.aeron.driver;
 
 import io.aeron.protocol.StatusMessageFlyweight;
-import org.agrona.collections.ArrayListUtil;
+import org.agrona.collections.Long2ObjectHashMap;
 
 import java.net.InetSocketAddress;
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.concurrent.TimeUnit;
 
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -32,6 +32,10 @@ import static org.agrona.SystemUtil.getDurationInNanos;
  * <p>
  * Tracking of receivers is done as long as they continue to send Status Messages. Once SMs stop, the receiver tracking
  * for that receiver will timeout after a given number of nanoseconds.
+ * <p>
+ * Receivers are indexed by receiver id and kept in a binary min-heap ordered by position plus window so a Status
+ * Message costs O(log n) rather than a scan of all receivers. Receivers are also linked in the order of their last
+ * Status Message so timeouts are found from the head of the list without a scan.
  */
 public class MinMulticastFlowControl implements FlowControl
 {
@@ -48,7 +52,13 @@ public class MinMulticastFlowControl implements FlowControl
     private static final long RECEIVER_TIMEOUT = getDurationInNanos(
         RECEIVER_TIMEOUT_PROP_NAME, RECEIVER_TIMEOUT_DEFAULT);
 
-    private final ArrayList<Receiver> receiverList = new ArrayList<>();
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final Long2ObjectHashMap<Receiver> receiverById = new Long2ObjectHashMap<>();
+    private Receiver[] receiverHeap = new Receiver[INITIAL_CAPACITY];
+    private int receiverCount = 0;
+    private Receiver leastRecentReceiver;
+    private Receiver mostRecentReceiver;
 
     private volatile boolean shouldLinger = true;
 
@@ -78,33 +88,26 @@ public class MinMulticastFlowControl implements FlowControl
 
         final long windowLength = flyweight.receiverWindowLength();
         final long receiverId = flyweight.receiverId();
-        boolean isExisting = false;
-        long minPosition = Long.MAX_VALUE;
 
-        final ArrayList<Receiver> receiverList = this.receiverList;
-        for (int i = 0, size = receiverList.size(); i < size; i++)
+        Receiver receiver = receiverById.get(receiverId);
+        if (null == receiver)
         {
-            final Receiver receiver = receiverList.get(i);
-
-            if (receiverId == receiver.receiverId)
-            {
-                receiver.lastPosition = Math.max(position, receiver.lastPosition);
-                receiver.lastPositionPlusWindow = position + windowLength;
-                receiver.timeOfLastStatusMessageNs = timeNs;
-                isExisting = true;
-            }
-
-            minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+            receiver = new Receiver(position, position + windowLength, timeNs, receiverId, receiverAddress);
+            receiverById.put(receiverId, receiver);
+            addToHeap(receiver);
+            linkAsMostRecent(receiver);
         }
-
-        if (!isExisting)
+        else
         {
-            receiverList.add(new Receiver(
-                position, position + windowLength, timeNs, receiverId, receiverAddress));
-            minPosition = Math.min(minPosition, position + windowLength);
+            receiver.lastPosition = Math.max(position, receiver.lastPosition);
+            receiver.lastPositionPlusWindow = position + windowLength;
+            receiver.timeOfLastStatusMessageNs = timeNs;
+            siftDown(siftUp(receiver.heapIndex));
+            unlink(receiver);
+            linkAsMostRecent(receiver);
         }
 
-        return Math.max(senderLimit, minPosition);
+        return Math.max(senderLimit, receiverHeap[0].lastPositionPlusWindow);
     }
 
     /**
@@ -113,33 +116,22 @@ public class MinMulticastFlowControl implements FlowControl
     public long onIdle(
         final long timeNs, final long senderLimit, final long senderPosition, final boolean isEndOfStream)
     {
-        long minPosition = Long.MAX_VALUE;
-        long minLimitPosition = Long.MAX_VALUE;
-        final ArrayList<Receiver> receiverList = this.receiverList;
-
-        for (int lastIndex = receiverList.size() - 1, i = lastIndex; i >= 0; i--)
+        Receiver receiver;
+        while (null != (receiver = leastRecentReceiver) &&
+            timeNs > (receiver.timeOfLastStatusMessageNs + RECEIVER_TIMEOUT))
         {
-            final Receiver receiver = receiverList.get(i);
-            if (timeNs > (receiver.timeOfLastStatusMessageNs + RECEIVER_TIMEOUT))
-            {
-                ArrayListUtil.fastUnorderedRemove(receiverList, i, lastIndex--);
-            }
-            else
-            {
-                minPosition = Math.min(minPosition, receiver.lastPosition);
-                minLimitPosition = Math.min(minLimitPosition, receiver.lastPositionPlusWindow);
-            }
+            remove(receiver);
         }
 
         if (isEndOfStream && shouldLinger)
         {
-            if (0 == receiverList.size() || minPosition >= senderPosition)
+            if (0 == receiverCount || minPosition() >= senderPosition)
             {
                 shouldLinger = false;
             }
         }
 
-        return receiverList.size() > 0 ? minLimitPosition : senderLimit;
+        return receiverCount > 0 ? receiverHeap[0].lastPositionPlusWindow : senderLimit;
     }
 
     /**
@@ -150,6 +142,158 @@ public class MinMulticastFlowControl implements FlowControl
         return shouldLinger;
     }
 
+    /**
+     * Number of receivers currently tracked.
+     *
+     * @return number of receivers currently tracked.
+     */
+    int receiverCount()
+    {
+        return receiverCount;
+    }
+
+    private long minPosition()
+    {
+        long minPosition = Long.MAX_VALUE;
+        for (int i = 0; i < receiverCount; i++)
+        {
+            minPosition = Math.min(minPosition, receiverHeap[i].lastPosition);
+        }
+
+        return minPosition;
+    }
+
+    private void remove(final Receiver receiver)
+    {
+        receiverById.remove(receiver.receiverId);
+        unlink(receiver);
+
+        final int index = receiver.heapIndex;
+        final int lastIndex = --receiverCount;
+        final Receiver last = receiverHeap[lastIndex];
+        receiverHeap[lastIndex] = null;
+
+        if (index != lastIndex)
+        {
+            receiverHeap[index] = last;
+            last.heapIndex = index;
+            siftDown(siftUp(index));
+        }
+    }
+
+    private void addToHeap(final Receiver receiver)
+    {
+        if (receiverCount == receiverHeap.length)
+        {
+            receiverHeap = Arrays.copyOf(receiverHeap, receiverCount * 2);
+        }
+
+        final int index = receiverCount++;
+        receiverHeap[index] = receiver;
+        receiver.heapIndex = index;
+        siftUp(index);
+    }
+
+    private int siftUp(final int index)
+    {
+        final Receiver[] heap = this.receiverHeap;
+        final Receiver receiver = heap[index];
+        final long key = receiver.lastPositionPlusWindow;
+
+        int i = index;
+        while (i > 0)
+        {
+            final int parentIndex = (i - 1) >>> 1;
+            final Receiver parent = heap[parentIndex];
+            if (parent.lastPositionPlusWindow <= key)
+            {
+                break;
+            }
+
+            heap[i] = parent;
+            parent.heapIndex = i;
+            i = parentIndex;
+        }
+
+        heap[i] = receiver;
+        receiver.heapIndex = i;
+
+        return i;
+    }
+
+    private void siftDown(final int index)
+    {
+        final Receiver[] heap = this.receiverHeap;
+        final int count = receiverCount;
+        final Receiver receiver = heap[index];
+        final long key = receiver.lastPositionPlusWindow;
+
+        int i = index;
+        int childIndex;
+        while ((childIndex = (i << 1) + 1) < count)
+        {
+            final int rightIndex = childIndex + 1;
+            if (rightIndex < count && heap[rightIndex].lastPositionPlusWindow < heap[childIndex].lastPositionPlusWindow)
+            {
+                childIndex = rightIndex;
+            }
+
+            final Receiver child = heap[childIndex];
+            if (key <= child.lastPositionPlusWindow)
+            {
+                break;
+            }
+
+            heap[i] = child;
+            child.heapIndex = i;
+            i = childIndex;
+        }
+
+        heap[i] = receiver;
+        receiver.heapIndex = i;
+    }
+
+    private void linkAsMostRecent(final Receiver receiver)
+    {
+        receiver.previous = mostRecentReceiver;
+        receiver.next = null;
+
+        if (null == mostRecentReceiver)
+        {
+            leastRecentReceiver = receiver;
+        }
+        else
+        {
+            mostRecentReceiver.next = receiver;
+        }
+
+        mostRecentReceiver = receiver;
+    }
+
+    private void unlink(final Receiver receiver)
+    {
+        if (null == receiver.previous)
+        {
+            leastRecentReceiver = receiver.next;
+        }
+        else
+        {
+            receiver.previous.next = receiver.next;
+        }
+
+        if (null == receiver.next)
+        {
+            mostRecentReceiver = receiver.previous;
+        }
+        else
+        {
+            receiver.next.previous = receiver.previous;
+        }
+
+        receiver.previous = null;
+        receiver.next = null;
+    }
+
     static class Receiver
     {
         long lastPosition;
@@ -157,6 +301,9 @@ public class MinMulticastFlowControl implements FlowControl
         long timeOfLastStatusMessageNs;
         long receiverId;
         InetSocketAddress address;
+        int heapIndex;
+        Receiver previous;
+        Receiver next;
 
         Receiver(
             final long lastPosition,
@@ -172,4 +319,4 @@ public class MinMulticastFlowControl implements FlowControl
             this.address = receiverAddress;
         }
     }
-}
\ No newline at end of file
+}
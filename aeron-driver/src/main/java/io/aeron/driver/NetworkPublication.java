@@ -102,11 +102,13 @@ public class NetworkPublication
     private final int termBufferLength;
     private final int termLengthMask;
     private final int mtuLength;
+    private final int sendBatchSize;
     private final int termWindowLength;
     private final int sessionId;
     private final int streamId;
     private final boolean isExclusive;
     private final boolean spiesSimulateConnection;
+    private final boolean isSharedCounters;
     private volatile boolean hasReceivers;
     private volatile boolean hasSpies;
     private volatile boolean isConnected;
@@ -134,9 +136,12 @@ public class NetworkPublication
     private final RawLog rawLog;
     private final AtomicCounter heartbeatsSent;
     private final AtomicCounter retransmitsSent;
+    private final AtomicCounter unicastRetransmitsSent;
     private final AtomicCounter senderFlowControlLimits;
     private final AtomicCounter shortSends;
     private final AtomicCounter unblockedPublications;
+    private final AtomicCounter sendBatches;
+    private final AtomicCounter sendBatchDatagrams;
 
     public NetworkPublication(
         final long registrationId,
@@ -152,7 +157,9 @@ public class NetworkPublication
         final int streamId,
         final int initialTermId,
         final int mtuLength,
+        final int sendBatchSize,
         final SystemCounters systemCounters,
+        final boolean isSharedCounters,
         final FlowControl flowControl,
         final RetransmitHandler retransmitHandler,
         final NetworkPublicationThreadLocals threadLocals,
@@ -177,11 +184,13 @@ public class NetworkPublication
         this.publisherPos = publisherPos;
         this.publisherLimit = publisherLimit;
         this.mtuLength = mtuLength;
+        this.sendBatchSize = sendBatchSize;
         this.initialTermId = initialTermId;
         this.sessionId = sessionId;
         this.streamId = streamId;
         this.isExclusive = isExclusive;
         this.spiesSimulateConnection = spiesSimulateConnection;
+        this.isSharedCounters = isSharedCounters;
 
         metaDataBuffer = rawLog.metaData();
         setupBuffer = threadLocals.setupBuffer();
@@ -194,8 +203,11 @@ public class NetworkPublication
         heartbeatsSent = systemCounters.get(HEARTBEATS_SENT);
         shortSends = systemCounters.get(SHORT_SENDS);
         retransmitsSent = systemCounters.get(RETRANSMITS_SENT);
+        unicastRetransmitsSent = systemCounters.get(UNICAST_RETRANSMITS_SENT);
         senderFlowControlLimits = systemCounters.get(SENDER_FLOW_CONTROL_LIMITS);
         unblockedPublications = systemCounters.get(UNBLOCKED_PUBLICATIONS);
+        sendBatches = systemCounters.get(SEND_BATCHES);
+        sendBatchDatagrams = systemCounters.get(SEND_BATCH_DATAGRAMS);
 
         termBuffers = rawLog.termBuffers();
         sendBuffers = rawLog.sliceTerms();
@@ -252,6 +264,11 @@ public class NetworkPublication
         return mtuLength;
     }
 
+    public int sendBatchSize()
+    {
+        return sendBatchSize;
+    }
+
     public long registrationId()
     {
         return registrationId;
@@ -319,6 +336,11 @@ public class NetworkPublication
     }
 
     public void resend(final int termId, final int termOffset, final int length)
+    {
+        resend(termId, termOffset, length, null);
+    }
+
+    public void resend(final int termId, final int termOffset, final int length, final InetSocketAddress address)
     {
         final long senderPosition = this.senderPosition.get();
         final long resendPosition = computePosition(termId, termOffset, positionBitsToShift, initialTermId);
@@ -345,7 +367,10 @@ public class NetworkPublication
 
                 sendBuffer.limit(offset + available).position(offset);
 
-                if (available != channelEndpoint.send(sendBuffer))
+                final int bytesWritten = null == address ?
+                    channelEndpoint.send(sendBuffer) : channelEndpoint.send(sendBuffer, address);
+
+                if (available != bytesWritten)
                 {
                     shortSends.increment();
                     break;
@@ -356,7 +381,11 @@ public class NetworkPublication
             }
             while (remainingBytes > 0);
 
-            retransmitsSent.incrementOrdered();
+            SystemCounters.increment(retransmitsSent, isSharedCounters);
+            if (null != address)
+            {
+                SystemCounters.increment(unicastRetransmitsSent, isSharedCounters);
+            }
         }
     }
 
@@ -387,9 +416,9 @@ public class NetworkPublication
         spyPosition.close();
     }
 
-    public void onNak(final int termId, final int termOffset, final int length)
+    public void onNak(final int termId, final int termOffset, final int length, final InetSocketAddress srcAddress)
     {
-        retransmitHandler.onNak(termId, termOffset, length, termBufferLength, this);
+        retransmitHandler.onNak(termId, termOffset, length, termBufferLength, srcAddress, this);
     }
 
     public void onStatusMessage(final StatusMessageFlyweight msg, final InetSocketAddress srcAddress)
@@ -506,34 +535,51 @@ public class NetworkPublication
         final int availableWindow = (int)(senderLimit.get() - senderPosition);
         if (availableWindow > 0)
         {
-            final int scanLimit = Math.min(availableWindow, mtuLength);
             final int activeIndex = indexByPosition(senderPosition, positionBitsToShift);
+            final UnsafeBuffer termBuffer = termBuffers[activeIndex];
+            final ByteBuffer sendBuffer = sendBuffers[activeIndex];
 
-            final long scanOutcome = scanForAvailability(termBuffers[activeIndex], termOffset, scanLimit);
-            final int available = available(scanOutcome);
-            if (available > 0)
+            int remainingWindow = availableWindow;
+            int offset = termOffset;
+            int datagramsSent = 0;
+            do
             {
-                final ByteBuffer sendBuffer = sendBuffers[activeIndex];
-                sendBuffer.limit(termOffset + available).position(termOffset);
-
-                if (available == channelEndpoint.send(sendBuffer))
+                final long scanOutcome = scanForAvailability(termBuffer, offset, Math.min(remainingWindow, mtuLength));
+                final int available = available(scanOutcome);
+                if (available <= 0)
                 {
-                    timeOfLastSendOrHeartbeatNs = nowNs;
-                    trackSenderLimits = true;
-
-                    bytesSent = available;
-                    this.senderPosition.setOrdered(senderPosition + bytesSent + padding(scanOutcome));
+                    break;
                 }
-                else
+
+                sendBuffer.limit(offset + available).position(offset);
+
+                if (available != channelEndpoint.send(sendBuffer))
                 {
                     shortSends.increment();
+                    break;
                 }
+
+                final int advance = available + padding(scanOutcome);
+                bytesSent += available;
+                offset += advance;
+                remainingWindow -= advance;
+            }
+            while (++datagramsSent < sendBatchSize && remainingWindow > 0 && offset < termBufferLength);
+
+            if (offset > termOffset)
+            {
+                timeOfLastSendOrHeartbeatNs = nowNs;
+                trackSenderLimits = true;
+
+                this.senderPosition.setOrdered(senderPosition + (offset - termOffset));
+                SystemCounters.increment(sendBatches, isSharedCounters);
+                SystemCounters.getAndAdd(sendBatchDatagrams, datagramsSent, isSharedCounters);
             }
         }
         else if (trackSenderLimits)
         {
             trackSenderLimits = false;
-            senderFlowControlLimits.incrementOrdered();
+            SystemCounters.increment(senderFlowControlLimits, isSharedCounters);
         }
 
         return bytesSent;
@@ -591,7 +637,7 @@ public class NetworkPublication
             }
 
             timeOfLastSendOrHeartbeatNs = nowNs;
-            heartbeatsSent.incrementOrdered();
+            SystemCounters.increment(heartbeatsSent, isSharedCounters);
         }
 
         return bytesSent;
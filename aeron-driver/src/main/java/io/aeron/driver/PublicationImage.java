@@ -93,8 +93,9 @@ public class PublicationImage
     private volatile long beginLossChange = Aeron.NULL_VALUE;
     private volatile long endLossChange = Aeron.NULL_VALUE;
     private int lossTermId;
-    private int lossTermOffset;
-    private int lossLength;
+    private int lossGapCount;
+    private final int[] lossTermOffsets;
+    private final int[] lossLengths;
 
     private volatile long beginSmChange = Aeron.NULL_VALUE;
     private volatile long endSmChange = Aeron.NULL_VALUE;
@@ -109,6 +110,13 @@ public class PublicationImage
 
     private long timeOfLastStateChangeNs;
 
+    private int pendingLossTermId;
+    private int pendingLossGapCount;
+    private final int[] pendingLossTermOffsets;
+    private final int[] pendingLossLengths;
+    private final int[] nakTermOffsets;
+    private final int[] nakLengths;
+
     private final long correlationId;
     private final long imageLivenessTimeoutNs;
     private final int sessionId;
@@ -117,6 +125,7 @@ public class PublicationImage
     private final int termLengthMask;
     private final int initialTermId;
     private final boolean isReliable;
+    private final boolean isSharedCounters;
 
     private boolean isTrackingRebuild = true;
     private volatile State state = INIT;
@@ -152,6 +161,7 @@ public class PublicationImage
         final int initialTermOffset,
         final RawLog rawLog,
         final FeedbackDelayGenerator lossFeedbackDelayGenerator,
+        final int nakMaxGaps,
         final ReadablePosition[] subscriberPositions,
         final Position hwmPosition,
         final Position rebuildPosition,
@@ -159,6 +169,7 @@ public class PublicationImage
         final NanoClock cachedNanoClock,
         final EpochClock cachedEpochClock,
         final SystemCounters systemCounters,
+        final boolean isSharedCounters,
         final InetSocketAddress sourceAddress,
         final CongestionControl congestionControl,
         final LossReport lossReport,
@@ -178,6 +189,7 @@ public class PublicationImage
         this.congestionControl = congestionControl;
         this.lossReport = lossReport;
         this.isReliable = isReliable;
+        this.isSharedCounters = isSharedCounters;
 
         heartbeatsReceived = systemCounters.get(HEARTBEATS_RECEIVED);
         statusMessagesSent = systemCounters.get(STATUS_MESSAGES_SENT);
@@ -197,7 +209,13 @@ public class PublicationImage
         controlAddresses[transportIndex] = new DestinationImageControlAddress(nowNs, controlAddress);
 
         termBuffers = rawLog.termBuffers();
-        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this);
+        lossDetector = new LossDetector(lossFeedbackDelayGenerator, this, nakMaxGaps);
+        lossTermOffsets = new int[nakMaxGaps];
+        lossLengths = new int[nakMaxGaps];
+        pendingLossTermOffsets = new int[nakMaxGaps];
+        pendingLossLengths = new int[nakMaxGaps];
+        nakTermOffsets = new int[nakMaxGaps];
+        nakLengths = new int[nakMaxGaps];
 
         final int termLength = rawLog.termLength();
         termLengthMask = termLength - 1;
@@ -212,6 +230,7 @@ public class PublicationImage
 
         hwmPosition.setOrdered(position);
         rebuildPosition.setOrdered(position);
+        publishTail(position);
     }
 
     public boolean free()
@@ -293,20 +312,20 @@ public class PublicationImage
 
     /**
      * Called from the {@link LossDetector} when gap is detected by the {@link DriverConductor} thread.
+     * <p>
+     * Gaps detected in the same scan are staged and then handed to the {@link Receiver} thread together.
      *
      * @see LossHandler
      */
     public void onGapDetected(final int termId, final int termOffset, final int length)
     {
-        final long changeNumber = beginLossChange + 1;
-
-        beginLossChange = changeNumber;
-
-        lossTermId = termId;
-        lossTermOffset = termOffset;
-        lossLength = length;
-
-        endLossChange = changeNumber;
+        if (pendingLossGapCount < pendingLossTermOffsets.length)
+        {
+            pendingLossTermId = termId;
+            pendingLossTermOffsets[pendingLossGapCount] = termOffset;
+            pendingLossLengths[pendingLossGapCount] = length;
+            pendingLossGapCount++;
+        }
 
         if (null != reportEntry)
         {
@@ -416,6 +435,19 @@ public class PublicationImage
         timeOfLastStatusMessageScheduleNs = nowNs;
     }
 
+    private void publishPendingLoss()
+    {
+        final long changeNumber = beginLossChange + 1;
+        beginLossChange = changeNumber;
+
+        lossTermId = pendingLossTermId;
+        System.arraycopy(pendingLossTermOffsets, 0, lossTermOffsets, 0, pendingLossGapCount);
+        System.arraycopy(pendingLossLengths, 0, lossLengths, 0, pendingLossGapCount);
+        lossGapCount = pendingLossGapCount;
+
+        endLossChange = changeNumber;
+    }
+
     /**
      * Called from the {@link DriverConductor}.
      *
@@ -437,6 +469,7 @@ public class PublicationImage
         final long rebuildPosition = Math.max(this.rebuildPosition.get(), maxSubscriberPosition);
         final long hwmPosition = this.hwmPosition.getVolatile();
 
+        pendingLossGapCount = 0;
         final long scanOutcome = lossDetector.scan(
             termBuffers[indexByPosition(rebuildPosition, positionBitsToShift)],
             rebuildPosition,
@@ -446,9 +479,17 @@ public class PublicationImage
             positionBitsToShift,
             initialTermId);
 
+        if (pendingLossGapCount > 0)
+        {
+            publishPendingLoss();
+        }
+
         final int rebuildTermOffset = (int)rebuildPosition & termLengthMask;
         final long newRebuildPosition = (rebuildPosition - rebuildTermOffset) + rebuildOffset(scanOutcome);
-        this.rebuildPosition.proposeMaxOrdered(newRebuildPosition);
+        if (this.rebuildPosition.proposeMaxOrdered(newRebuildPosition))
+        {
+            publishTail(newRebuildPosition);
+        }
 
         final long ccOutcome = congestionControl.onTrackRebuild(
             nowNs,
@@ -518,7 +559,7 @@ public class PublicationImage
                     LogBufferDescriptor.endOfStreamPosition(rawLog.metaData(), packetPosition);
                 }
 
-                heartbeatsReceived.incrementOrdered();
+                SystemCounters.increment(heartbeatsReceived, isSharedCounters);
             }
             else
             {
@@ -581,7 +622,7 @@ public class PublicationImage
                     channelEndpoint.sendStatusMessage(
                         controlAddresses, sessionId, streamId, termId, termOffset, receiverWindowLength, (byte)0);
 
-                    statusMessagesSent.incrementOrdered();
+                    SystemCounters.increment(statusMessagesSent, isSharedCounters);
 
                     lastSmPosition = smPosition;
                     lastSmWindowLimit = smPosition + receiverWindowLength;
@@ -608,8 +649,9 @@ public class PublicationImage
         if (changeNumber != lastLossChangeNumber)
         {
             final int termId = lossTermId;
-            final int termOffset = lossTermOffset;
-            final int length = lossLength;
+            final int gapCount = lossGapCount;
+            System.arraycopy(lossTermOffsets, 0, nakTermOffsets, 0, gapCount);
+            System.arraycopy(lossLengths, 0, nakLengths, 0, gapCount);
 
             UNSAFE.loadFence(); // LoadLoad required so previous loads don't move past version check below.
 
@@ -617,15 +659,19 @@ public class PublicationImage
             {
                 if (isReliable)
                 {
-                    channelEndpoint.sendNakMessage(controlAddresses, sessionId, streamId, termId, termOffset, length);
-                    nakMessagesSent.incrementOrdered();
+                    channelEndpoint.sendNakMessages(
+                        controlAddresses, sessionId, streamId, termId, nakTermOffsets, nakLengths, gapCount);
+                    SystemCounters.getAndAdd(nakMessagesSent, gapCount, isSharedCounters);
                 }
                 else
                 {
                     final UnsafeBuffer termBuffer = termBuffers[indexByTerm(initialTermId, termId)];
-                    if (tryFillGap(rawLog.metaData(), termBuffer, termId, termOffset, length))
+                    for (int i = 0; i < gapCount; i++)
                     {
-                        lossGapFills.incrementOrdered();
+                        if (tryFillGap(rawLog.metaData(), termBuffer, termId, nakTermOffsets[i], nakLengths[i]))
+                        {
+                            SystemCounters.increment(lossGapFills, isSharedCounters);
+                        }
                     }
                 }
 
@@ -747,7 +793,7 @@ public class PublicationImage
 
         if (isFlowControlUnderRun)
         {
-            flowControlUnderRuns.incrementOrdered();
+            SystemCounters.increment(flowControlUnderRuns, isSharedCounters);
         }
 
         return isFlowControlUnderRun;
@@ -759,12 +805,22 @@ public class PublicationImage
 
         if (isFlowControlOverRun)
         {
-            flowControlOverRuns.incrementOrdered();
+            SystemCounters.increment(flowControlOverRuns, isSharedCounters);
         }
 
         return isFlowControlOverRun;
     }
 
+    private void publishTail(final long position)
+    {
+        final UnsafeBuffer metaDataBuffer = rawLog.metaData();
+        final int termId = computeTermIdFromPosition(position, positionBitsToShift, initialTermId);
+        final int termOffset = (int)position & termLengthMask;
+
+        rawTailVolatile(metaDataBuffer, indexByPosition(position, positionBitsToShift), packTail(termId, termOffset));
+        activeTermCountOrdered(metaDataBuffer, termId - initialTermId);
+    }
+
     private void cleanBufferTo(final long newCleanPosition)
     {
         final long cleanPosition = this.cleanPosition;
@@ -34,6 +34,7 @@ final class PublicationParams
     int termId = 0;
     int termOffset = 0;
     int sessionId = 0;
+    int sendBatchSize;
     boolean isReplay = false;
     boolean hasSessionId = false;
     boolean isSessionIdTagged = false;
@@ -45,6 +46,7 @@ final class PublicationParams
         mtuLength = isIpc ? context.ipcMtuLength() : context.mtuLength();
         lingerTimeoutNs = context.publicationLingerTimeoutNs();
         isSparse = context.termBufferSparseFile();
+        sendBatchSize = context.sendBatchSize();
     }
 
     private void getTag(final ChannelUri channelUri, final DriverConductor driverConductor)
@@ -131,6 +133,17 @@ final class PublicationParams
         }
     }
 
+    private void getSendBatchSize(final ChannelUri channelUri)
+    {
+        final String sendBatchSizeStr = channelUri.get(SEND_BATCH_SIZE_PARAM_NAME);
+        if (null != sendBatchSizeStr)
+        {
+            final int sendBatchSize = Integer.parseInt(sendBatchSizeStr);
+            Configuration.validateSendBatchSize(sendBatchSize);
+            this.sendBatchSize = sendBatchSize;
+        }
+    }
+
     static void validateMtuForMaxMessage(final PublicationParams params, final boolean isExclusive)
     {
         final int termLength = params.termLength;
@@ -216,6 +229,7 @@ final class PublicationParams
         params.getMtuLength(channelUri);
         params.getLingerTimeoutNs(channelUri);
         params.getSparse(channelUri);
+        params.getSendBatchSize(channelUri);
 
         if (isExclusive)
         {
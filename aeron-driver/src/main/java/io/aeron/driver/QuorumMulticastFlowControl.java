@@ -0,0 +1,379 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.ChannelUri;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.exceptions.ConfigurationException;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.collections.Long2ObjectHashMap;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.CommonContext.FLOW_CONTROL_GROUP_TAG_PARAM_NAME;
+import static io.aeron.CommonContext.FLOW_CONTROL_QUORUM_PARAM_NAME;
+import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
+import static java.lang.System.getProperty;
+import static org.agrona.SystemUtil.getDurationInNanos;
+
+/**
+ * Quorum multicast sender flow control strategy.
+ * <p>
+ * Flow control is set to the position plus window of the k-th fastest tracked receiver, where k is the quorum, so
+ * receivers slower than the quorum cannot hold back the sender. When fewer receivers than the quorum are tracked the
+ * slowest of them sets the limit.
+ * <p>
+ * Tracking can be restricted to receivers which send a matching group tag in their Status Messages, see
+ * {@link MediaDriver.Context#receiverGroupTag(long)}. Other receivers are then ignored unless none are tracked.
+ * <p>
+ * The quorum and group tag are taken from the {@link io.aeron.CommonContext#FLOW_CONTROL_QUORUM_PARAM_NAME} and
+ * {@link io.aeron.CommonContext#FLOW_CONTROL_GROUP_TAG_PARAM_NAME} params of the channel, or otherwise from system
+ * properties.
+ * <p>
+ * Tracking of receivers is done as long as they continue to send Status Messages. Once SMs stop, the receiver tracking
+ * for that receiver will timeout after a given number of nanoseconds.
+ */
+public class QuorumMulticastFlowControl implements FlowControl
+{
+    /**
+     * Property name to set timeout, in nanoseconds, for a receiver to be tracked.
+     */
+    private static final String RECEIVER_TIMEOUT_PROP_NAME = "aeron.QuorumMulticastFlowControl.receiverTimeout";
+
+    /**
+     * Default timeout, in nanoseconds, until a receiver is no longer tracked.
+     */
+    private static final long RECEIVER_TIMEOUT_DEFAULT = TimeUnit.SECONDS.toNanos(2);
+
+    private static final long RECEIVER_TIMEOUT = getDurationInNanos(
+        RECEIVER_TIMEOUT_PROP_NAME, RECEIVER_TIMEOUT_DEFAULT);
+
+    /**
+     * Property name to set the default quorum for channels which do not specify one.
+     */
+    public static final String QUORUM_PROP_NAME = "aeron.QuorumMulticastFlowControl.quorum";
+
+    /**
+     * Default quorum of a single receiver, i.e. the fastest receiver sets the limit.
+     */
+    public static final int QUORUM_DEFAULT = 1;
+
+    /**
+     * Property name to set the default group tag of tracked receivers for channels which do not specify one.
+     */
+    public static final String GROUP_TAG_PROP_NAME = "aeron.QuorumMulticastFlowControl.groupTag";
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    private final int quorum;
+    private final boolean hasGroupTag;
+    private final long groupTag;
+    private final Long2ObjectHashMap<Receiver> receiverById = new Long2ObjectHashMap<>();
+    private Receiver[] receiversByLimit = new Receiver[INITIAL_CAPACITY];
+    private int receiverCount = 0;
+    private long timeoutCheckDeadlineNs = Long.MAX_VALUE;
+
+    private volatile boolean shouldLinger = true;
+
+    /**
+     * Construct with the quorum and group tag from system properties.
+     *
+     * @throws ConfigurationException if the quorum or group tag property is not a valid number.
+     * @see #QUORUM_PROP_NAME
+     * @see #GROUP_TAG_PROP_NAME
+     */
+    public QuorumMulticastFlowControl()
+    {
+        this(
+            parseQuorum(QUORUM_PROP_NAME, getProperty(QUORUM_PROP_NAME)),
+            parseGroupTag(GROUP_TAG_PROP_NAME, getProperty(GROUP_TAG_PROP_NAME)));
+    }
+
+    /**
+     * Construct for a quorum of receivers and optional group tag.
+     *
+     * @param quorum   number of receivers which must reach a position before the sender can advance beyond it.
+     * @param groupTag of the tracked receivers or null if all receivers are tracked.
+     */
+    public QuorumMulticastFlowControl(final int quorum, final Long groupTag)
+    {
+        if (quorum < 1)
+        {
+            throw new IllegalArgumentException("quorum must be greater than zero: " + quorum);
+        }
+
+        this.quorum = quorum;
+        this.hasGroupTag = null != groupTag;
+        this.groupTag = hasGroupTag ? groupTag : 0;
+    }
+
+    /**
+     * Create a new instance with the quorum and group tag of a channel, if set, otherwise from system properties.
+     *
+     * @param udpChannel for the publication.
+     * @return a new instance configured for the channel.
+     * @throws ConfigurationException if the quorum or group tag of the channel or properties is not a valid number.
+     */
+    public static QuorumMulticastFlowControl newInstance(final UdpChannel udpChannel)
+    {
+        final ChannelUri channelUri = udpChannel.channelUri();
+        final String quorum = channelUri.get(FLOW_CONTROL_QUORUM_PARAM_NAME);
+        final String groupTag = channelUri.get(FLOW_CONTROL_GROUP_TAG_PARAM_NAME);
+
+        return new QuorumMulticastFlowControl(
+            null != quorum ?
+                parseQuorum(FLOW_CONTROL_QUORUM_PARAM_NAME, quorum) :
+                parseQuorum(QUORUM_PROP_NAME, getProperty(QUORUM_PROP_NAME)),
+            null != groupTag ?
+                parseGroupTag(FLOW_CONTROL_GROUP_TAG_PARAM_NAME, groupTag) :
+                parseGroupTag(GROUP_TAG_PROP_NAME, getProperty(GROUP_TAG_PROP_NAME)));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public void initialize(final int initialTermId, final int termBufferLength)
+    {
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onStatusMessage(
+        final StatusMessageFlyweight flyweight,
+        final InetSocketAddress receiverAddress,
+        final long senderLimit,
+        final int initialTermId,
+        final int positionBitsToShift,
+        final long timeNs)
+    {
+        final long position = computePosition(
+            flyweight.consumptionTermId(),
+            flyweight.consumptionTermOffset(),
+            positionBitsToShift,
+            initialTermId);
+
+        final long lastPositionPlusWindow = position + flyweight.receiverWindowLength();
+
+        if (hasGroupTag && (!flyweight.hasGroupTag() || flyweight.groupTag() != groupTag))
+        {
+            return Math.max(senderLimit, receiverCount > 0 ? quorumLimit() : lastPositionPlusWindow);
+        }
+
+        final long receiverId = flyweight.receiverId();
+        Receiver receiver = receiverById.get(receiverId);
+        if (null == receiver)
+        {
+            receiver = new Receiver(position, lastPositionPlusWindow, timeNs, receiverId, receiverAddress);
+            receiverById.put(receiverId, receiver);
+            add(receiver);
+            timeoutCheckDeadlineNs = Math.min(timeoutCheckDeadlineNs, timeNs + RECEIVER_TIMEOUT);
+        }
+        else
+        {
+            receiver.lastPosition = Math.max(position, receiver.lastPosition);
+            receiver.lastPositionPlusWindow = lastPositionPlusWindow;
+            receiver.timeOfLastStatusMessageNs = timeNs;
+            reorder(receiver.index);
+        }
+
+        return Math.max(senderLimit, quorumLimit());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public long onIdle(
+        final long timeNs, final long senderLimit, final long senderPosition, final boolean isEndOfStream)
+    {
+        if (timeNs > timeoutCheckDeadlineNs)
+        {
+            removeTimedOutReceivers(timeNs);
+        }
+
+        if (isEndOfStream && shouldLinger)
+        {
+            if (0 == receiverCount || countReceiversAtOrBeyond(senderPosition) >= Math.min(quorum, receiverCount))
+            {
+                shouldLinger = false;
+            }
+        }
+
+        return receiverCount > 0 ? quorumLimit() : senderLimit;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    public boolean shouldLinger(final long timeNs)
+    {
+        return shouldLinger;
+    }
+
+    /**
+     * Number of receivers currently tracked.
+     *
+     * @return number of receivers currently tracked.
+     */
+    int receiverCount()
+    {
+        return receiverCount;
+    }
+
+    private static int parseQuorum(final String name, final String quorum)
+    {
+        if (null == quorum)
+        {
+            return QUORUM_DEFAULT;
+        }
+
+        try
+        {
+            return Integer.parseInt(quorum);
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new ConfigurationException(name + " must be a valid int: " + quorum);
+        }
+    }
+
+    private static Long parseGroupTag(final String name, final String groupTag)
+    {
+        if (null == groupTag)
+        {
+            return null;
+        }
+
+        try
+        {
+            return Long.valueOf(groupTag);
+        }
+        catch (final NumberFormatException ex)
+        {
+            throw new ConfigurationException(name + " must be a valid long: " + groupTag);
+        }
+    }
+
+    private long quorumLimit()
+    {
+        return receiversByLimit[Math.min(quorum, receiverCount) - 1].lastPositionPlusWindow;
+    }
+
+    private int countReceiversAtOrBeyond(final long position)
+    {
+        int count = 0;
+        for (int i = 0; i < receiverCount; i++)
+        {
+            if (receiversByLimit[i].lastPosition >= position)
+            {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private void removeTimedOutReceivers(final long timeNs)
+    {
+        final Receiver[] receivers = this.receiversByLimit;
+        long deadlineNs = Long.MAX_VALUE;
+        int count = 0;
+
+        for (int i = 0; i < receiverCount; i++)
+        {
+            final Receiver receiver = receivers[i];
+            final long receiverDeadlineNs = receiver.timeOfLastStatusMessageNs + RECEIVER_TIMEOUT;
+            if (timeNs > receiverDeadlineNs)
+            {
+                receiverById.remove(receiver.receiverId);
+            }
+            else
+            {
+                receiver.index = count;
+                receivers[count++] = receiver;
+                deadlineNs = Math.min(deadlineNs, receiverDeadlineNs);
+            }
+        }
+
+        Arrays.fill(receivers, count, receiverCount, null);
+        receiverCount = count;
+        timeoutCheckDeadlineNs = deadlineNs;
+    }
+
+    private void add(final Receiver receiver)
+    {
+        if (receiverCount == receiversByLimit.length)
+        {
+            receiversByLimit = Arrays.copyOf(receiversByLimit, receiverCount * 2);
+        }
+
+        final int index = receiverCount++;
+        receiversByLimit[index] = receiver;
+        receiver.index = index;
+        reorder(index);
+    }
+
+    private void reorder(final int index)
+    {
+        final Receiver[] receivers = this.receiversByLimit;
+        final Receiver receiver = receivers[index];
+        final long limit = receiver.lastPositionPlusWindow;
+
+        int i = index;
+        while (i > 0 && receivers[i - 1].lastPositionPlusWindow < limit)
+        {
+            receivers[i] = receivers[i - 1];
+            receivers[i].index = i;
+            i--;
+        }
+
+        while (i < receiverCount - 1 && receivers[i + 1].lastPositionPlusWindow > limit)
+        {
+            receivers[i] = receivers[i + 1];
+            receivers[i].index = i;
+            i++;
+        }
+
+        receivers[i] = receiver;
+        receiver.index = i;
+    }
+
+    static class Receiver
+    {
+        long lastPosition;
+        long lastPositionPlusWindow;
+        long timeOfLastStatusMessageNs;
+        long receiverId;
+        InetSocketAddress address;
+        int index;
+
+        Receiver(
+            final long lastPosition,
+            final long lastPositionPlusWindow,
+            final long timeNs,
+            final long receiverId,
+            final InetSocketAddress receiverAddress)
+        {
+            this.lastPosition = lastPosition;
+            this.lastPositionPlusWindow = lastPositionPlusWindow;
+            this.timeOfLastStatusMessageNs = timeNs;
+            this.receiverId = receiverId;
+            this.address = receiverAddress;
+        }
+    }
+}
@@ -19,6 +19,8 @@ import io.aeron.driver.media.DataTransportPoller;
 import io.aeron.driver.media.ReceiveChannelEndpoint;
 import io.aeron.driver.media.ReceiveDestinationUdpTransport;
 import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.ReceiverCounters;
+import io.aeron.driver.status.SystemCounters;
 import org.agrona.CloseHelper;
 import org.agrona.collections.ArrayListUtil;
 import org.agrona.collections.ArrayUtil;
@@ -46,14 +48,48 @@ public class Receiver implements Agent
     private final ArrayList<PublicationImage> publicationImages = new ArrayList<>();
     private final ArrayList<PendingSetupMessageFromSource> pendingSetupMessages = new ArrayList<>();
     private final DriverConductorProxy conductorProxy;
+    private final int receiverIndex;
+    private final boolean isSharedCounters;
+    private final NanoClock dutyCycleClock;
+    private final AtomicCounter shardBytesReceived;
+    private final AtomicCounter shardDutyCycleTimeNs;
 
     public Receiver(final MediaDriver.Context ctx)
     {
-        dataTransportPoller = ctx.dataTransportPoller();
-        commandQueue = ctx.receiverCommandQueue();
+        this(ctx, 0);
+    }
+
+    /**
+     * Create the receiver which owns the {@link ReceiveChannelEndpoint}s assigned to an index. When the driver has
+     * more than one receiver then counters are allocated for the bytes received and the time spent in duty cycles
+     * which did work by this receiver.
+     *
+     * @param ctx           for the driver.
+     * @param receiverIndex of this receiver.
+     * @see MediaDriver.Context#receiverIndex(UdpChannel)
+     */
+    public Receiver(final MediaDriver.Context ctx, final int receiverIndex)
+    {
+        this.receiverIndex = receiverIndex;
+        dataTransportPoller = ctx.dataTransportPoller(receiverIndex);
+        commandQueue = ctx.receiverCommandQueue(receiverIndex);
         totalBytesReceived = ctx.systemCounters().get(BYTES_RECEIVED);
+        isSharedCounters = ctx.receiverCount() > 1;
         nanoClock = ctx.cachedNanoClock();
         conductorProxy = ctx.driverConductorProxy();
+
+        if (isSharedCounters)
+        {
+            dutyCycleClock = ctx.nanoClock();
+            shardBytesReceived = ReceiverCounters.allocateBytesReceived(ctx.countersManager(), receiverIndex);
+            shardDutyCycleTimeNs = ReceiverCounters.allocateDutyCycleTime(ctx.countersManager(), receiverIndex);
+        }
+        else
+        {
+            dutyCycleClock = null;
+            shardBytesReceived = null;
+            shardDutyCycleTimeNs = null;
+        }
     }
 
     public void onClose()
@@ -63,14 +99,35 @@ public class Receiver implements Agent
 
     public String roleName()
     {
-        return "receiver";
+        return 0 == receiverIndex ? "receiver" : "receiver-" + receiverIndex;
     }
 
     public int doWork()
+    {
+        if (null == dutyCycleClock)
+        {
+            return doDutyCycle();
+        }
+
+        final long startNs = dutyCycleClock.nanoTime();
+        final int workCount = doDutyCycle();
+        if (workCount > 0)
+        {
+            shardDutyCycleTimeNs.getAndAddOrdered(dutyCycleClock.nanoTime() - startNs);
+        }
+
+        return workCount;
+    }
+
+    private int doDutyCycle()
     {
         int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
         final int bytesReceived = dataTransportPoller.pollTransports();
-        totalBytesReceived.getAndAddOrdered(bytesReceived);
+        SystemCounters.getAndAdd(totalBytesReceived, bytesReceived, isSharedCounters);
+        if (null != shardBytesReceived)
+        {
+            shardBytesReceived.getAndAddOrdered(bytesReceived);
+        }
         final long nowNs = nanoClock.nanoTime();
 
         final ArrayList<PublicationImage> publicationImages = this.publicationImages;
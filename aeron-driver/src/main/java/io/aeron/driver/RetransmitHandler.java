@@ -21,6 +21,8 @@ import org.agrona.collections.BiInt2ObjectMap;
 import org.agrona.concurrent.status.AtomicCounter;
 import org.agrona.concurrent.NanoClock;
 
+import java.net.InetSocketAddress;
+
 import static io.aeron.driver.Configuration.MAX_RETRANSMITS_DEFAULT;
 import static io.aeron.driver.RetransmitHandler.State.DELAYED;
 import static io.aeron.driver.RetransmitHandler.State.LINGERING;
@@ -31,6 +33,13 @@ import static io.aeron.driver.status.SystemCounterDescriptor.INVALID_PACKETS;
  * <p>
  * A max number of retransmits is permitted by {@link Configuration#MAX_RETRANSMITS_DEFAULT}. Additional received NAKs
  * will be ignored if this maximum is reached.
+ * <p>
+ * NAKs for a range already covered by an active retransmit are ignored, and NAKs which overlap a delayed retransmit
+ * are coalesced into it so the union is resent once.
+ * <p>
+ * When a unicast repair threshold is set retransmits are sent only to the addresses which NAKed the range until the
+ * threshold number of distinct addresses have NAKed it, after which the range is retransmitted to the group. A NAK
+ * from a new address for a range which has been unicast and is lingering is repaired for that address alone.
  */
 public class RetransmitHandler
 {
@@ -40,6 +49,7 @@ public class RetransmitHandler
     private final FeedbackDelayGenerator delayGenerator;
     private final FeedbackDelayGenerator lingerTimeoutGenerator;
     private final AtomicCounter invalidPackets;
+    private final int unicastRepairThreshold;
 
     /**
      * Create a retransmit handler.
@@ -54,15 +64,37 @@ public class RetransmitHandler
         final SystemCounters systemCounters,
         final FeedbackDelayGenerator delayGenerator,
         final FeedbackDelayGenerator lingerTimeoutGenerator)
+    {
+        this(nanoClock, systemCounters, delayGenerator, lingerTimeoutGenerator, 0);
+    }
+
+    /**
+     * Create a retransmit handler which can unicast repairs to the addresses which NAKed.
+     *
+     * @param nanoClock              used to determine time
+     * @param systemCounters         for recording significant events.
+     * @param delayGenerator         to use for delay determination
+     * @param lingerTimeoutGenerator to use for linger timeout
+     * @param unicastRepairThreshold of distinct NAKing addresses at which a range is resent to the group, 0 to disable.
+     * @see Configuration#RETRANSMIT_UNICAST_REPAIR_THRESHOLD_PROP_NAME
+     */
+    public RetransmitHandler(
+        final NanoClock nanoClock,
+        final SystemCounters systemCounters,
+        final FeedbackDelayGenerator delayGenerator,
+        final FeedbackDelayGenerator lingerTimeoutGenerator,
+        final int unicastRepairThreshold)
     {
         this.nanoClock = nanoClock;
         this.invalidPackets = systemCounters.get(INVALID_PACKETS);
         this.delayGenerator = delayGenerator;
         this.lingerTimeoutGenerator = lingerTimeoutGenerator;
+        this.unicastRepairThreshold = unicastRepairThreshold;
 
+        final int maxUnicastReceivers = Math.max(unicastRepairThreshold - 1, 0);
         for (int i = 0; i < MAX_RETRANSMITS_DEFAULT; i++)
         {
-            retransmitActionPool[i] = new RetransmitAction();
+            retransmitActionPool[i] = new RetransmitAction(maxUnicastReceivers);
         }
     }
 
@@ -81,21 +113,54 @@ public class RetransmitHandler
         final int length,
         final int termLength,
         final RetransmitSender retransmitSender)
+    {
+        onNak(termId, termOffset, length, termLength, null, retransmitSender);
+    }
+
+    /**
+     * Called on reception of a NAK to start retransmits handling.
+     *
+     * @param termId           from the NAK and the term id of the buffer to retransmit from
+     * @param termOffset       from the NAK and the offset of the data to retransmit
+     * @param length           of the missing data
+     * @param termLength       of the term buffer.
+     * @param srcAddress       of the NAK for a unicast repair or null if the retransmit must go to the group.
+     * @param retransmitSender to call if an immediate retransmit is required
+     */
+    public void onNak(
+        final int termId,
+        final int termOffset,
+        final int length,
+        final int termLength,
+        final InetSocketAddress srcAddress,
+        final RetransmitSender retransmitSender)
     {
         if (!isInvalid(termOffset, termLength))
         {
-            if (null == activeRetransmitsMap.get(termId, termOffset) &&
+            final int retransmitLength = Math.min(length, termLength - termOffset);
+            final RetransmitAction existingAction = tryCoalesce(termId, termOffset, retransmitLength);
+
+            if (null != existingAction)
+            {
+                if (!existingAction.isGroup)
+                {
+                    onRepeatNak(existingAction, termId, termOffset, retransmitLength, srcAddress, retransmitSender);
+                }
+            }
+            else if (null == activeRetransmitsMap.get(termId, termOffset) &&
                 activeRetransmitsMap.size() < MAX_RETRANSMITS_DEFAULT)
             {
                 final RetransmitAction action = assignRetransmitAction();
                 action.termId = termId;
                 action.termOffset = termOffset;
-                action.length = Math.min(length, termLength - termOffset);
+                action.length = retransmitLength;
+                action.reset();
+                addReceiver(action, srcAddress);
 
                 final long delay = determineRetransmitDelay();
                 if (0 == delay)
                 {
-                    retransmitSender.resend(termId, termOffset, action.length);
+                    resend(action, retransmitSender);
                     action.linger(determineLingerTimeout(), nanoClock.nanoTime());
                 }
                 else
@@ -142,7 +207,7 @@ public class RetransmitHandler
             {
                 if (DELAYED == action.state && nowNs > action.expireNs)
                 {
-                    retransmitSender.resend(action.termId, action.termOffset, action.length);
+                    resend(action, retransmitSender);
                     action.linger(determineLingerTimeout(), nanoClock.nanoTime());
                 }
                 else if (LINGERING == action.state && nowNs > action.expireNs)
@@ -154,6 +219,117 @@ public class RetransmitHandler
         }
     }
 
+    private void onRepeatNak(
+        final RetransmitAction action,
+        final int termId,
+        final int termOffset,
+        final int length,
+        final InetSocketAddress srcAddress,
+        final RetransmitSender retransmitSender)
+    {
+        if (addReceiver(action, srcAddress) && LINGERING == action.state)
+        {
+            if (action.isGroup)
+            {
+                retransmitSender.resend(action.termId, action.termOffset, action.length);
+            }
+            else
+            {
+                retransmitSender.resend(termId, termOffset, length, srcAddress);
+            }
+        }
+    }
+
+    private boolean addReceiver(final RetransmitAction action, final InetSocketAddress address)
+    {
+        if (null == address || 0 == unicastRepairThreshold)
+        {
+            action.isGroup = true;
+            return true;
+        }
+
+        final InetSocketAddress[] receivers = action.receivers;
+        final int receiverCount = action.receiverCount;
+        for (int i = 0; i < receiverCount; i++)
+        {
+            if (address.equals(receivers[i]))
+            {
+                return false;
+            }
+        }
+
+        if (receiverCount == receivers.length)
+        {
+            action.isGroup = true;
+        }
+        else
+        {
+            receivers[receiverCount] = address;
+            action.receiverCount = receiverCount + 1;
+        }
+
+        return true;
+    }
+
+    private static void resend(final RetransmitAction action, final RetransmitSender retransmitSender)
+    {
+        if (action.isGroup)
+        {
+            retransmitSender.resend(action.termId, action.termOffset, action.length);
+        }
+        else
+        {
+            final InetSocketAddress[] receivers = action.receivers;
+            for (int i = 0, size = action.receiverCount; i < size; i++)
+            {
+                retransmitSender.resend(action.termId, action.termOffset, action.length, receivers[i]);
+            }
+        }
+    }
+
+    private RetransmitAction tryCoalesce(final int termId, final int termOffset, final int length)
+    {
+        if (activeRetransmitsMap.size() > 0)
+        {
+            final int endOffset = termOffset + length;
+
+            for (final RetransmitAction action : retransmitActionPool)
+            {
+                if (State.INACTIVE == action.state || termId != action.termId)
+                {
+                    continue;
+                }
+
+                final int actionEndOffset = action.termOffset + action.length;
+                if (termOffset >= action.termOffset && endOffset <= actionEndOffset)
+                {
+                    return action;
+                }
+
+                if (DELAYED == action.state && termOffset < actionEndOffset && endOffset > action.termOffset)
+                {
+                    if (termOffset < action.termOffset)
+                    {
+                        if (null != activeRetransmitsMap.get(termId, termOffset))
+                        {
+                            return null;
+                        }
+
+                        activeRetransmitsMap.remove(termId, action.termOffset);
+                        action.termOffset = termOffset;
+                        activeRetransmitsMap.put(termId, termOffset, action);
+                    }
+
+                    action.length = Math.max(endOffset, actionEndOffset) - action.termOffset;
+
+                    return action;
+                }
+            }
+        }
+
+        return null;
+    }
+
     private boolean isInvalid(final int termOffset, final int termLength)
     {
         final boolean isInvalid = (termOffset > (termLength - DataHeaderFlyweight.HEADER_LENGTH)) || (termOffset < 0);
@@ -202,7 +378,26 @@ public class RetransmitHandler
         int termId;
         int termOffset;
         int length;
+        int receiverCount;
+        boolean isGroup;
         State state = State.INACTIVE;
+        final InetSocketAddress[] receivers;
+
+        RetransmitAction(final int maxUnicastReceivers)
+        {
+            receivers = new InetSocketAddress[maxUnicastReceivers];
+        }
+
+        public void reset()
+        {
+            for (int i = 0; i < receiverCount; i++)
+            {
+                receivers[i] = null;
+            }
+
+            receiverCount = 0;
+            isGroup = false;
+        }
 
         public void delay(final long delayNs, final long nowNs)
         {
@@ -15,6 +15,8 @@
  */
 package io.aeron.driver;
 
+import java.net.InetSocketAddress;
+
 /**
  * Handler for sending a retransmit
  */
@@ -29,4 +31,19 @@ public interface RetransmitSender
      * @param length     for the NAK
      */
     void resend(int termId, int termOffset, int length);
+
+    /**
+     * Called when a retransmit should be sent only to the address which NAKed rather than to the group.
+     * <p>
+     * The default sends the retransmit to the group.
+     *
+     * @param termId     for the NAK
+     * @param termOffset for the NAK
+     * @param length     for the NAK
+     * @param address    of the receiver which sent the NAK.
+     */
+    default void resend(final int termId, final int termOffset, final int length, final InetSocketAddress address)
+    {
+        resend(termId, termOffset, length);
+    }
 }
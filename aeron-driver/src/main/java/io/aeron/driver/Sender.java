@@ -17,6 +17,8 @@ package io.aeron.driver;
 
 import io.aeron.driver.media.ControlTransportPoller;
 import io.aeron.driver.media.SendChannelEndpoint;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SenderCounters;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.Agent;
 import org.agrona.concurrent.status.AtomicCounter;
@@ -60,18 +62,50 @@ public class Sender extends SenderRhsPadding implements Agent
     private final AtomicCounter totalBytesSent;
     private final NanoClock nanoClock;
     private final DriverConductorProxy conductorProxy;
+    private final int senderIndex;
+    private final NanoClock dutyCycleClock;
+    private final AtomicCounter shardBytesSent;
+    private final AtomicCounter shardDutyCycleTimeNs;
 
     private NetworkPublication[] networkPublications = EMPTY_PUBLICATIONS;
 
     public Sender(final MediaDriver.Context ctx)
     {
-        this.controlTransportPoller = ctx.controlTransportPoller();
-        this.commandQueue = ctx.senderCommandQueue();
+        this(ctx, 0);
+    }
+
+    /**
+     * Create the sender which owns the {@link SendChannelEndpoint}s, and their {@link NetworkPublication}s, assigned
+     * to an index. When the driver has more than one sender then counters are allocated for the bytes sent and the
+     * time spent in duty cycles which did work by this sender.
+     *
+     * @param ctx         for the driver.
+     * @param senderIndex of this sender.
+     * @see MediaDriver.Context#senderIndex(UdpChannel)
+     */
+    public Sender(final MediaDriver.Context ctx, final int senderIndex)
+    {
+        this.senderIndex = senderIndex;
+        this.controlTransportPoller = ctx.controlTransportPoller(senderIndex);
+        this.commandQueue = ctx.senderCommandQueue(senderIndex);
         this.totalBytesSent = ctx.systemCounters().get(BYTES_SENT);
         this.nanoClock = ctx.cachedNanoClock();
         this.statusMessageReadTimeoutNs = ctx.statusMessageTimeoutNs() / 2;
         this.dutyCycleRatio = Configuration.sendToStatusMessagePollRatio();
         this.conductorProxy = ctx.driverConductorProxy();
+
+        if (ctx.senderCount() > 1)
+        {
+            dutyCycleClock = ctx.nanoClock();
+            shardBytesSent = SenderCounters.allocateBytesSent(ctx.countersManager(), senderIndex);
+            shardDutyCycleTimeNs = SenderCounters.allocateDutyCycleTime(ctx.countersManager(), senderIndex);
+        }
+        else
+        {
+            dutyCycleClock = null;
+            shardBytesSent = null;
+            shardDutyCycleTimeNs = null;
+        }
     }
 
     public void onClose()
@@ -80,6 +114,28 @@ public class Sender extends SenderRhsPadding implements Agent
     }
 
     public int doWork()
+    {
+        if (null == dutyCycleClock)
+        {
+            return doDutyCycle();
+        }
+
+        final long startNs = dutyCycleClock.nanoTime();
+        final int workCount = doDutyCycle();
+        if (workCount > 0)
+        {
+            shardDutyCycleTimeNs.getAndAddOrdered(dutyCycleClock.nanoTime() - startNs);
+        }
+
+        return workCount;
+    }
+
+    public String roleName()
+    {
+        return 0 == senderIndex ? "sender" : "sender-" + senderIndex;
+    }
+
+    private int doDutyCycle()
     {
         final int workCount = commandQueue.drain(Runnable::run, Configuration.COMMAND_DRAIN_LIMIT);
         final long nowNs = nanoClock.nanoTime();
@@ -97,11 +153,6 @@ public class Sender extends SenderRhsPadding implements Agent
         return workCount + bytesSent + bytesReceived;
     }
 
-    public String roleName()
-    {
-        return "sender";
-    }
-
     public void onRegisterSendChannelEndpoint(final SendChannelEndpoint channelEndpoint)
     {
         channelEndpoint.openChannel(conductorProxy);
@@ -159,7 +210,15 @@ public class Sender extends SenderRhsPadding implements Agent
             bytesSent += publications[i].send(nowNs);
         }
 
-        totalBytesSent.getAndAddOrdered(bytesSent);
+        if (null == shardBytesSent)
+        {
+            totalBytesSent.getAndAddOrdered(bytesSent);
+        }
+        else
+        {
+            totalBytesSent.getAndAdd(bytesSent);
+            shardBytesSent.getAndAddOrdered(bytesSent);
+        }
 
         return bytesSent;
     }
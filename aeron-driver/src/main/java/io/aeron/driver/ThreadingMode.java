@@ -41,6 +41,9 @@ public enum ThreadingMode
 
     /**
      * 3 Threads, one dedicated to each of the {@link org.agrona.concurrent.Agent}s.
+     * <p>
+     * Additional {@link Receiver} and {@link Sender} threads can be run by setting
+     * {@link MediaDriver.Context#receiverCount(int)} and {@link MediaDriver.Context#senderCount(int)}.
      */
     DEDICATED,
 }
@@ -207,6 +207,23 @@ class MappedRawLog implements RawLog
         return logFile.getAbsolutePath();
     }
 
+    /**
+     * Move the log file to a new location while keeping it mapped.
+     *
+     * @param location to move the log file to.
+     * @return true if the file was moved otherwise false.
+     */
+    boolean move(final File location)
+    {
+        if (logFile.renameTo(location))
+        {
+            logFile = location;
+            return true;
+        }
+
+        return false;
+    }
+
     private static void allocatePages(final MappedByteBuffer buffer, final int length, final int pageSize)
     {
         for (int i = 0; i < length; i += pageSize)
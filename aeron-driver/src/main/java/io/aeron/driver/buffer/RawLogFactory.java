@@ -19,6 +19,7 @@ import io.aeron.logbuffer.LogBufferDescriptor;
 import org.agrona.ErrorHandler;
 import org.agrona.IoUtil;
 import org.agrona.LangUtil;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.File;
 import java.io.IOException;
@@ -30,6 +31,8 @@ import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MAX_LENGTH;
 
 /**
  * Factory for creating {@link RawLog}s in the source publications or publication images directories as appropriate.
+ * <p>
+ * When a {@link RawLogPool} is provided then logs are taken from the pool when available for the term length.
  */
 public class RawLogFactory
 {
@@ -42,14 +45,32 @@ public class RawLogFactory
     private final File publicationsDir;
     private final File imagesDir;
     private final FileStore fileStore;
+    private final RawLogPool rawLogPool;
+    private final AtomicCounter rawLogPoolHits;
+    private final AtomicCounter rawLogPoolMisses;
 
     public RawLogFactory(
         final String dataDirectoryName,
         final int filePageSize,
         final boolean checkStorage,
         final ErrorHandler errorHandler)
+    {
+        this(dataDirectoryName, filePageSize, checkStorage, errorHandler, null, null, null);
+    }
+
+    public RawLogFactory(
+        final String dataDirectoryName,
+        final int filePageSize,
+        final boolean checkStorage,
+        final ErrorHandler errorHandler,
+        final RawLogPool rawLogPool,
+        final AtomicCounter rawLogPoolHits,
+        final AtomicCounter rawLogPoolMisses)
     {
         this.filePageSize = filePageSize;
+        this.rawLogPool = rawLogPool;
+        this.rawLogPoolHits = rawLogPoolHits;
+        this.rawLogPoolMisses = rawLogPoolMisses;
         this.checkStorage = checkStorage;
         this.errorHandler = errorHandler;
 
@@ -154,13 +175,25 @@ public class RawLogFactory
     {
         validateTermBufferLength(termBufferLength);
 
+        final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
+
+        if (null != rawLogPool)
+        {
+            final RawLog rawLog = rawLogPool.poll(location, termBufferLength);
+            if (null != rawLog)
+            {
+                rawLogPoolHits.incrementOrdered();
+                return rawLog;
+            }
+
+            rawLogPoolMisses.incrementOrdered();
+        }
+
         if (checkStorage)
         {
             checkStorage(termBufferLength);
         }
 
-        final File location = streamLocation(rootDir, channel, sessionId, streamId, correlationId);
-
         return new MappedRawLog(location, useSparseFiles, termBufferLength, filePageSize, errorHandler);
     }
 
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.Agent;
+import org.agrona.concurrent.OneToOneConcurrentArrayQueue;
+
+import java.io.File;
+
+/**
+ * Pool of pre-created log files, per term length, with their pages already faulted in so a new publication or image
+ * does not need to wait on the creation of a log on the {@link io.aeron.driver.DriverConductor} thread.
+ * <p>
+ * Logs are drawn from the pool by the conductor. The pool is an {@link Agent} which runs on its own thread to create
+ * new logs up to the pool size. Logs are not returned to the pool when freed but deleted as usual, because a client
+ * which has not yet noticed the stream has gone may still have the log mapped and must not see it reused for another
+ * stream.
+ */
+public class RawLogPool implements Agent
+{
+    private static final String POOL = "pool";
+
+    private final int poolSize;
+    private final int filePageSize;
+    private final ErrorHandler errorHandler;
+    private final File poolDir;
+    private final TermLengthPool[] termLengthPools;
+    private long createdLogCount;
+
+    /**
+     * Create a pool of logs for each of the term lengths.
+     *
+     * @param dataDirectoryName in which the pool directory is created.
+     * @param termLengths       for which logs are pooled.
+     * @param poolSize          number of logs to keep ready for each term length.
+     * @param filePageSize      for the log files.
+     * @param errorHandler      to call if a log cannot be created.
+     */
+    public RawLogPool(
+        final String dataDirectoryName,
+        final int[] termLengths,
+        final int poolSize,
+        final int filePageSize,
+        final ErrorHandler errorHandler)
+    {
+        this.poolSize = poolSize;
+        this.filePageSize = filePageSize;
+        this.errorHandler = errorHandler;
+
+        poolDir = new File(dataDirectoryName, POOL);
+        IoUtil.ensureDirectoryExists(poolDir, POOL);
+
+        termLengthPools = new TermLengthPool[termLengths.length];
+        for (int i = 0; i < termLengths.length; i++)
+        {
+            termLengthPools[i] = new TermLengthPool(termLengths[i], poolSize);
+        }
+    }
+
+    public int doWork()
+    {
+        int workCount = 0;
+
+        for (final TermLengthPool pool : termLengthPools)
+        {
+            if (pool.isRefillEnabled && pool.readyLogs.size() < poolSize)
+            {
+                try
+                {
+                    final File location = poolLocation(createdLogCount++, pool.termLength);
+                    final MappedRawLog rawLog = new MappedRawLog(
+                        location, false, pool.termLength, filePageSize, errorHandler);
+                    pool.readyLogs.offer(rawLog);
+                    workCount++;
+                }
+                catch (final Exception ex)
+                {
+                    pool.isRefillEnabled = false;
+                    errorHandler.onError(ex);
+                }
+            }
+        }
+
+        return workCount;
+    }
+
+    public void onClose()
+    {
+        for (final TermLengthPool pool : termLengthPools)
+        {
+            pool.readyLogs.drain(MappedRawLog::close);
+        }
+    }
+
+    public String roleName()
+    {
+        return "raw-log-pool";
+    }
+
+    /**
+     * Take a log from the pool and move it to the location for a stream. Called from the conductor.
+     *
+     * @param location   for the log of the stream.
+     * @param termLength of the log required.
+     * @return a log from the pool or null if none is available for the term length.
+     */
+    RawLog poll(final File location, final int termLength)
+    {
+        final TermLengthPool pool = termLengthPool(termLength);
+        if (null != pool)
+        {
+            final MappedRawLog rawLog = pool.readyLogs.poll();
+            if (null != rawLog)
+            {
+                if (rawLog.move(location))
+                {
+                    return rawLog;
+                }
+
+                rawLog.close();
+            }
+        }
+
+        return null;
+    }
+
+    private TermLengthPool termLengthPool(final int termLength)
+    {
+        for (final TermLengthPool pool : termLengthPools)
+        {
+            if (termLength == pool.termLength)
+            {
+                return pool;
+            }
+        }
+
+        return null;
+    }
+
+    private File poolLocation(final long id, final int termLength)
+    {
+        final String fileName = Integer.toHexString(termLength) + '-' + Long.toHexString(id) + ".logbuffer";
+
+        return new File(poolDir, fileName);
+    }
+
+    static final class TermLengthPool
+    {
+        final int termLength;
+        final OneToOneConcurrentArrayQueue<MappedRawLog> readyLogs;
+        boolean isRefillEnabled = true;
+
+        TermLengthPool(final int termLength, final int poolSize)
+        {
+            this.termLength = termLength;
+            readyLogs = new OneToOneConcurrentArrayQueue<>(poolSize);
+        }
+    }
+}
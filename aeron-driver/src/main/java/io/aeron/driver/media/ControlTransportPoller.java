@@ -29,11 +29,13 @@ import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SelectionKey;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static io.aeron.logbuffer.FrameDescriptor.frameType;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_NAK;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_RTTM;
 import static io.aeron.protocol.HeaderFlyweight.HDR_TYPE_SM;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
+import static org.agrona.BitUtil.align;
 
 /**
  * Encapsulates the polling of a number of {@link UdpChannelTransport}s using whatever means provides the lowest latency.
@@ -146,7 +148,7 @@ public class ControlTransportPoller extends UdpTransportPoller
                 final int frameType = frameType(unsafeBuffer, 0);
                 if (HDR_TYPE_NAK == frameType)
                 {
-                    channelEndpoint.onNakMessage(nakMessage, unsafeBuffer, byteReceived, srcAddress);
+                    onNakMessages(channelEndpoint, byteReceived, srcAddress);
                 }
                 else if (HDR_TYPE_SM == frameType)
                 {
@@ -161,4 +163,22 @@ public class ControlTransportPoller extends UdpTransportPoller
 
         return byteReceived;
     }
+
+    private void onNakMessages(
+        final SendChannelEndpoint channelEndpoint, final int length, final InetSocketAddress srcAddress)
+    {
+        int offset = 0;
+        int frameLength;
+        do
+        {
+            nakMessage.wrap(unsafeBuffer, offset, unsafeBuffer.capacity() - offset);
+            channelEndpoint.onNakMessage(nakMessage, unsafeBuffer, length, srcAddress);
+
+            frameLength = nakMessage.frameLength();
+            offset += align(frameLength, FRAME_ALIGNMENT);
+        }
+        while (frameLength >= NakFlyweight.HEADER_LENGTH &&
+            (offset + NakFlyweight.HEADER_LENGTH) <= length &&
+            HDR_TYPE_NAK == frameType(unsafeBuffer, offset));
+    }
 }
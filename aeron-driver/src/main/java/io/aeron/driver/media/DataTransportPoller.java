@@ -16,12 +16,14 @@
 package io.aeron.driver.media;
 
 import io.aeron.driver.Configuration;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
 import io.aeron.protocol.SetupFlyweight;
 import org.agrona.LangUtil;
 import org.agrona.collections.ArrayUtil;
 import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.AtomicCounter;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -35,9 +37,15 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
  * Encapsulates the polling of a number of {@link UdpChannelTransport}s using whatever means provides the lowest latency.
+ * <p>
+ * Each transport is drained of up to a batch size of datagrams per poll.
  */
 public class DataTransportPoller extends UdpTransportPoller
 {
+    private final int receiveBatchSize;
+    private final AtomicCounter receiveBatches;
+    private final AtomicCounter receiveBatchDatagrams;
+    private final boolean isSharedCounters;
     private final ByteBuffer byteBuffer;
     private final UnsafeBuffer unsafeBuffer;
     private final DataHeaderFlyweight dataMessage;
@@ -45,8 +53,31 @@ public class DataTransportPoller extends UdpTransportPoller
     private final RttMeasurementFlyweight rttMeasurement;
     private ChannelAndTransport[] channelAndTransports = new ChannelAndTransport[0];
 
-    public DataTransportPoller()
+    public DataTransportPoller(
+        final int receiveBatchSize, final AtomicCounter receiveBatches, final AtomicCounter receiveBatchDatagrams)
     {
+        this(receiveBatchSize, receiveBatches, receiveBatchDatagrams, false);
+    }
+
+    /**
+     * Construct a poller which counts the batches of datagrams it receives.
+     *
+     * @param receiveBatchSize      maximum number of datagrams to receive from a transport per poll.
+     * @param receiveBatches        counter of batches received.
+     * @param receiveBatchDatagrams counter of datagrams received in batches.
+     * @param isSharedCounters      true if the counters are also written by the pollers of other receivers.
+     */
+    public DataTransportPoller(
+        final int receiveBatchSize,
+        final AtomicCounter receiveBatches,
+        final AtomicCounter receiveBatchDatagrams,
+        final boolean isSharedCounters)
+    {
+        this.receiveBatchSize = receiveBatchSize;
+        this.receiveBatches = receiveBatches;
+        this.receiveBatchDatagrams = receiveBatchDatagrams;
+        this.isSharedCounters = isSharedCounters;
+
         byteBuffer = NetworkUtil.allocateDirectAlignedAndPadded(
             Configuration.MAX_UDP_PAYLOAD_LENGTH, CACHE_LINE_LENGTH * 2);
         unsafeBuffer = new UnsafeBuffer(byteBuffer);
@@ -152,34 +183,56 @@ public class DataTransportPoller extends UdpTransportPoller
     private int poll(final ChannelAndTransport channelAndTransport)
     {
         int bytesReceived = 0;
-        final InetSocketAddress srcAddress = channelAndTransport.transport.receive(byteBuffer);
+        int datagramsReceived = 0;
+        final UdpChannelTransport transport = channelAndTransport.transport;
 
-        if (null != srcAddress)
+        do
         {
-            final int length = byteBuffer.position();
-            final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
-
-            if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+            final InetSocketAddress srcAddress = transport.receive(byteBuffer);
+            if (null == srcAddress)
             {
-                channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
-                final int transportIndex = channelAndTransport.transportIndex;
+                break;
+            }
 
-                final int frameType = frameType(unsafeBuffer, 0);
-                if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
-                {
-                    bytesReceived = channelEndpoint.onDataPacket(
-                        dataMessage, unsafeBuffer, length, srcAddress, transportIndex);
-                }
-                else if (HDR_TYPE_SETUP == frameType)
-                {
-                    channelEndpoint.onSetupMessage(
-                        setupMessage, unsafeBuffer, length, srcAddress, transportIndex);
-                }
-                else if (HDR_TYPE_RTTM == frameType)
-                {
-                    channelEndpoint.onRttMeasurement(
-                        rttMeasurement, unsafeBuffer, length, srcAddress, transportIndex);
-                }
+            bytesReceived += onDatagram(channelAndTransport, srcAddress, byteBuffer.position());
+        }
+        while (++datagramsReceived < receiveBatchSize);
+
+        if (datagramsReceived > 0)
+        {
+            SystemCounters.increment(receiveBatches, isSharedCounters);
+            SystemCounters.getAndAdd(receiveBatchDatagrams, datagramsReceived, isSharedCounters);
+        }
+
+        return bytesReceived;
+    }
+
+    private int onDatagram(
+        final ChannelAndTransport channelAndTransport, final InetSocketAddress srcAddress, final int length)
+    {
+        int bytesReceived = 0;
+        final ReceiveChannelEndpoint channelEndpoint = channelAndTransport.channelEndpoint;
+
+        if (channelEndpoint.isValidFrame(unsafeBuffer, length))
+        {
+            channelEndpoint.receiveHook(unsafeBuffer, length, srcAddress);
+            final int transportIndex = channelAndTransport.transportIndex;
+
+            final int frameType = frameType(unsafeBuffer, 0);
+            if (HDR_TYPE_DATA == frameType || HDR_TYPE_PAD == frameType)
+            {
+                bytesReceived = channelEndpoint.onDataPacket(
+                    dataMessage, unsafeBuffer, length, srcAddress, transportIndex);
+            }
+            else if (HDR_TYPE_SETUP == frameType)
+            {
+                channelEndpoint.onSetupMessage(
+                    setupMessage, unsafeBuffer, length, srcAddress, transportIndex);
+            }
+            else if (HDR_TYPE_RTTM == frameType)
+            {
+                channelEndpoint.onRttMeasurement(
+                    rttMeasurement, unsafeBuffer, length, srcAddress, transportIndex);
             }
         }
 
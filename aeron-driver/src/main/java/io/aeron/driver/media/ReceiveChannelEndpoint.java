@@ -20,6 +20,7 @@ import io.aeron.driver.DataPacketDispatcher;
 import io.aeron.driver.DriverConductorProxy;
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.PublicationImage;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.exceptions.AeronException;
 import io.aeron.protocol.*;
 import io.aeron.status.ChannelEndpointStatus;
@@ -34,6 +35,7 @@ import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static io.aeron.driver.media.ReceiveChannelEndpointThreadLocals.NAK_BATCH_FRAME_STRIDE;
 import static io.aeron.driver.status.SystemCounterDescriptor.*;
 import static io.aeron.protocol.StatusMessageFlyweight.SEND_SETUP_FLAG;
 import static io.aeron.status.ChannelEndpointStatus.status;
@@ -51,6 +53,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     private final StatusMessageFlyweight statusMessageFlyweight;
     private final ByteBuffer nakBuffer;
     private final NakFlyweight nakFlyweight;
+    private final ByteBuffer nakBatchBuffer;
+    private final NakFlyweight nakBatchFlyweight;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementFlyweight;
     private final AtomicCounter shortSends;
@@ -61,6 +65,8 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
     private final MultiRcvDestination multiRcvDestination;
 
     private final long receiverId;
+    private final int receiverIndex;
+    private final boolean isSharedCounters;
 
     public ReceiveChannelEndpoint(
         final UdpChannel udpChannel,
@@ -82,11 +88,16 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         shortSends = context.systemCounters().get(SHORT_SENDS);
         possibleTtlAsymmetry = context.systemCounters().get(POSSIBLE_TTL_ASYMMETRY);
 
-        final ReceiveChannelEndpointThreadLocals threadLocals = context.receiveChannelEndpointThreadLocals();
+        receiverIndex = context.receiverIndex(udpChannel);
+        isSharedCounters = context.receiverCount() > 1;
+        final ReceiveChannelEndpointThreadLocals threadLocals =
+            context.receiveChannelEndpointThreadLocals(receiverIndex);
         smBuffer = threadLocals.smBuffer();
         statusMessageFlyweight = threadLocals.statusMessageFlyweight();
         nakBuffer = threadLocals.nakBuffer();
         nakFlyweight = threadLocals.nakFlyweight();
+        nakBatchBuffer = threadLocals.nakBatchBuffer();
+        nakBatchFlyweight = threadLocals.nakBatchFlyweight();
         rttMeasurementBuffer = threadLocals.rttMeasurementBuffer();
         rttMeasurementFlyweight = threadLocals.rttMeasurementFlyweight();
         receiverId = threadLocals.receiverId();
@@ -137,6 +148,17 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         return udpChannel().originalUriString();
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Receiver} which owns this endpoint.
+     *
+     * @return index of the {@link io.aeron.driver.Receiver} which owns this endpoint.
+     * @see MediaDriver.Context#receiverIndex(UdpChannel)
+     */
+    public int receiverIndex()
+    {
+        return receiverIndex;
+    }
+
     public int statusIndicatorCounterId()
     {
         return statusIndicator.id();
@@ -196,7 +218,7 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
 
     public void possibleTtlAsymmetryEncountered()
     {
-        possibleTtlAsymmetry.incrementOrdered();
+        SystemCounters.increment(possibleTtlAsymmetry, isSharedCounters);
     }
 
     public int incRefToStream(final int streamId)
@@ -476,6 +498,52 @@ public class ReceiveChannelEndpoint extends UdpChannelTransport
         }
     }
 
+    /**
+     * Send NAKs for multiple gaps in a term as consecutive NAK frames in a single datagram.
+     * <p>
+     * A source which only expects a single NAK frame per datagram will act on the first gap.
+     *
+     * @param controlAddresses to send the NAKs to.
+     * @param sessionId        of the image.
+     * @param streamId         of the image.
+     * @param termId           in which the gaps have been detected.
+     * @param termOffsets      at which each gap begins.
+     * @param lengths          of each gap.
+     * @param gapCount         of the gaps to be NAKed.
+     */
+    public void sendNakMessages(
+        final DestinationImageControlAddress[] controlAddresses,
+        final int sessionId,
+        final int streamId,
+        final int termId,
+        final int[] termOffsets,
+        final int[] lengths,
+        final int gapCount)
+    {
+        if (1 == gapCount)
+        {
+            sendNakMessage(controlAddresses, sessionId, streamId, termId, termOffsets[0], lengths[0]);
+        }
+        else if (!isClosed)
+        {
+            for (int i = 0; i < gapCount; i++)
+            {
+                nakBatchFlyweight.wrap(nakBatchBuffer, i * NAK_BATCH_FRAME_STRIDE, NakFlyweight.HEADER_LENGTH);
+                nakBatchFlyweight
+                    .streamId(streamId)
+                    .sessionId(sessionId)
+                    .termId(termId)
+                    .termOffset(termOffsets[i])
+                    .length(lengths[i]);
+            }
+
+            final int bytesToSend = ((gapCount - 1) * NAK_BATCH_FRAME_STRIDE) + NakFlyweight.HEADER_LENGTH;
+            nakBatchBuffer.clear().limit(bytesToSend);
+
+            send(nakBatchBuffer, bytesToSend, controlAddresses);
+        }
+    }
+
     public void sendRttMeasurement(
         final DestinationImageControlAddress[] controlAddresses,
         final int sessionId,
@@ -15,6 +15,7 @@
  */
 package io.aeron.driver.media;
 
+import io.aeron.driver.Configuration;
 import io.aeron.driver.MediaDriver;
 import io.aeron.protocol.HeaderFlyweight;
 import io.aeron.protocol.NakFlyweight;
@@ -25,6 +26,7 @@ import org.agrona.BitUtil;
 import java.nio.ByteBuffer;
 import java.util.UUID;
 
+import static io.aeron.logbuffer.FrameDescriptor.FRAME_ALIGNMENT;
 import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
 
 /**
@@ -33,10 +35,17 @@ import static org.agrona.BitUtil.CACHE_LINE_LENGTH;
  */
 public class ReceiveChannelEndpointThreadLocals
 {
+    /**
+     * Offset between consecutive NAK frames when a batch of NAKs is sent in a single datagram.
+     */
+    public static final int NAK_BATCH_FRAME_STRIDE = BitUtil.align(NakFlyweight.HEADER_LENGTH, FRAME_ALIGNMENT);
+
     private final ByteBuffer smBuffer;
     private final StatusMessageFlyweight statusMessageFlyweight;
     private final ByteBuffer nakBuffer;
     private final NakFlyweight nakFlyweight;
+    private final ByteBuffer nakBatchBuffer;
+    private final NakFlyweight nakBatchFlyweight;
     private final ByteBuffer rttMeasurementBuffer;
     private final RttMeasurementFlyweight rttMeasurementFlyweight;
     private final long receiverId;
@@ -86,6 +95,19 @@ public class ReceiveChannelEndpointThreadLocals
             .version(HeaderFlyweight.CURRENT_VERSION)
             .headerType(HeaderFlyweight.HDR_TYPE_RTTM)
             .frameLength(RttMeasurementFlyweight.HEADER_LENGTH);
+
+        nakBatchBuffer = NetworkUtil.allocateDirectAlignedAndPadded(
+            Configuration.NAK_MAX_GAPS_MAX * NAK_BATCH_FRAME_STRIDE, CACHE_LINE_LENGTH);
+        nakBatchFlyweight = new NakFlyweight();
+
+        for (int i = 0; i < Configuration.NAK_MAX_GAPS_MAX; i++)
+        {
+            nakBatchFlyweight.wrap(nakBatchBuffer, i * NAK_BATCH_FRAME_STRIDE, NakFlyweight.HEADER_LENGTH);
+            nakBatchFlyweight
+                .version(HeaderFlyweight.CURRENT_VERSION)
+                .headerType(HeaderFlyweight.HDR_TYPE_NAK)
+                .frameLength(NakFlyweight.HEADER_LENGTH);
+        }
     }
 
     public ByteBuffer smBuffer()
@@ -108,6 +130,16 @@ public class ReceiveChannelEndpointThreadLocals
         return nakFlyweight;
     }
 
+    public ByteBuffer nakBatchBuffer()
+    {
+        return nakBatchBuffer;
+    }
+
+    public NakFlyweight nakBatchFlyweight()
+    {
+        return nakBatchFlyweight;
+    }
+
     public ByteBuffer rttMeasurementBuffer()
     {
         return rttMeasurementBuffer;
@@ -17,6 +17,7 @@ package io.aeron.driver.media;
 
 import io.aeron.CommonContext;
 import io.aeron.driver.*;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.status.ChannelEndpointStatus;
 import io.aeron.protocol.NakFlyweight;
 import io.aeron.protocol.RttMeasurementFlyweight;
@@ -49,6 +50,8 @@ public class SendChannelEndpoint extends UdpChannelTransport
     private final AtomicCounter statusMessagesReceived;
     private final AtomicCounter nakMessagesReceived;
     private final AtomicCounter statusIndicator;
+    private final int senderIndex;
+    private final boolean isSharedCounters;
 
     public SendChannelEndpoint(
         final UdpChannel udpChannel, final AtomicCounter statusIndicator, final MediaDriver.Context context)
@@ -64,6 +67,8 @@ public class SendChannelEndpoint extends UdpChannelTransport
         nakMessagesReceived = context.systemCounters().get(NAK_MESSAGES_RECEIVED);
         statusMessagesReceived = context.systemCounters().get(STATUS_MESSAGES_RECEIVED);
         this.statusIndicator = statusIndicator;
+        senderIndex = context.senderIndex(udpChannel);
+        isSharedCounters = context.senderCount() > 1;
 
         MultiDestination multiDestination = null;
         if (udpChannel.hasExplicitControl())
@@ -117,6 +122,17 @@ public class SendChannelEndpoint extends UdpChannelTransport
         return udpChannel().originalUriString();
     }
 
+    /**
+     * Index of the {@link io.aeron.driver.Sender} which owns this endpoint and the publications on it.
+     *
+     * @return index of the {@link io.aeron.driver.Sender} which owns this endpoint.
+     * @see MediaDriver.Context#senderIndex(UdpChannel)
+     */
+    public int senderIndex()
+    {
+        return senderIndex;
+    }
+
     public int statusIndicatorCounterId()
     {
         return statusIndicator.id();
@@ -215,6 +231,37 @@ public class SendChannelEndpoint extends UdpChannelTransport
         return bytesSent;
     }
 
+    /**
+     * Send contents of a {@link ByteBuffer} to a single address, such as a destination which NAKed, rather than to the
+     * connected address or all destinations.
+     *
+     * @param buffer  to send
+     * @param address to send the buffer to.
+     * @return number of bytes sent
+     */
+    public int send(final ByteBuffer buffer, final InetSocketAddress address)
+    {
+        int bytesSent = 0;
+
+        if (null != sendDatagramChannel)
+        {
+            bytesSent = MultiDestination.send(
+                sendDatagramChannel, buffer, this, buffer.remaining(), buffer.position(), address);
+        }
+
+        return bytesSent;
+    }
+
+    /**
+     * Is the endpoint sending to multiple destinations which are tracked by the address they send control from.
+     *
+     * @return true if the endpoint is multi-destination-cast otherwise false.
+     */
+    public boolean isMultiDestination()
+    {
+        return null != multiDestination;
+    }
+
     public void onStatusMessage(
         final StatusMessageFlyweight msg,
         final UnsafeBuffer buffer,
@@ -232,7 +279,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
             if (0 == sessionId && 0 == streamId && SEND_SETUP_FLAG == (msg.flags() & SEND_SETUP_FLAG))
             {
                 publicationBySessionAndStreamId.forEach(NetworkPublication::triggerSendSetupFrame);
-                statusMessagesReceived.incrementOrdered();
+                SystemCounters.increment(statusMessagesReceived, isSharedCounters);
             }
         }
 
@@ -247,7 +294,7 @@ public class SendChannelEndpoint extends UdpChannelTransport
                 publication.onStatusMessage(msg, srcAddress);
             }
 
-            statusMessagesReceived.incrementOrdered();
+            SystemCounters.increment(statusMessagesReceived, isSharedCounters);
         }
     }
 
@@ -261,8 +308,8 @@ public class SendChannelEndpoint extends UdpChannelTransport
 
         if (null != publication)
         {
-            publication.onNak(msg.termId(), msg.termOffset(), msg.length());
-            nakMessagesReceived.incrementOrdered();
+            publication.onNak(msg.termId(), msg.termOffset(), msg.length(), srcAddress);
+            SystemCounters.increment(nakMessagesReceived, isSharedCounters);
         }
     }
 
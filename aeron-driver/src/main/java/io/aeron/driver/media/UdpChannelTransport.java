@@ -43,6 +43,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
     protected final AtomicCounter invalidPackets;
     protected final DistinctErrorLog errorLog;
     protected UdpTransportPoller transportPoller;
+    protected UdpReceiveStrategy receiveStrategy = UdpReceiveStrategy.DEFAULT;
 
     protected SelectionKey selectionKey;
     protected InetSocketAddress bindAddress;
@@ -198,6 +199,26 @@ public abstract class UdpChannelTransport implements AutoCloseable
         return multicastTtl;
     }
 
+    /**
+     * The {@link UdpReceiveStrategy} used to receive datagrams from the {@link #receiveDatagramChannel()}.
+     *
+     * @return the {@link UdpReceiveStrategy} used to receive datagrams.
+     */
+    public UdpReceiveStrategy receiveStrategy()
+    {
+        return receiveStrategy;
+    }
+
+    /**
+     * Set the {@link UdpReceiveStrategy} used to receive datagrams from the {@link #receiveDatagramChannel()}.
+     *
+     * @param receiveStrategy used to receive datagrams.
+     */
+    public void receiveStrategy(final UdpReceiveStrategy receiveStrategy)
+    {
+        this.receiveStrategy = receiveStrategy;
+    }
+
     /**
      * Close transport, canceling any pending read operations and closing channel
      */
@@ -291,7 +312,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
      * Receive a datagram from the media layer.
      *
      * @param buffer into which the datagram will be received.
-     * @return the source address of the datagram if one is available otherwise false.
+     * @return the source address of the datagram if one is available otherwise null.
      */
     public InetSocketAddress receive(final ByteBuffer buffer)
     {
@@ -302,7 +323,7 @@ public abstract class UdpChannelTransport implements AutoCloseable
         {
             if (receiveDatagramChannel.isOpen())
             {
-                address = (InetSocketAddress)receiveDatagramChannel.receive(buffer);
+                address = receiveStrategy.receive(receiveDatagramChannel, buffer);
             }
         }
         catch (final PortUnreachableException ignored)
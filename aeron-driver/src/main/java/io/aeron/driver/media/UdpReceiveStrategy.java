@@ -0,0 +1,47 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.media;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+
+/**
+ * Strategy for receiving datagrams from the {@link DatagramChannel} of a {@link UdpChannelTransport}.
+ * <p>
+ * The default strategy receives a single datagram per call with {@link DatagramChannel#receive(ByteBuffer)}.
+ * Implementations which receive many datagrams per system call, such as with recvmmsg, can hold the datagrams
+ * received and hand them out on subsequent calls as the {@link DataTransportPoller} drains the transport.
+ */
+@FunctionalInterface
+public interface UdpReceiveStrategy
+{
+    /**
+     * Default strategy of a single datagram per call to {@link DatagramChannel#receive(ByteBuffer)}.
+     */
+    UdpReceiveStrategy DEFAULT = (channel, buffer) -> (InetSocketAddress)channel.receive(buffer);
+
+    /**
+     * Receive a datagram into the buffer from its position, leaving the position at the end of the datagram.
+     *
+     * @param channel to receive from which is configured as non-blocking.
+     * @param buffer  into which the datagram should be received.
+     * @return the source address of the datagram if one is available otherwise null.
+     * @throws IOException if an error occurs on the channel.
+     */
+    InetSocketAddress receive(DatagramChannel channel, ByteBuffer buffer) throws IOException;
+}
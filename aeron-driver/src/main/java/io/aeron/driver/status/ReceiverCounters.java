@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Allocates the {@link AtomicCounter}s for a {@link io.aeron.driver.Receiver} when a driver runs more than one so the
+ * load on each can be monitored. The key of each counter is the index of the receiver.
+ */
+public class ReceiverCounters
+{
+    /**
+     * Type id of the bytes received by a receiver.
+     */
+    public static final int RECEIVER_BYTES_RECEIVED_TYPE_ID = 15;
+
+    /**
+     * Type id of the time in nanoseconds spent by a receiver in duty cycles which did work.
+     */
+    public static final int RECEIVER_DUTY_CYCLE_TIME_TYPE_ID = 16;
+
+    /**
+     * Allocate a counter for the bytes received by a receiver.
+     *
+     * @param countersManager from which to allocated the underlying storage.
+     * @param receiverIndex   of the receiver.
+     * @return a new {@link AtomicCounter} for the bytes received.
+     */
+    public static AtomicCounter allocateBytesReceived(final CountersManager countersManager, final int receiverIndex)
+    {
+        return allocate(
+            countersManager, "Receiver bytes received: receiver-", RECEIVER_BYTES_RECEIVED_TYPE_ID, receiverIndex);
+    }
+
+    /**
+     * Allocate a counter for the time in nanoseconds spent by a receiver in duty cycles which did work.
+     *
+     * @param countersManager from which to allocated the underlying storage.
+     * @param receiverIndex   of the receiver.
+     * @return a new {@link AtomicCounter} for the duty cycle time.
+     */
+    public static AtomicCounter allocateDutyCycleTime(final CountersManager countersManager, final int receiverIndex)
+    {
+        return allocate(
+            countersManager, "Receiver duty cycle time ns: receiver-", RECEIVER_DUTY_CYCLE_TIME_TYPE_ID, receiverIndex);
+    }
+
+    private static AtomicCounter allocate(
+        final CountersManager countersManager, final String label, final int typeId, final int receiverIndex)
+    {
+        return countersManager.newCounter(
+            label + receiverIndex, typeId, (keyBuffer) -> keyBuffer.putInt(0, receiverIndex));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.status;
+
+import org.agrona.concurrent.status.AtomicCounter;
+import org.agrona.concurrent.status.CountersManager;
+
+/**
+ * Allocates the {@link AtomicCounter}s for a {@link io.aeron.driver.Sender} when a driver runs more than one so the
+ * load on each can be monitored. The key of each counter is the index of the sender.
+ */
+public class SenderCounters
+{
+    /**
+     * Type id of the bytes sent by a sender.
+     */
+    public static final int SENDER_BYTES_SENT_TYPE_ID = 13;
+
+    /**
+     * Type id of the time in nanoseconds spent by a sender in duty cycles which did work.
+     */
+    public static final int SENDER_DUTY_CYCLE_TIME_TYPE_ID = 14;
+
+    /**
+     * Allocate a counter for the bytes sent by a sender.
+     *
+     * @param countersManager from which to allocated the underlying storage.
+     * @param senderIndex     of the sender.
+     * @return a new {@link AtomicCounter} for the bytes sent.
+     */
+    public static AtomicCounter allocateBytesSent(final CountersManager countersManager, final int senderIndex)
+    {
+        return allocate(countersManager, "Sender bytes sent: sender-", SENDER_BYTES_SENT_TYPE_ID, senderIndex);
+    }
+
+    /**
+     * Allocate a counter for the time in nanoseconds spent by a sender in duty cycles which did work.
+     *
+     * @param countersManager from which to allocated the underlying storage.
+     * @param senderIndex     of the sender.
+     * @return a new {@link AtomicCounter} for the duty cycle time.
+     */
+    public static AtomicCounter allocateDutyCycleTime(final CountersManager countersManager, final int senderIndex)
+    {
+        return allocate(
+            countersManager, "Sender duty cycle time ns: sender-", SENDER_DUTY_CYCLE_TIME_TYPE_ID, senderIndex);
+    }
+
+    private static AtomicCounter allocate(
+        final CountersManager countersManager, final String label, final int typeId, final int senderIndex)
+    {
+        return countersManager.newCounter(
+            label + senderIndex, typeId, (keyBuffer) -> keyBuffer.putInt(0, senderIndex));
+    }
+}
@@ -46,7 +46,14 @@ public enum SystemCounterDescriptor
     UNBLOCKED_COMMANDS(20, "Unblocked Control Commands"),
     POSSIBLE_TTL_ASYMMETRY(21, "Possible TTL Asymmetry"),
     CONTROLLABLE_IDLE_STRATEGY(22, "ControllableIdleStrategy status"),
-    LOSS_GAP_FILLS(23, "Loss gap fills");
+    LOSS_GAP_FILLS(23, "Loss gap fills"),
+    SEND_BATCHES(24, "Send batches of data datagrams"),
+    SEND_BATCH_DATAGRAMS(25, "Data datagrams sent in batches"),
+    RECEIVE_BATCHES(26, "Receive batches of datagrams"),
+    RECEIVE_BATCH_DATAGRAMS(27, "Datagrams received in batches"),
+    RAW_LOG_POOL_HITS(28, "Log buffers taken from the pool"),
+    RAW_LOG_POOL_MISSES(29, "Log buffers created as none pooled"),
+    UNICAST_RETRANSMITS_SENT(30, "Retransmits sent unicast to NAKing destinations");
 
     /**
      * All system counters have the same type id, i.e. system counters are the same type. Other types can exist.
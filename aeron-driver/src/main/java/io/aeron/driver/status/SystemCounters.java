@@ -52,6 +52,45 @@ public class SystemCounters implements AutoCloseable
         return counterByDescriptorMap.get(descriptor);
     }
 
+    /**
+     * Increment a system counter which is written to by one agent, or by many agents when it is shared, e.g. when
+     * the driver runs more than one receiver or sender.
+     *
+     * @param counter  to be incremented.
+     * @param isShared true if more than one agent thread may write to the counter concurrently.
+     */
+    public static void increment(final AtomicCounter counter, final boolean isShared)
+    {
+        if (isShared)
+        {
+            counter.increment();
+        }
+        else
+        {
+            counter.incrementOrdered();
+        }
+    }
+
+    /**
+     * Add to a system counter which is written to by one agent, or by many agents when it is shared, e.g. when
+     * the driver runs more than one receiver or sender.
+     *
+     * @param counter  to be added to.
+     * @param delta    to be added to the counter.
+     * @param isShared true if more than one agent thread may write to the counter concurrently.
+     */
+    public static void getAndAdd(final AtomicCounter counter, final long delta, final boolean isShared)
+    {
+        if (isShared)
+        {
+            counter.getAndAdd(delta);
+        }
+        else
+        {
+            counter.getAndAddOrdered(delta);
+        }
+    }
+
     /**
      * Close all the counters.
      */
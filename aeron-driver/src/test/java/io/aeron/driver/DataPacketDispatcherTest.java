@@ -236,6 +236,45 @@ public class DataPacketDispatcherTest
         verify(mockImage2).insertPacket(ACTIVE_TERM_ID, TERM_OFFSET, mockBuffer, LENGTH, 0, SRC_ADDRESS);
     }
 
+    @Test
+    public void shouldDispatchInterleavedDataToImagesOfDifferentSessions()
+    {
+        final int otherSessionId = SESSION_ID + 1;
+        final PublicationImage mockOtherImage = mock(PublicationImage.class);
+        final DataHeaderFlyweight mockOtherHeader = mock(DataHeaderFlyweight.class);
+
+        when(mockOtherImage.sessionId()).thenReturn(otherSessionId);
+        when(mockOtherImage.streamId()).thenReturn(STREAM_ID);
+        when(mockOtherHeader.sessionId()).thenReturn(otherSessionId);
+        when(mockOtherHeader.streamId()).thenReturn(STREAM_ID);
+        when(mockOtherHeader.termId()).thenReturn(ACTIVE_TERM_ID);
+        when(mockOtherHeader.termOffset()).thenReturn(TERM_OFFSET);
+
+        dispatcher.addSubscription(STREAM_ID);
+        dispatcher.addPublicationImage(mockImage);
+        dispatcher.addPublicationImage(mockOtherImage);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockOtherHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+
+        verify(mockImage, times(3)).insertPacket(ACTIVE_TERM_ID, TERM_OFFSET, mockBuffer, LENGTH, 0, SRC_ADDRESS);
+        verify(mockOtherImage).insertPacket(ACTIVE_TERM_ID, TERM_OFFSET, mockBuffer, LENGTH, 0, SRC_ADDRESS);
+    }
+
+    @Test
+    public void shouldNotDispatchDataToImageAfterSubscriptionRemoved()
+    {
+        dispatcher.addSubscription(STREAM_ID);
+        dispatcher.addPublicationImage(mockImage);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+        dispatcher.removeSubscription(STREAM_ID);
+        dispatcher.onDataPacket(mockChannelEndpoint, mockHeader, mockBuffer, LENGTH, SRC_ADDRESS, 0);
+
+        verify(mockImage).insertPacket(ACTIVE_TERM_ID, TERM_OFFSET, mockBuffer, LENGTH, 0, SRC_ADDRESS);
+        verify(mockChannelEndpoint, never()).sendSetupElicitingStatusMessage(anyInt(), any(), anyInt(), anyInt());
+    }
+
     @Test
     public void shouldRemoveSessionSpecificSubscriptionWithoutAny()
     {
@@ -27,6 +27,8 @@ import org.agrona.concurrent.UnsafeBuffer;
 import java.nio.ByteBuffer;
 import java.util.concurrent.TimeUnit;
 
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.*;
 import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
 import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
@@ -292,6 +294,58 @@ public class LossDetectorTest
         verifyNoMoreInteractions(lossHandler);
     }
 
+    @Test
+    public void shouldNakMultipleGapsInSameRound()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 2);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 7);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+        insertDataFrame(offsetOfMessage(6));
+
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        final InOrder inOrder = inOrder(lossHandler);
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        inOrder.verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(3), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
+    @Test
+    public void shouldNotRestartDelayWhenOneOfMultipleGapsIsRepaired()
+    {
+        lossDetector = new LossDetector(DELAY_GENERATOR, lossHandler, 2);
+
+        final long rebuildPosition = ACTIVE_TERM_POSITION;
+        final long hwmPosition = ACTIVE_TERM_POSITION + (ALIGNED_FRAME_LENGTH * 5);
+
+        insertDataFrame(offsetOfMessage(0));
+        insertDataFrame(offsetOfMessage(2));
+        insertDataFrame(offsetOfMessage(4));
+
+        long scanOutcome = lossDetector.scan(
+            termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        assertTrue(LossDetector.lossFound(scanOutcome));
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(10);
+        insertDataFrame(offsetOfMessage(3));
+        scanOutcome = lossDetector.scan(
+            termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+        assertFalse(LossDetector.lossFound(scanOutcome));
+
+        currentTime = TimeUnit.MILLISECONDS.toNanos(20);
+        lossDetector.scan(termBuffer, rebuildPosition, hwmPosition, currentTime, MASK, POSITION_BITS_TO_SHIFT, TERM_ID);
+
+        verify(lossHandler).onGapDetected(TERM_ID, offsetOfMessage(1), gapLength());
+        verifyNoMoreInteractions(lossHandler);
+    }
+
     private LossDetector getLossHandlerWithImmediate()
     {
         return new LossDetector(DELAY_GENERATOR_WITH_IMMEDIATE, lossHandler);
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class MinMulticastFlowControlTest
+{
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int POSITION_BITS_TO_SHIFT = positionBitsToShift(TERM_MIN_LENGTH);
+    private static final int WINDOW_LENGTH = 1024;
+    private static final long RECEIVER_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(2);
+
+    private final StatusMessageFlyweight statusMessage = new StatusMessageFlyweight(
+        new UnsafeBuffer(new byte[StatusMessageFlyweight.HEADER_LENGTH]));
+    private final MinMulticastFlowControl flowControl = new MinMulticastFlowControl();
+
+    @Test
+    public void shouldLimitToSlowestReceiver()
+    {
+        assertThat(onStatusMessage(1, 3000, 0), is(3000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(2, 1000, 0), is(1000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(3, 2000, 0), is(1000L + WINDOW_LENGTH));
+
+        assertThat(onStatusMessage(2, 4000, 0), is(2000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(3, 5000, 0), is(3000L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(3));
+    }
+
+    @Test
+    public void shouldTimeoutReceiversWhichStopSendingStatusMessages()
+    {
+        onStatusMessage(1, 1000, 0);
+        onStatusMessage(2, 2000, 10);
+        onStatusMessage(3, 3000, 20);
+        onStatusMessage(1, 1500, 30);
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 15, 0, 0, false), is(1500L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(2));
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 25, 0, 0, false), is(1500L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(1));
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 35, 777, 0, false), is(777L));
+        assertThat(flowControl.receiverCount(), is(0));
+    }
+
+    @Test
+    public void shouldStopLingeringWhenAllReceiversReachSenderPosition()
+    {
+        onStatusMessage(1, 1000, 0);
+        onStatusMessage(2, 2000, 0);
+
+        flowControl.onIdle(1, 0, 2000, true);
+        assertTrue(flowControl.shouldLinger(1));
+
+        onStatusMessage(1, 2000, 1);
+        flowControl.onIdle(2, 0, 2000, true);
+        assertFalse(flowControl.shouldLinger(2));
+    }
+
+    @Test
+    public void shouldTrackMinimumOfManyReceiversAsPositionsAndWindowsChange()
+    {
+        final int receiverCount = 100;
+        final long[] limits = new long[receiverCount];
+        Arrays.fill(limits, Long.MAX_VALUE);
+        final Random random = new Random(7);
+
+        for (int i = 0; i < 10_000; i++)
+        {
+            final int receiverId = random.nextInt(receiverCount);
+            final int termOffset = random.nextInt(TERM_MIN_LENGTH / 32) * 32;
+            final int windowLength = random.nextInt(4) * WINDOW_LENGTH;
+
+            limits[receiverId] = termOffset + windowLength;
+            final long senderLimit = onStatusMessage(receiverId, termOffset, windowLength, i);
+
+            long minLimit = Long.MAX_VALUE;
+            for (final long limit : limits)
+            {
+                minLimit = Math.min(minLimit, limit);
+            }
+
+            assertThat(senderLimit, is(minLimit));
+        }
+    }
+
+    private long onStatusMessage(final long receiverId, final int termOffset, final long timeNs)
+    {
+        return onStatusMessage(receiverId, termOffset, WINDOW_LENGTH, timeNs);
+    }
+
+    private long onStatusMessage(
+        final long receiverId, final int termOffset, final int windowLength, final long timeNs)
+    {
+        statusMessage
+            .consumptionTermId(INITIAL_TERM_ID)
+            .consumptionTermOffset(termOffset)
+            .receiverWindowLength(windowLength)
+            .receiverId(receiverId);
+
+        return flowControl.onStatusMessage(
+            statusMessage, null, 0, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, timeNs);
+    }
+}
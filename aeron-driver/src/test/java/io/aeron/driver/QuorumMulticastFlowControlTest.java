@@ -0,0 +1,178 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.exceptions.ConfigurationException;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+
+public class QuorumMulticastFlowControlTest
+{
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int POSITION_BITS_TO_SHIFT = positionBitsToShift(TERM_MIN_LENGTH);
+    private static final int WINDOW_LENGTH = 1024;
+    private static final long RECEIVER_TIMEOUT_NS = TimeUnit.SECONDS.toNanos(2);
+    private static final long GROUP_TAG = 1001;
+
+    private final StatusMessageFlyweight statusMessage = new StatusMessageFlyweight(
+        new UnsafeBuffer(new byte[StatusMessageFlyweight.HEADER_LENGTH + 8]));
+
+    @Test
+    public void shouldLimitToQuorumFastestReceiver()
+    {
+        final QuorumMulticastFlowControl flowControl = new QuorumMulticastFlowControl(2, null);
+
+        assertThat(onStatusMessage(flowControl, 1, 1000, 0), is(1000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(flowControl, 2, 3000, 0), is(1000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(flowControl, 3, 2000, 0), is(2000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(flowControl, 4, 500, 0), is(2000L + WINDOW_LENGTH));
+
+        assertThat(onStatusMessage(flowControl, 1, 4000, 0), is(3000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(flowControl, 2, 3500, 0), is(3500L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(4));
+    }
+
+    @Test
+    public void shouldOnlyTrackReceiversInGroup()
+    {
+        final QuorumMulticastFlowControl flowControl = new QuorumMulticastFlowControl(2, GROUP_TAG);
+
+        assertThat(onStatusMessage(flowControl, 1, 5000, 0), is(5000L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(0));
+
+        assertThat(onGroupStatusMessage(flowControl, 2, 1000, GROUP_TAG + 1), is(1000L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(0));
+
+        assertThat(onGroupStatusMessage(flowControl, 3, 2000, GROUP_TAG), is(2000L + WINDOW_LENGTH));
+        assertThat(onGroupStatusMessage(flowControl, 4, 3000, GROUP_TAG), is(2000L + WINDOW_LENGTH));
+        assertThat(onStatusMessage(flowControl, 1, 6000, 0), is(2000L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(2));
+    }
+
+    @Test
+    public void shouldTimeoutReceiversWhichStopSendingStatusMessages()
+    {
+        final QuorumMulticastFlowControl flowControl = new QuorumMulticastFlowControl(2, null);
+
+        onStatusMessage(flowControl, 1, 3000, 0);
+        onStatusMessage(flowControl, 2, 2000, 10);
+        onStatusMessage(flowControl, 3, 1000, 20);
+        onStatusMessage(flowControl, 1, 3000, 30);
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 15, 0, 0, false), is(1000L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(2));
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 25, 0, 0, false), is(3000L + WINDOW_LENGTH));
+        assertThat(flowControl.receiverCount(), is(1));
+
+        assertThat(flowControl.onIdle(RECEIVER_TIMEOUT_NS + 35, 777, 0, false), is(777L));
+        assertThat(flowControl.receiverCount(), is(0));
+    }
+
+    @Test
+    public void shouldStopLingeringWhenQuorumReachesSenderPosition()
+    {
+        final QuorumMulticastFlowControl flowControl = new QuorumMulticastFlowControl(2, null);
+
+        onStatusMessage(flowControl, 1, 2000, 0);
+        onStatusMessage(flowControl, 2, 1000, 0);
+        onStatusMessage(flowControl, 3, 500, 0);
+
+        flowControl.onIdle(1, 0, 2000, true);
+        assertTrue(flowControl.shouldLinger(1));
+
+        onStatusMessage(flowControl, 2, 2000, 1);
+        flowControl.onIdle(2, 0, 2000, true);
+        assertFalse(flowControl.shouldLinger(2));
+    }
+
+    @Test
+    public void shouldBeSuppliedWhenChannelHasQuorum()
+    {
+        final UdpChannel udpChannel = UdpChannel.parse(
+            "aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc-quorum=2");
+
+        assertThat(
+            new DefaultMulticastFlowControlSupplier().newInstance(udpChannel, 1, 1),
+            instanceOf(QuorumMulticastFlowControl.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void shouldRejectQuorumLessThanOne()
+    {
+        QuorumMulticastFlowControl.newInstance(
+            UdpChannel.parse("aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc-quorum=0"));
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectMalformedQuorum()
+    {
+        QuorumMulticastFlowControl.newInstance(
+            UdpChannel.parse("aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc-quorum=two"));
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectMalformedGroupTag()
+    {
+        QuorumMulticastFlowControl.newInstance(
+            UdpChannel.parse("aeron:udp?endpoint=224.20.30.39:54326|interface=localhost|fc-quorum=2|fc-group-tag=x1"));
+    }
+
+    private long onStatusMessage(
+        final FlowControl flowControl, final long receiverId, final int termOffset, final long timeNs)
+    {
+        statusMessage.frameLength(StatusMessageFlyweight.HEADER_LENGTH);
+
+        return onStatusMessage(flowControl, receiverId, termOffset, timeNs, statusMessage);
+    }
+
+    private long onGroupStatusMessage(
+        final FlowControl flowControl, final long receiverId, final int termOffset, final long groupTag)
+    {
+        statusMessage.groupTag(groupTag);
+
+        return onStatusMessage(flowControl, receiverId, termOffset, 0, statusMessage);
+    }
+
+    private static long onStatusMessage(
+        final FlowControl flowControl,
+        final long receiverId,
+        final int termOffset,
+        final long timeNs,
+        final StatusMessageFlyweight statusMessage)
+    {
+        statusMessage
+            .consumptionTermId(INITIAL_TERM_ID)
+            .consumptionTermOffset(termOffset)
+            .receiverWindowLength(WINDOW_LENGTH)
+            .receiverId(receiverId);
+
+        return flowControl.onStatusMessage(
+            statusMessage, null, 0, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, timeNs);
+    }
+}
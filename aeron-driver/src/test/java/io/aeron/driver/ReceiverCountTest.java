@@ -0,0 +1,97 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver;
+
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.exceptions.ConfigurationException;
+import org.junit.Test;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+public class ReceiverCountTest
+{
+    private static final String TAGGED_CHANNEL = "aeron:udp?endpoint=localhost:40123|tags=1001";
+    private static final String UNTAGGED_CHANNEL = "aeron:udp?endpoint=localhost:40124";
+
+    @Test
+    public void shouldAssignAllChannelsToFirstReceiverWhenOnlyOne()
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context().receiverCount(1);
+
+        assertThat(ctx.receiverIndex(UdpChannel.parse(TAGGED_CHANNEL)), is(0));
+        assertThat(ctx.receiverIndex(UdpChannel.parse(UNTAGGED_CHANNEL)), is(0));
+    }
+
+    @Test
+    public void shouldAssignTaggedChannelByReceiverTag()
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context().receiverCount(3);
+
+        assertThat(ctx.receiverIndex(UdpChannel.parse(TAGGED_CHANNEL)), is(1001 % 3));
+        assertThat(ctx.receiverIndex(UdpChannel.parse("aeron:udp?endpoint=localhost:40125|tags=1002")), is(1002 % 3));
+    }
+
+    @Test
+    public void shouldAssignUntaggedChannelByHashOfCanonicalFormToReceiver()
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context().receiverCount(3);
+        final UdpChannel udpChannel = UdpChannel.parse(UNTAGGED_CHANNEL);
+        final int expectedIndex = Math.floorMod(udpChannel.canonicalForm().hashCode(), 3);
+
+        assertThat(ctx.receiverIndex(udpChannel), is(expectedIndex));
+        assertThat(ctx.receiverIndex(UdpChannel.parse(UNTAGGED_CHANNEL)), is(expectedIndex));
+    }
+
+    @Test
+    public void shouldAssignChannelWithNegativeHashToValidReceiver()
+    {
+        final MediaDriver.Context ctx = new MediaDriver.Context().receiverCount(3);
+        final UdpChannel udpChannel = UdpChannel.parse("aeron:udp?endpoint=localhost:40126|tags=-7");
+
+        assertThat(ctx.receiverIndex(udpChannel), is(Math.floorMod(-7, 3)));
+    }
+
+    @Test
+    public void shouldAllowMoreThanOneReceiverWhenDedicated()
+    {
+        Configuration.validateReceiverCount(4, ThreadingMode.DEDICATED);
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectNoReceivers()
+    {
+        Configuration.validateReceiverCount(0, ThreadingMode.DEDICATED);
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectMoreThanOneReceiverWhenShared()
+    {
+        Configuration.validateReceiverCount(2, ThreadingMode.SHARED);
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectMoreThanOneReceiverWhenSharedNetwork()
+    {
+        Configuration.validateReceiverCount(2, ThreadingMode.SHARED_NETWORK);
+    }
+
+    @Test(expected = ConfigurationException.class)
+    public void shouldRejectMoreThanOneReceiverWhenInvoker()
+    {
+        Configuration.validateReceiverCount(2, ThreadingMode.INVOKER);
+    }
+}
@@ -186,6 +186,7 @@ public class ReceiverTest
             INITIAL_TERM_OFFSET,
             rawLog,
             mockFeedbackDelayGenerator,
+            Configuration.NAK_MAX_GAPS_DEFAULT,
             POSITIONS,
             mockHighestReceivedPosition,
             mockRebuildPosition,
@@ -193,6 +194,7 @@ public class ReceiverTest
             nanoClock,
             epochClock,
             mockSystemCounters,
+            false,
             SOURCE_ADDRESS,
             congestionControl,
             lossReport,
@@ -258,6 +260,7 @@ public class ReceiverTest
                 INITIAL_TERM_OFFSET,
                 rawLog,
                 mockFeedbackDelayGenerator,
+                Configuration.NAK_MAX_GAPS_DEFAULT,
                 POSITIONS,
                 mockHighestReceivedPosition,
                 mockRebuildPosition,
@@ -265,6 +268,7 @@ public class ReceiverTest
                 nanoClock,
                 epochClock,
                 mockSystemCounters,
+                false,
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
@@ -328,6 +332,7 @@ public class ReceiverTest
                 INITIAL_TERM_OFFSET,
                 rawLog,
                 mockFeedbackDelayGenerator,
+                Configuration.NAK_MAX_GAPS_DEFAULT,
                 POSITIONS,
                 mockHighestReceivedPosition,
                 mockRebuildPosition,
@@ -335,6 +340,7 @@ public class ReceiverTest
                 nanoClock,
                 epochClock,
                 mockSystemCounters,
+                false,
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
@@ -401,6 +407,7 @@ public class ReceiverTest
                 INITIAL_TERM_OFFSET,
                 rawLog,
                 mockFeedbackDelayGenerator,
+                Configuration.NAK_MAX_GAPS_DEFAULT,
                 POSITIONS,
                 mockHighestReceivedPosition,
                 mockRebuildPosition,
@@ -408,6 +415,7 @@ public class ReceiverTest
                 nanoClock,
                 epochClock,
                 mockSystemCounters,
+                false,
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
@@ -478,6 +486,7 @@ public class ReceiverTest
                 initialTermOffset,
                 rawLog,
                 mockFeedbackDelayGenerator,
+                Configuration.NAK_MAX_GAPS_DEFAULT,
                 POSITIONS,
                 mockHighestReceivedPosition,
                 mockRebuildPosition,
@@ -485,6 +494,7 @@ public class ReceiverTest
                 nanoClock,
                 epochClock,
                 mockSystemCounters,
+                false,
                 SOURCE_ADDRESS,
                 congestionControl,
                 lossReport,
@@ -32,6 +32,7 @@ import io.aeron.protocol.DataHeaderFlyweight;
 import io.aeron.protocol.HeaderFlyweight;
 import org.agrona.concurrent.UnsafeBuffer;
 
+import java.net.InetSocketAddress;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.IntStream;
@@ -56,6 +57,8 @@ public class RetransmitHandlerTest
     private static final FeedbackDelayGenerator ZERO_DELAY_GENERATOR = () -> TimeUnit.MILLISECONDS.toNanos(0);
     private static final FeedbackDelayGenerator LINGER_GENERATOR = () -> TimeUnit.MILLISECONDS.toNanos(40);
     private static final ReservedValueSupplier RESERVED_VALUE_SUPPLIER = null;
+    private static final InetSocketAddress ADDRESS_A = new InetSocketAddress("localhost", 40001);
+    private static final InetSocketAddress ADDRESS_B = new InetSocketAddress("localhost", 40002);
 
     private final UnsafeBuffer termBuffer = new UnsafeBuffer(allocateDirect(TERM_BUFFER_LENGTH));
     private final UnsafeBuffer metaDataBuffer = new UnsafeBuffer(
@@ -227,6 +230,85 @@ public class RetransmitHandlerTest
         verifyZeroInteractions(retransmitSender);
     }
 
+    @Theory
+    public void shouldCoalesceOverlappingNaksWhileDelayed(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(2), ALIGNED_FRAME_LENGTH * 2, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 4);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldNotRetransmitOnNakCoveredByLinger(final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(40);
+        handler.processTimeouts(currentTime, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(1), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(60);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH * 3);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldUnicastRetransmitToNakingAddressesBelowThreshold(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = new RetransmitHandler(() -> currentTime, systemCounters, DELAY_GENERATOR, LINGER_GENERATOR, 3);
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_A, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_B, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_A, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, ADDRESS_A);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, ADDRESS_B);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldRetransmitToGroupWhenUnicastRepairThresholdReached(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = new RetransmitHandler(() -> currentTime, systemCounters, DELAY_GENERATOR, LINGER_GENERATOR, 2);
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_A, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_B, retransmitSender);
+        currentTime = TimeUnit.MILLISECONDS.toNanos(100);
+        handler.processTimeouts(currentTime, retransmitSender);
+
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
+    @Theory
+    public void shouldUnicastRetransmitToNewNakingAddressWhileInLinger(
+        final BiConsumer<RetransmitHandlerTest, Integer> creator)
+    {
+        createTermBuffer(creator, 5);
+        handler = new RetransmitHandler(() -> currentTime, systemCounters, ZERO_DELAY_GENERATOR, LINGER_GENERATOR, 3);
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_A, retransmitSender);
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_A, retransmitSender);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, ADDRESS_A);
+
+        handler.onNak(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, TERM_BUFFER_LENGTH, ADDRESS_B, retransmitSender);
+        verify(retransmitSender).resend(TERM_ID, offsetOfFrame(0), ALIGNED_FRAME_LENGTH, ADDRESS_B);
+        verifyNoMoreInteractions(retransmitSender);
+    }
+
     private RetransmitHandler newZeroDelayRetransmitHandler()
     {
         return new RetransmitHandler(() -> currentTime, systemCounters, ZERO_DELAY_GENERATOR, LINGER_GENERATOR);
@@ -65,7 +65,8 @@ public class SelectorAndTransportTest
     private final DataPacketDispatcher mockDispatcher = mock(DataPacketDispatcher.class);
     private final NetworkPublication mockPublication = mock(NetworkPublication.class);
 
-    private DataTransportPoller dataTransportPoller = new DataTransportPoller();
+    private DataTransportPoller dataTransportPoller = new DataTransportPoller(
+        Configuration.RECEIVE_BATCH_SIZE_DEFAULT, mock(AtomicCounter.class), mock(AtomicCounter.class));
     private ControlTransportPoller controlTransportPoller = new ControlTransportPoller();
     private SendChannelEndpoint sendChannelEndpoint;
     private ReceiveChannelEndpoint receiveChannelEndpoint;
@@ -177,6 +178,82 @@ public class SelectorAndTransportTest
         assertThat(dataHeadersReceived.get(), is(1));
     }
 
+    @Test(timeout = 1000)
+    public void shouldDrainQueuedDatagramsInSinglePollWhenBatching()
+    {
+        final AtomicInteger dataHeadersReceived = new AtomicInteger(0);
+        final AtomicInteger datagramsReceived = new AtomicInteger(0);
+        final AtomicCounter mockReceiveBatches = mock(AtomicCounter.class);
+        final AtomicCounter mockReceiveBatchDatagrams = mock(AtomicCounter.class);
+
+        dataTransportPoller.close();
+        dataTransportPoller = new DataTransportPoller(
+            Configuration.RECEIVE_BATCH_SIZE_MAX, mockReceiveBatches, mockReceiveBatchDatagrams);
+
+        doAnswer(
+            (invocation) ->
+            {
+                dataHeadersReceived.incrementAndGet();
+                return null;
+            })
+            .when(mockDispatcher).onDataPacket(
+            any(ReceiveChannelEndpoint.class),
+            any(DataHeaderFlyweight.class),
+            any(UnsafeBuffer.class),
+            anyInt(),
+            any(InetSocketAddress.class),
+            anyInt());
+
+        receiveChannelEndpoint = new ReceiveChannelEndpoint(
+            RCV_DST, mockDispatcher, mockReceiveStatusIndicator, context);
+        sendChannelEndpoint = new SendChannelEndpoint(SRC_DST, mockSendStatusIndicator, context);
+
+        receiveChannelEndpoint.receiveStrategy(
+            (channel, buffer) ->
+            {
+                final InetSocketAddress address = UdpReceiveStrategy.DEFAULT.receive(channel, buffer);
+                if (null != address)
+                {
+                    datagramsReceived.incrementAndGet();
+                }
+
+                return address;
+            });
+
+        receiveChannelEndpoint.openDatagramChannel(mockReceiveStatusIndicator);
+        receiveChannelEndpoint.registerForRead(dataTransportPoller);
+        sendChannelEndpoint.openDatagramChannel(mockSendStatusIndicator);
+        sendChannelEndpoint.registerForRead(controlTransportPoller);
+
+        encodeDataHeader.wrap(buffer);
+        encodeDataHeader
+            .version(HeaderFlyweight.CURRENT_VERSION)
+            .flags(DataHeaderFlyweight.BEGIN_AND_END_FLAGS)
+            .headerType(HeaderFlyweight.HDR_TYPE_DATA)
+            .frameLength(FRAME_LENGTH);
+        encodeDataHeader
+            .sessionId(SESSION_ID)
+            .streamId(STREAM_ID)
+            .termId(TERM_ID);
+
+        processLoop(dataTransportPoller, 5);
+        for (int i = 0; i < 3; i++)
+        {
+            byteBuffer.position(0).limit(FRAME_LENGTH);
+            sendChannelEndpoint.send(byteBuffer);
+        }
+
+        while (0 == dataTransportPoller.pollTransports())
+        {
+            Thread.yield();
+        }
+
+        assertThat(dataHeadersReceived.get(), is(3));
+        assertThat(datagramsReceived.get(), is(3));
+        verify(mockReceiveBatches, times(1)).incrementOrdered();
+        verify(mockReceiveBatchDatagrams, times(1)).getAndAddOrdered(3);
+    }
+
     @Test(timeout = 1000)
     public void shouldSendMultipleDataFramesPerDatagramUnicastFromSourceToReceiver()
     {
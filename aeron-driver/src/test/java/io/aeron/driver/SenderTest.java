@@ -67,6 +67,7 @@ public class SenderTest
     private static final int ALIGNED_FRAME_LENGTH = align(FRAME_LENGTH, FRAME_ALIGNMENT);
 
     private final ControlTransportPoller mockTransportPoller = mock(ControlTransportPoller.class);
+    private final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
 
     private final RawLog rawLog = LogBufferHelper.newTestLogBuffers(TERM_BUFFER_LENGTH);
 
@@ -107,7 +108,6 @@ public class SenderTest
     @Before
     public void setUp()
     {
-        final SendChannelEndpoint mockSendChannelEndpoint = mock(SendChannelEndpoint.class);
         when(mockSendChannelEndpoint.udpChannel()).thenReturn(udpChannel);
         when(mockSendChannelEndpoint.send(any())).thenAnswer(saveByteBufferAnswer);
         when(mockSystemCounters.get(any())).thenReturn(mock(AtomicCounter.class));
@@ -132,7 +132,14 @@ public class SenderTest
             termAppenders[i] = new TermAppender(rawLog.termBuffers()[i], rawLog.metaData(), i);
         }
 
-        publication = new NetworkPublication(
+        publication = newPublication(1);
+
+        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication));
+    }
+
+    private NetworkPublication newPublication(final int sendBatchSize)
+    {
+        return new NetworkPublication(
             1,
             101,
             mockSendChannelEndpoint,
@@ -146,7 +153,9 @@ public class SenderTest
             STREAM_ID,
             INITIAL_TERM_ID,
             MAX_FRAME_LENGTH,
+            sendBatchSize,
             mockSystemCounters,
+            false,
             flowControl,
             mockRetransmitHandler,
             new NetworkPublicationThreadLocals(),
@@ -155,8 +164,6 @@ public class SenderTest
             Configuration.PUBLICATION_LINGER_NS,
             false,
             false);
-
-        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(publication));
     }
 
     @After
@@ -415,6 +422,49 @@ public class SenderTest
         assertThat(receivedFrames.size(), is(0));
     }
 
+    @Test
+    public void shouldSendBatchOfDatagramsInSingleDutyCycle()
+    {
+        final NetworkPublication batchPublication = newPublication(2);
+        senderCommandQueue.offer(() -> sender.onRemoveNetworkPublication(publication));
+        senderCommandQueue.offer(() -> sender.onNewNetworkPublication(batchPublication));
+
+        final int payloadLength = MAX_FRAME_LENGTH - (MAX_FRAME_LENGTH / 4);
+        final int alignedFrameLength = align(HEADER.capacity() + payloadLength, FRAME_ALIGNMENT);
+
+        final StatusMessageFlyweight msg = mock(StatusMessageFlyweight.class);
+        when(msg.consumptionTermId()).thenReturn(INITIAL_TERM_ID);
+        when(msg.consumptionTermOffset()).thenReturn(0);
+        when(msg.receiverWindowLength()).thenReturn(3 * alignedFrameLength);
+
+        batchPublication.onStatusMessage(msg, rcvAddress);
+
+        final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(payloadLength));
+        for (int i = 0; i < 3; i++)
+        {
+            termAppenders[0].appendUnfragmentedMessage(headerWriter, buffer, 0, payloadLength, null, INITIAL_TERM_ID);
+        }
+
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(3));
+        setupHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(setupHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_SETUP));
+
+        for (int i = 0; i < 2; i++)
+        {
+            dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+            assertThat(dataHeader.headerType(), is(HeaderFlyweight.HDR_TYPE_DATA));
+            assertThat(dataHeader.termOffset(), is(i * alignedFrameLength));
+        }
+
+        sender.doWork();
+
+        assertThat(receivedFrames.size(), is(1));
+        dataHeader.wrap(new UnsafeBuffer(receivedFrames.remove()));
+        assertThat(dataHeader.termOffset(), is(2 * alignedFrameLength));
+    }
+
     @Test
     public void shouldSendLastDataFrameAsHeartbeatWhenIdle()
     {
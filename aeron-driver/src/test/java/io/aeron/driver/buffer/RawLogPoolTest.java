@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.driver.buffer;
+
+import io.aeron.driver.media.UdpChannel;
+import org.agrona.ErrorHandler;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.status.AtomicCounter;
+import org.junit.*;
+
+import java.io.File;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.*;
+
+public class RawLogPoolTest
+{
+    private static final String CHANNEL = "aeron:udp?endpoint=localhost:4321";
+    private static final int SESSION_ID = 100;
+    private static final int STREAM_ID = 101;
+    private static final File DATA_DIR = new File(IoUtil.tmpDirName(), "dataDirName");
+    private static final int TERM_BUFFER_LENGTH = TERM_MIN_LENGTH;
+    private static final int POOL_SIZE = 2;
+    private static final int PAGE_SIZE = 4 * 1024;
+    private static final boolean PRE_ZERO_LOG = false;
+    private static final boolean PERFORM_STORAGE_CHECKS = false;
+
+    private final ErrorHandler errorHandler = mock(ErrorHandler.class);
+    private final AtomicCounter poolHits = mock(AtomicCounter.class);
+    private final AtomicCounter poolMisses = mock(AtomicCounter.class);
+    private final String canonicalForm = UdpChannel.parse(CHANNEL).canonicalForm();
+    private RawLogPool rawLogPool;
+    private RawLogFactory rawLogFactory;
+
+    @Before
+    public void createDataDir()
+    {
+        IoUtil.ensureDirectoryExists(DATA_DIR, "data");
+        rawLogPool = new RawLogPool(
+            DATA_DIR.getAbsolutePath(), new int[]{ TERM_BUFFER_LENGTH }, POOL_SIZE, PAGE_SIZE, errorHandler);
+        rawLogFactory = new RawLogFactory(
+            DATA_DIR.getAbsolutePath(),
+            PAGE_SIZE,
+            PERFORM_STORAGE_CHECKS,
+            errorHandler,
+            rawLogPool,
+            poolHits,
+            poolMisses);
+    }
+
+    @After
+    public void cleanupFiles()
+    {
+        rawLogPool.onClose();
+        IoUtil.delete(DATA_DIR, false);
+    }
+
+    @Test
+    public void shouldFillPoolUpToPoolSize()
+    {
+        assertThat(fillPool(), is(POOL_SIZE));
+        assertThat(rawLogPool.doWork(), is(0));
+    }
+
+    @Test
+    public void shouldTakeLogFromPoolWhenAvailable()
+    {
+        fillPool();
+
+        final RawLog rawLog = newPublication(1);
+
+        assertThat(rawLog.termLength(), is(TERM_BUFFER_LENGTH));
+        assertTrue(new File(rawLog.fileName()).getAbsolutePath().startsWith(
+            new File(DATA_DIR, "publications").getAbsolutePath()));
+        verify(poolHits).incrementOrdered();
+        verifyZeroInteractions(poolMisses);
+
+        assertTrue(rawLog.free());
+    }
+
+    @Test
+    public void shouldCreateLogWhenPoolIsEmpty()
+    {
+        final RawLog rawLog = newPublication(1);
+
+        assertThat(rawLog.termLength(), is(TERM_BUFFER_LENGTH));
+        verify(poolMisses).incrementOrdered();
+        verifyZeroInteractions(poolHits);
+
+        assertTrue(rawLog.free());
+    }
+
+    @Test
+    public void shouldCreateLogWhenTermLengthIsNotPooled()
+    {
+        fillPool();
+
+        final RawLog rawLog = rawLogFactory.newNetworkPublication(
+            canonicalForm, SESSION_ID, STREAM_ID, 1, TERM_BUFFER_LENGTH * 2, PRE_ZERO_LOG);
+
+        assertThat(rawLog.termLength(), is(TERM_BUFFER_LENGTH * 2));
+        verify(poolMisses).incrementOrdered();
+
+        assertTrue(rawLog.free());
+    }
+
+    @Test
+    public void shouldDeleteFreedLogRatherThanReuseIt()
+    {
+        fillPool();
+
+        final RawLog rawLog = newPublication(1);
+        final File logFile = new File(rawLog.fileName());
+
+        assertTrue(rawLog.free());
+        assertTrue(rawLog.isInactive());
+        assertFalse(logFile.exists());
+
+        newPublication(2);
+        assertThat(rawLogPool.doWork(), is(1));
+
+        final RawLog nextLog = newPublication(3);
+        assertThat(nextLog.fileName(), not(logFile.getAbsolutePath()));
+        verify(poolHits, times(3)).incrementOrdered();
+        verifyZeroInteractions(poolMisses);
+    }
+
+    private int fillPool()
+    {
+        int workCount = 0;
+        for (int i = 0; i < POOL_SIZE + 1; i++)
+        {
+            workCount += rawLogPool.doWork();
+        }
+
+        return workCount;
+    }
+
+    private RawLog newPublication(final long registrationId)
+    {
+        return rawLogFactory.newNetworkPublication(
+            canonicalForm, SESSION_ID, STREAM_ID, registrationId, TERM_BUFFER_LENGTH, PRE_ZERO_LOG);
+    }
+}
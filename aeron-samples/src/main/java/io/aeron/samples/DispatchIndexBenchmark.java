@@ -0,0 +1,160 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import org.agrona.collections.BiInt2ObjectMap;
+import org.agrona.collections.Int2ObjectHashMap;
+
+import java.util.Random;
+
+/**
+ * Benchmark of the lookup by stream and session id done per data packet in the receiver when dispatching to images.
+ * <p>
+ * Compares a map of streams to maps of sessions, the structure previously used by the
+ * {@link io.aeron.driver.DataPacketDispatcher}, with a flat index keyed on session and stream id plus a cache of the
+ * last hit.
+ * <p>
+ * Arguments are the number of sessions, the number of streams, the number of back-to-back packets per image, and
+ * if session ids should be sequential, as from a single publishing driver, rather than random as from many drivers.
+ */
+public class DispatchIndexBenchmark
+{
+    private static final int PACKET_COUNT = 1 << 20;
+    private static final int ITERATIONS = 10;
+
+    private static final Int2ObjectHashMap<Int2ObjectHashMap<Object>> NESTED_INDEX = new Int2ObjectHashMap<>();
+    private static final BiInt2ObjectMap<Object> FLAT_INDEX = new BiInt2ObjectMap<>();
+
+    private static Object lastHit;
+    private static int lastSessionId;
+    private static int lastStreamId;
+
+    public static void main(final String[] args)
+    {
+        final int sessionCount = args.length > 0 ? Integer.parseInt(args[0]) : 512;
+        final int streamCount = args.length > 1 ? Integer.parseInt(args[1]) : 4;
+        final int burstLength = args.length > 2 ? Integer.parseInt(args[2]) : 4;
+        final boolean isSequential = args.length > 3 && Boolean.parseBoolean(args[3]);
+
+        final Random random = new Random(7);
+        final int[] sessionIdPool = new int[sessionCount];
+        for (int i = 0; i < sessionCount; i++)
+        {
+            sessionIdPool[i] = isSequential ? 0x5E55_0000 + i : random.nextInt();
+        }
+
+        for (int streamId = 0; streamId < streamCount; streamId++)
+        {
+            final Int2ObjectHashMap<Object> sessionMap = new Int2ObjectHashMap<>();
+            NESTED_INDEX.put(streamId, sessionMap);
+
+            for (int i = 0; i < sessionCount; i++)
+            {
+                final int sessionId = sessionIdPool[i];
+                final Object image = new Object();
+                sessionMap.put(sessionId, image);
+                FLAT_INDEX.put(sessionId, streamId, image);
+            }
+        }
+
+        final int[] sessionIds = new int[PACKET_COUNT];
+        final int[] streamIds = new int[PACKET_COUNT];
+        for (int i = 0; i < PACKET_COUNT; i += burstLength)
+        {
+            final int sessionId = sessionIdPool[random.nextInt(sessionCount)];
+            final int streamId = random.nextInt(streamCount);
+
+            for (int j = i, limit = Math.min(i + burstLength, PACKET_COUNT); j < limit; j++)
+            {
+                sessionIds[j] = sessionId;
+                streamIds[j] = streamId;
+            }
+        }
+
+        System.out.format(
+            "sessions=%d streams=%d burstLength=%d sequential=%b packets=%d%n",
+            sessionCount,
+            streamCount,
+            burstLength,
+            isSequential,
+            PACKET_COUNT);
+
+        for (int i = 0; i < ITERATIONS; i++)
+        {
+            long startNs = System.nanoTime();
+            final int nestedHits = nestedLookups(sessionIds, streamIds);
+            final long nestedNs = System.nanoTime() - startNs;
+
+            startNs = System.nanoTime();
+            final int flatHits = flatLookups(sessionIds, streamIds);
+            final long flatNs = System.nanoTime() - startNs;
+
+            System.out.format(
+                "nested %.2f ns/op, flat with last hit %.2f ns/op, hits %d/%d%n",
+                (double)nestedNs / PACKET_COUNT,
+                (double)flatNs / PACKET_COUNT,
+                nestedHits,
+                flatHits);
+        }
+    }
+
+    private static int nestedLookups(final int[] sessionIds, final int[] streamIds)
+    {
+        int hits = 0;
+        for (int i = 0; i < PACKET_COUNT; i++)
+        {
+            final Int2ObjectHashMap<Object> sessionMap = NESTED_INDEX.get(streamIds[i]);
+            if (null != sessionMap && null != sessionMap.get(sessionIds[i]))
+            {
+                hits++;
+            }
+        }
+
+        return hits;
+    }
+
+    private static int flatLookups(final int[] sessionIds, final int[] streamIds)
+    {
+        int hits = 0;
+        for (int i = 0; i < PACKET_COUNT; i++)
+        {
+            if (null != flatLookup(sessionIds[i], streamIds[i]))
+            {
+                hits++;
+            }
+        }
+
+        return hits;
+    }
+
+    private static Object flatLookup(final int sessionId, final int streamId)
+    {
+        Object image = lastHit;
+
+        if (null == image || sessionId != lastSessionId || streamId != lastStreamId)
+        {
+            image = FLAT_INDEX.get(sessionId, streamId);
+            if (null != image)
+            {
+                lastHit = image;
+                lastSessionId = sessionId;
+                lastStreamId = streamId;
+            }
+        }
+
+        return image;
+    }
+}
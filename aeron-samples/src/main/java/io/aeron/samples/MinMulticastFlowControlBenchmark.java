@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron.samples;
+
+import io.aeron.driver.FlowControl;
+import io.aeron.driver.MinMulticastFlowControl;
+import io.aeron.protocol.StatusMessageFlyweight;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Random;
+
+import static io.aeron.logbuffer.LogBufferDescriptor.TERM_MIN_LENGTH;
+import static io.aeron.logbuffer.LogBufferDescriptor.computePosition;
+import static io.aeron.logbuffer.LogBufferDescriptor.positionBitsToShift;
+
+/**
+ * Benchmark of the Status Message handling in {@link MinMulticastFlowControl} for groups of receivers.
+ * <p>
+ * Compares the indexed receivers with an incrementally maintained minimum against a linear search of a list of
+ * receivers with the minimum recomputed on every Status Message, the approach previously taken. An idle check, as
+ * done by the sender between Status Messages, follows each Status Message.
+ * <p>
+ * Arguments are the numbers of receivers to benchmark, which default to 10, 100, and 1000.
+ */
+public class MinMulticastFlowControlBenchmark
+{
+    private static final int STATUS_MESSAGE_COUNT = 1 << 20;
+    private static final int ITERATIONS = 5;
+    private static final int INITIAL_TERM_ID = 0;
+    private static final int POSITION_BITS_TO_SHIFT = positionBitsToShift(TERM_MIN_LENGTH);
+    private static final int WINDOW_LENGTH = TERM_MIN_LENGTH / 2;
+
+    private static final StatusMessageFlyweight STATUS_MESSAGE = new StatusMessageFlyweight(
+        new UnsafeBuffer(new byte[StatusMessageFlyweight.HEADER_LENGTH]));
+
+    public static void main(final String[] args)
+    {
+        final int[] receiverCounts = args.length > 0 ? new int[args.length] : new int[]{ 10, 100, 1000 };
+        for (int i = 0; i < args.length; i++)
+        {
+            receiverCounts[i] = Integer.parseInt(args[i]);
+        }
+
+        for (final int receiverCount : receiverCounts)
+        {
+            final Random random = new Random(7);
+            final int[] receiverIds = new int[STATUS_MESSAGE_COUNT];
+            final int[] termOffsets = new int[STATUS_MESSAGE_COUNT];
+            for (int i = 0; i < STATUS_MESSAGE_COUNT; i++)
+            {
+                receiverIds[i] = random.nextInt(receiverCount);
+                termOffsets[i] = random.nextInt(TERM_MIN_LENGTH / 32) * 32;
+            }
+
+            System.out.format("receivers=%d statusMessages=%d%n", receiverCount, STATUS_MESSAGE_COUNT);
+
+            for (int i = 0; i < ITERATIONS; i++)
+            {
+                final long linearNs = run(new LinearMinFlowControl(), receiverIds, termOffsets);
+                final long indexedNs = run(new MinMulticastFlowControl(), receiverIds, termOffsets);
+
+                System.out.format(
+                    "linear %.2f ns/op, indexed %.2f ns/op%n",
+                    (double)linearNs / STATUS_MESSAGE_COUNT,
+                    (double)indexedNs / STATUS_MESSAGE_COUNT);
+            }
+        }
+    }
+
+    private static long run(final FlowControl flowControl, final int[] receiverIds, final int[] termOffsets)
+    {
+        final StatusMessageFlyweight statusMessage = STATUS_MESSAGE;
+        long senderLimit = 0;
+
+        final long startNs = System.nanoTime();
+        for (int i = 0; i < STATUS_MESSAGE_COUNT; i++)
+        {
+            statusMessage
+                .consumptionTermId(INITIAL_TERM_ID)
+                .consumptionTermOffset(termOffsets[i])
+                .receiverWindowLength(WINDOW_LENGTH)
+                .receiverId(receiverIds[i]);
+
+            senderLimit = flowControl.onStatusMessage(
+                statusMessage, null, senderLimit, INITIAL_TERM_ID, POSITION_BITS_TO_SHIFT, i);
+            senderLimit = flowControl.onIdle(i, senderLimit, 0, false);
+        }
+
+        return System.nanoTime() - startNs;
+    }
+
+    /**
+     * Minimum of receivers found by a linear search of a list on each Status Message and idle check.
+     */
+    static class LinearMinFlowControl implements FlowControl
+    {
+        private final ArrayList<Receiver> receiverList = new ArrayList<>();
+
+        public long onStatusMessage(
+            final StatusMessageFlyweight flyweight,
+            final InetSocketAddress receiverAddress,
+            final long senderLimit,
+            final int initialTermId,
+            final int positionBitsToShift,
+            final long timeNs)
+        {
+            final long position = computePosition(
+                flyweight.consumptionTermId(), flyweight.consumptionTermOffset(), positionBitsToShift, initialTermId);
+            final long positionPlusWindow = position + flyweight.receiverWindowLength();
+            final long receiverId = flyweight.receiverId();
+            boolean isExisting = false;
+            long minPosition = Long.MAX_VALUE;
+
+            for (int i = 0, size = receiverList.size(); i < size; i++)
+            {
+                final Receiver receiver = receiverList.get(i);
+                if (receiverId == receiver.receiverId)
+                {
+                    receiver.lastPositionPlusWindow = positionPlusWindow;
+                    receiver.timeOfLastStatusMessageNs = timeNs;
+                    isExisting = true;
+                }
+
+                minPosition = Math.min(minPosition, receiver.lastPositionPlusWindow);
+            }
+
+            if (!isExisting)
+            {
+                receiverList.add(new Receiver(receiverId, positionPlusWindow, timeNs));
+                minPosition = Math.min(minPosition, positionPlusWindow);
+            }
+
+            return Math.max(senderLimit, minPosition);
+        }
+
+        public long onIdle(
+            final long timeNs, final long senderLimit, final long senderPosition, final boolean isEndOfStream)
+        {
+            long minPosition = Long.MAX_VALUE;
+            for (int i = 0, size = receiverList.size(); i < size; i++)
+            {
+                minPosition = Math.min(minPosition, receiverList.get(i).lastPositionPlusWindow);
+            }
+
+            return receiverList.size() > 0 ? minPosition : senderLimit;
+        }
+
+        public void initialize(final int initialTermId, final int termBufferLength)
+        {
+        }
+
+        public boolean shouldLinger(final long timeNs)
+        {
+            return false;
+        }
+    }
+
+    static class Receiver
+    {
+        final long receiverId;
+        long lastPositionPlusWindow;
+        long timeOfLastStatusMessageNs;
+
+        Receiver(final long receiverId, final long lastPositionPlusWindow, final long timeNs)
+        {
+            this.receiverId = receiverId;
+            this.lastPositionPlusWindow = lastPositionPlusWindow;
+            this.timeOfLastStatusMessageNs = timeNs;
+        }
+    }
+}
@@ -39,6 +39,8 @@ import static org.mockito.Mockito.*;
 public class FlowControlStrategiesTest
 {
     private static final String MULTICAST_URI = "aeron:udp?endpoint=224.20.30.39:54326|interface=localhost";
+    private static final long GROUP_TAG = 1001;
+    private static final String QUORUM_MULTICAST_URI = MULTICAST_URI + "|fc-quorum=1|fc-group-tag=" + GROUP_TAG;
 
     private static final int STREAM_ID = 1;
 
@@ -432,6 +434,64 @@ public class FlowControlStrategiesTest
             any(Header.class));
     }
 
+    @Test(timeout = 10_000)
+    public void shouldKeepUpToQuorumInGroupWithQuorumMulticastFlowControlStrategy()
+    {
+        final int numMessagesToSend = NUM_MESSAGES_PER_TERM * 3;
+        int numMessagesLeftToSend = numMessagesToSend;
+        int numFragmentsFromA = 0;
+
+        driverBContext.imageLivenessTimeoutNs(TimeUnit.MILLISECONDS.toNanos(500));
+        driverAContext.receiverGroupTag(GROUP_TAG);
+
+        launch();
+
+        subscriptionA = clientA.addSubscription(MULTICAST_URI, STREAM_ID);
+        subscriptionB = clientB.addSubscription(MULTICAST_URI, STREAM_ID);
+        publication = clientA.addPublication(QUORUM_MULTICAST_URI, STREAM_ID);
+
+        while (!subscriptionA.isConnected() || !subscriptionB.isConnected())
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        for (long i = 0; numFragmentsFromA < numMessagesToSend; i++)
+        {
+            if (numMessagesLeftToSend > 0)
+            {
+                if (publication.offer(buffer, 0, buffer.capacity()) >= 0L)
+                {
+                    numMessagesLeftToSend--;
+                }
+            }
+
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+
+            // A keeps up
+            numFragmentsFromA += subscriptionA.poll(fragmentHandlerA, 10);
+
+            // B receives slowly
+            if ((i % 2) == 0)
+            {
+                subscriptionB.poll(fragmentHandlerB, 1);
+            }
+        }
+
+        verify(fragmentHandlerA, times(numMessagesToSend)).onFragment(
+            any(DirectBuffer.class),
+            anyInt(),
+            eq(MESSAGE_LENGTH),
+            any(Header.class));
+
+        verify(fragmentHandlerB, atMost(numMessagesToSend)).onFragment(
+            any(DirectBuffer.class),
+            anyInt(),
+            eq(MESSAGE_LENGTH),
+            any(Header.class));
+    }
+
     @Test(timeout = 10_000)
     public void shouldRemoveDeadPreferredReceiverWithPreferredMulticastFlowControlStrategy()
     {
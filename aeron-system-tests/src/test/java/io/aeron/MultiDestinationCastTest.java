@@ -17,6 +17,10 @@ package io.aeron;
 
 import io.aeron.driver.MediaDriver;
 import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.ext.DebugChannelEndpointConfiguration;
+import io.aeron.driver.ext.DebugReceiveChannelEndpoint;
+import io.aeron.driver.ext.LossGenerator;
+import io.aeron.driver.status.SystemCounters;
 import io.aeron.logbuffer.FragmentHandler;
 import io.aeron.logbuffer.Header;
 import io.aeron.protocol.DataHeaderFlyweight;
@@ -33,6 +37,11 @@ import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
+import static io.aeron.driver.status.SystemCounterDescriptor.RETRANSMITS_SENT;
+import static io.aeron.driver.status.SystemCounterDescriptor.UNICAST_RETRANSMITS_SENT;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
 import static org.mockito.Mockito.*;
 
 public class MultiDestinationCastTest
@@ -56,6 +65,7 @@ public class MultiDestinationCastTest
     private static final String ROOT_DIR =
         IoUtil.tmpDirName() + "aeron-system-tests-" + UUID.randomUUID().toString() + File.separator;
 
+    private final MediaDriver.Context driverAContext = new MediaDriver.Context();
     private final MediaDriver.Context driverBContext = new MediaDriver.Context();
 
     private Aeron clientA;
@@ -79,8 +89,7 @@ public class MultiDestinationCastTest
 
         buffer.putInt(0, 1);
 
-        final MediaDriver.Context driverAContext = new MediaDriver.Context()
-            .errorHandler(Throwable::printStackTrace)
+        driverAContext.errorHandler(Throwable::printStackTrace)
             .publicationTermBufferLength(TERM_BUFFER_LENGTH)
             .aeronDirectoryName(baseDirA)
             .threadingMode(ThreadingMode.SHARED);
@@ -384,6 +393,55 @@ public class MultiDestinationCastTest
         verifyFragments(fragmentHandlerB, numMessageForSub2);
     }
 
+    @Test(timeout = 10_000)
+    public void shouldRepairLossForOneDestinationWithUnicastRetransmits()
+    {
+        final int numMessagesToSend = NUM_MESSAGES_PER_TERM * 3;
+        final LossGenerator dataLossGenerator =
+            DebugChannelEndpointConfiguration.lossGeneratorSupplier(0.10, 0xcafebabeL);
+        final LossGenerator noLossGenerator = DebugChannelEndpointConfiguration.lossGeneratorSupplier(0, 0);
+
+        driverAContext.retransmitUnicastRepairThreshold(2);
+        driverBContext.receiveChannelEndpointSupplier(
+            (udpChannel, dispatcher, statusIndicator, context) -> new DebugReceiveChannelEndpoint(
+            udpChannel, dispatcher, statusIndicator, context, dataLossGenerator, noLossGenerator));
+
+        launch();
+
+        subscriptionA = clientA.addSubscription(SUB1_MDC_DYNAMIC_URI, STREAM_ID);
+        subscriptionB = clientB.addSubscription(SUB2_MDC_DYNAMIC_URI, STREAM_ID);
+        publication = clientA.addPublication(PUB_MDC_DYNAMIC_URI, STREAM_ID);
+
+        while (subscriptionA.hasNoImages() || subscriptionB.hasNoImages())
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        for (int i = 0; i < numMessagesToSend; i++)
+        {
+            while (publication.offer(buffer, 0, buffer.capacity()) < 0L)
+            {
+                SystemTest.checkInterruptedStatus();
+                Thread.yield();
+            }
+
+            final MutableInteger fragmentsRead = new MutableInteger();
+            pollForFragment(subscriptionA, fragmentHandlerA, fragmentsRead);
+
+            fragmentsRead.set(0);
+            pollForFragment(subscriptionB, fragmentHandlerB, fragmentsRead);
+        }
+
+        verifyFragments(fragmentHandlerA, numMessagesToSend);
+        verifyFragments(fragmentHandlerB, numMessagesToSend);
+
+        final SystemCounters systemCounters = driverAContext.systemCounters();
+        final long unicastRetransmitsSent = systemCounters.get(UNICAST_RETRANSMITS_SENT).get();
+        assertThat(unicastRetransmitsSent, greaterThan(0L));
+        assertThat(systemCounters.get(RETRANSMITS_SENT).get(), is(unicastRetransmitsSent));
+    }
+
     private void pollForFragment(
         final Subscription subscription, final FragmentHandler handler, final MutableInteger fragmentsRead)
     {
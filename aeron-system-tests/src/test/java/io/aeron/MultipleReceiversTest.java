@@ -0,0 +1,188 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.ReceiverCounters;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.CloseHelper;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class MultipleReceiversTest
+{
+    private static final int STREAM_ID = 7;
+    private static final int RECEIVER_COUNT = 2;
+    private static final int FRAGMENT_COUNT_LIMIT = 10;
+    private static final int MESSAGE_LENGTH = 1024 - DataHeaderFlyweight.HEADER_LENGTH;
+    private static final int EXPECTED_NUMBER_OF_MESSAGES = 10;
+
+    private static final String PUB_CHANNEL_1 = "aeron:udp?endpoint=localhost:54325";
+    private static final String PUB_CHANNEL_2 = "aeron:udp?endpoint=localhost:54326";
+    private static final String SUB_CHANNEL_1 = "aeron:udp?endpoint=localhost:54325|tags=1001";
+    private static final String SUB_CHANNEL_2 = "aeron:udp?endpoint=localhost:54326|tags=1002";
+
+    private final FragmentHandler mockFragmentHandler = mock(FragmentHandler.class);
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+
+    private final MediaDriver driver = MediaDriver.launch(new MediaDriver.Context()
+        .errorHandler(Throwable::printStackTrace)
+        .threadingMode(ThreadingMode.DEDICATED)
+        .receiverCount(RECEIVER_COUNT));
+
+    private final Aeron aeron = Aeron.connect();
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+        driver.context().deleteAeronDirectory();
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldReceiveOnChannelsOwnedByDifferentReceivers()
+    {
+        try (Subscription subscription1 = aeron.addSubscription(SUB_CHANNEL_1, STREAM_ID);
+            Subscription subscription2 = aeron.addSubscription(SUB_CHANNEL_2, STREAM_ID);
+            Publication publication1 = aeron.addPublication(PUB_CHANNEL_1, STREAM_ID);
+            Publication publication2 = aeron.addPublication(PUB_CHANNEL_2, STREAM_ID))
+        {
+            while (!publication1.isConnected() || !publication2.isConnected())
+            {
+                SystemTest.checkInterruptedStatus();
+                Thread.yield();
+            }
+
+            for (int i = 0; i < EXPECTED_NUMBER_OF_MESSAGES; i++)
+            {
+                publishMessage(srcBuffer, publication1);
+                publishMessage(srcBuffer, publication2);
+            }
+
+            awaitMessages(subscription1);
+            awaitMessages(subscription2);
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldReceiveOnTaggedChannelWithReceiverSelectedByTag()
+    {
+        final int receiverIndex = driver.context().receiverIndex(UdpChannel.parse(SUB_CHANNEL_1));
+        assertThat(receiverIndex, is((int)(1001L % RECEIVER_COUNT)));
+
+        try (Subscription subscription = aeron.addSubscription(SUB_CHANNEL_1, STREAM_ID);
+            Publication publication = aeron.addPublication(PUB_CHANNEL_1, STREAM_ID))
+        {
+            publishAndAwaitMessages(subscription, publication);
+            assertOnlyReceiverHasReceived(receiverIndex);
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldReceiveOnUntaggedChannelWithReceiverSelectedByCanonicalForm()
+    {
+        final int receiverIndex = driver.context().receiverIndex(UdpChannel.parse(PUB_CHANNEL_2));
+
+        try (Subscription subscription = aeron.addSubscription(PUB_CHANNEL_2, STREAM_ID);
+            Publication publication = aeron.addPublication(PUB_CHANNEL_2, STREAM_ID))
+        {
+            publishAndAwaitMessages(subscription, publication);
+            assertOnlyReceiverHasReceived(receiverIndex);
+        }
+    }
+
+    private void publishAndAwaitMessages(final Subscription subscription, final Publication publication)
+    {
+        while (!publication.isConnected())
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        for (int i = 0; i < EXPECTED_NUMBER_OF_MESSAGES; i++)
+        {
+            publishMessage(srcBuffer, publication);
+        }
+
+        awaitMessages(subscription);
+    }
+
+    private void assertOnlyReceiverHasReceived(final int receiverIndex)
+    {
+        final long expectedBytes = (long)EXPECTED_NUMBER_OF_MESSAGES * MESSAGE_LENGTH;
+        while (bytesReceived(receiverIndex) < expectedBytes)
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        for (int i = 0; i < RECEIVER_COUNT; i++)
+        {
+            if (i != receiverIndex)
+            {
+                assertThat(bytesReceived(i), is(0L));
+            }
+        }
+    }
+
+    private long bytesReceived(final int receiverIndex)
+    {
+        final CountersReader countersReader = aeron.countersReader();
+        final long[] value = { -1 };
+        countersReader.forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (ReceiverCounters.RECEIVER_BYTES_RECEIVED_TYPE_ID == typeId && keyBuffer.getInt(0) == receiverIndex)
+                {
+                    value[0] = countersReader.getCounterValue(counterId);
+                }
+            });
+
+        return value[0];
+    }
+
+    private void awaitMessages(final Subscription subscription)
+    {
+        int numFragments = 0;
+        do
+        {
+            SystemTest.checkInterruptedStatus();
+            numFragments += subscription.poll(mockFragmentHandler, FRAGMENT_COUNT_LIMIT);
+        }
+        while (numFragments < EXPECTED_NUMBER_OF_MESSAGES);
+    }
+
+    private static void publishMessage(final UnsafeBuffer buffer, final Publication publication)
+    {
+        while (publication.offer(buffer, 0, MESSAGE_LENGTH) < 0L)
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+    }
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2014-2018 Real Logic Ltd.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.aeron;
+
+import io.aeron.driver.MediaDriver;
+import io.aeron.driver.ThreadingMode;
+import io.aeron.driver.media.UdpChannel;
+import io.aeron.driver.status.SenderCounters;
+import io.aeron.logbuffer.FragmentHandler;
+import io.aeron.protocol.DataHeaderFlyweight;
+import org.agrona.CloseHelper;
+import org.agrona.collections.MutableInteger;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.agrona.concurrent.status.CountersReader;
+import org.junit.After;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.mock;
+
+public class MultipleSendersTest
+{
+    private static final int STREAM_ID = 7;
+    private static final int SENDER_COUNT = 2;
+    private static final int FRAGMENT_COUNT_LIMIT = 10;
+    private static final int MESSAGE_LENGTH = 1024 - DataHeaderFlyweight.HEADER_LENGTH;
+    private static final int EXPECTED_NUMBER_OF_MESSAGES = 10;
+
+    private static final String PUB_CHANNEL_1 = "aeron:udp?endpoint=localhost:54325|tags=1001";
+    private static final String PUB_CHANNEL_2 = "aeron:udp?endpoint=localhost:54326|tags=1002";
+    private static final String SUB_CHANNEL_1 = "aeron:udp?endpoint=localhost:54325";
+    private static final String SUB_CHANNEL_2 = "aeron:udp?endpoint=localhost:54326";
+
+    private final FragmentHandler mockFragmentHandler = mock(FragmentHandler.class);
+    private final UnsafeBuffer srcBuffer = new UnsafeBuffer(ByteBuffer.allocateDirect(MESSAGE_LENGTH));
+
+    private final MediaDriver driver = MediaDriver.launch(new MediaDriver.Context()
+        .errorHandler(Throwable::printStackTrace)
+        .threadingMode(ThreadingMode.DEDICATED)
+        .senderCount(SENDER_COUNT));
+
+    private final Aeron aeron = Aeron.connect();
+
+    @After
+    public void after()
+    {
+        CloseHelper.close(aeron);
+        CloseHelper.close(driver);
+        driver.context().deleteAeronDirectory();
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldSendOnChannelsOwnedByDifferentSenders()
+    {
+        try (Subscription subscription1 = aeron.addSubscription(SUB_CHANNEL_1, STREAM_ID);
+            Subscription subscription2 = aeron.addSubscription(SUB_CHANNEL_2, STREAM_ID);
+            Publication publication1 = aeron.addPublication(PUB_CHANNEL_1, STREAM_ID);
+            Publication publication2 = aeron.addPublication(PUB_CHANNEL_2, STREAM_ID))
+        {
+            while (!publication1.isConnected() || !publication2.isConnected())
+            {
+                SystemTest.checkInterruptedStatus();
+                Thread.yield();
+            }
+
+            for (int i = 0; i < EXPECTED_NUMBER_OF_MESSAGES; i++)
+            {
+                publishMessage(srcBuffer, publication1);
+                publishMessage(srcBuffer, publication2);
+            }
+
+            awaitMessages(subscription1);
+            awaitMessages(subscription2);
+
+            assertThat(countSendersWithBytesSent(), is(2));
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldSendOnTaggedChannelWithSenderSelectedByTag()
+    {
+        final int senderIndex = driver.context().senderIndex(UdpChannel.parse(PUB_CHANNEL_1));
+        assertThat(senderIndex, is((int)(1001L % SENDER_COUNT)));
+
+        try (Subscription subscription = aeron.addSubscription(SUB_CHANNEL_1, STREAM_ID);
+            Publication publication = aeron.addPublication(PUB_CHANNEL_1, STREAM_ID))
+        {
+            publishAndAwaitMessages(subscription, publication);
+            assertOnlySenderHasSent(senderIndex);
+        }
+    }
+
+    @Test(timeout = 10_000)
+    public void shouldSendOnUntaggedChannelWithSenderSelectedByCanonicalForm()
+    {
+        final int senderIndex = driver.context().senderIndex(UdpChannel.parse(SUB_CHANNEL_2));
+
+        try (Subscription subscription = aeron.addSubscription(SUB_CHANNEL_2, STREAM_ID);
+            Publication publication = aeron.addPublication(SUB_CHANNEL_2, STREAM_ID))
+        {
+            publishAndAwaitMessages(subscription, publication);
+            assertOnlySenderHasSent(senderIndex);
+        }
+    }
+
+    private void publishAndAwaitMessages(final Subscription subscription, final Publication publication)
+    {
+        while (!publication.isConnected())
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        for (int i = 0; i < EXPECTED_NUMBER_OF_MESSAGES; i++)
+        {
+            publishMessage(srcBuffer, publication);
+        }
+
+        awaitMessages(subscription);
+    }
+
+    private void assertOnlySenderHasSent(final int senderIndex)
+    {
+        final long expectedBytes = (long)EXPECTED_NUMBER_OF_MESSAGES * MESSAGE_LENGTH;
+        while (bytesSent(senderIndex) < expectedBytes)
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+
+        for (int i = 0; i < SENDER_COUNT; i++)
+        {
+            if (i != senderIndex)
+            {
+                assertThat(bytesSent(i), is(0L));
+            }
+        }
+    }
+
+    private long bytesSent(final int senderIndex)
+    {
+        final CountersReader countersReader = aeron.countersReader();
+        final long[] value = { -1 };
+        countersReader.forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (SenderCounters.SENDER_BYTES_SENT_TYPE_ID == typeId && keyBuffer.getInt(0) == senderIndex)
+                {
+                    value[0] = countersReader.getCounterValue(counterId);
+                }
+            });
+
+        return value[0];
+    }
+
+    private int countSendersWithBytesSent()
+    {
+        final MutableInteger count = new MutableInteger();
+        aeron.countersReader().forEach(
+            (counterId, typeId, keyBuffer, label) ->
+            {
+                if (SenderCounters.SENDER_BYTES_SENT_TYPE_ID == typeId &&
+                    aeron.countersReader().getCounterValue(counterId) > 0)
+                {
+                    count.value++;
+                }
+            });
+
+        return count.value;
+    }
+
+    private void awaitMessages(final Subscription subscription)
+    {
+        int numFragments = 0;
+        do
+        {
+            SystemTest.checkInterruptedStatus();
+            numFragments += subscription.poll(mockFragmentHandler, FRAGMENT_COUNT_LIMIT);
+        }
+        while (numFragments < EXPECTED_NUMBER_OF_MESSAGES);
+    }
+
+    private static void publishMessage(final UnsafeBuffer buffer, final Publication publication)
+    {
+        while (publication.offer(buffer, 0, MESSAGE_LENGTH) < 0L)
+        {
+            SystemTest.checkInterruptedStatus();
+            Thread.yield();
+        }
+    }
+}